@@ -0,0 +1,106 @@
+#!/usr/bin/env sh
+# Compares time-to-first-response and resident memory of the plain jar against the
+# fast-start layout (Spring AOT + class-data-sharing archive), and against the native
+# executable when one has been built. Build first with:
+#   ./mvnw -Pfast-start package -DskipTests
+#   ./mvnw -Pnative native:compile            (optional, needs GraalVM)
+# The application needs a reachable database; pass it through the usual
+# SPRING_DATASOURCE_URL / SPRING_DATASOURCE_USERNAME / SPRING_DATASOURCE_PASSWORD
+# (and SPRING_PROFILES_ACTIVE) environment variables.
+set -eu
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+PROBE_URL=${PROBE_URL:-http://localhost:$PORT/actuator/health}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-180}
+TARGET_SPEEDUP=${TARGET_SPEEDUP:-2.0}
+FAST_START_DIR=${FAST_START_DIR:-target/fast-start}
+JAVA=${JAVA:-java}
+NATIVE_BINARY=${NATIVE_BINARY:-target/hotel-management}
+
+JAR=$(ls "$FAST_START_DIR"/hotel-management-*.jar 2>/dev/null | head -n 1 || true)
+if [ -z "$JAR" ] || [ ! -f "$FAST_START_DIR/application.jsa" ]; then
+    echo "fast-start layout not found in $FAST_START_DIR; build with -Pfast-start first" >&2
+    exit 2
+fi
+JAR_NAME=$(basename "$JAR")
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the given command from the fast-start directory and prints the milliseconds
+# until the probe URL answers with any HTTP status, followed by the RSS in MB then.
+measure() {
+    start=$(now_ms)
+    (cd "$FAST_START_DIR" && exec "$@" -Dserver.port="$PORT") >/dev/null 2>&1 &
+    pid=$!
+    deadline=$((start + TIMEOUT_SECONDS * 1000))
+    while :; do
+        code=$(curl -s -o /dev/null -w '%{http_code}' "$PROBE_URL" || true)
+        if [ "$code" != "000" ]; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited before answering $PROBE_URL" >&2
+            exit 1
+        fi
+        if [ "$(now_ms)" -gt "$deadline" ]; then
+            kill "$pid" 2>/dev/null || true
+            echo "no response from $PROBE_URL within ${TIMEOUT_SECONDS}s" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(($(now_ms) - start))
+    rss_kb=$(awk '/^VmRSS:/ { print $2 }' "/proc/$pid/status" 2>/dev/null || echo 0)
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $((${rss_kb:-0} / 1024))"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_native=false
+if [ -x "$NATIVE_BINARY" ]; then
+    run_native=true
+    NATIVE_PATH=$(cd "$(dirname "$NATIVE_BINARY")" && pwd)/$(basename "$NATIVE_BINARY")
+fi
+
+plain_samples=""
+fast_samples=""
+native_samples=""
+i=1
+while [ "$i" -le "$RUNS" ]; do
+    plain=$(measure "$JAVA" -jar "$JAR_NAME")
+    fast=$(measure "$JAVA" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$JAR_NAME")
+    line="run $i: plain ${plain% *} ms ${plain#* } MB, fast-start ${fast% *} ms ${fast#* } MB"
+    plain_samples="$plain_samples${plain% *}
+"
+    fast_samples="$fast_samples${fast% *}
+"
+    if $run_native; then
+        native=$(measure "$NATIVE_PATH")
+        line="$line, native ${native% *} ms ${native#* } MB"
+        native_samples="$native_samples${native% *}
+"
+    fi
+    echo "$line"
+    i=$((i + 1))
+done
+
+plain_median=$(printf '%s' "$plain_samples" | median)
+fast_median=$(printf '%s' "$fast_samples" | median)
+speedup=$(awk -v p="$plain_median" -v f="$fast_median" 'BEGIN { printf "%.2f", p / f }')
+
+echo "median time to first response: plain ${plain_median} ms, fast-start ${fast_median} ms (${speedup}x)"
+if $run_native; then
+    native_median=$(printf '%s' "$native_samples" | median)
+    echo "median time to first response: native ${native_median} ms"
+fi
+if awk -v s="$speedup" -v t="$TARGET_SPEEDUP" 'BEGIN { exit !(s < t) }'; then
+    echo "speedup ${speedup}x is below the ${TARGET_SPEEDUP}x target" >&2
+    exit 1
+fi
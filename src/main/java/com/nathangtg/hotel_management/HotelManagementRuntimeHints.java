@@ -0,0 +1,79 @@
+package com.nathangtg.hotel_management;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.nathangtg.hotel_management.api.controllers.AuthController;
+import com.nathangtg.hotel_management.api.dto.AuthResponse;
+import com.nathangtg.hotel_management.api.dto.BookingLifecycleResult;
+import com.nathangtg.hotel_management.api.dto.BookingSearchCriteria;
+import com.nathangtg.hotel_management.api.dto.BookingStatusView;
+import com.nathangtg.hotel_management.api.dto.HotelDistanceResult;
+import com.nathangtg.hotel_management.api.dto.HotelSearchResult;
+import com.nathangtg.hotel_management.api.dto.HotelStatsSummary;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomHoldRequest;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.dto.StatsBackfillResult;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingArchive;
+import com.nathangtg.hotel_management.api.models.BookingStatusConverter;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.HotelDailyStats;
+import com.nathangtg.hotel_management.api.models.Management;
+import com.nathangtg.hotel_management.api.models.RoleConverter;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.services.events.BookingEvent;
+
+/**
+ * Reachability metadata for the native image that Spring AOT cannot infer on its own.
+ * Entities and request bodies behind {@code ResponseEntity<?>} or {@code Map} signatures,
+ * and the outbox payload, are bound by Jackson reflectively; jjwt resolves its
+ * implementation classes by name and its JSON codec through {@code ServiceLoader}.
+ */
+class HotelManagementRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final Class<?>[] JSON_TYPES = {
+            Booking.class, BookingArchive.class, Hotel.class, HotelDailyStats.class,
+            Management.class, Room.class, User.class,
+            AuthResponse.class, BookingLifecycleResult.class, BookingSearchCriteria.class, BookingStatusView.class,
+            HotelDistanceResult.class, HotelSearchResult.class, HotelStatsSummary.class,
+            KeysetPage.class, RoomHoldRequest.class, RoomSearchCriteria.class, StatsBackfillResult.class,
+            AuthController.LoginRequest.class, AuthController.RegisterRequest.class,
+            BookingEvent.class
+    };
+
+    // Looked up by name from jjwt-api (Jwts, Jwts.SIG, Keys); jjwt-impl is runtime-only
+    static final String[] JJWT_IMPLEMENTATIONS = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+
+        // Hibernate instantiates @Convert converters reflectively
+        hints.reflection().registerType(BookingStatusConverter.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(RoleConverter.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        for (String implementation : JJWT_IMPLEMENTATIONS) {
+            hints.reflection().registerType(TypeReference.of(implementation),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+}
@@ -0,0 +1,359 @@
+package com.nathangtg.hotel_management.api.batch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.dto.BatchItem;
+import com.nathangtg.hotel_management.api.dto.BatchItemResult;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Runs the sub-requests of {@code POST /api/batch} against the regular controllers, in
+ * process, under the batch's authentication. Each sub-request is still checked against the
+ * security rules for its own path and method, and goes through the same handler mapping,
+ * argument resolution, converters and exception handlers as a direct call.
+ *
+ * Items run in the order given, so each sees the effects of the writes before it. A write
+ * runs on its own; a run of consecutive reads runs concurrently on virtual threads, and
+ * identical reads within the run are executed once and share the result. A read still
+ * running at {@code batch.timeout-ms} is cancelled and answered with 504, and items not
+ * started by then get 504 without running. A write that has started is never cancelled: it
+ * finishes and reports its real outcome, even past the deadline, since a cancelled write
+ * may still have committed.
+ */
+@Component
+public class BatchExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchExecutor.class);
+
+    // Headers a sub-request cannot set: auth comes from the batch and bodies are always JSON
+    private static final List<String> RESERVED_HEADERS = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING,
+        HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_TYPE,
+        HttpHeaders.HOST);
+
+    private static final List<String> METHODS = List.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final RequestMappingHandlerAdapter handlerAdapter;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("batch-", 0).factory());
+
+    @Value("${batch.max-requests:50}")
+    private int maxRequests = 50;
+
+    @Value("${batch.timeout-ms:30000}")
+    private long timeoutMs = 30000;
+
+    @Autowired
+    public BatchExecutor(@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+                         RequestMappingHandlerAdapter handlerAdapter,
+                         @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                         WebInvocationPrivilegeEvaluator privilegeEvaluator, ObjectMapper objectMapper) {
+        this.handlerMapping = handlerMapping;
+        this.handlerAdapter = handlerAdapter;
+        this.exceptionResolver = exceptionResolver;
+        this.privilegeEvaluator = privilegeEvaluator;
+        this.objectMapper = objectMapper;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs the batch and returns one result per item, in order. A batch that is empty or
+     * larger than {@code batch.max-requests} is rejected with IllegalArgumentException.
+     */
+    public List<BatchItemResult> execute(List<BatchItem> items, HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("A batch needs at least one request");
+        }
+        if (items.size() > maxRequests) {
+            throw new IllegalArgumentException("At most " + maxRequests + " requests per batch");
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        Outcome[] outcomes = new Outcome[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            String rejection = validate(items.get(i));
+            if (rejection != null) {
+                outcomes[i] = Outcome.error(HttpServletResponse.SC_BAD_REQUEST, rejection);
+            }
+        }
+
+        int next = 0;
+        while (next < items.size()) {
+            if (outcomes[next] != null) {
+                next++;
+            } else if (System.nanoTime() - deadline >= 0) {
+                outcomes[next++] = Outcome.error(HttpServletResponse.SC_GATEWAY_TIMEOUT,
+                    "Batch timed out before this request started");
+            } else if (!isRead(items.get(next))) {
+                BatchItem item = items.get(next);
+                outcomes[next++] = awaitWrite(executor.submit(() -> run(item, request, response, authentication)));
+            } else {
+                // Reads up to the next write, with rejected items in between left as they are
+                Map<String, Future<Outcome>> running = new HashMap<>();
+                Map<Integer, Future<Outcome>> readFutures = new HashMap<>();
+                for (; next < items.size() && (outcomes[next] != null || isRead(items.get(next))); next++) {
+                    if (outcomes[next] == null) {
+                        BatchItem item = items.get(next);
+                        readFutures.put(next, running.computeIfAbsent(readKey(item),
+                            key -> executor.submit(() -> run(item, request, response, authentication))));
+                    }
+                }
+                readFutures.forEach((i, future) -> outcomes[i] = await(future, deadline));
+            }
+        }
+
+        List<BatchItemResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Outcome outcome = outcomes[i] != null ? outcomes[i]
+                : Outcome.error(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Batch timed out before this request finished");
+            String id = items.get(i).getId() != null ? items.get(i).getId() : String.valueOf(i);
+            results.add(new BatchItemResult(id, outcome.status, outcome.headers, outcome.body));
+        }
+        return results;
+    }
+
+    private static boolean isRead(BatchItem item) {
+        return HttpMethod.GET.matches(method(item));
+    }
+
+    private static String method(BatchItem item) {
+        return item.getMethod() == null ? "GET" : item.getMethod().toUpperCase();
+    }
+
+    private static String validate(BatchItem item) {
+        String path = item.getPath();
+        if (path == null || !path.startsWith("/api/")) {
+            return "Path must start with /api/";
+        }
+        String pathOnly = path.split("\\?", 2)[0];
+        if (pathOnly.equals("/api/batch") || pathOnly.startsWith("/api/batch/")) {
+            return "Batches cannot be nested";
+        }
+        if (pathOnly.contains("..") || pathOnly.contains("//") || path.contains("#")) {
+            return "Path must be normalized";
+        }
+        if (!METHODS.contains(method(item))) {
+            return "Unsupported method " + item.getMethod();
+        }
+        return null;
+    }
+
+    // Reads with the same path, query and headers are the same lookup
+    private static String readKey(BatchItem item) {
+        return item.getHeaders() == null || item.getHeaders().isEmpty()
+            ? item.getPath() : item.getPath() + " " + new TreeMap<>(item.getHeaders());
+    }
+
+    private static Outcome await(Future<Outcome> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return null;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("Batch request failed", e.getCause());
+            return Outcome.error(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Request failed");
+        }
+    }
+
+    // No deadline and no cancellation, even if the batch thread is interrupted: the write
+    // may already have committed, so only its own result says what happened
+    private static Outcome awaitWrite(Future<Outcome> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    log.warn("Batch request failed", e.getCause());
+                    return Outcome.error(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Request failed");
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Outcome run(BatchItem item, HttpServletRequest batchRequest, HttpServletResponse batchResponse,
+                        Authentication authentication) throws IOException {
+        String method = method(item);
+        String[] pathAndQuery = item.getPath().split("\\?", 2);
+        if (!privilegeEvaluator.isAllowed(batchRequest.getContextPath(), pathAndQuery[0], method, authentication)) {
+            boolean anonymous = authentication == null || authentication instanceof AnonymousAuthenticationToken;
+            return anonymous ? Outcome.error(HttpServletResponse.SC_UNAUTHORIZED, "Authentication required")
+                : Outcome.error(HttpServletResponse.SC_FORBIDDEN, "Access denied");
+        }
+        Map<String, String> headers = new HashMap<>();
+        if (item.getHeaders() != null) {
+            item.getHeaders().forEach((name, value) -> {
+                if (RESERVED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    headers.put(name, value);
+                }
+            });
+        }
+        byte[] body = item.getBody() == null || item.getBody().isNull() ? new byte[0]
+            : objectMapper.writeValueAsBytes(item.getBody());
+        SubRequest request = new SubRequest(batchRequest, method, pathAndQuery[0],
+            pathAndQuery.length > 1 ? pathAndQuery[1] : null, headers, body);
+        SubResponse response = new SubResponse(batchResponse);
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            dispatch(request, response);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            SecurityContextHolder.clearContext();
+        }
+        return Outcome.of(response, objectMapper);
+    }
+
+    // The part of DispatcherServlet#doDispatch that applies to the REST controllers
+    private void dispatch(SubRequest request, SubResponse response) {
+        ServletRequestPathUtils.parseAndCache(request);
+        HandlerExecutionChain chain = null;
+        int preHandled = 0;
+        Exception failure = null;
+        try {
+            chain = handlerMapping.getHandler(request);
+            if (chain == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND, "No endpoint " + request.getMethod() + " "
+                    + request.getServletPath());
+                return;
+            }
+            for (HandlerInterceptor interceptor : chain.getInterceptorList()) {
+                if (!interceptor.preHandle(request, response, chain.getHandler())) {
+                    return;
+                }
+                preHandled++;
+            }
+            handlerAdapter.handle(request, response, chain.getHandler());
+            for (int i = preHandled - 1; i >= 0; i--) {
+                chain.getInterceptorList().get(i).postHandle(request, response, chain.getHandler(), null);
+            }
+        } catch (Exception e) {
+            failure = e;
+            if (exceptionResolver.resolveException(request, response, chain == null ? null : chain.getHandler(), e) == null) {
+                log.warn("Unhandled error in batch request {} {}", request.getMethod(), request.getServletPath(), e);
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        } finally {
+            if (chain != null) {
+                for (int i = preHandled - 1; i >= 0; i--) {
+                    try {
+                        chain.getInterceptorList().get(i).afterCompletion(request, response, chain.getHandler(), failure);
+                    } catch (Exception e) {
+                        log.warn("Interceptor afterCompletion failed", e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Outcome {
+
+        private final int status;
+        private final Map<String, String> headers;
+        private final String body;
+
+        private Outcome(int status, Map<String, String> headers, String body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        static Outcome error(int status, String message) {
+            return new Outcome(status, null, "{\"message\":" + quote(message) + "}");
+        }
+
+        static Outcome of(SubResponse response, ObjectMapper objectMapper) throws IOException {
+            byte[] bytes = response.body();
+            String body;
+            if (bytes.length == 0) {
+                body = response.errorMessage() == null ? null
+                    : "{\"message\":" + objectMapper.writeValueAsString(response.errorMessage()) + "}";
+            } else if (isJson(response.getContentType())) {
+                body = new String(bytes, response.charset());
+            } else {
+                body = objectMapper.writeValueAsString(new String(bytes, response.charset()));
+            }
+            Map<String, String> headers = response.headerValues();
+            return new Outcome(response.status(), headers.isEmpty() ? null : headers, body);
+        }
+
+        private static boolean isJson(String contentType) {
+            if (contentType == null) {
+                return false;
+            }
+            try {
+                MediaType type = MediaType.parseMediaType(contentType);
+                return MediaType.APPLICATION_JSON.isCompatibleWith(type) || type.getSubtype().endsWith("+json");
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        private static String quote(String message) {
+            return "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(message)) + "\"";
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.nathangtg.hotel_management.api.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+
+/**
+ * Writes only the properties a {@link FieldSelection} includes. Where each object sits in
+ * the response is read from the generator's output context, so list elements share the
+ * selection of the list itself.
+ */
+class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+    static final String ID = "fieldSelection";
+
+    private final FieldSelection selection;
+    private final boolean paged;
+
+    /**
+     * @param paged the body is a page envelope: its own properties are always written and
+     *              the selection applies to the items
+     */
+    FieldSelectionFilter(FieldSelection selection, boolean paged) {
+        this.selection = selection;
+        this.paged = paged;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        FieldSelection.Node node = nodeOf(gen.getOutputContext());
+        if (node == null || node.includes(writer.getName())) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    // Selection at the object written in this context; null for the page envelope
+    private FieldSelection.Node nodeOf(JsonStreamContext object) {
+        JsonStreamContext parent = object.getParent();
+        while (parent.inArray()) {
+            parent = parent.getParent();
+        }
+        if (parent.inRoot()) {
+            return paged ? null : selection.root();
+        }
+        FieldSelection.Node enclosing = nodeOf(parent);
+        return enclosing == null ? selection.root() : enclosing.child(parent.getCurrentName());
+    }
+}
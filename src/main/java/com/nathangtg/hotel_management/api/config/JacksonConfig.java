@@ -0,0 +1,67 @@
+package com.nathangtg.hotel_management.api.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.nathangtg.hotel_management.api.protobuf.ProtobufModelHttpMessageConverter;
+
+/**
+ * Response serialization. Spring Boot registers every {@link Module} bean with the
+ * application's ObjectMapper; Blackbird swaps Jackson's reflective getter calls for
+ * generated lambda accessors, which matters most on the list endpoints. Output buffers
+ * are already recycled per thread by Jackson's default recycler pool.
+ *
+ * <p>Clients may also ask for CBOR, Smile or protobuf through the Accept header. Spring
+ * MVC registers CBOR and Smile converters by default, but with bare ObjectMappers; they are
+ * replaced by ones built from Boot's customized builder so the binary bodies carry the same
+ * fields, date formats and modules as the JSON. The protobuf converter goes last, keeping
+ * JSON the answer to {@code Accept: *}{@code /*}.
+ */
+@Configuration
+public class JacksonConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Bean
+    public Module blackbirdModule() {
+        // A native image cannot define accessor classes at run time; plain reflection there
+        return NativeDetector.inNativeImage() ? new SimpleModule("blackbird-disabled") : new BlackbirdModule();
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        Jackson2ObjectMapperBuilder builder = objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json);
+        replace(converters, MappingJackson2CborHttpMessageConverter.class,
+            new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()));
+        replace(converters, MappingJackson2SmileHttpMessageConverter.class,
+            new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build()));
+        converters.add(new ProtobufModelHttpMessageConverter());
+    }
+
+    private static void replace(List<HttpMessageConverter<?>> converters, Class<?> type,
+                                HttpMessageConverter<?> replacement) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                converters.set(i, replacement);
+                return;
+            }
+        }
+        converters.add(replacement);
+    }
+}
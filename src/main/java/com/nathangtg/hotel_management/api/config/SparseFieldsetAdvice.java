@@ -0,0 +1,89 @@
+package com.nathangtg.hotel_management.api.config;
+
+import java.io.IOException;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+
+/**
+ * Applies {@code ?fields=} to GET responses written by the Jackson converters (JSON, CBOR
+ * and Smile; protobuf keeps its fixed schema). The body is written through a copy of the
+ * application's ObjectMapper that puts a property filter on every object, so responses
+ * without the parameter keep the unfiltered serializers.
+ */
+@ControllerAdvice
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper filteringMapper;
+
+    public SparseFieldsetAdvice(ObjectMapper objectMapper) {
+        this.filteringMapper = objectMapper.copy().addMixIn(Object.class, Filtered.class);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !HttpMethod.GET.equals(request.getMethod())
+                || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        FieldSelection selection = FieldSelection.parse(servletRequest.getServletRequest().getParameter(FieldSelection.PARAM));
+        if (selection == null) {
+            return body;
+        }
+        FieldSelectionFilter filter = new FieldSelectionFilter(selection, body instanceof KeysetPage);
+        return new SelectedBody(body, filteringMapper.writer(new SimpleFilterProvider().addFilter(FieldSelectionFilter.ID, filter)));
+    }
+
+    @JsonFilter(FieldSelectionFilter.ID)
+    private abstract static class Filtered {
+    }
+
+    // Serialized by the converter's generator, whichever format that is
+    private static final class SelectedBody implements JsonSerializable {
+
+        private final Object value;
+        private final ObjectWriter writer;
+
+        private SelectedBody(Object value, ObjectWriter writer) {
+            this.value = value;
+            this.writer = writer;
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            writer.writeValue(gen, value);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.nathangtg.hotel_management.api.controllers;
 
+import com.nathangtg.hotel_management.api.dto.AuthResponse;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.security.JwtUtil;
 import com.nathangtg.hotel_management.services.UserService;
@@ -10,9 +12,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -30,7 +29,7 @@ public class AuthController {
     private PasswordEncoder passwordEncoder;
 
     @PostMapping("/login")
-    public ResponseEntity<Map<String, String>> login(@RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest loginRequest) {
         try {
             // Authenticate the user
             authenticationManager.authenticate(
@@ -42,37 +41,25 @@ public class AuthController {
 
             // Load user details and generate token with user ID and role
             User user = userService.findByUsername(loginRequest.getUsername());
-            final String token = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRole());
-
-            Map<String, String> response = new HashMap<>();
-            response.put("token", token);
-            response.put("message", "Login successful");
-            response.put("userId", String.valueOf(user.getId()));
-            response.put("username", user.getUsername());
-            response.put("role", user.getRole());
+            final String token = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRole().name());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(AuthResponse.success("Login successful", token, user.getId(),
+                user.getUsername(), user.getRole().name()));
         } catch (Exception e) {
-            Map<String, String> response = new HashMap<>();
-            response.put("error", "Invalid credentials");
-            return ResponseEntity.status(401).body(response);
+            return ResponseEntity.status(401).body(AuthResponse.error("Invalid credentials"));
         }
     }
 
     @PostMapping("/register")
-    public ResponseEntity<Map<String, String>> register(@RequestBody RegisterRequest registerRequest) {
+    public ResponseEntity<AuthResponse> register(@RequestBody RegisterRequest registerRequest) {
         try {
             // Check if user already exists
             if (userService.findByUsername(registerRequest.getUsername()) != null) {
-                Map<String, String> response = new HashMap<>();
-                response.put("error", "Username already exists");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(AuthResponse.error("Username already exists"));
             }
 
             if (userService.findByEmail(registerRequest.getEmail()) != null) {
-                Map<String, String> response = new HashMap<>();
-                response.put("error", "Email already exists");
-                return ResponseEntity.badRequest().body(response);
+                return ResponseEntity.badRequest().body(AuthResponse.error("Email already exists"));
             }
 
             // Create new user
@@ -81,27 +68,19 @@ public class AuthController {
             user.setEmail(registerRequest.getEmail());
             user.setFirstName(registerRequest.getFirstName());
             user.setLastName(registerRequest.getLastName());
-            user.setRole(registerRequest.getRole() != null ? registerRequest.getRole() : "USER"); // Default role
+            user.setRole(registerRequest.getRole() != null ? Role.fromName(registerRequest.getRole()) : Role.USER); // Default role
             user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
 
             // Save user
             User savedUser = userService.createUser(user);
 
             // Generate JWT token with user ID and role
-            String token = jwtUtil.generateToken(savedUser.getUsername(), savedUser.getId(), savedUser.getRole());
-
-            Map<String, String> response = new HashMap<>();
-            response.put("token", token);
-            response.put("message", "Registration successful");
-            response.put("userId", String.valueOf(savedUser.getId()));
-            response.put("username", savedUser.getUsername());
-            response.put("role", savedUser.getRole());
+            String token = jwtUtil.generateToken(savedUser.getUsername(), savedUser.getId(), savedUser.getRole().name());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(AuthResponse.success("Registration successful", token, savedUser.getId(),
+                savedUser.getUsername(), savedUser.getRole().name()));
         } catch (Exception e) {
-            Map<String, String> response = new HashMap<>();
-            response.put("error", "Registration failed: " + e.getMessage());
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(AuthResponse.error("Registration failed: " + e.getMessage()));
         }
     }
 
@@ -0,0 +1,37 @@
+package com.nathangtg.hotel_management.api.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nathangtg.hotel_management.api.batch.BatchExecutor;
+import com.nathangtg.hotel_management.api.dto.BatchItem;
+import com.nathangtg.hotel_management.api.dto.BatchItemResult;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    @Autowired
+    private BatchExecutor batchExecutor;
+
+    // Several API calls in one round trip; each item gets its own status in the response
+    @PostMapping
+    public ResponseEntity<List<BatchItemResult>> executeBatch(@RequestBody List<BatchItem> requests,
+                                                              HttpServletRequest request,
+                                                              HttpServletResponse response) {
+        try {
+            return ResponseEntity.ok(batchExecutor.execute(requests, request, response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.nathangtg.hotel_management.api.controllers;
 
+import java.net.URI;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,14 +18,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nathangtg.hotel_management.api.dto.BookingSearchCriteria;
+import com.nathangtg.hotel_management.api.dto.BookingStatusView;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
 import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.services.BookingService;
 import com.nathangtg.hotel_management.services.UserService;
+import com.nathangtg.hotel_management.services.idempotency.IdempotencyService;
 
 @RestController
 @RequestMapping("/api/bookings")
@@ -34,11 +44,14 @@ public class BookingController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     @GetMapping
     public List<Booking> getAllBookings(
             @RequestParam(required = false) Long userId,
             @RequestParam(required = false) Long roomId,
-            @RequestParam(required = false) String status,
+            @RequestParam(required = false) BookingStatus status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         
@@ -49,7 +62,7 @@ public class BookingController {
             String currentUsername = authentication.getName();
             User currentUser = userService.findByUsername(currentUsername);
             
-            if (!currentUsername.equals(String.valueOf(userId)) && !currentUser.getRole().equals("ADMIN")) {
+            if (!currentUsername.equals(String.valueOf(userId)) && currentUser.getRole() != Role.ADMIN) {
                 // If not accessing their own bookings and not an admin, restrict access
                 return List.of(); // Return empty list or throw exception
             }
@@ -64,7 +77,7 @@ public class BookingController {
             // Only admin can see all bookings
             String currentUsername = authentication.getName();
             User currentUser = userService.findByUsername(currentUsername);
-            if (currentUser.getRole().equals("ADMIN")) {
+            if (currentUser.getRole() == Role.ADMIN) {
                 return bookingService.getAllBookings();
             } else {
                 // Regular users can only see their own bookings
@@ -73,6 +86,76 @@ public class BookingController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<KeysetPage<Booking>> searchBookings(
+            @RequestParam(required = false) List<BookingStatus> status,
+            @RequestParam(required = false) Long hotelId,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutTo,
+            @RequestParam(required = false) Long createdFrom,
+            @RequestParam(required = false) Long createdTo,
+            @RequestParam(required = false) String guestName,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false, defaultValue = "asc") String direction,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+
+        // Only admin and staff can search across guests
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUsername = authentication.getName();
+        User currentUser = userService.findByUsername(currentUsername);
+
+        if (!currentUser.getRole().in(Role.BACK_OFFICE)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        try {
+            BookingSearchCriteria criteria = new BookingSearchCriteria();
+            criteria.setStatuses(status);
+            criteria.setHotelId(hotelId);
+            criteria.setRoomId(roomId);
+            criteria.setUserId(userId);
+            criteria.setCheckInFrom(checkInFrom);
+            criteria.setCheckInTo(checkInTo);
+            criteria.setCheckOutFrom(checkOutFrom);
+            criteria.setCheckOutTo(checkOutTo);
+            criteria.setCreatedFrom(createdFrom);
+            criteria.setCreatedTo(createdTo);
+            criteria.setGuestName(guestName);
+            criteria.setSort(BookingSearchCriteria.SortField.fromParam(sort));
+            criteria.setDescending("desc".equalsIgnoreCase(direction));
+            criteria.setLimit(limit);
+            criteria.setCursor(cursor);
+            return ResponseEntity.ok(bookingService.searchBookings(criteria));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Multi-get: up to IdBatch.MAX_IDS bookings in request order. Like the single lookup,
+    // other users' bookings are left out for non-admins, the same as unknown ids
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Booking>> getBookingsByIds(@RequestParam List<Long> ids) {
+        List<Booking> bookings;
+        try {
+            bookings = bookingService.getBookingsByIds(ids);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User currentUser = userService.findByUsername(authentication.getName());
+        if (currentUser.getRole() != Role.ADMIN) {
+            bookings = bookings.stream()
+                .filter(booking -> currentUser.getId().equals(booking.getUserId()))
+                .toList();
+        }
+        return ResponseEntity.ok(bookings);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Booking> getBookingById(@PathVariable Long id) {
         Optional<Booking> booking = bookingService.getBookingById(id);
@@ -83,7 +166,7 @@ public class BookingController {
             User currentUser = userService.findByUsername(currentUsername);
             
             // Users can only access their own bookings unless they are an admin
-            if (!booking.get().getUserId().equals(currentUser.getId()) && !currentUser.getRole().equals("ADMIN")) {
+            if (!booking.get().getUserId().equals(currentUser.getId()) && currentUser.getRole() != Role.ADMIN) {
                 return ResponseEntity.notFound().build();
             }
             
@@ -93,8 +176,31 @@ public class BookingController {
         return ResponseEntity.notFound().build();
     }
 
+    @GetMapping("/{id}/status")
+    public ResponseEntity<BookingStatusView> getBookingStatus(@PathVariable Long id) {
+        Optional<Booking> booking = bookingService.getBookingById(id);
+
+        if (booking.isPresent()) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String currentUsername = authentication.getName();
+            User currentUser = userService.findByUsername(currentUsername);
+
+            // Users can only poll their own bookings unless they are an admin
+            if (!booking.get().getUserId().equals(currentUser.getId()) && currentUser.getRole() != Role.ADMIN) {
+                return ResponseEntity.notFound().build();
+            }
+
+            return ResponseEntity.ok(BookingStatusView.of(booking.get()));
+        }
+
+        return ResponseEntity.notFound().build();
+    }
+
+    // With an Idempotency-Key a retried create is answered from the stored first response
     @PostMapping
-    public Booking createBooking(@RequestBody Booking booking) {
+    public ResponseEntity<?> createBooking(@RequestBody Booking booking,
+            @RequestHeader(value = "Prefer", required = false) String prefer,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         // Set the user ID to the currently authenticated user
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName();
@@ -103,8 +209,44 @@ public class BookingController {
         // Set the user ID on the booking to the current user
         booking.setUser(currentUser);
         booking.setUserId(currentUser.getId());
+
+        if (idempotencyKey == null) {
+            return create(booking, prefer);
+        }
+        if (!IdempotencyService.isValidKey(idempotencyKey)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return idempotencyService.execute(currentUser.getId(), "POST /api/bookings", idempotencyKey,
+            requestFingerprint(booking), () -> create(booking, prefer));
+    }
+
+    // Only what the client sent is compared on a retry; the user attached above would make a
+    // retry after a profile change look like a different request
+    private static Map<String, Object> requestFingerprint(Booking booking) {
+        Map<String, Object> fingerprint = new LinkedHashMap<>();
+        fingerprint.put("roomId", booking.getRoomId());
+        fingerprint.put("checkInDate", booking.getCheckInDate());
+        fingerprint.put("checkOutDate", booking.getCheckOutDate());
+        fingerprint.put("status", booking.getStatus());
+        return fingerprint;
+    }
+
+    private ResponseEntity<Booking> create(Booking booking, String prefer) {
+        // Accept-fast mode: record a PENDING hold and let the client poll the status URL
+        if (bookingService.acceptsAsync(prefer)) {
+            try {
+                Booking hold = bookingService.placeHold(booking);
+                return ResponseEntity.accepted()
+                    .location(URI.create("/api/bookings/" + hold.getId() + "/status"))
+                    .body(hold);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            } catch (IllegalStateException e) {
+                return ResponseEntity.status(409).build(); // Held by another guest
+            }
+        }
         
-        return bookingService.createBooking(booking);
+        return ResponseEntity.ok(bookingService.createBooking(booking));
     }
 
     @PutMapping("/{id}")
@@ -117,13 +259,15 @@ public class BookingController {
             User currentUser = userService.findByUsername(currentUsername);
             
             // Only the booking owner or admin can update the booking
-            if (!existingBooking.get().getUserId().equals(currentUser.getId()) && !currentUser.getRole().equals("ADMIN")) {
+            if (!existingBooking.get().getUserId().equals(currentUser.getId()) && currentUser.getRole() != Role.ADMIN) {
                 return ResponseEntity.status(403).build(); // Forbidden
             }
             
             try {
                 Booking updatedBooking = bookingService.updateBooking(id, booking);
                 return ResponseEntity.ok(updatedBooking);
+            } catch (IllegalStateException e) {
+                return ResponseEntity.status(409).build(); // Invalid status transition
             } catch (RuntimeException e) {
                 return ResponseEntity.notFound().build();
             }
@@ -133,7 +277,20 @@ public class BookingController {
     }
 
     @PutMapping("/{id}/cancel")
-    public ResponseEntity<Void> cancelBooking(@PathVariable Long id) {
+    public ResponseEntity<?> cancelBooking(@PathVariable Long id,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return cancel(id);
+        }
+        if (!IdempotencyService.isValidKey(idempotencyKey)) {
+            return ResponseEntity.badRequest().build();
+        }
+        User currentUser = userService.findByUsername(SecurityContextHolder.getContext().getAuthentication().getName());
+        return idempotencyService.execute(currentUser.getId(), "PUT /api/bookings/" + id + "/cancel", idempotencyKey,
+            null, () -> cancel(id));
+    }
+
+    private ResponseEntity<Void> cancel(Long id) {
         Optional<Booking> existingBooking = bookingService.getBookingById(id);
         
         if (existingBooking.isPresent()) {
@@ -142,7 +299,7 @@ public class BookingController {
             User currentUser = userService.findByUsername(currentUsername);
             
             // Only the booking owner or admin can cancel the booking
-            if (!existingBooking.get().getUserId().equals(currentUser.getId()) && !currentUser.getRole().equals("ADMIN")) {
+            if (!existingBooking.get().getUserId().equals(currentUser.getId()) && currentUser.getRole() != Role.ADMIN) {
                 return ResponseEntity.status(403).build(); // Forbidden
             }
             
@@ -167,7 +324,7 @@ public class BookingController {
             User currentUser = userService.findByUsername(currentUsername);
             
             // Only the booking owner or admin can delete the booking
-            if (!existingBooking.get().getUserId().equals(currentUser.getId()) && !currentUser.getRole().equals("ADMIN")) {
+            if (!existingBooking.get().getUserId().equals(currentUser.getId()) && currentUser.getRole() != Role.ADMIN) {
                 return ResponseEntity.status(403).build(); // Forbidden
             }
             
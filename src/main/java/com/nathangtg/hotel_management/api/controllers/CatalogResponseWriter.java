@@ -0,0 +1,164 @@
+package com.nathangtg.hotel_management.api.controllers;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.services.catalog.CatalogResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes a prebuilt catalog response. The encoding is negotiated from Accept-Encoding;
+ * a gzip body carries its Content-Encoding, which keeps the connector from compressing
+ * it again. Spilled
+ * bodies go out through Tomcat's sendfile when the connector offers it, so the bytes
+ * never pass through the JVM.
+ *
+ * <p>Only the full JSON is prebuilt; a client that prefers a binary format from its Accept
+ * header, or asks for a field selection, is answered through the message converters
+ * instead (see {@link #canSend}).
+ */
+final class CatalogResponseWriter {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private CatalogResponseWriter() {
+    }
+
+    static void send(CatalogResponse catalogResponse, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ETAG, catalogResponse.getEtag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), catalogResponse.getEtag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String encoding = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+            ? CatalogResponse.GZIP : CatalogResponse.IDENTITY;
+        CatalogResponse.Body body = catalogResponse.body(encoding);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (CatalogResponse.GZIP.equals(encoding)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.setContentLengthLong(body.getLength());
+
+        if (body.getFile() == null) {
+            response.getOutputStream().write(body.getBytes());
+        } else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, body.getFile().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, body.getLength());
+        } else {
+            try (FileChannel channel = FileChannel.open(body.getFile(), StandardOpenOption.READ)) {
+                channel.transferTo(0, body.getLength(), Channels.newChannel(response.getOutputStream()));
+            }
+        }
+    }
+
+    // Weak comparison, as the ETag is shared by both encodings
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the prebuilt body answers {@code request}: JSON is preferred and no
+     * {@code fields} selection applies.
+     */
+    static boolean canSend(HttpServletRequest request) {
+        return request.getParameter(FieldSelection.PARAM) == null && prefersJson(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    /**
+     * Whether JSON is the best match for {@code accept}. As in Spring's own negotiation the
+     * higher quality wins and, on a tie, the more specific type, so {@code application/cbor, *}{@code /*}
+     * asks for CBOR. A missing or malformed header means JSON.
+     */
+    static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return true;
+        }
+        double json = 0;
+        int jsonSpecificity = 0;
+        double other = 0;
+        for (MediaType mediaType : mediaTypes) {
+            double quality = mediaType.getQualityValue();
+            if (quality <= 0) {
+                continue;
+            }
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                int specificity = mediaType.isWildcardType() ? 0 : mediaType.isWildcardSubtype() ? 1 : 2;
+                if (quality > json || (quality == json && specificity > jsonSpecificity)) {
+                    json = quality;
+                    jsonSpecificity = specificity;
+                }
+            } else {
+                other = Math.max(other, quality);
+            }
+        }
+        return json > other || (json > 0 && json == other && jsonSpecificity == 2);
+    }
+
+    // An explicit gzip entry wins over the wildcard; q=0 means not acceptable
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double wildcard = null;
+        for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (coding.equals(CatalogResponse.GZIP)) {
+                return quality(tokens) > 0;
+            }
+            if (coding.equals("*")) {
+                wildcard = quality(tokens);
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
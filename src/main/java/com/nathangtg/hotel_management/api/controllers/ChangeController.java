@@ -0,0 +1,47 @@
+package com.nathangtg.hotel_management.api.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nathangtg.hotel_management.api.dto.ChangeFeed;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.services.UserService;
+import com.nathangtg.hotel_management.services.changes.ChangeFeedService;
+
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeController {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private UserService userService;
+
+    @GetMapping
+    public ResponseEntity<ChangeFeed> getChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false, defaultValue = "100") int limit) {
+
+        // Only admin and staff can sync, as the feed includes every guest's bookings
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUsername = authentication.getName();
+        User currentUser = userService.findByUsername(currentUsername);
+        if (!currentUser.getRole().in(Role.BACK_OFFICE)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        try {
+            return ResponseEntity.ok(changeFeedService.getChanges(since, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.nathangtg.hotel_management.api.controllers;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,13 +17,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.nathangtg.hotel_management.api.dto.HotelDistanceResult;
+import com.nathangtg.hotel_management.api.dto.HotelSearchResult;
 import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.services.HotelService;
 import com.nathangtg.hotel_management.services.UserService;
+import com.nathangtg.hotel_management.services.catalog.CatalogResponseCache;
+import com.nathangtg.hotel_management.services.live.LiveEventHub;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/api/hotels")
@@ -31,9 +46,89 @@ public class HotelController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    @Autowired
+    private LiveEventHub liveEventHub;
+
+    // Public catalog read, sent from the prebuilt (and pre-gzipped) JSON body for the current
+    // version; binary formats and field selections are encoded per request
     @GetMapping
-    public List<Hotel> getAllHotels() {
-        return hotelService.getAllHotels();
+    public List<Hotel> getAllHotels(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!CatalogResponseWriter.canSend(request)) {
+            return hotelService.getAllHotels();
+        }
+        CatalogResponseWriter.send(catalogResponseCache.hotels(), request, response);
+        return null;
+    }
+
+    // Multi-get: up to IdBatch.MAX_IDS hotels in request order; unknown ids are left out
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Hotel>> getHotelsByIds(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok(hotelService.getHotelsByIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/search")
+    public List<HotelSearchResult> searchHotels(
+            @RequestParam String q,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        // Served from the in-memory index, never from a LIKE scan
+        return hotelService.searchHotels(q, Math.min(Math.max(limit, 1), 50));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<HotelDistanceResult>> getHotelsNearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false, defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180 || radiusKm <= 0 || radiusKm > 200) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(hotelService.findHotelsNearby(lat, lon, radiusKm, checkIn, checkOut,
+                Math.min(Math.max(limit, 1), 100)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Server-Sent Events for front-desk dashboards: bookings created, updated or cancelled
+    // and room availability, resumed after the Last-Event-ID a reconnecting client sends
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@PathVariable Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // Only admin and staff can follow a hotel's bookings
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUsername = authentication.getName();
+        User currentUser = userService.findByUsername(currentUsername);
+        if (!currentUser.getRole().in(Role.BACK_OFFICE)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+        if (hotelService.getHotelById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Long resumeAfter;
+        try {
+            resumeAfter = lastEventId == null || lastEventId.isBlank() ? null : Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        SseEmitter emitter = liveEventHub.subscribe(id, resumeAfter);
+        if (emitter == null) {
+            return ResponseEntity.status(503).build(); // Too many open streams on this replica
+        }
+        return ResponseEntity.ok(emitter);
     }
 
     @GetMapping("/{id}")
@@ -52,7 +147,7 @@ public class HotelController {
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN")) {
+        if (currentUser.getRole() != Role.ADMIN) {
             throw new RuntimeException("Access denied: Only admin can create hotels");
         }
         
@@ -66,7 +161,7 @@ public class HotelController {
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN")) {
+        if (currentUser.getRole() != Role.ADMIN) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
         
@@ -85,7 +180,7 @@ public class HotelController {
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN")) {
+        if (currentUser.getRole() != Role.ADMIN) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
         
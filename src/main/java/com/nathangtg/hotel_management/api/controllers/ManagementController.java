@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nathangtg.hotel_management.api.models.Management;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.services.ManagementService;
 import com.nathangtg.hotel_management.services.UserService;
@@ -38,7 +39,7 @@ public class ManagementController {
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN")) {
+        if (currentUser.getRole() != Role.ADMIN) {
             // Non-admin users shouldn't have access
             return List.of(); // Return empty list
         }
@@ -56,7 +57,7 @@ public class ManagementController {
             User currentUser = userService.findByUsername(currentUsername);
             
             // Only admin can access management details
-            if (!currentUser.getRole().equals("ADMIN")) {
+            if (currentUser.getRole() != Role.ADMIN) {
                 return ResponseEntity.status(403).build(); // Forbidden
             }
             
@@ -73,7 +74,7 @@ public class ManagementController {
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN")) {
+        if (currentUser.getRole() != Role.ADMIN) {
             throw new RuntimeException("Access denied: Only admin can create management entries");
         }
         
@@ -90,7 +91,7 @@ public class ManagementController {
             User currentUser = userService.findByUsername(currentUsername);
             
             // Only admin can update management details
-            if (!currentUser.getRole().equals("ADMIN")) {
+            if (currentUser.getRole() != Role.ADMIN) {
                 return ResponseEntity.status(403).build(); // Forbidden
             }
             
@@ -115,7 +116,7 @@ public class ManagementController {
             User currentUser = userService.findByUsername(currentUsername);
             
             // Only admin can delete management entries
-            if (!currentUser.getRole().equals("ADMIN")) {
+            if (currentUser.getRole() != Role.ADMIN) {
                 return ResponseEntity.status(403).build(); // Forbidden
             }
             
@@ -0,0 +1,98 @@
+package com.nathangtg.hotel_management.api.controllers;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nathangtg.hotel_management.api.dto.HotelStatsSummary;
+import com.nathangtg.hotel_management.api.dto.StatsBackfillResult;
+import com.nathangtg.hotel_management.api.models.HotelDailyStats;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.services.HotelDailyStatsService;
+import com.nathangtg.hotel_management.services.UserService;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    // Keeps a single report request bounded to a few years of daily rows
+    private static final long MAX_RANGE_DAYS = 1100;
+
+    @Autowired
+    private HotelDailyStatsService hotelDailyStatsService;
+
+    @Autowired
+    private UserService userService;
+
+    @GetMapping("/hotels/{hotelId}/daily")
+    public ResponseEntity<List<HotelDailyStats>> getDailyStats(
+            @PathVariable Long hotelId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        // Only admin and staff can view reports
+        if (!isAdminOrStaff()) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+        if (!isValidRange(from, to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(hotelDailyStatsService.getDailyStats(hotelId, from, to));
+    }
+
+    @GetMapping("/hotels/{hotelId}/summary")
+    public ResponseEntity<HotelStatsSummary> getSummary(
+            @PathVariable Long hotelId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        // Only admin and staff can view reports
+        if (!isAdminOrStaff()) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+        if (!isValidRange(from, to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(hotelDailyStatsService.getSummary(hotelId, from, to));
+    }
+
+    @PostMapping("/daily-stats/backfill")
+    public ResponseEntity<StatsBackfillResult> backfillDailyStats() {
+        // Only admin can rebuild the summary tables
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUsername = authentication.getName();
+        User currentUser = userService.findByUsername(currentUsername);
+
+        if (currentUser.getRole() != Role.ADMIN) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        return ResponseEntity.ok(hotelDailyStatsService.backfill());
+    }
+
+    private boolean isAdminOrStaff() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUsername = authentication.getName();
+        User currentUser = userService.findByUsername(currentUsername);
+        return currentUser.getRole().in(Role.BACK_OFFICE);
+    }
+
+    private static boolean isValidRange(LocalDate from, LocalDate to) {
+        return !from.isAfter(to) && ChronoUnit.DAYS.between(from, to) <= MAX_RANGE_DAYS;
+    }
+}
@@ -1,9 +1,14 @@
 package com.nathangtg.hotel_management.api.controllers;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,11 +22,23 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomHoldRequest;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.exception.ResourceNotFoundException;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.Room;
 import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.services.BookingService;
 import com.nathangtg.hotel_management.services.RoomService;
 import com.nathangtg.hotel_management.services.UserService;
+import com.nathangtg.hotel_management.services.catalog.CatalogResponseCache;
+import com.nathangtg.hotel_management.services.holds.RoomHold;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -34,20 +51,52 @@ public class RoomController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    // A hotel's room list is public catalog, sent from the prebuilt JSON body for the current
+    // version; binary formats and field selections are encoded per request
+    @GetMapping(params = "hotelId")
+    public List<Room> getRoomsOfHotel(@RequestParam Long hotelId, HttpServletRequest request,
+                                      HttpServletResponse response) throws IOException {
+        if (!CatalogResponseWriter.canSend(request)) {
+            return roomService.getRoomsByHotelId(hotelId);
+        }
+        CatalogResponseWriter.send(catalogResponseCache.roomsOfHotel(hotelId), request, response);
+        return null;
+    }
+
+    // Multi-get: up to IdBatch.MAX_IDS rooms in request order; unknown ids are left out
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Room>> getRoomsByIds(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok(roomService.getRoomsByIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping
     public List<Room> getAllRooms(
-            @RequestParam(required = false) Long hotelId,
             @RequestParam(required = false) Boolean isAvailable,
-            @RequestParam(required = false) String roomType) {
+            @RequestParam(required = false) String roomType,
+            @RequestParam(required = false) String fields) {
         
         // Only authenticated users can view rooms, but only admin/staff can modify
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (hotelId != null) {
-            return roomService.getRoomsByHotelId(hotelId);
-        } else if (isAvailable != null && isAvailable) {
+        // A field selection narrows the query as well as the body
+        FieldSelection selection = FieldSelection.parse(fields);
+        if (selection != null) {
+            return roomService.getRooms(isAvailable, roomType, selection);
+        }
+
+        if (isAvailable != null && isAvailable) {
             return roomService.getAvailableRooms();
         } else if (roomType != null) {
             return roomService.getRoomsByType(roomType);
@@ -56,16 +105,128 @@ public class RoomController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<KeysetPage<Room>> searchRooms(
+            @RequestParam(required = false) Long hotelId,
+            @RequestParam(required = false) String roomType,
+            @RequestParam(required = false) Integer minCapacity,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @RequestParam(required = false) Boolean isAvailable,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false, defaultValue = "asc") String direction,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+
+        // Public like the room listing; every filter is applied in a single query
+        try {
+            RoomSearchCriteria criteria = new RoomSearchCriteria();
+            criteria.setHotelId(hotelId);
+            criteria.setRoomType(roomType);
+            criteria.setMinCapacity(minCapacity);
+            criteria.setMinPrice(minPrice);
+            criteria.setMaxPrice(maxPrice);
+            criteria.setCheckIn(checkIn);
+            criteria.setCheckOut(checkOut);
+            criteria.setIsAvailable(isAvailable);
+            criteria.setSort(RoomSearchCriteria.SortField.fromParam(sort));
+            criteria.setDescending("desc".equalsIgnoreCase(direction));
+            criteria.setLimit(limit);
+            criteria.setCursor(cursor);
+            return ResponseEntity.ok(roomService.searchRooms(criteria));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Room> getRoomById(@PathVariable Long id) {
         Optional<Room> room = roomService.getRoomById(id);
+
+        // Room details are public like the room listing
+        return room.map(ResponseEntity::ok)
+                   .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/holds")
+    public ResponseEntity<RoomHold> placeHold(@PathVariable Long id, @RequestBody RoomHoldRequest request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
-        
-        // All authenticated users can view room details
-        return room.map(ResponseEntity::ok)
-                   .orElse(ResponseEntity.notFound().build());
+
+        try {
+            RoomHold hold = roomService.placeHold(id, currentUser.getId(), request);
+            return ResponseEntity.created(URI.create("/api/rooms/" + id + "/holds/" + hold.getId())).body(hold);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).build(); // Unavailable, booked or held by someone else
+        }
+    }
+
+    @GetMapping("/{id}/holds/{holdId}")
+    public ResponseEntity<RoomHold> getHold(@PathVariable Long id, @PathVariable String holdId) {
+        Optional<RoomHold> hold = roomService.getHold(id, holdId);
+
+        if (hold.isPresent()) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String currentUsername = authentication.getName();
+            User currentUser = userService.findByUsername(currentUsername);
+
+            // Guests only see their own holds
+            if (!hold.get().getUserId().equals(currentUser.getId()) && currentUser.getRole() != Role.ADMIN) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(hold.get());
+        }
+
+        return ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping("/{id}/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable Long id, @PathVariable String holdId) {
+        Optional<RoomHold> hold = roomService.getHold(id, holdId);
+
+        if (hold.isPresent()) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String currentUsername = authentication.getName();
+            User currentUser = userService.findByUsername(currentUsername);
+
+            // Only the guest holding the room or an admin can release it
+            if (!hold.get().getUserId().equals(currentUser.getId()) && currentUser.getRole() != Role.ADMIN) {
+                return ResponseEntity.status(403).build(); // Forbidden
+            }
+            roomService.releaseHold(id, holdId);
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/{id}/holds/{holdId}/booking")
+    public ResponseEntity<Booking> bookFromHold(@PathVariable Long id, @PathVariable String holdId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String currentUsername = authentication.getName();
+        User currentUser = userService.findByUsername(currentUsername);
+
+        // Only the guest holding the room can book from the hold
+        Optional<RoomHold> hold = roomService.getHold(id, holdId);
+        if (hold.isPresent() && !hold.get().getUserId().equals(currentUser.getId())) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        try {
+            Booking booking = bookingService.bookFromHold(id, holdId, currentUser);
+            return ResponseEntity.created(URI.create("/api/bookings/" + booking.getId())).body(booking);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(409).build(); // Room no longer available for the held dates
+        }
     }
 
     @PostMapping
@@ -75,7 +236,7 @@ public class RoomController {
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN") && !currentUser.getRole().equals("STAFF")) {
+        if (!currentUser.getRole().in(Role.BACK_OFFICE)) {
             throw new RuntimeException("Access denied: Only admin and staff can create rooms");
         }
         
@@ -89,7 +250,7 @@ public class RoomController {
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN") && !currentUser.getRole().equals("STAFF")) {
+        if (!currentUser.getRole().in(Role.BACK_OFFICE)) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
         
@@ -108,7 +269,7 @@ public class RoomController {
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN") && !currentUser.getRole().equals("STAFF")) {
+        if (!currentUser.getRole().in(Role.BACK_OFFICE)) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
         
@@ -17,7 +17,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.services.IdBatch;
 import com.nathangtg.hotel_management.services.UserService;
 
 @RestController
@@ -29,15 +32,16 @@ public class UserController {
 
     @GetMapping
     public List<User> getAllUsers(
-            @RequestParam(required = false) String role,
-            @RequestParam(required = false) String email) {
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String fields) {
         
         // Only admin can see all users
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN")) {
+        if (currentUser.getRole() != Role.ADMIN) {
             // Non-admin users can only see their own profile or search by specific parameters
             if (email != null && email.equals(currentUser.getEmail())) {
                 User user = userService.findByEmail(email);
@@ -47,6 +51,12 @@ public class UserController {
             }
         }
         
+        // A field selection narrows the query as well as the body
+        FieldSelection selection = FieldSelection.parse(fields);
+        if (selection != null && email == null) {
+            return userService.findAll(role, selection);
+        }
+
         if (role != null) {
             return userService.findAllByRole(role);
         } else if (email != null) {
@@ -57,6 +67,23 @@ public class UserController {
         }
     }
 
+    // Multi-get: up to IdBatch.MAX_IDS users in request order. Non-admins only get their
+    // own profile back; other ids are left out like unknown ones
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<User>> getUsersByIds(@RequestParam List<Long> ids) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User currentUser = userService.findByUsername(authentication.getName());
+        try {
+            List<Long> requested = IdBatch.distinct(ids);
+            if (currentUser.getRole() != Role.ADMIN) {
+                return ResponseEntity.ok(requested.contains(currentUser.getId()) ? List.of(currentUser) : List.of());
+            }
+            return ResponseEntity.ok(userService.findAllByIds(requested));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
         Optional<User> user = userService.findById(id);
@@ -67,7 +94,7 @@ public class UserController {
             User currentUser = userService.findByUsername(currentUsername);
             
             // Users can only access their own profile or if they are an admin
-            if (!user.get().getId().equals(currentUser.getId()) && !currentUser.getRole().equals("ADMIN")) {
+            if (!user.get().getId().equals(currentUser.getId()) && currentUser.getRole() != Role.ADMIN) {
                 return ResponseEntity.status(403).build(); // Forbidden
             }
             
@@ -89,7 +116,7 @@ public class UserController {
         User currentUser = userService.findByUsername(currentUsername);
         
         // Only users can update their own profile or if they are an admin
-        if (!currentUser.getId().equals(id) && !currentUser.getRole().equals("ADMIN")) {
+        if (!currentUser.getId().equals(id) && currentUser.getRole() != Role.ADMIN) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
         
@@ -108,7 +135,7 @@ public class UserController {
         User currentUser = userService.findByUsername(currentUsername);
         
         // Only users can delete their own profile or if they are an admin
-        if (!currentUser.getId().equals(id) && !currentUser.getRole().equals("ADMIN")) {
+        if (!currentUser.getId().equals(id) && currentUser.getRole() != Role.ADMIN) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
         
@@ -124,14 +151,14 @@ public class UserController {
     public List<User> searchUsers(
             @RequestParam(required = false) String firstName,
             @RequestParam(required = false) String lastName,
-            @RequestParam(required = false) String role) {
+            @RequestParam(required = false) Role role) {
         
         // Only admin can search users
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName();
         User currentUser = userService.findByUsername(currentUsername);
         
-        if (!currentUser.getRole().equals("ADMIN")) {
+        if (currentUser.getRole() != Role.ADMIN) {
             // Non-admin users can't perform general searches
             return List.of();
         }
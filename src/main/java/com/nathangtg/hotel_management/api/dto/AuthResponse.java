@@ -0,0 +1,38 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of the login and registration responses. Either the token fields or {@code error}
+ * are set; the user id stays a string as clients already parse it that way.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuthResponse {
+
+    private String token;
+
+    private String message;
+
+    private String userId;
+
+    private String username;
+
+    private String role;
+
+    private String error;
+
+    public static AuthResponse success(String message, String token, Long userId, String username, String role) {
+        return new AuthResponse(token, message, String.valueOf(userId), username, role, null);
+    }
+
+    public static AuthResponse error(String error) {
+        return new AuthResponse(null, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,33 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One sub-request of {@code POST /api/batch}: an API call as it would be sent on its own,
+ * minus authentication, which comes from the batch.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchItem {
+
+    // Echoed in the result; defaults to the item's position in the batch
+    private String id;
+
+    private String method = "GET";
+
+    // Path under /api with an optional query string, e.g. /api/rooms?ids=1,2
+    private String path;
+
+    // Extra request headers such as If-None-Match or Prefer; Accept is always JSON
+    private Map<String, String> headers;
+
+    // JSON request body for POST and PUT
+    private JsonNode body;
+}
@@ -0,0 +1,28 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of one batch sub-request: its HTTP status, response headers and JSON body, which
+ * is embedded as is.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+
+    private String id;
+
+    private int status;
+
+    private Map<String, String> headers;
+
+    @JsonRawValue
+    private String body;
+}
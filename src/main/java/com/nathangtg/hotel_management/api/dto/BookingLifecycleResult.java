@@ -0,0 +1,19 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookingLifecycleResult {
+
+    private int expired;
+
+    private int noShows;
+
+    private int checkedOut;
+
+    private int roomsReleased;
+
+    private long elapsedMillis;
+}
@@ -0,0 +1,113 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookingSearchCriteria {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private List<BookingStatus> statuses;
+
+    private Long hotelId;
+
+    private Long roomId;
+
+    private Long userId;
+
+    private LocalDate checkInFrom;
+
+    private LocalDate checkInTo;
+
+    private LocalDate checkOutFrom;
+
+    private LocalDate checkOutTo;
+
+    // Epoch milliseconds, matching Auditable.createdAt
+    private Long createdFrom;
+
+    private Long createdTo;
+
+    // Matched against the start of the guest's last name
+    private String guestName;
+
+    private SortField sort = SortField.CHECK_IN;
+
+    private boolean descending;
+
+    private Integer limit;
+
+    private String cursor;
+
+    public int getEffectiveLimit() {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public void validate() {
+        if (checkInFrom != null && checkInTo != null && checkInFrom.isAfter(checkInTo)) {
+            throw new IllegalArgumentException("checkInFrom cannot be after checkInTo");
+        }
+        if (checkOutFrom != null && checkOutTo != null && checkOutFrom.isAfter(checkOutTo)) {
+            throw new IllegalArgumentException("checkOutFrom cannot be after checkOutTo");
+        }
+        if (createdFrom != null && createdTo != null && createdFrom > createdTo) {
+            throw new IllegalArgumentException("createdFrom cannot be after createdTo");
+        }
+    }
+
+    public enum SortField {
+        CHECK_IN("checkInDate", Booking::getCheckInDate, LocalDate::parse),
+        CHECK_OUT("checkOutDate", Booking::getCheckOutDate, LocalDate::parse),
+        CREATED("createdAt", Booking::getCreatedAt, Long::valueOf),
+        ID("id", Booking::getId, Long::valueOf);
+
+        private final String attribute;
+        private final Function<Booking, Comparable<?>> extractor;
+        private final Function<String, Comparable<?>> parser;
+
+        SortField(String attribute, Function<Booking, Comparable<?>> extractor,
+                Function<String, Comparable<?>> parser) {
+            this.attribute = attribute;
+            this.extractor = extractor;
+            this.parser = parser;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public Comparable<?> valueOf(Booking booking) {
+            return extractor.apply(booking);
+        }
+
+        public Comparable<?> parse(String raw) {
+            return parser.apply(raw);
+        }
+
+        public static SortField fromParam(String param) {
+            if (param == null || param.isBlank()) {
+                return CHECK_IN;
+            }
+            try {
+                return valueOf(param.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported sort field: " + param);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookingStatusView {
+
+    private Long id;
+
+    private BookingStatus status;
+
+    private BigDecimal totalPrice;
+
+    private Instant holdExpiresAt;
+
+    public static BookingStatusView of(Booking booking) {
+        return new BookingStatusView(booking.getId(), booking.getStatus(), booking.getTotalPrice(),
+            booking.getHoldExpiresAt());
+    }
+}
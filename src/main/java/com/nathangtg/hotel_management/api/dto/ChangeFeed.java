@@ -0,0 +1,40 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of {@code GET /api/changes}. Clients pass {@code nextVersion} back as
+ * {@code since} on the next poll; {@code hasMore} means the next page is ready now.
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeFeed {
+
+    private List<Change> changes;
+
+    private long nextVersion;
+
+    private boolean hasMore;
+
+    /**
+     * Latest change to one entity within the page. {@code data} is the entity as it is now,
+     * and null once it has been deleted.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Change {
+
+        private long version;
+
+        private String entityType;
+
+        private Long entityId;
+
+        private String operation;
+
+        private Object data;
+    }
+}
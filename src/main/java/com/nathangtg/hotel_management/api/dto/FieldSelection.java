@@ -0,0 +1,112 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields a client asked for with {@code ?fields=}, as comma-separated property paths
+ * such as {@code id,roomNumber,hotel.name}. Naming an object keeps all of its fields;
+ * naming a nested field keeps the objects on the way to it with just that field.
+ */
+public final class FieldSelection {
+
+    public static final String PARAM = "fields";
+
+    private final Set<String> paths;
+    private final Set<String> topLevel;
+    private final Node root = new Node();
+    private boolean flat = true;
+
+    private FieldSelection(Set<String> paths) {
+        Set<String> topLevel = new LinkedHashSet<>();
+        for (String path : paths) {
+            String[] segments = path.split("\\.");
+            topLevel.add(segments[0]);
+            flat &= segments.length == 1;
+            Node node = root;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment, name -> new Node());
+            }
+            node.whole = true;
+        }
+        this.paths = Collections.unmodifiableSet(paths);
+        this.topLevel = Collections.unmodifiableSet(topLevel);
+    }
+
+    /**
+     * Parses the {@code fields} parameter; null when it is absent or names no field, which
+     * means the full representation.
+     */
+    public static FieldSelection parse(String param) {
+        if (param == null) {
+            return null;
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        for (String field : param.split(",")) {
+            String path = field.trim();
+            if (!path.isEmpty() && !path.startsWith(".") && !path.endsWith(".") && !path.contains("..")) {
+                paths.add(path);
+            }
+        }
+        return paths.isEmpty() ? null : new FieldSelection(paths);
+    }
+
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * First segment of every path: the properties of the resource itself that are read.
+     */
+    public Set<String> getTopLevel() {
+        return topLevel;
+    }
+
+    /**
+     * Whether every path names a property of the resource itself rather than of a nested
+     * object.
+     */
+    public boolean isFlat() {
+        return flat;
+    }
+
+    /**
+     * The selection as seen from the resource itself; {@link Node#child} walks into
+     * nested objects.
+     */
+    public Node root() {
+        return root;
+    }
+
+    /**
+     * The selection at one object of the response. Lookups do not allocate, as the
+     * serializer asks once per written property.
+     */
+    public static final class Node {
+
+        private static final Node NONE = new Node();
+
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean whole;
+
+        private Node() {
+        }
+
+        /**
+         * Whether the property {@code name} of this object is written.
+         */
+        public boolean includes(String name) {
+            return whole || children.containsKey(name);
+        }
+
+        /**
+         * The selection inside the object held by property {@code name}.
+         */
+        public Node child(String name) {
+            return whole ? this : children.getOrDefault(name, NONE);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HotelDistanceResult {
+
+    private Long id;
+
+    private String name;
+
+    private String address;
+
+    private double latitude;
+
+    private double longitude;
+
+    private double distanceKm;
+}
@@ -0,0 +1,17 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HotelSearchResult {
+
+    private Long id;
+
+    private String name;
+
+    private String address;
+
+    private double score;
+}
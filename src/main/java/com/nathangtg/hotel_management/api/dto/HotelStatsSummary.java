@@ -0,0 +1,29 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HotelStatsSummary {
+
+    private Long hotelId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private long roomsSold;
+
+    private BigDecimal revenue;
+
+    private long cancellations;
+
+    private long roomCount;
+
+    // Room-nights sold over room-nights available in the range, 0..1
+    private double occupancyRate;
+}
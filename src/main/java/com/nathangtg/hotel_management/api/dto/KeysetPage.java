@@ -0,0 +1,36 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is opaque to clients and
+ * is null once the last page has been returned.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+    private List<T> items;
+
+    private String nextCursor;
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Builds a page from a query that fetched {@code limit + 1} rows; the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <T> KeysetPage<T> fromOverfetch(List<T> rows, int limit, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new KeysetPage<>(page, cursorOf.apply(page.get(limit - 1)).encode());
+    }
+}
@@ -0,0 +1,20 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.time.LocalDate;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoomHoldRequest {
+
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+
+    // Optional; defaults to RoomHoldRegistry.DEFAULT_TTL
+    private Long ttlSeconds;
+}
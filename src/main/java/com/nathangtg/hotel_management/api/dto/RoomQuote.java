@@ -0,0 +1,30 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Price of a stay in one room, priced the way a booking for the same dates would be, and
+ * whether the room could be booked for them right now.
+ */
+@Getter
+@AllArgsConstructor
+public class RoomQuote {
+
+    private Long roomId;
+
+    private LocalDate checkIn;
+
+    private LocalDate checkOut;
+
+    private long nights;
+
+    private BigDecimal pricePerNight;
+
+    private BigDecimal totalPrice;
+
+    private boolean available;
+}
@@ -0,0 +1,106 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+import com.nathangtg.hotel_management.api.models.Room;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoomSearchCriteria {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private Long hotelId;
+
+    private String roomType;
+
+    private Integer minCapacity;
+
+    private BigDecimal minPrice;
+
+    private BigDecimal maxPrice;
+
+    private LocalDate checkIn;
+
+    private LocalDate checkOut;
+
+    private Boolean isAvailable;
+
+    private SortField sort = SortField.PRICE;
+
+    private boolean descending;
+
+    private Integer limit;
+
+    private String cursor;
+
+    public int getEffectiveLimit() {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public void validate() {
+        if ((checkIn == null) != (checkOut == null)) {
+            throw new IllegalArgumentException("checkIn and checkOut must be given together");
+        }
+        if (checkIn != null && !checkIn.isBefore(checkOut)) {
+            throw new IllegalArgumentException("Check-in date must be before check-out date");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice cannot exceed maxPrice");
+        }
+    }
+
+    /**
+     * Sort keys backed by the composite indexes on {@code rooms}; the row id is always
+     * appended as tie-breaker so the keyset is total.
+     */
+    public enum SortField {
+        PRICE("pricePerNight", Room::getPricePerNight, BigDecimal::new),
+        CAPACITY("capacity", Room::getCapacity, Integer::valueOf),
+        ID("id", Room::getId, Long::valueOf);
+
+        private final String attribute;
+        private final Function<Room, Comparable<?>> extractor;
+        private final Function<String, Comparable<?>> parser;
+
+        SortField(String attribute, Function<Room, Comparable<?>> extractor, Function<String, Comparable<?>> parser) {
+            this.attribute = attribute;
+            this.extractor = extractor;
+            this.parser = parser;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public Comparable<?> valueOf(Room room) {
+            return extractor.apply(room);
+        }
+
+        public Comparable<?> parse(String raw) {
+            return parser.apply(raw);
+        }
+
+        public static SortField fromParam(String param) {
+            if (param == null || param.isBlank()) {
+                return PRICE;
+            }
+            try {
+                return valueOf(param.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported sort field: " + param);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.nathangtg.hotel_management.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StatsBackfillResult {
+
+    private int hotels;
+
+    private long rows;
+
+    private long elapsedMillis;
+}
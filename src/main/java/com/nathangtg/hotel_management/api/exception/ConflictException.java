@@ -0,0 +1,13 @@
+package com.nathangtg.hotel_management.api.exception;
+
+/**
+ * The request is valid but clashes with the current state, such as a room that is already
+ * taken or a booking that is already cancelled. It is an {@link IllegalStateException}, so
+ * handlers that answer 409 for those keep doing so.
+ */
+public class ConflictException extends IllegalStateException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
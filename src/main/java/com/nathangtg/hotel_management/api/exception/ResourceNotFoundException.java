@@ -0,0 +1,12 @@
+package com.nathangtg.hotel_management.api.exception;
+
+/**
+ * A hotel, room, booking or other record looked up by id does not exist. Callers map it to
+ * 404 (REST) or NOT_FOUND (gRPC) by type rather than by message.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
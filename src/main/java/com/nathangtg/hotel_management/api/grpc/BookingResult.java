@@ -0,0 +1,20 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Either the created or cancelled booking or the reason the request failed.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingResult {
+
+    private String requestId;
+
+    private Booking booking;
+
+    private ChannelError error;
+}
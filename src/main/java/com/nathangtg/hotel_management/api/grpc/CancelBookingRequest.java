@@ -0,0 +1,17 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CancelBookingRequest {
+
+    private String requestId;
+
+    private Long bookingId;
+}
@@ -0,0 +1,18 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import io.grpc.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Failure of one item in a batch stream. The stream itself carries on, so the outcome is
+ * reported in the item's result rather than as the call's status.
+ */
+@Getter
+@AllArgsConstructor
+public class ChannelError {
+
+    private Status.Code code;
+
+    private String message;
+}
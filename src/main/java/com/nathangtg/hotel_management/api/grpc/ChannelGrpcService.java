@@ -0,0 +1,177 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.exception.ConflictException;
+import com.nathangtg.hotel_management.api.exception.ResourceNotFoundException;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.RoomService;
+
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * ChannelService implementation on top of the same services as the REST controllers. The
+ * caller is the user {@link GrpcAuthInterceptor} put in the call context.
+ *
+ * Batch streams answer each request as it arrives, on the transport's executor, so a
+ * client can keep a window of requests in flight on one stream. A failed item becomes an
+ * error result and the stream carries on.
+ */
+@Component
+public class ChannelGrpcService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChannelGrpcService.class);
+
+    private final RoomService roomService;
+    private final BookingService bookingService;
+
+    @Autowired
+    public ChannelGrpcService(RoomService roomService, BookingService bookingService) {
+        this.roomService = roomService;
+        this.bookingService = bookingService;
+    }
+
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(ChannelServiceGrpc.SERVICE_NAME)
+            .addMethod(ChannelServiceGrpc.SEARCH_AVAILABILITY, ServerCalls.asyncUnaryCall(this::searchAvailability))
+            .addMethod(ChannelServiceGrpc.QUOTE, ServerCalls.asyncBidiStreamingCall(
+                responses -> batch(responses, this::quote)))
+            .addMethod(ChannelServiceGrpc.CREATE_BOOKINGS, ServerCalls.asyncBidiStreamingCall(
+                responses -> batch(responses, this::createBooking)))
+            .addMethod(ChannelServiceGrpc.CANCEL_BOOKINGS, ServerCalls.asyncBidiStreamingCall(
+                responses -> batch(responses, this::cancelBooking)))
+            .build();
+    }
+
+    void searchAvailability(RoomSearchCriteria criteria, StreamObserver<KeysetPage<Room>> responses) {
+        if (criteria.getCheckIn() == null || criteria.getCheckOut() == null) {
+            responses.onError(Status.INVALID_ARGUMENT
+                .withDescription("check_in and check_out are required").asRuntimeException());
+            return;
+        }
+        try {
+            responses.onNext(roomService.searchRooms(criteria));
+            responses.onCompleted();
+        } catch (RuntimeException e) {
+            ChannelError error = toError(e);
+            responses.onError(Status.fromCode(error.getCode()).withDescription(error.getMessage())
+                .asRuntimeException());
+        }
+    }
+
+    QuoteResult quote(QuoteRequest request) {
+        try {
+            return new QuoteResult(request.getRequestId(), roomService.quote(request.getRoomId(),
+                request.getCheckIn(), request.getCheckOut(), currentUser().getId()), null);
+        } catch (RuntimeException e) {
+            return new QuoteResult(request.getRequestId(), null, toError(e));
+        }
+    }
+
+    BookingResult createBooking(CreateBookingRequest request) {
+        try {
+            if (request.getRoomId() == null || request.getCheckIn() == null || request.getCheckOut() == null) {
+                throw new IllegalArgumentException("room_id, check_in and check_out are required");
+            }
+            User user = currentUser();
+            Booking booking = new Booking();
+            booking.setUser(user);
+            booking.setUserId(user.getId());
+            booking.setRoomId(request.getRoomId());
+            booking.setCheckInDate(request.getCheckIn());
+            booking.setCheckOutDate(request.getCheckOut());
+            return new BookingResult(request.getRequestId(), bookingService.createBooking(booking), null);
+        } catch (RuntimeException e) {
+            return new BookingResult(request.getRequestId(), null, toError(e));
+        }
+    }
+
+    BookingResult cancelBooking(CancelBookingRequest request) {
+        try {
+            Optional<Booking> existing = request.getBookingId() == null
+                ? Optional.empty() : bookingService.getBookingById(request.getBookingId());
+            if (existing.isEmpty()) {
+                return new BookingResult(request.getRequestId(), null,
+                    new ChannelError(Status.Code.NOT_FOUND, "Booking not found with id: " + request.getBookingId()));
+            }
+            // Only the booking owner or admin can cancel the booking
+            User user = currentUser();
+            if (!existing.get().getUserId().equals(user.getId()) && user.getRole() != Role.ADMIN) {
+                return new BookingResult(request.getRequestId(), null,
+                    new ChannelError(Status.Code.PERMISSION_DENIED, "Booking belongs to another user"));
+            }
+            bookingService.cancelBooking(request.getBookingId());
+            return new BookingResult(request.getRequestId(),
+                bookingService.getBookingById(request.getBookingId()).orElse(existing.get()), null);
+        } catch (RuntimeException e) {
+            return new BookingResult(request.getRequestId(), null, toError(e));
+        }
+    }
+
+    private static <Q, R> StreamObserver<Q> batch(StreamObserver<R> responses, Function<Q, R> handler) {
+        return new StreamObserver<>() {
+
+            @Override
+            public void onNext(Q request) {
+                responses.onNext(handler.apply(request));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Channel stream ended by the client: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                responses.onCompleted();
+            }
+        };
+    }
+
+    private static User currentUser() {
+        User user = GrpcAuthInterceptor.CURRENT_USER.get();
+        if (user == null) {
+            throw Status.UNAUTHENTICATED.asRuntimeException();
+        }
+        return user;
+    }
+
+    /**
+     * Maps a failure to its status by type: missing records are NOT_FOUND, bad input is
+     * INVALID_ARGUMENT and conflicts with the current state ({@link ConflictException} among
+     * them) are FAILED_PRECONDITION. Anything else is INTERNAL and its message is not passed on.
+     */
+    static ChannelError toError(RuntimeException e) {
+        if (e instanceof StatusRuntimeException status) {
+            return new ChannelError(status.getStatus().getCode(), status.getStatus().getDescription());
+        }
+        Status.Code code;
+        if (e instanceof ResourceNotFoundException) {
+            code = Status.Code.NOT_FOUND;
+        } else if (e instanceof IllegalArgumentException) {
+            code = Status.Code.INVALID_ARGUMENT;
+        } else if (e instanceof IllegalStateException) {
+            code = Status.Code.FAILED_PRECONDITION;
+        } else {
+            log.warn("Channel request failed", e);
+            return new ChannelError(Status.Code.INTERNAL, "Request failed");
+        }
+        return new ChannelError(code, e.getMessage());
+    }
+}
@@ -0,0 +1,326 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomQuote;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.protobuf.ProtobufCodec;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Protobuf marshalling for the messages of src/main/proto/channel_service.proto, written
+ * by hand like {@link ProtobufCodec}. Both directions are implemented, so Java callers and
+ * the in-process tests can use the same descriptors as the server. A message that cannot
+ * be decoded fails the call with INVALID_ARGUMENT.
+ */
+final class ChannelMessages {
+
+    static final MethodDescriptor.Marshaller<RoomSearchCriteria> AVAILABILITY_REQUEST =
+        coded(ChannelMessages::writeAvailabilityRequest, ChannelMessages::readAvailabilityRequest);
+
+    static final MethodDescriptor.Marshaller<KeysetPage<Room>> ROOM_PAGE =
+        marshaller(ProtobufCodec::encode, ProtobufCodec::readRoomPage);
+
+    static final MethodDescriptor.Marshaller<QuoteRequest> QUOTE_REQUEST =
+        coded(ChannelMessages::writeQuoteRequest, ChannelMessages::readQuoteRequest);
+
+    static final MethodDescriptor.Marshaller<QuoteResult> QUOTE_RESULT =
+        coded(ChannelMessages::writeQuoteResult, ChannelMessages::readQuoteResult);
+
+    static final MethodDescriptor.Marshaller<CreateBookingRequest> CREATE_BOOKING_REQUEST =
+        coded(ChannelMessages::writeCreateBookingRequest, ChannelMessages::readCreateBookingRequest);
+
+    static final MethodDescriptor.Marshaller<CancelBookingRequest> CANCEL_BOOKING_REQUEST =
+        coded(ChannelMessages::writeCancelBookingRequest, ChannelMessages::readCancelBookingRequest);
+
+    static final MethodDescriptor.Marshaller<BookingResult> BOOKING_RESULT =
+        coded(ChannelMessages::writeBookingResult, ChannelMessages::readBookingResult);
+
+    private ChannelMessages() {
+    }
+
+    private interface Encoder<T> {
+        byte[] encode(T message) throws IOException;
+    }
+
+    private interface Decoder<T> {
+        T decode(byte[] message) throws IOException;
+    }
+
+    private interface Writer<T> {
+        void write(T message, CodedOutputStream out) throws IOException;
+    }
+
+    private interface Reader<T> {
+        T read(CodedInputStream in) throws IOException;
+    }
+
+    private static <T> MethodDescriptor.Marshaller<T> coded(Writer<T> writer, Reader<T> reader) {
+        return marshaller(message -> {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+            writer.write(message, out);
+            out.flush();
+            return bytes.toByteArray();
+        }, bytes -> reader.read(CodedInputStream.newInstance(bytes)));
+    }
+
+    private static <T> MethodDescriptor.Marshaller<T> marshaller(Encoder<T> encoder, Decoder<T> decoder) {
+        return new MethodDescriptor.Marshaller<>() {
+
+            @Override
+            public InputStream stream(T message) {
+                try {
+                    return new ByteArrayInputStream(encoder.encode(message));
+                } catch (IOException e) {
+                    throw Status.INTERNAL.withDescription("Could not encode message").withCause(e)
+                        .asRuntimeException();
+                }
+            }
+
+            @Override
+            public T parse(InputStream stream) {
+                try {
+                    return decoder.decode(stream.readAllBytes());
+                } catch (IOException | RuntimeException e) {
+                    throw Status.INVALID_ARGUMENT.withDescription("Malformed message: " + e.getMessage())
+                        .withCause(e).asRuntimeException();
+                }
+            }
+        };
+    }
+
+    // AvailabilityRequest
+
+    private static void writeAvailabilityRequest(RoomSearchCriteria criteria, CodedOutputStream out)
+            throws IOException {
+        writeInt64(out, 1, criteria.getHotelId());
+        writeString(out, 2, criteria.getRoomType());
+        writeInt32(out, 3, criteria.getMinCapacity());
+        writeString(out, 4, decimal(criteria.getMinPrice()));
+        writeString(out, 5, decimal(criteria.getMaxPrice()));
+        writeString(out, 6, date(criteria.getCheckIn()));
+        writeString(out, 7, date(criteria.getCheckOut()));
+        writeInt32(out, 8, criteria.getLimit());
+        writeString(out, 9, criteria.getCursor());
+    }
+
+    private static RoomSearchCriteria readAvailabilityRequest(CodedInputStream in) throws IOException {
+        RoomSearchCriteria criteria = new RoomSearchCriteria();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> criteria.setHotelId(in.readInt64());
+                case 2 -> criteria.setRoomType(in.readString());
+                case 3 -> criteria.setMinCapacity(in.readInt32());
+                case 4 -> criteria.setMinPrice(new BigDecimal(in.readString()));
+                case 5 -> criteria.setMaxPrice(new BigDecimal(in.readString()));
+                case 6 -> criteria.setCheckIn(LocalDate.parse(in.readString()));
+                case 7 -> criteria.setCheckOut(LocalDate.parse(in.readString()));
+                case 8 -> criteria.setLimit(in.readInt32());
+                case 9 -> criteria.setCursor(in.readString());
+                default -> in.skipField(tag);
+            }
+        }
+        return criteria;
+    }
+
+    // QuoteRequest and QuoteResult
+
+    private static void writeQuoteRequest(QuoteRequest request, CodedOutputStream out) throws IOException {
+        writeString(out, 1, request.getRequestId());
+        writeInt64(out, 2, request.getRoomId());
+        writeString(out, 3, date(request.getCheckIn()));
+        writeString(out, 4, date(request.getCheckOut()));
+    }
+
+    private static QuoteRequest readQuoteRequest(CodedInputStream in) throws IOException {
+        QuoteRequest request = new QuoteRequest();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> request.setRequestId(in.readString());
+                case 2 -> request.setRoomId(in.readInt64());
+                case 3 -> request.setCheckIn(LocalDate.parse(in.readString()));
+                case 4 -> request.setCheckOut(LocalDate.parse(in.readString()));
+                default -> in.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    private static void writeQuoteResult(QuoteResult result, CodedOutputStream out) throws IOException {
+        writeString(out, 1, result.getRequestId());
+        RoomQuote quote = result.getQuote();
+        if (quote != null) {
+            writeInt64(out, 2, quote.getRoomId());
+            writeString(out, 3, date(quote.getCheckIn()));
+            writeString(out, 4, date(quote.getCheckOut()));
+            out.writeInt64(5, quote.getNights());
+            writeString(out, 6, decimal(quote.getPricePerNight()));
+            writeString(out, 7, decimal(quote.getTotalPrice()));
+            out.writeBool(8, quote.isAvailable());
+        }
+        writeError(out, 9, result.getError());
+    }
+
+    private static QuoteResult readQuoteResult(CodedInputStream in) throws IOException {
+        String requestId = null;
+        Long roomId = null;
+        LocalDate checkIn = null;
+        LocalDate checkOut = null;
+        long nights = 0;
+        BigDecimal pricePerNight = null;
+        BigDecimal totalPrice = null;
+        boolean available = false;
+        ChannelError error = null;
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> requestId = in.readString();
+                case 2 -> roomId = in.readInt64();
+                case 3 -> checkIn = LocalDate.parse(in.readString());
+                case 4 -> checkOut = LocalDate.parse(in.readString());
+                case 5 -> nights = in.readInt64();
+                case 6 -> pricePerNight = new BigDecimal(in.readString());
+                case 7 -> totalPrice = new BigDecimal(in.readString());
+                case 8 -> available = in.readBool();
+                case 9 -> error = readError(in);
+                default -> in.skipField(tag);
+            }
+        }
+        RoomQuote quote = error == null
+            ? new RoomQuote(roomId, checkIn, checkOut, nights, pricePerNight, totalPrice, available) : null;
+        return new QuoteResult(requestId, quote, error);
+    }
+
+    // CreateBookingRequest, CancelBookingRequest and BookingResult
+
+    private static void writeCreateBookingRequest(CreateBookingRequest request, CodedOutputStream out)
+            throws IOException {
+        writeString(out, 1, request.getRequestId());
+        writeInt64(out, 2, request.getRoomId());
+        writeString(out, 3, date(request.getCheckIn()));
+        writeString(out, 4, date(request.getCheckOut()));
+    }
+
+    private static CreateBookingRequest readCreateBookingRequest(CodedInputStream in) throws IOException {
+        CreateBookingRequest request = new CreateBookingRequest();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> request.setRequestId(in.readString());
+                case 2 -> request.setRoomId(in.readInt64());
+                case 3 -> request.setCheckIn(LocalDate.parse(in.readString()));
+                case 4 -> request.setCheckOut(LocalDate.parse(in.readString()));
+                default -> in.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    private static void writeCancelBookingRequest(CancelBookingRequest request, CodedOutputStream out)
+            throws IOException {
+        writeString(out, 1, request.getRequestId());
+        writeInt64(out, 2, request.getBookingId());
+    }
+
+    private static CancelBookingRequest readCancelBookingRequest(CodedInputStream in) throws IOException {
+        CancelBookingRequest request = new CancelBookingRequest();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> request.setRequestId(in.readString());
+                case 2 -> request.setBookingId(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    private static void writeBookingResult(BookingResult result, CodedOutputStream out) throws IOException {
+        writeString(out, 1, result.getRequestId());
+        if (result.getBooking() != null) {
+            out.writeByteArray(2, ProtobufCodec.encode(result.getBooking()));
+        }
+        writeError(out, 3, result.getError());
+    }
+
+    private static BookingResult readBookingResult(CodedInputStream in) throws IOException {
+        String requestId = null;
+        Booking booking = null;
+        ChannelError error = null;
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> requestId = in.readString();
+                case 2 -> booking = ProtobufCodec.readBooking(in.readByteArray());
+                case 3 -> error = readError(in);
+                default -> in.skipField(tag);
+            }
+        }
+        return new BookingResult(requestId, booking, error);
+    }
+
+    // Error
+
+    private static void writeError(CodedOutputStream out, int field, ChannelError error) throws IOException {
+        if (error == null) {
+            return;
+        }
+        String message = error.getMessage() == null ? "" : error.getMessage();
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(CodedOutputStream.computeStringSize(1, error.getCode().name())
+            + CodedOutputStream.computeStringSize(2, message));
+        out.writeString(1, error.getCode().name());
+        out.writeString(2, message);
+    }
+
+    private static ChannelError readError(CodedInputStream in) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        Status.Code code = Status.Code.UNKNOWN;
+        String message = null;
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> code = Status.Code.valueOf(in.readString());
+                case 2 -> message = in.readString();
+                default -> in.skipField(tag);
+            }
+        }
+        in.popLimit(limit);
+        return new ChannelError(code, message);
+    }
+
+    private static String decimal(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+
+    private static String date(LocalDate value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, Long value) throws IOException {
+        if (value != null) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static void writeInt32(CodedOutputStream out, int field, Integer value) throws IOException {
+        if (value != null) {
+            out.writeInt32(field, value);
+        }
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.models.Room;
+
+import io.grpc.MethodDescriptor;
+
+/**
+ * Method descriptors of the hotel_management.v1.ChannelService contract, the hand-written
+ * counterpart of what protoc would generate from channel_service.proto.
+ * ChannelServiceConformanceTest checks them against the compiled schema.
+ */
+public final class ChannelServiceGrpc {
+
+    public static final String SERVICE_NAME = "hotel_management.v1.ChannelService";
+
+    public static final MethodDescriptor<RoomSearchCriteria, KeysetPage<Room>> SEARCH_AVAILABILITY =
+        MethodDescriptor.<RoomSearchCriteria, KeysetPage<Room>>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "SearchAvailability"))
+            .setSafe(true)
+            .setIdempotent(true)
+            .setRequestMarshaller(ChannelMessages.AVAILABILITY_REQUEST)
+            .setResponseMarshaller(ChannelMessages.ROOM_PAGE)
+            .build();
+
+    public static final MethodDescriptor<QuoteRequest, QuoteResult> QUOTE =
+        MethodDescriptor.<QuoteRequest, QuoteResult>newBuilder()
+            .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "Quote"))
+            .setRequestMarshaller(ChannelMessages.QUOTE_REQUEST)
+            .setResponseMarshaller(ChannelMessages.QUOTE_RESULT)
+            .build();
+
+    public static final MethodDescriptor<CreateBookingRequest, BookingResult> CREATE_BOOKINGS =
+        MethodDescriptor.<CreateBookingRequest, BookingResult>newBuilder()
+            .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "CreateBookings"))
+            .setRequestMarshaller(ChannelMessages.CREATE_BOOKING_REQUEST)
+            .setResponseMarshaller(ChannelMessages.BOOKING_RESULT)
+            .build();
+
+    public static final MethodDescriptor<CancelBookingRequest, BookingResult> CANCEL_BOOKINGS =
+        MethodDescriptor.<CancelBookingRequest, BookingResult>newBuilder()
+            .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "CancelBookings"))
+            .setRequestMarshaller(ChannelMessages.CANCEL_BOOKING_REQUEST)
+            .setResponseMarshaller(ChannelMessages.BOOKING_RESULT)
+            .build();
+
+    private ChannelServiceGrpc() {
+    }
+}
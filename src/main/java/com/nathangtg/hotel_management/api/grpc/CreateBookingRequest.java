@@ -0,0 +1,23 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateBookingRequest {
+
+    private String requestId;
+
+    private Long roomId;
+
+    private LocalDate checkIn;
+
+    private LocalDate checkOut;
+}
@@ -0,0 +1,139 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.security.JwtUtil;
+import com.nathangtg.hotel_management.services.UserService;
+
+import io.grpc.Attributes;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerTransportFilter;
+import io.grpc.Status;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Bearer token authentication for the gRPC server. The token is verified on the first call
+ * of a connection; later calls on the same connection that send the same token reuse its
+ * claims until it expires, so a long-lived channel pays for the signature check once. The
+ * user the token names is looked up again once {@code grpc.auth.user-ttl} has passed, so a
+ * changed role or a deleted account takes effect on open channels within that time.
+ *
+ * Register the interceptor on the service and {@link #transportFilter()} on the server;
+ * without the filter every call is verified on its own.
+ */
+@Component
+public class GrpcAuthInterceptor implements ServerInterceptor {
+
+    public static final Context.Key<User> CURRENT_USER = Context.key("channel-user");
+
+    static final Metadata.Key<String> AUTHORIZATION =
+        Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String BEARER = "Bearer ";
+
+    private static final Attributes.Key<ConnectionAuth> CONNECTION_AUTH =
+        Attributes.Key.create("channel-connection-auth");
+
+    private final JwtUtil jwtUtil;
+    private final UserService userService;
+    private final Clock clock;
+
+    @Value("${grpc.auth.user-ttl:PT5S}")
+    private Duration userTtl = Duration.ofSeconds(5);
+
+    @Autowired
+    public GrpcAuthInterceptor(JwtUtil jwtUtil, UserService userService) {
+        this(jwtUtil, userService, Clock.systemUTC());
+    }
+
+    GrpcAuthInterceptor(JwtUtil jwtUtil, UserService userService, Clock clock) {
+        this.jwtUtil = jwtUtil;
+        this.userService = userService;
+        this.clock = clock;
+    }
+
+    /**
+     * Gives every new connection the slot its verified token is kept in.
+     */
+    public ServerTransportFilter transportFilter() {
+        return new ServerTransportFilter() {
+            @Override
+            public Attributes transportReady(Attributes transportAttrs) {
+                return transportAttrs.toBuilder().set(CONNECTION_AUTH, new ConnectionAuth()).build();
+            }
+        };
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        String header = headers.get(AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER)) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Bearer token required"), new Metadata());
+            return new ServerCall.Listener<>() { };
+        }
+        User user;
+        try {
+            user = authenticate(header.substring(BEARER.length()), call.getAttributes().get(CONNECTION_AUTH));
+        } catch (JwtException | IllegalArgumentException e) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Invalid or expired token"), new Metadata());
+            return new ServerCall.Listener<>() { };
+        } catch (RuntimeException e) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Unknown user"), new Metadata());
+            return new ServerCall.Listener<>() { };
+        }
+        return Contexts.interceptCall(Context.current().withValue(CURRENT_USER, user), call, headers, next);
+    }
+
+    private User authenticate(String token, ConnectionAuth connection) {
+        Instant now = clock.instant();
+        Verified verified = connection == null ? null : connection.verified;
+        if (verified == null || !verified.token.equals(token) || !now.isBefore(verified.expiresAt)) {
+            Claims claims = jwtUtil.getClaimFromToken(token, Function.identity());
+            Instant expiresAt = claims.getExpiration() == null ? Instant.MAX : claims.getExpiration().toInstant();
+            verified = new Verified(token, claims.getSubject(), expiresAt, null, now);
+        } else if (verified.user != null && now.isBefore(verified.userFreshUntil)) {
+            return verified.user;
+        }
+        User user = userService.findByUsername(verified.subject);
+        if (connection != null) {
+            connection.verified = new Verified(token, verified.subject, verified.expiresAt, user, now.plus(userTtl));
+        }
+        return user;
+    }
+
+    private static final class ConnectionAuth {
+        private volatile Verified verified;
+    }
+
+    // Claims of a verified token, and the user they name as of the last lookup
+    private static final class Verified {
+        private final String token;
+        private final String subject;
+        private final Instant expiresAt;
+        private final User user;
+        private final Instant userFreshUntil;
+
+        private Verified(String token, String subject, Instant expiresAt, User user, Instant userFreshUntil) {
+            this.token = token;
+            this.subject = subject;
+            this.expiresAt = expiresAt;
+            this.user = user;
+            this.userFreshUntil = userFreshUntil;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+/**
+ * Runs the ChannelService on its own port next to the servlet container. It starts with
+ * the context, after the web server, and drains in-flight calls for
+ * {@code grpc.shutdown-grace-seconds} on shutdown.
+ */
+@Component
+public class GrpcServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
+
+    private final ChannelGrpcService channelService;
+    private final GrpcAuthInterceptor authInterceptor;
+
+    @Value("${grpc.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${grpc.port:9090}")
+    private int port = 9090;
+
+    @Value("${grpc.threads:16}")
+    private int threads = 16;
+
+    @Value("${grpc.shutdown-grace-seconds:10}")
+    private long shutdownGraceSeconds = 10;
+
+    private volatile Server server;
+    private ExecutorService executor;
+
+    @Autowired
+    public GrpcServer(ChannelGrpcService channelService, GrpcAuthInterceptor authInterceptor) {
+        this.channelService = channelService;
+        this.authInterceptor = authInterceptor;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || server != null) {
+            return;
+        }
+        executor = Executors.newFixedThreadPool(Math.max(1, threads), daemon("grpc-channel"));
+        Server built = NettyServerBuilder.forAddress(new InetSocketAddress(port))
+            .executor(executor)
+            .addService(ServerInterceptors.intercept(channelService.bindService(), authInterceptor))
+            .addTransportFilter(authInterceptor.transportFilter())
+            .build();
+        try {
+            server = built.start();
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Could not start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server listening on port {}", server.getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        server = null;
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGraceSeconds, TimeUnit.SECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * The bound port, which differs from {@code grpc.port} when that is 0.
+     */
+    public int getPort() {
+        Server running = server;
+        return running == null ? -1 : running.getPort();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import com.nathangtg.hotel_management.api.dto.RoomQuote;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Either a quote or the reason the request could not be quoted.
+ */
+@Getter
+@AllArgsConstructor
+public class QuoteResult {
+
+    private String requestId;
+
+    private RoomQuote quote;
+
+    private ChannelError error;
+}
@@ -1,13 +1,18 @@
 package com.nathangtg.hotel_management.api.models;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,7 +23,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_room_dates", columnList = "room_id, check_in_date, check_out_date, status"),
+    @Index(name = "idx_bookings_status_check_in", columnList = "status, check_in_date"),
+    @Index(name = "idx_bookings_user_check_in", columnList = "user_id, check_in_date"),
+    @Index(name = "idx_bookings_check_out", columnList = "check_out_date"),
+    @Index(name = "idx_bookings_status_check_out", columnList = "status, check_out_date"),
+    @Index(name = "idx_bookings_created_at", columnList = "created_at"),
+    @Index(name = "idx_bookings_status_hold_expiry", columnList = "status, hold_expires_at")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -42,9 +55,17 @@ public class Booking extends Auditable {
     @NotNull(message = "Total price is required")
     private BigDecimal totalPrice;
 
+    // Stored as a smallint code, see BookingStatusConverter
     @Column(name = "status", nullable = false)
+    @Convert(converter = BookingStatusConverter.class)
     @NotNull(message = "Booking status is required")
-    private String status = "PENDING"; // PENDING, CONFIRMED, CHECKED_IN, CHECKED_OUT, CANCELLED
+    private BookingStatus status = BookingStatus.PENDING;
+
+    // Set only for bookings accepted as asynchronous holds; a PENDING hold still waiting for
+    // the confirmation worker does not occupy the room in reports
+    @Column(name = "hold_expires_at")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant holdExpiresAt;
 
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
@@ -0,0 +1,89 @@
+package com.nathangtg.hotel_management.api.models;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Finished bookings moved out of {@code bookings} by the archive job. Rows keep their
+ * original id; guest, room and hotel are stored as plain ids so the archive never blocks
+ * deleting them.
+ */
+@Table(name = "bookings_archive", indexes = {
+    @Index(name = "idx_bookings_archive_check_in", columnList = "check_in_date"),
+    @Index(name = "idx_bookings_archive_user_check_in", columnList = "user_id, check_in_date"),
+    @Index(name = "idx_bookings_archive_room_check_in", columnList = "room_id, check_in_date"),
+    @Index(name = "idx_bookings_archive_hotel", columnList = "hotel_id"),
+    @Index(name = "idx_bookings_archive_status_check_in", columnList = "status, check_in_date")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+public class BookingArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "check_in_date", nullable = false)
+    private LocalDate checkInDate;
+
+    @Column(name = "check_out_date", nullable = false)
+    private LocalDate checkOutDate;
+
+    @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Column(name = "status", nullable = false)
+    @Convert(converter = BookingStatusConverter.class)
+    private BookingStatus status;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "hotel_id")
+    private Long hotelId;
+
+    @Column(name = "hold_expires_at")
+    private Instant holdExpiresAt;
+
+    @Column(name = "created_at")
+    private Long createdAt;
+
+    @Column(name = "updated_at")
+    private Long updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    /** Read-only view in the shape the bookings API returns. */
+    public Booking toBooking() {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setCheckInDate(checkInDate);
+        booking.setCheckOutDate(checkOutDate);
+        booking.setTotalPrice(totalPrice);
+        booking.setStatus(status);
+        booking.setUserId(userId);
+        booking.setRoomId(roomId);
+        booking.setHoldExpiresAt(holdExpiresAt);
+        booking.setCreatedAt(createdAt);
+        booking.setUpdatedAt(updatedAt);
+        return booking;
+    }
+}
@@ -0,0 +1,79 @@
+package com.nathangtg.hotel_management.api.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A booking domain event written in the same transaction as the booking change and
+ * delivered afterwards by the outbox dispatcher. Events for one booking are delivered in
+ * id order; a failing event holds back the ones after it until it succeeds or is parked.
+ */
+@Table(name = "booking_outbox", indexes = {
+    @Index(name = "idx_booking_outbox_status_available", columnList = "status, available_at, id"),
+    @Index(name = "idx_booking_outbox_booking", columnList = "booking_id, status, id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+public class BookingOutboxEvent {
+
+    public static final String PENDING = "PENDING";
+    public static final String PROCESSED = "PROCESSED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    // Sized so MySQL uses mediumtext rather than a 255-byte tinytext
+    @Lob
+    @Column(name = "payload", nullable = false, length = 1_000_000)
+    private String payload;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status = PENDING; // PENDING, PROCESSED, FAILED
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // Earliest time the dispatcher may pick the event up; pushed back on every failed attempt
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public BookingOutboxEvent(Long bookingId, String eventType, String payload, Instant now) {
+        this.bookingId = bookingId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = now;
+        this.availableAt = now;
+    }
+}
@@ -0,0 +1,66 @@
+package com.nathangtg.hotel_management.api.models;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Lifecycle of a booking. Persisted as the small integer {@link #getCode() code}, never the
+ * ordinal, so constants can be reordered or added without rewriting stored rows.
+ */
+public enum BookingStatus {
+    PENDING(1),
+    CONFIRMED(2),
+    CHECKED_IN(3),
+    CHECKED_OUT(4),
+    NO_SHOW(5),
+    CANCELLED(6),
+    REJECTED(7),
+    EXPIRED(8);
+
+    /** Statuses that no longer hold the room for their dates. */
+    public static final Set<BookingStatus> RELEASED = EnumSet.of(CANCELLED, REJECTED, EXPIRED);
+
+    /** Statuses that keep the room occupied or about to be. */
+    public static final Set<BookingStatus> ACTIVE = EnumSet.of(PENDING, CONFIRMED, CHECKED_IN);
+
+    private static final BookingStatus[] BY_CODE = new BookingStatus[9];
+
+    static {
+        for (BookingStatus status : values()) {
+            BY_CODE[status.code] = status;
+        }
+    }
+
+    private final short code;
+
+    BookingStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static BookingStatus fromCode(short code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Unknown booking status code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Whether a booking in this status may move to {@code next}. Staying in the same status
+     * is always allowed; terminal statuses cannot be left.
+     */
+    public boolean canTransitionTo(BookingStatus next) {
+        if (next == this) {
+            return true;
+        }
+        return switch (this) {
+            case PENDING -> next == CONFIRMED || next == CANCELLED || next == REJECTED || next == EXPIRED;
+            case CONFIRMED -> next == CHECKED_IN || next == NO_SHOW || next == CANCELLED;
+            case CHECKED_IN -> next == CHECKED_OUT;
+            default -> false;
+        };
+    }
+}
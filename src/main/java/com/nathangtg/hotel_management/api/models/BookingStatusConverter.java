@@ -0,0 +1,18 @@
+package com.nathangtg.hotel_management.api.models;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class BookingStatusConverter implements AttributeConverter<BookingStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(BookingStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public BookingStatus convertToEntityAttribute(Short code) {
+        return code != null ? BookingStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.nathangtg.hotel_management.api.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One write to a hotel, room or booking, appended in the transaction that made it. Once it
+ * has committed it is given a version, the position clients sync from with
+ * {@code GET /api/changes?since=}; compaction removes entries once a later one exists for
+ * the same entity.
+ */
+@Table(name = "change_log", indexes = {
+    @Index(name = "idx_change_log_entity", columnList = "entity_type, entity_id, id"),
+    @Index(name = "idx_change_log_version", columnList = "version", unique = true),
+    @Index(name = "idx_change_log_changed_at", columnList = "changed_at")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+public class ChangeLogEntry {
+
+    public static final String HOTEL = "HOTEL";
+    public static final String ROOM = "ROOM";
+    public static final String BOOKING = "BOOKING";
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private String entityType; // HOTEL, ROOM, BOOKING
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "operation", nullable = false, length = 16)
+    private String operation; // CREATED, UPDATED, DELETED
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    // Null until ChangeLogService#assignVersions has seen the entry committed
+    @Column(name = "version")
+    private Long version;
+
+    public ChangeLogEntry(String entityType, Long entityId, String operation, Instant changedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.nathangtg.hotel_management.api.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The single row a change log versioning pass locks, so that passes on different replicas
+ * run one at a time and hand out versions in increasing order. Writers never lock it.
+ */
+@Table(name = "change_log_lock")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+public class ChangeLogLock {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "locked_at", nullable = false)
+    private Instant lockedAt;
+}
@@ -0,0 +1,57 @@
+package com.nathangtg.hotel_management.api.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per-hotel, per-night booking totals maintained incrementally by BookingService, so that
+ * reports never have to scan the bookings table.
+ */
+@Table(name = "hotel_daily_stats", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_hotel_daily_stats_hotel_date", columnNames = {"hotel_id", "stat_date"})
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+public class HotelDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    // Room-nights sold for this date
+    @Column(name = "rooms_sold", nullable = false)
+    private Integer roomsSold = 0;
+
+    @Column(name = "revenue", nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    // Bookings cancelled whose stay would have started on this date
+    @Column(name = "cancellations", nullable = false)
+    private Integer cancellations = 0;
+
+    public HotelDailyStats(Long hotelId, LocalDate statDate) {
+        this.hotelId = hotelId;
+        this.statDate = statDate;
+    }
+}
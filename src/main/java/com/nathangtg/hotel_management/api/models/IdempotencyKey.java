@@ -0,0 +1,53 @@
+package com.nathangtg.hotel_management.api.models;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The stored outcome of a request sent with an {@code Idempotency-Key}. Keys are kept as
+ * SHA-256 hashes of user, operation and client key, so every row has a fixed-width primary
+ * key. A row with status 0 is a claim by a request still running.
+ */
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires", columnList = "expires_at")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+public class IdempotencyKey {
+
+    public static final short RUNNING = 0;
+
+    @Id
+    @Column(name = "key_hash", length = 64)
+    private String keyHash;
+
+    // Hash of the request body, so a key reused for a different request is refused
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "status", nullable = false)
+    private short status;
+
+    @Column(name = "location", length = 255)
+    private String location;
+
+    @Lob
+    @Column(name = "body")
+    private byte[] body;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,57 @@
+package com.nathangtg.hotel_management.api.models;
+
+/**
+ * User roles. Persisted as the small integer {@link #getCode() code}; each role also owns a
+ * single bit so authorization checks can test membership of a group of roles with one mask
+ * comparison.
+ */
+public enum Role {
+    USER(1),
+    STAFF(2),
+    ADMIN(3);
+
+    /** Roles that run the front desk: bookings and room management across guests. */
+    public static final int BACK_OFFICE = maskOf(ADMIN, STAFF);
+
+    private final short code;
+    private final int bit;
+
+    Role(int code) {
+        this.code = (short) code;
+        this.bit = 1 << code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static Role fromCode(short code) {
+        for (Role role : values()) {
+            if (role.code == code) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("Unknown role code: " + code);
+    }
+
+    /** Parses a role name case-insensitively, as supplied by clients. */
+    public static Role fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown role: " + name);
+        }
+    }
+
+    public static int maskOf(Role... roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.bit;
+        }
+        return mask;
+    }
+
+    public boolean in(int mask) {
+        return (mask & bit) != 0;
+    }
+}
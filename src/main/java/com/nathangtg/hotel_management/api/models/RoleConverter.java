@@ -0,0 +1,18 @@
+package com.nathangtg.hotel_management.api.models;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class RoleConverter implements AttributeConverter<Role, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(Role role) {
+        return role != null ? role.getCode() : null;
+    }
+
+    @Override
+    public Role convertToEntityAttribute(Short code) {
+        return code != null ? Role.fromCode(code) : null;
+    }
+}
@@ -3,11 +3,14 @@ package com.nathangtg.hotel_management.api.models;
 import java.math.BigDecimal;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -20,7 +23,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-@Table(name = "rooms")
+@Table(name = "rooms", indexes = {
+    @Index(name = "idx_rooms_hotel_type_price", columnList = "hotel_id, room_type, price_per_night"),
+    @Index(name = "idx_rooms_hotel_price", columnList = "hotel_id, price_per_night"),
+    @Index(name = "idx_rooms_hotel_capacity", columnList = "hotel_id, capacity")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -58,6 +65,7 @@ public class Room extends Auditable {
     @NotNull(message = "Hotel is required for room")
     private Hotel hotel;
 
+    @JsonIgnore
     @OneToMany(mappedBy = "room")
     private List<Booking> bookings;
 }
\ No newline at end of file
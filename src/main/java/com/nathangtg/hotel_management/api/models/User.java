@@ -3,7 +3,11 @@ package com.nathangtg.hotel_management.api.models;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -12,6 +16,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -38,6 +43,7 @@ public class User extends Auditable {
     @Column(name = "password", nullable = false)
     @NotBlank(message = "Password is required")
     @Size(min = 6, message = "Password must be at least 6 characters")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
     @Column(name = "first_name", nullable = false)
@@ -63,14 +69,17 @@ public class User extends Auditable {
     @Column(name = "address", nullable = true)
     private String address;
 
+    // Stored as a smallint code, see RoleConverter
     @Column(name = "role", nullable = false)
-    @NotBlank(message = "Role is required")
-    @Size(max = 20, message = "Role cannot exceed 20 characters")
-    private String role;
+    @Convert(converter = RoleConverter.class)
+    @NotNull(message = "Role is required")
+    private Role role;
 
+    @JsonIgnore
     @OneToMany(mappedBy = "user")
     private List<Management> managements = new ArrayList<>();
 
+    @JsonIgnore
     @OneToMany(mappedBy = "user")
     private List<Booking> bookings = new ArrayList<>();
 
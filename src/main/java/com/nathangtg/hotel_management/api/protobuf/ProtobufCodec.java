@@ -0,0 +1,545 @@
+package com.nathangtg.hotel_management.api.protobuf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.core.ResolvableType;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+
+/**
+ * Protobuf encoding of the core response types, following src/main/proto/hotel_management.proto.
+ *
+ * <p>Messages are written straight from the entities with {@link CodedOutputStream} rather
+ * than through protoc-generated classes, so there is no copy into builder objects and no
+ * code generation step in the build; ProtobufConformanceTest checks the result against the
+ * protoc-compiled schema. Nested messages are length-prefixed, so a sizing
+ * pass measures them all before anything is written. Null values are left off the wire, which is how
+ * the schema's {@code optional} fields express absence.
+ */
+public final class ProtobufCodec {
+
+    static final int LIST_ITEMS = 1;
+    static final int PAGE_NEXT_CURSOR = 2;
+    static final int PAGE_HAS_MORE = 3;
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private ProtobufCodec() {
+    }
+
+    /**
+     * Whether {@code type} maps to a message: a hotel, user, room or booking, a collection
+     * of one of them, or a keyset page of rooms or bookings.
+     */
+    public static boolean supports(ResolvableType type) {
+        Class<?> raw = type.resolve();
+        if (raw == null) {
+            return false;
+        }
+        if (isMessage(raw)) {
+            return true;
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return isMessage(type.asCollection().resolveGeneric(0));
+        }
+        if (KeysetPage.class.isAssignableFrom(raw)) {
+            Class<?> item = type.as(KeysetPage.class).resolveGeneric(0);
+            return item == Room.class || item == Booking.class;
+        }
+        return false;
+    }
+
+    private static boolean isMessage(Class<?> type) {
+        return type != null && (Hotel.class.isAssignableFrom(type) || User.class.isAssignableFrom(type)
+            || Room.class.isAssignableFrom(type) || Booking.class.isAssignableFrom(type));
+    }
+
+    /**
+     * Writes {@code value} as its top-level message. Collections become the matching list
+     * message and pages the matching page message.
+     */
+    public static void write(Object value, OutputStream stream) throws IOException {
+        Sizes sizes = new Sizes();
+        int total = topLevelSize(value, sizes);
+        CodedOutputStream out = CodedOutputStream.newInstance(stream, Math.min(Math.max(total, 1), STREAM_BUFFER_SIZE));
+        writeTopLevel(out, value, sizes);
+        out.flush();
+    }
+
+    /**
+     * Encodes {@code value} as {@link #write} does, into an array of exactly its size.
+     */
+    public static byte[] encode(Object value) throws IOException {
+        Sizes sizes = new Sizes();
+        byte[] bytes = new byte[topLevelSize(value, sizes)];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        writeTopLevel(out, value, sizes);
+        out.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    private static int topLevelSize(Object value, Sizes sizes) {
+        if (value instanceof KeysetPage<?> page) {
+            return itemsSize(page.getItems(), sizes)
+                + stringSize(PAGE_NEXT_CURSOR, page.getNextCursor())
+                + CodedOutputStream.computeBoolSize(PAGE_HAS_MORE, page.isHasMore());
+        } else if (value instanceof Collection<?> items) {
+            return itemsSize(items, sizes);
+        }
+        return size(value, sizes);
+    }
+
+    private static void writeTopLevel(CodedOutputStream out, Object value, Sizes sizes) throws IOException {
+        if (value instanceof KeysetPage<?> page) {
+            writeItems(out, page.getItems(), sizes);
+            writeString(out, PAGE_NEXT_CURSOR, page.getNextCursor());
+            out.writeBool(PAGE_HAS_MORE, page.isHasMore());
+        } else if (value instanceof Collection<?> items) {
+            writeItems(out, items, sizes);
+        } else {
+            writeFields(out, value, sizes);
+        }
+    }
+
+    private static int itemsSize(Collection<?> items, Sizes sizes) {
+        int size = 0;
+        for (Object item : items) {
+            size += messageSize(LIST_ITEMS, item, sizes);
+        }
+        return size;
+    }
+
+    private static void writeItems(CodedOutputStream out, Collection<?> items, Sizes sizes) throws IOException {
+        for (Object item : items) {
+            writeMessage(out, LIST_ITEMS, item, sizes);
+        }
+    }
+
+    private static void writeMessage(CodedOutputStream out, int field, Object message, Sizes sizes)
+            throws IOException {
+        if (message == null) {
+            return;
+        }
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(sizes.next());
+        writeFields(out, message, sizes);
+    }
+
+    private static void writeFields(CodedOutputStream out, Object message, Sizes sizes) throws IOException {
+        if (message instanceof Hotel hotel) {
+            writeHotel(out, hotel);
+        } else if (message instanceof User user) {
+            writeUser(out, user);
+        } else if (message instanceof Room room) {
+            writeRoom(out, room, sizes);
+        } else if (message instanceof Booking booking) {
+            writeBooking(out, booking, sizes);
+        } else {
+            throw new IllegalArgumentException("No protobuf message for " + message.getClass().getName());
+        }
+    }
+
+    private static int size(Object message, Sizes sizes) {
+        if (message instanceof Hotel hotel) {
+            return hotelSize(hotel);
+        } else if (message instanceof User user) {
+            return userSize(user);
+        } else if (message instanceof Room room) {
+            return roomSize(room, sizes);
+        } else if (message instanceof Booking booking) {
+            return bookingSize(booking, sizes);
+        }
+        throw new IllegalArgumentException("No protobuf message for " + message.getClass().getName());
+    }
+
+    // Records the size of every nested message in the order writeMessage will need them
+    private static int messageSize(int field, Object message, Sizes sizes) {
+        if (message == null) {
+            return 0;
+        }
+        int slot = sizes.reserve();
+        int size = size(message, sizes);
+        sizes.set(slot, size);
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    /**
+     * Nested message sizes from the sizing pass, in pre-order, so a booking's room and hotel
+     * are measured once rather than again at every level of nesting.
+     */
+    private static final class Sizes {
+
+        private int[] values = new int[64];
+        private int count;
+        private int cursor;
+
+        int reserve() {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            return count++;
+        }
+
+        void set(int slot, int size) {
+            values[slot] = size;
+        }
+
+        int next() {
+            return values[cursor++];
+        }
+    }
+
+    // Each writeX below has a matching xSize that must cover exactly the same fields
+
+    private static void writeHotel(CodedOutputStream out, Hotel hotel) throws IOException {
+        writeInt64(out, 1, hotel.getId());
+        writeString(out, 2, hotel.getName());
+        writeString(out, 3, hotel.getAddress());
+        writeString(out, 4, hotel.getPhone());
+        writeString(out, 5, hotel.getEmail());
+        writeDouble(out, 6, hotel.getLatitude());
+        writeDouble(out, 7, hotel.getLongitude());
+        writeInt64(out, 8, hotel.getCreatedAt());
+        writeInt64(out, 9, hotel.getUpdatedAt());
+    }
+
+    private static int hotelSize(Hotel hotel) {
+        return int64Size(1, hotel.getId())
+            + stringSize(2, hotel.getName())
+            + stringSize(3, hotel.getAddress())
+            + stringSize(4, hotel.getPhone())
+            + stringSize(5, hotel.getEmail())
+            + doubleSize(6, hotel.getLatitude())
+            + doubleSize(7, hotel.getLongitude())
+            + int64Size(8, hotel.getCreatedAt())
+            + int64Size(9, hotel.getUpdatedAt());
+    }
+
+    private static void writeUser(CodedOutputStream out, User user) throws IOException {
+        writeInt64(out, 1, user.getId());
+        writeString(out, 2, user.getUsername());
+        writeString(out, 3, user.getFirstName());
+        writeString(out, 4, user.getLastName());
+        writeString(out, 5, user.getEmail());
+        writeString(out, 6, user.getPhone());
+        writeString(out, 7, user.getAddress());
+        writeString(out, 8, user.getRole() == null ? null : user.getRole().name());
+        writeString(out, 9, user.getFullName());
+        writeInt64(out, 10, user.getCreatedAt());
+        writeInt64(out, 11, user.getUpdatedAt());
+    }
+
+    private static int userSize(User user) {
+        return int64Size(1, user.getId())
+            + stringSize(2, user.getUsername())
+            + stringSize(3, user.getFirstName())
+            + stringSize(4, user.getLastName())
+            + stringSize(5, user.getEmail())
+            + stringSize(6, user.getPhone())
+            + stringSize(7, user.getAddress())
+            + stringSize(8, user.getRole() == null ? null : user.getRole().name())
+            + stringSize(9, user.getFullName())
+            + int64Size(10, user.getCreatedAt())
+            + int64Size(11, user.getUpdatedAt());
+    }
+
+    private static void writeRoom(CodedOutputStream out, Room room, Sizes sizes) throws IOException {
+        writeInt64(out, 1, room.getId());
+        writeString(out, 2, room.getRoomNumber());
+        writeString(out, 3, room.getRoomType());
+        writeInt32(out, 4, room.getCapacity());
+        writeString(out, 5, decimal(room.getPricePerNight()));
+        writeBool(out, 6, room.getIsAvailable());
+        writeMessage(out, 7, room.getHotel(), sizes);
+        writeInt64(out, 8, room.getCreatedAt());
+        writeInt64(out, 9, room.getUpdatedAt());
+    }
+
+    private static int roomSize(Room room, Sizes sizes) {
+        return int64Size(1, room.getId())
+            + stringSize(2, room.getRoomNumber())
+            + stringSize(3, room.getRoomType())
+            + int32Size(4, room.getCapacity())
+            + stringSize(5, decimal(room.getPricePerNight()))
+            + boolSize(6, room.getIsAvailable())
+            + messageSize(7, room.getHotel(), sizes)
+            + int64Size(8, room.getCreatedAt())
+            + int64Size(9, room.getUpdatedAt());
+    }
+
+    private static void writeBooking(CodedOutputStream out, Booking booking, Sizes sizes) throws IOException {
+        writeInt64(out, 1, booking.getId());
+        writeString(out, 2, date(booking.getCheckInDate()));
+        writeString(out, 3, date(booking.getCheckOutDate()));
+        writeString(out, 4, decimal(booking.getTotalPrice()));
+        writeString(out, 5, booking.getStatus() == null ? null : booking.getStatus().name());
+        writeString(out, 6, instant(booking.getHoldExpiresAt()));
+        writeMessage(out, 7, booking.getUser(), sizes);
+        writeMessage(out, 8, booking.getRoom(), sizes);
+        writeInt64(out, 9, booking.getUserId());
+        writeInt64(out, 10, booking.getRoomId());
+        writeInt64(out, 11, booking.getCreatedAt());
+        writeInt64(out, 12, booking.getUpdatedAt());
+    }
+
+    private static int bookingSize(Booking booking, Sizes sizes) {
+        return int64Size(1, booking.getId())
+            + stringSize(2, date(booking.getCheckInDate()))
+            + stringSize(3, date(booking.getCheckOutDate()))
+            + stringSize(4, decimal(booking.getTotalPrice()))
+            + stringSize(5, booking.getStatus() == null ? null : booking.getStatus().name())
+            + stringSize(6, instant(booking.getHoldExpiresAt()))
+            + messageSize(7, booking.getUser(), sizes)
+            + messageSize(8, booking.getRoom(), sizes)
+            + int64Size(9, booking.getUserId())
+            + int64Size(10, booking.getRoomId())
+            + int64Size(11, booking.getCreatedAt())
+            + int64Size(12, booking.getUpdatedAt());
+    }
+
+    private static String decimal(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+
+    private static String date(LocalDate value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static String instant(Instant value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, Long value) throws IOException {
+        if (value != null) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static void writeInt32(CodedOutputStream out, int field, Integer value) throws IOException {
+        if (value != null) {
+            out.writeInt32(field, value);
+        }
+    }
+
+    private static void writeDouble(CodedOutputStream out, int field, Double value) throws IOException {
+        if (value != null) {
+            out.writeDouble(field, value);
+        }
+    }
+
+    private static void writeBool(CodedOutputStream out, int field, Boolean value) throws IOException {
+        if (value != null) {
+            out.writeBool(field, value);
+        }
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int int64Size(int field, Long value) {
+        return value == null ? 0 : CodedOutputStream.computeInt64Size(field, value);
+    }
+
+    private static int int32Size(int field, Integer value) {
+        return value == null ? 0 : CodedOutputStream.computeInt32Size(field, value);
+    }
+
+    private static int doubleSize(int field, Double value) {
+        return value == null ? 0 : CodedOutputStream.computeDoubleSize(field, value);
+    }
+
+    private static int boolSize(int field, Boolean value) {
+        return value == null ? 0 : CodedOutputStream.computeBoolSize(field, value);
+    }
+
+    private static int stringSize(int field, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    // Decoding, for Java clients of the binary format and for the round-trip tests.
+    // Unknown fields are skipped, so older readers accept messages from a newer schema.
+
+    public static List<Hotel> readHotels(byte[] message) throws IOException {
+        return readList(CodedInputStream.newInstance(message), ProtobufCodec::readHotel);
+    }
+
+    public static List<Room> readRooms(byte[] message) throws IOException {
+        return readList(CodedInputStream.newInstance(message), ProtobufCodec::readRoom);
+    }
+
+    public static List<Booking> readBookings(byte[] message) throws IOException {
+        return readList(CodedInputStream.newInstance(message), ProtobufCodec::readBooking);
+    }
+
+    public static KeysetPage<Room> readRoomPage(byte[] message) throws IOException {
+        return readPage(CodedInputStream.newInstance(message), ProtobufCodec::readRoom);
+    }
+
+    public static KeysetPage<Booking> readBookingPage(byte[] message) throws IOException {
+        return readPage(CodedInputStream.newInstance(message), ProtobufCodec::readBooking);
+    }
+
+    public static Booking readBooking(byte[] message) throws IOException {
+        return readBooking(CodedInputStream.newInstance(message));
+    }
+
+    private interface MessageReader<T> {
+        T read(CodedInputStream in) throws IOException;
+    }
+
+    private static <T> List<T> readList(CodedInputStream in, MessageReader<T> reader) throws IOException {
+        List<T> items = new ArrayList<>();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) == LIST_ITEMS) {
+                items.add(readNested(in, reader));
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return items;
+    }
+
+    private static <T> KeysetPage<T> readPage(CodedInputStream in, MessageReader<T> reader) throws IOException {
+        List<T> items = new ArrayList<>();
+        String nextCursor = null;
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case LIST_ITEMS -> items.add(readNested(in, reader));
+                case PAGE_NEXT_CURSOR -> nextCursor = in.readString();
+                default -> in.skipField(tag);
+            }
+        }
+        return new KeysetPage<>(items, nextCursor);
+    }
+
+    private static <T> T readNested(CodedInputStream in, MessageReader<T> reader) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        T message = reader.read(in);
+        in.checkLastTagWas(0);
+        in.popLimit(limit);
+        return message;
+    }
+
+    private static Hotel readHotel(CodedInputStream in) throws IOException {
+        Hotel hotel = new Hotel();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> hotel.setId(in.readInt64());
+                case 2 -> hotel.setName(in.readString());
+                case 3 -> hotel.setAddress(in.readString());
+                case 4 -> hotel.setPhone(in.readString());
+                case 5 -> hotel.setEmail(in.readString());
+                case 6 -> hotel.setLatitude(in.readDouble());
+                case 7 -> hotel.setLongitude(in.readDouble());
+                case 8 -> hotel.setCreatedAt(in.readInt64());
+                case 9 -> hotel.setUpdatedAt(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return hotel;
+    }
+
+    // full_name is derived from the first and last names, so it is not read back
+    private static User readUser(CodedInputStream in) throws IOException {
+        User user = new User();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> user.setId(in.readInt64());
+                case 2 -> user.setUsername(in.readString());
+                case 3 -> user.setFirstName(in.readString());
+                case 4 -> user.setLastName(in.readString());
+                case 5 -> user.setEmail(in.readString());
+                case 6 -> user.setPhone(in.readString());
+                case 7 -> user.setAddress(in.readString());
+                case 8 -> user.setRole(Role.valueOf(in.readString()));
+                case 10 -> user.setCreatedAt(in.readInt64());
+                case 11 -> user.setUpdatedAt(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return user;
+    }
+
+    private static Room readRoom(CodedInputStream in) throws IOException {
+        Room room = new Room();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> room.setId(in.readInt64());
+                case 2 -> room.setRoomNumber(in.readString());
+                case 3 -> room.setRoomType(in.readString());
+                case 4 -> room.setCapacity(in.readInt32());
+                case 5 -> room.setPricePerNight(new BigDecimal(in.readString()));
+                case 6 -> room.setIsAvailable(in.readBool());
+                case 7 -> room.setHotel(readNested(in, ProtobufCodec::readHotel));
+                case 8 -> room.setCreatedAt(in.readInt64());
+                case 9 -> room.setUpdatedAt(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return room;
+    }
+
+    // user_id and room_id repeat the nested ids and only fill them in when the message is absent
+    private static Booking readBooking(CodedInputStream in) throws IOException {
+        Booking booking = new Booking();
+        Long userId = null;
+        Long roomId = null;
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> booking.setId(in.readInt64());
+                case 2 -> booking.setCheckInDate(parseDate(in.readString()));
+                case 3 -> booking.setCheckOutDate(parseDate(in.readString()));
+                case 4 -> booking.setTotalPrice(new BigDecimal(in.readString()));
+                case 5 -> booking.setStatus(BookingStatus.valueOf(in.readString()));
+                case 6 -> booking.setHoldExpiresAt(Instant.parse(in.readString()));
+                case 7 -> booking.setUser(readNested(in, ProtobufCodec::readUser));
+                case 8 -> booking.setRoom(readNested(in, ProtobufCodec::readRoom));
+                case 9 -> userId = in.readInt64();
+                case 10 -> roomId = in.readInt64();
+                case 11 -> booking.setCreatedAt(in.readInt64());
+                case 12 -> booking.setUpdatedAt(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        if (booking.getUser() == null && userId != null) {
+            booking.setUserId(userId);
+        }
+        if (booking.getRoom() == null && roomId != null) {
+            booking.setRoomId(roomId);
+        }
+        return booking;
+    }
+
+    // The formatter-based LocalDate.parse allocates heavily; dates on the wire are plain yyyy-MM-dd
+    static LocalDate parseDate(String value) {
+        if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+            try {
+                return LocalDate.of(Integer.parseInt(value, 0, 4, 10), Integer.parseInt(value, 5, 7, 10),
+                    Integer.parseInt(value, 8, 10, 10));
+            } catch (NumberFormatException e) {
+                // not plain digits, leave it to the full parser
+            }
+        }
+        return LocalDate.parse(value);
+    }
+}
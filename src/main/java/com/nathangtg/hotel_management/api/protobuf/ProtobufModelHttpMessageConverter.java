@@ -0,0 +1,79 @@
+package com.nathangtg.hotel_management.api.protobuf;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes the core response types as {@code application/x-protobuf} for clients that ask
+ * for it. Responses only; request bodies stay JSON.
+ *
+ * <p>A body declared as {@code List<?>} or {@code ResponseEntity<?>} gives no element
+ * type to check, so only endpoints that declare it can answer in protobuf; others get
+ * 406 for a protobuf-only Accept header.
+ */
+public class ProtobufModelHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public ProtobufModelHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProtobufCodec.supports(ResolvableType.forClass(clazz));
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        ResolvableType declared = type == null ? ResolvableType.NONE : ResolvableType.forType(type);
+        // ResponseEntity<?> leaves only the runtime class
+        if (declared.resolve() == null || declared.resolve() == Object.class) {
+            declared = ResolvableType.forClass(clazz);
+        }
+        return ProtobufCodec.supports(declared);
+    }
+
+    // Spring lists producible types per runtime class, which for a list says nothing about
+    // its elements; canWrite with the declared type has already decided
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return getSupportedMediaTypes();
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ProtobufCodec.write(value, outputMessage.getBody());
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+}
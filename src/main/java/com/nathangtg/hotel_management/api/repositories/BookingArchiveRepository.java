@@ -0,0 +1,66 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nathangtg.hotel_management.api.models.BookingArchive;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+
+@Repository
+public interface BookingArchiveRepository extends JpaRepository<BookingArchive, Long> {
+    List<BookingArchive> findByCheckInDateBetween(LocalDate startDate, LocalDate endDate);
+    List<BookingArchive> findByUserId(Long userId);
+    List<BookingArchive> findByRoomId(Long roomId);
+    List<BookingArchive> findByStatus(BookingStatus status);
+
+    @Query("""
+        select a.checkInDate as checkInDate, a.checkOutDate as checkOutDate,
+               a.totalPrice as totalPrice, a.status as status, a.holdExpiresAt as holdExpiresAt
+        from BookingArchive a where a.hotelId = :hotelId
+        """)
+    List<BookingRepository.StayView> findStaysByHotelId(@Param("hotelId") Long hotelId);
+
+    // Archive job: the next chunk's upper id, then copy and delete the same id range
+    @Query("""
+        select b.id from Booking b
+        where b.id > :afterId and b.status in :statuses and b.checkOutDate < :before
+        order by b.id
+        """)
+    List<Long> findArchivableIds(@Param("afterId") Long afterId,
+                                 @Param("statuses") Collection<BookingStatus> statuses,
+                                 @Param("before") LocalDate before,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query("""
+        insert into BookingArchive (id, checkInDate, checkOutDate, totalPrice, status, userId, roomId, hotelId,
+                                    holdExpiresAt, createdAt, updatedAt, archivedAt)
+        select b.id, b.checkInDate, b.checkOutDate, b.totalPrice, b.status, b.user.id, r.id, r.hotel.id,
+               b.holdExpiresAt, b.createdAt, b.updatedAt, :archivedAt
+        from Booking b join b.room r
+        where b.id > :afterId and b.id <= :upToId and b.status in :statuses and b.checkOutDate < :before
+        """)
+    int copyToArchive(@Param("afterId") Long afterId,
+                      @Param("upToId") Long upToId,
+                      @Param("statuses") Collection<BookingStatus> statuses,
+                      @Param("before") LocalDate before,
+                      @Param("archivedAt") Instant archivedAt);
+
+    // Deletes exactly the rows copied above, whatever happened to them in between
+    @Modifying
+    @Query("""
+        delete from Booking b
+        where b.id > :afterId and b.id <= :upToId
+          and exists (select a.id from BookingArchive a where a.id = b.id)
+        """)
+    int deleteArchivedFromBookings(@Param("afterId") Long afterId, @Param("upToId") Long upToId);
+}
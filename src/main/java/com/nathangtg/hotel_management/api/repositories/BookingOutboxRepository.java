@@ -0,0 +1,38 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nathangtg.hotel_management.api.models.BookingOutboxEvent;
+
+@Repository
+public interface BookingOutboxRepository extends JpaRepository<BookingOutboxEvent, Long> {
+
+    // Pending events that are due and not stuck behind an earlier event of the same booking
+    // that is still backing off, oldest first
+    @Query("""
+        select e from BookingOutboxEvent e
+        where e.status = 'PENDING' and e.availableAt <= :now
+          and not exists (
+            select 1 from BookingOutboxEvent p
+            where p.bookingId = e.bookingId and p.status = 'PENDING'
+              and p.id < e.id and p.availableAt > :now)
+        order by e.id
+        """)
+    List<BookingOutboxEvent> findDispatchable(@Param("now") Instant now, Pageable pageable);
+
+    long countByStatus(String status);
+
+    List<BookingOutboxEvent> findByBookingIdOrderById(Long bookingId);
+
+    @Modifying
+    @Query("delete from BookingOutboxEvent e where e.status = 'PROCESSED' and e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") Instant before);
+}
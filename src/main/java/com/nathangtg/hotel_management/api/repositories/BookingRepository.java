@@ -1,18 +1,182 @@
 package com.nathangtg.hotel_management.api.repositories;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
     List<Booking> findByUser_Id(Long userId);
     List<Booking> findByRoom_Id(Long roomId);
-    List<Booking> findByStatus(String status);
+    List<Booking> findByStatus(BookingStatus status);
     List<Booking> findByCheckInDateBetween(LocalDate startDate, LocalDate endDate);
     List<Booking> findByCheckOutDateBetween(LocalDate startDate, LocalDate endDate);
+
+    // Narrow projection for stats rebuilds; avoids loading guests and rooms
+    @Query("""
+        select b.checkInDate as checkInDate, b.checkOutDate as checkOutDate,
+               b.totalPrice as totalPrice, b.status as status, b.holdExpiresAt as holdExpiresAt
+        from Booking b where b.room.hotel.id = :hotelId
+        """)
+    List<StayView> findStaysByHotelId(@Param("hotelId") Long hotelId);
+
+    interface StayView {
+        LocalDate getCheckInDate();
+        LocalDate getCheckOutDate();
+        BigDecimal getTotalPrice();
+        BookingStatus getStatus();
+        Instant getHoldExpiresAt();
+    }
+
+    @Query("""
+        select b from Booking b
+        join fetch b.user
+        join fetch b.room r
+        join fetch r.hotel
+        where b.id in :ids
+        """)
+    List<Booking> findAllWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b join fetch b.room where b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") Long id);
+
+    // Holds waiting for the confirmation worker, oldest first
+    @Query("""
+        select b.id as id, b.room.id as roomId from Booking b
+        where b.status = com.nathangtg.hotel_management.api.models.BookingStatus.PENDING and b.holdExpiresAt is not null
+        order by b.id
+        """)
+    List<HoldView> findPendingHolds(Pageable pageable);
+
+    // Another booking that holds the room for an overlapping stay. Pending holds only count
+    // when they were placed earlier, so competing holds are decided first come, first served
+    @Query("""
+        select count(b) > 0 from Booking b
+        where b.room.id = :roomId and b.id <> :bookingId
+          and b.status not in :releasedStatuses
+          and b.checkInDate < :checkOut and b.checkOutDate > :checkIn
+          and (b.status <> com.nathangtg.hotel_management.api.models.BookingStatus.PENDING or b.holdExpiresAt is null or b.id < :bookingId)
+        """)
+    boolean existsConflictingBooking(@Param("bookingId") Long bookingId,
+                                     @Param("roomId") Long roomId,
+                                     @Param("checkIn") LocalDate checkIn,
+                                     @Param("checkOut") LocalDate checkOut,
+                                     @Param("releasedStatuses") Collection<BookingStatus> releasedStatuses);
+
+    @Query("""
+        select count(b) > 0 from Booking b
+        where b.room.id = :roomId
+          and b.status not in :releasedStatuses
+          and b.checkInDate < :checkOut and b.checkOutDate > :checkIn
+        """)
+    boolean existsOverlappingBooking(@Param("roomId") Long roomId,
+                                     @Param("checkIn") LocalDate checkIn,
+                                     @Param("checkOut") LocalDate checkOut,
+                                     @Param("releasedStatuses") Collection<BookingStatus> releasedStatuses);
+
+    // Another booking that keeps the room flagged unavailable: a confirmed or checked-in
+    // stay, or a pending booking created synchronously. Async holds never take the room
+    @Query("""
+        select count(b) > 0 from Booking b
+        where b.room.id = :roomId and b.id <> :bookingId
+          and (b.status in :occupyingStatuses
+               or (b.status = com.nathangtg.hotel_management.api.models.BookingStatus.PENDING and b.holdExpiresAt is null))
+        """)
+    boolean existsOtherBookingOccupyingRoom(@Param("bookingId") Long bookingId,
+                                            @Param("roomId") Long roomId,
+                                            @Param("occupyingStatuses") Collection<BookingStatus> occupyingStatuses);
+
+    // Lifecycle job: keyset scans find the upper id of the next chunk, and a range-bounded
+    // update moves the whole chunk in one statement, re-checking the predicate
+
+    @Query("""
+        select b.id from Booking b
+        where b.id > :afterId and b.status in :statuses and b.checkOutDate < :date
+        order by b.id
+        """)
+    List<Long> findIdsCheckingOutBefore(@Param("afterId") Long afterId,
+                                        @Param("statuses") Collection<BookingStatus> statuses,
+                                        @Param("date") LocalDate date,
+                                        Pageable pageable);
+
+    @Modifying
+    @Query("""
+        update Booking b set b.status = :toStatus, b.updatedAt = :now
+        where b.id > :afterId and b.id <= :upToId and b.status in :statuses and b.checkOutDate < :date
+        """)
+    int updateStatusCheckingOutBefore(@Param("afterId") Long afterId,
+                                      @Param("upToId") Long upToId,
+                                      @Param("statuses") Collection<BookingStatus> statuses,
+                                      @Param("date") LocalDate date,
+                                      @Param("toStatus") BookingStatus toStatus,
+                                      @Param("now") Long now);
+
+    @Query("""
+        select b.id from Booking b
+        where b.id > :afterId and b.status in :statuses and b.checkInDate < :date
+        order by b.id
+        """)
+    List<Long> findIdsCheckingInBefore(@Param("afterId") Long afterId,
+                                       @Param("statuses") Collection<BookingStatus> statuses,
+                                       @Param("date") LocalDate date,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query("""
+        update Booking b set b.status = :toStatus, b.updatedAt = :now
+        where b.id > :afterId and b.id <= :upToId and b.status in :statuses and b.checkInDate < :date
+        """)
+    int updateStatusCheckingInBefore(@Param("afterId") Long afterId,
+                                     @Param("upToId") Long upToId,
+                                     @Param("statuses") Collection<BookingStatus> statuses,
+                                     @Param("date") LocalDate date,
+                                     @Param("toStatus") BookingStatus toStatus,
+                                     @Param("now") Long now);
+
+    // Bookings a range-bounded update just moved, loaded for their outbox events
+    @Query("""
+        select b from Booking b
+        where b.id > :afterId and b.id <= :upToId and b.status = :status
+        order by b.id
+        """)
+    List<Booking> findInIdRangeWithStatus(@Param("afterId") Long afterId,
+                                          @Param("upToId") Long upToId,
+                                          @Param("status") BookingStatus status);
+
+    // PENDING bookings that can no longer be confirmed: holds past their TTL, or any pending
+    // booking whose stay has already started
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select b from Booking b join fetch b.room
+        where b.id > :afterId and b.status = com.nathangtg.hotel_management.api.models.BookingStatus.PENDING
+          and ((b.holdExpiresAt is not null and b.holdExpiresAt < :now) or b.checkInDate < :today)
+        order by b.id
+        """)
+    List<Booking> findStalePendingForUpdate(@Param("afterId") Long afterId,
+                                            @Param("now") Instant now,
+                                            @Param("today") LocalDate today,
+                                            Pageable pageable);
+
+    interface HoldView {
+        Long getId();
+        Long getRoomId();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nathangtg.hotel_management.api.models.ChangeLogLock;
+
+@Repository
+public interface ChangeLogLockRepository extends JpaRepository<ChangeLogLock, Integer> {
+
+    // Row lock held until the calling transaction ends; 0 while the row does not exist yet
+    @Modifying
+    @Query("update ChangeLogLock l set l.lockedAt = :now where l.id = :id")
+    int lock(@Param("id") Integer id, @Param("now") Instant now);
+
+    // Plain insert rather than save(), which would merge over a row another replica just created
+    @Modifying
+    @Query(value = "insert into change_log_lock (id, locked_at) values (:id, :now)", nativeQuery = true)
+    int insert(@Param("id") Integer id, @Param("now") Instant now);
+}
@@ -0,0 +1,42 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    List<ChangeLogEntry> findByVersionGreaterThanOrderByVersion(Long since, Pageable pageable);
+
+    @Query("select max(e.version) from ChangeLogEntry e")
+    Long findLatestVersion();
+
+    // Committed entries still waiting for a version, in insertion order
+    @Query("select e.id from ChangeLogEntry e where e.version is null order by e.id")
+    List<Long> findUnversionedIds(Pageable pageable);
+
+    @Modifying
+    @Query("update ChangeLogEntry e set e.version = e.id + :offset where e.id in :ids")
+    int assignVersions(@Param("ids") Collection<Long> ids, @Param("offset") long offset);
+
+    // Entries written before the horizon that a later entry for the same entity supersedes
+    @Query("""
+        select e.id from ChangeLogEntry e
+        where e.changedAt < :before and e.version is not null
+          and exists (
+            select 1 from ChangeLogEntry n
+            where n.entityType = e.entityType and n.entityId = e.entityId and n.version > e.version)
+        order by e.id
+        """)
+    List<Long> findSupersededIds(@Param("before") Instant before, Pageable pageable);
+}
@@ -0,0 +1,107 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ReflectionUtils;
+
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+/**
+ * Reads only the columns a {@link FieldSelection} needs. Entities come back detached with
+ * the selected attributes and the id set; everything else keeps its default, which the
+ * response never shows because the same selection filters the serialized fields.
+ */
+@Repository
+public class FieldProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    private final Map<SingularAttribute<?, ?>, Field> fields = new ConcurrentHashMap<>();
+
+    public FieldProjectionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * The entities matching {@code spec} with just the selected columns, or empty when the
+     * selection reaches beyond the entity's own basic columns (an association, a derived
+     * property or an unknown name) and the caller should load full rows instead.
+     */
+    public <T> Optional<List<T>> findAll(Class<T> type, Specification<T> spec, FieldSelection selection) {
+        if (!selection.isFlat()) {
+            return Optional.empty();
+        }
+        EntityType<T> entity = entityManager.getMetamodel().entity(type);
+        List<SingularAttribute<? super T, ?>> columns = new ArrayList<>();
+        SingularAttribute<? super T, ?> id = entity.getId(entity.getIdType().getJavaType());
+        columns.add(id);
+        for (String name : selection.getTopLevel()) {
+            if (name.equals(id.getName())) {
+                continue;
+            }
+            SingularAttribute<? super T, ?> column = basicAttribute(entity, name);
+            if (column == null) {
+                return Optional.empty();
+            }
+            columns.add(column);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(type);
+        query.multiselect(columns.stream().<Selection<?>>map(root::get).toList());
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        List<T> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            T row = BeanUtils.instantiateClass(type);
+            for (int i = 0; i < columns.size(); i++) {
+                ReflectionUtils.setField(field(columns.get(i)), row, tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return Optional.of(rows);
+    }
+
+    private static <T> SingularAttribute<? super T, ?> basicAttribute(EntityType<T> entity, String name) {
+        for (SingularAttribute<? super T, ?> attribute : entity.getSingularAttributes()) {
+            if (attribute.getName().equals(name)) {
+                return attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                    && attribute.getJavaMember() instanceof Field ? attribute : null;
+            }
+        }
+        return null;
+    }
+
+    private Field field(SingularAttribute<?, ?> attribute) {
+        return fields.computeIfAbsent(attribute, key -> {
+            Field field = (Field) key.getJavaMember();
+            ReflectionUtils.makeAccessible(field);
+            return field;
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nathangtg.hotel_management.api.models.HotelDailyStats;
+
+@Repository
+public interface HotelDailyStatsRepository extends JpaRepository<HotelDailyStats, Long>, HotelDailyStatsRepositoryCustom {
+    List<HotelDailyStats> findByHotelIdAndStatDateBetweenOrderByStatDate(Long hotelId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from HotelDailyStats s where s.hotelId = :hotelId")
+    int deleteByHotelId(@Param("hotelId") Long hotelId);
+}
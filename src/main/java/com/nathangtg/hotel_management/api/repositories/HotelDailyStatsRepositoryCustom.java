@@ -0,0 +1,14 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface HotelDailyStatsRepositoryCustom {
+
+    /**
+     * Adds to a hotel's totals for one date, creating the day if it has no row yet. A single
+     * upsert on the caller's connection, so concurrent bookings on the same night never lose
+     * an update and the first booking of a day needs no second connection to create it.
+     */
+    void addToDay(Long hotelId, LocalDate statDate, int roomsSold, BigDecimal revenue, int cancellations);
+}
@@ -0,0 +1,92 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Upserts are not portable, so the statement is picked for the configured dialect: MySQL's
+ * {@code on duplicate key update}, SQL Server's {@code merge} under a range lock so two
+ * sessions cannot both take the insert branch, and a standard {@code merge} elsewhere (H2).
+ */
+class HotelDailyStatsRepositoryCustomImpl implements HotelDailyStatsRepositoryCustom {
+
+    static final String MYSQL_UPSERT = """
+        insert into hotel_daily_stats (hotel_id, stat_date, rooms_sold, revenue, cancellations)
+        values (:hotelId, :statDate, :roomsSold, :revenue, :cancellations)
+        on duplicate key update
+            rooms_sold = rooms_sold + values(rooms_sold),
+            revenue = revenue + values(revenue),
+            cancellations = cancellations + values(cancellations)
+        """;
+
+    static final String SQL_SERVER_UPSERT = """
+        merge hotel_daily_stats with (holdlock) as s
+        using (select :hotelId as hotel_id, :statDate as stat_date) as d
+            on s.hotel_id = d.hotel_id and s.stat_date = d.stat_date
+        when matched then update set
+            rooms_sold = s.rooms_sold + :roomsSold,
+            revenue = s.revenue + :revenue,
+            cancellations = s.cancellations + :cancellations
+        when not matched then
+            insert (hotel_id, stat_date, rooms_sold, revenue, cancellations)
+            values (:hotelId, :statDate, :roomsSold, :revenue, :cancellations);
+        """;
+
+    static final String STANDARD_UPSERT = """
+        merge into hotel_daily_stats s
+        using (select cast(:hotelId as bigint) as hotel_id, cast(:statDate as date) as stat_date) d
+            on s.hotel_id = d.hotel_id and s.stat_date = d.stat_date
+        when matched then update set
+            rooms_sold = s.rooms_sold + :roomsSold,
+            revenue = s.revenue + :revenue,
+            cancellations = s.cancellations + :cancellations
+        when not matched then
+            insert (hotel_id, stat_date, rooms_sold, revenue, cancellations)
+            values (:hotelId, :statDate, :roomsSold, :revenue, :cancellations)
+        """;
+
+    private final EntityManager entityManager;
+
+    private volatile String upsert;
+
+    HotelDailyStatsRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void addToDay(Long hotelId, LocalDate statDate, int roomsSold, BigDecimal revenue, int cancellations) {
+        entityManager.createNativeQuery(upsert())
+            .setParameter("hotelId", hotelId)
+            .setParameter("statDate", statDate)
+            .setParameter("roomsSold", roomsSold)
+            .setParameter("revenue", revenue)
+            .setParameter("cancellations", cancellations)
+            .executeUpdate();
+    }
+
+    private String upsert() {
+        if (upsert == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+            upsert = forDialect(dialect);
+        }
+        return upsert;
+    }
+
+    static String forDialect(Dialect dialect) {
+        if (dialect instanceof MySQLDialect) {
+            return MYSQL_UPSERT;
+        }
+        if (dialect instanceof SQLServerDialect) {
+            return SQL_SERVER_UPSERT;
+        }
+        return STANDARD_UPSERT;
+    }
+}
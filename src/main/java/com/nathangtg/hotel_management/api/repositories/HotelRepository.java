@@ -1,10 +1,29 @@
 package com.nathangtg.hotel_management.api.repositories;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.nathangtg.hotel_management.api.models.Hotel;
 
 @Repository
 public interface HotelRepository extends JpaRepository<Hotel, Long> {
+    @Query("select h.id from Hotel h")
+    List<Long> findAllIds();
+
+    // Catalog snapshot catch-up; rows never stamped (written outside JPA) are always re-read
+    @Query("select h from Hotel h where h.updatedAt > :since or h.updatedAt is null")
+    List<Hotel> findChangedSince(@Param("since") Long since);
+
+    // Changes with every insert, update or delete made through JPA
+    @Query("select count(h) as count, max(h.updatedAt) as lastUpdatedAt from Hotel h")
+    CatalogVersion findCatalogVersion();
+
+    interface CatalogVersion {
+        long getCount();
+        Long getLastUpdatedAt();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nathangtg.hotel_management.api.models.IdempotencyKey;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // Plain insert rather than save(), so the primary key decides which request claims the key
+    @Modifying
+    @Query(value = """
+        insert into idempotency_keys (key_hash, request_hash, status, expires_at)
+        values (:keyHash, :requestHash, 0, :until)
+        """, nativeQuery = true)
+    int insertClaim(@Param("keyHash") String keyHash, @Param("requestHash") String requestHash,
+                    @Param("until") Instant until);
+
+    // Takes over a key whose stored result expired, or whose claim was left behind by a
+    // replica that stopped mid-request
+    @Modifying
+    @Query("""
+        update IdempotencyKey k set k.requestHash = :requestHash, k.status = 0, k.location = null,
+            k.body = null, k.expiresAt = :until
+        where k.keyHash = :keyHash and k.expiresAt <= :now
+        """)
+    int reclaimExpired(@Param("keyHash") String keyHash, @Param("requestHash") String requestHash,
+                       @Param("now") Instant now, @Param("until") Instant until);
+
+    @Modifying
+    @Query("""
+        update IdempotencyKey k set k.status = :status, k.location = :location, k.body = :body,
+            k.expiresAt = :until
+        where k.keyHash = :keyHash
+        """)
+    int complete(@Param("keyHash") String keyHash, @Param("status") short status,
+                 @Param("location") String location, @Param("body") byte[] body, @Param("until") Instant until);
+
+    @Query("select k.keyHash from IdempotencyKey k where k.expiresAt <= :now")
+    List<String> findExpiredKeys(@Param("now") Instant now, Pageable pageable);
+}
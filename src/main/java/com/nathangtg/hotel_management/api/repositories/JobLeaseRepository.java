@@ -0,0 +1,37 @@
+package com.nathangtg.hotel_management.api.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.nathangtg.hotel_management.api.models.JobLease;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // Takes the lease if it has lapsed or is already ours; a single conditional update, so
+    // two replicas racing for it cannot both win
+    @Modifying
+    @Query("""
+        update JobLease l set l.owner = :owner, l.leaseUntil = :until
+        where l.jobName = :jobName and (l.leaseUntil <= :now or l.owner = :owner)
+        """)
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("now") Instant now,
+                   @Param("until") Instant until);
+
+    // Plain insert rather than save(), which would merge over a row another replica just created
+    @Modifying
+    @Query(value = "insert into job_leases (job_name, owner, lease_until) values (:jobName, :owner, :until)",
+           nativeQuery = true)
+    int insert(@Param("jobName") String jobName, @Param("owner") String owner, @Param("until") Instant until);
+
+    @Modifying
+    @Query("update JobLease l set l.leaseUntil = :now where l.jobName = :jobName and l.owner = :owner")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") Instant now);
+}
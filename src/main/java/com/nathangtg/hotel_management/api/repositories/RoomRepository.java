@@ -1,15 +1,85 @@
 package com.nathangtg.hotel_management.api.repositories;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.nathangtg.hotel_management.api.models.BookingStatus;
 import com.nathangtg.hotel_management.api.models.Room;
 
 @Repository
-public interface RoomRepository extends JpaRepository<Room, Long> {
+public interface RoomRepository extends JpaRepository<Room, Long>, JpaSpecificationExecutor<Room> {
     List<Room> findByHotelId(Long hotelId);
     List<Room> findByIsAvailableTrue();
     List<Room> findByRoomType(String roomType);
-}
\ No newline at end of file
+    long countByHotelId(Long hotelId);
+
+    @Query("select r from Room r join fetch r.hotel where r.id in :ids")
+    List<Room> findAllWithHotelByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        select distinct r.hotel.id from Room r
+        where r.hotel.id in :hotelIds
+          and r.id not in :excludedRoomIds
+          and not exists (
+            select b.id from Booking b
+            where b.room = r
+              and b.checkInDate < :checkOut
+              and b.checkOutDate > :checkIn
+              and b.status not in :releasedStatuses)
+        """)
+    List<Long> findHotelIdsWithFreeRoom(@Param("hotelIds") Collection<Long> hotelIds,
+                                        @Param("checkIn") LocalDate checkIn,
+                                        @Param("checkOut") LocalDate checkOut,
+                                        @Param("releasedStatuses") Collection<BookingStatus> releasedStatuses,
+                                        @Param("excludedRoomIds") Collection<Long> excludedRoomIds);
+
+    // Rooms flagged unavailable that no booking holds right now; releaseUnbooked frees them
+    @Query("""
+        select r.id from Room r
+        where r.id > :afterId and r.isAvailable = false
+          and not exists (
+            select b.id from Booking b
+            where b.room = r and b.status in :activeStatuses)
+        order by r.id
+        """)
+    List<Long> findReleasableIds(@Param("afterId") Long afterId,
+                                 @Param("activeStatuses") Collection<BookingStatus> activeStatuses,
+                                 Pageable pageable);
+
+    // Frees rooms in the id range that no longer have a booking holding them right now
+    @Modifying
+    @Query("""
+        update Room r set r.isAvailable = true, r.updatedAt = :now
+        where r.id > :afterId and r.id <= :upToId and r.isAvailable = false
+          and not exists (
+            select b.id from Booking b
+            where b.room = r and b.status in :activeStatuses)
+        """)
+    int releaseUnbooked(@Param("afterId") Long afterId,
+                        @Param("upToId") Long upToId,
+                        @Param("activeStatuses") Collection<BookingStatus> activeStatuses,
+                        @Param("now") Long now);
+
+    // Version stamp of a hotel's room list; rooms embed their hotel, so its stamp counts too
+    @Query("""
+        select count(r) as count, max(r.updatedAt) as lastUpdatedAt, max(h.updatedAt) as hotelUpdatedAt
+        from Room r join r.hotel h
+        where h.id = :hotelId
+        """)
+    RoomCatalogVersion findCatalogVersion(@Param("hotelId") Long hotelId);
+
+    interface RoomCatalogVersion {
+        long getCount();
+        Long getLastUpdatedAt();
+        Long getHotelUpdatedAt();
+    }
+}
@@ -6,15 +6,16 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
-    Optional<User> findByIdAndRole(Long id, String role);
-    Optional<User> findByUsernameAndRole(String username, String role);
-    Optional<List<User>> findAllByRole(String role);
+    Optional<User> findByIdAndRole(Long id, Role role);
+    Optional<User> findByUsernameAndRole(String username, Role role);
+    Optional<List<User>> findAllByRole(Role role);
     Optional<User> findByEmail(String email);
-    List<User> findByRoleIn(List<String> roles);
+    List<User> findByRoleIn(List<Role> roles);
     Optional<User> findByFirstNameAndLastName(String firstName, String lastName);
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.nathangtg.hotel_management.api.repositories.specifications;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nathangtg.hotel_management.api.dto.BookingSearchCriteria;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.JoinType;
+
+public final class BookingSpecifications {
+
+    private BookingSpecifications() {
+    }
+
+    public static Specification<Booking> matching(BookingSearchCriteria criteria) {
+        List<Specification<Booking>> parts = new ArrayList<>();
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            parts.add(withStatusIn(criteria.getStatuses()));
+        }
+        if (criteria.getHotelId() != null) {
+            parts.add(inHotel(criteria.getHotelId()));
+        }
+        if (criteria.getRoomId() != null) {
+            parts.add(forRoom(criteria.getRoomId()));
+        }
+        if (criteria.getUserId() != null) {
+            parts.add(forUser(criteria.getUserId()));
+        }
+        if (criteria.getCheckInFrom() != null || criteria.getCheckInTo() != null) {
+            parts.add(dateWithin("checkInDate", criteria.getCheckInFrom(), criteria.getCheckInTo()));
+        }
+        if (criteria.getCheckOutFrom() != null || criteria.getCheckOutTo() != null) {
+            parts.add(dateWithin("checkOutDate", criteria.getCheckOutFrom(), criteria.getCheckOutTo()));
+        }
+        if (criteria.getCreatedFrom() != null || criteria.getCreatedTo() != null) {
+            parts.add(createdWithin(criteria.getCreatedFrom(), criteria.getCreatedTo()));
+        }
+        if (criteria.getGuestName() != null && !criteria.getGuestName().isBlank()) {
+            parts.add(guestLastNameStartsWith(criteria.getGuestName().trim()));
+        }
+        return Specification.allOf(parts);
+    }
+
+    public static Specification<Booking> withStatusIn(Collection<BookingStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Booking> inHotel(Long hotelId) {
+        return (root, query, cb) -> cb.equal(root.get("room").get("hotel").get("id"), hotelId);
+    }
+
+    public static Specification<Booking> forRoom(Long roomId) {
+        return (root, query, cb) -> cb.equal(root.get("room").get("id"), roomId);
+    }
+
+    public static Specification<Booking> forUser(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    /** Inclusive on both ends, like {@code findByCheckInDateBetween}; either bound may be open. */
+    public static Specification<Booking> dateWithin(String attribute, LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.get(attribute), from, to);
+            }
+            return from != null
+                ? cb.greaterThanOrEqualTo(root.get(attribute), from)
+                : cb.lessThanOrEqualTo(root.get(attribute), to);
+        };
+    }
+
+    public static Specification<Booking> createdWithin(Long from, Long to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.get("createdAt"), from, to);
+            }
+            return from != null
+                ? cb.greaterThanOrEqualTo(root.get("createdAt"), from)
+                : cb.lessThanOrEqualTo(root.get("createdAt"), to);
+        };
+    }
+
+    /**
+     * Left-anchored LIKE so the predicate stays sargable; wildcard characters typed by the
+     * user are escaped rather than interpreted.
+     */
+    public static Specification<Booking> guestLastNameStartsWith(String prefix) {
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("user").get("lastName"), pattern, '\\');
+    }
+
+    /** Loads room, hotel and guest in the same statement as the bookings. */
+    public static Specification<Booking> fetchAssociations() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                Fetch<?, ?> room = root.fetch("room", JoinType.INNER);
+                room.fetch("hotel", JoinType.INNER);
+                root.fetch("user", JoinType.INNER);
+            }
+            return null;
+        };
+    }
+}
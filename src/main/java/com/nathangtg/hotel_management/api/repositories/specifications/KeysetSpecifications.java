@@ -0,0 +1,45 @@
+package com.nathangtg.hotel_management.api.repositories.specifications;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+public final class KeysetSpecifications {
+
+    private static final String ID = "id";
+
+    private KeysetSpecifications() {
+    }
+
+    /**
+     * Order used by every keyset listing: the requested attribute, then the id so that
+     * rows with equal sort values still have a stable position.
+     */
+    public static Sort sort(String attribute, boolean descending) {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        if (ID.equals(attribute)) {
+            return Sort.by(direction, ID);
+        }
+        return Sort.by(direction, attribute).and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Restricts the listing to rows strictly after {@code (value, id)} in {@link #sort}
+     * order, which the database answers with an index seek instead of an OFFSET scan.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> Specification<T> after(String attribute, Comparable value, Long id, boolean descending) {
+        return (root, query, cb) -> {
+            Path<Long> rowId = root.get(ID);
+            Predicate idBeyond = descending ? cb.lessThan(rowId, id) : cb.greaterThan(rowId, id);
+            if (ID.equals(attribute)) {
+                return idBeyond;
+            }
+            Path<Comparable> key = root.get(attribute);
+            Predicate keyBeyond = descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+            return cb.or(keyBeyond, cb.and(cb.equal(key, value), idBeyond));
+        };
+    }
+}
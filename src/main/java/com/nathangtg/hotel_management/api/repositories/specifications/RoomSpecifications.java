@@ -0,0 +1,105 @@
+package com.nathangtg.hotel_management.api.repositories.specifications;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Room;
+
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+public final class RoomSpecifications {
+
+    private RoomSpecifications() {
+    }
+
+    public static Specification<Room> matching(RoomSearchCriteria criteria) {
+        List<Specification<Room>> parts = new ArrayList<>();
+        if (criteria.getHotelId() != null) {
+            parts.add(inHotel(criteria.getHotelId()));
+        }
+        if (criteria.getRoomType() != null && !criteria.getRoomType().isBlank()) {
+            parts.add(ofType(criteria.getRoomType()));
+        }
+        if (criteria.getMinCapacity() != null) {
+            parts.add(withCapacityAtLeast(criteria.getMinCapacity()));
+        }
+        if (criteria.getMinPrice() != null) {
+            parts.add(pricedAtLeast(criteria.getMinPrice()));
+        }
+        if (criteria.getMaxPrice() != null) {
+            parts.add(pricedAtMost(criteria.getMaxPrice()));
+        }
+        if (Boolean.TRUE.equals(criteria.getIsAvailable())) {
+            parts.add(markedAvailable());
+        }
+        if (criteria.getCheckIn() != null && criteria.getCheckOut() != null) {
+            parts.add(freeBetween(criteria.getCheckIn(), criteria.getCheckOut()));
+        }
+        return Specification.allOf(parts);
+    }
+
+    public static Specification<Room> inHotel(Long hotelId) {
+        return (root, query, cb) -> cb.equal(root.get("hotel").get("id"), hotelId);
+    }
+
+    public static Specification<Room> ofType(String roomType) {
+        return (root, query, cb) -> cb.equal(root.get("roomType"), roomType);
+    }
+
+    public static Specification<Room> withCapacityAtLeast(Integer capacity) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("capacity"), capacity);
+    }
+
+    public static Specification<Room> pricedAtLeast(BigDecimal price) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("pricePerNight"), price);
+    }
+
+    public static Specification<Room> pricedAtMost(BigDecimal price) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("pricePerNight"), price);
+    }
+
+    public static Specification<Room> markedAvailable() {
+        return (root, query, cb) -> cb.isTrue(root.get("isAvailable"));
+    }
+
+    /**
+     * Rooms with no live booking overlapping {@code [checkIn, checkOut)}. Expressed as a
+     * correlated NOT EXISTS so the probe runs against idx_bookings_room_dates per room.
+     */
+    public static Specification<Room> freeBetween(LocalDate checkIn, LocalDate checkOut) {
+        return (root, query, cb) -> {
+            Subquery<Long> overlapping = query.subquery(Long.class);
+            Root<Booking> booking = overlapping.from(Booking.class);
+            overlapping.select(booking.get("id")).where(
+                cb.equal(booking.get("room"), root),
+                cb.lessThan(booking.get("checkInDate"), checkOut),
+                cb.greaterThan(booking.get("checkOutDate"), checkIn),
+                cb.not(booking.get("status").in(BookingStatus.RELEASED)));
+            return cb.not(cb.exists(overlapping));
+        };
+    }
+
+    public static Specification<Room> excluding(Collection<Long> roomIds) {
+        return (root, query, cb) -> cb.not(root.get("id").in(roomIds));
+    }
+
+    /** Loads the hotel in the same statement instead of one select per distinct hotel. */
+    public static Specification<Room> fetchHotel() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("hotel", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
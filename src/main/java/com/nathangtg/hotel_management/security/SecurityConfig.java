@@ -14,6 +14,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -29,12 +31,17 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(authz -> authz
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // Completes a stream authorized when it was opened
                 .requestMatchers("/api/auth/**").permitAll()  // Allow authentication endpoints
                 .requestMatchers("/api/users/register").permitAll()  // Allow user registration
+                .requestMatchers("/api/hotels/*/events").authenticated()  // Live dashboards are for hotel staff
                 .requestMatchers("/api/hotels").permitAll()  // Allow public hotel listing
                 .requestMatchers("/api/hotels/**").permitAll()  // Allow public hotel access
+                .requestMatchers("/api/rooms/*/holds/**").authenticated()  // Holds belong to a signed-in guest
                 .requestMatchers("/api/rooms").permitAll()  // Allow public room listing
                 .requestMatchers("/api/rooms/**").permitAll()  // Allow public room access
+                .requestMatchers("/actuator/startup").hasRole("ADMIN")  // Boot timeline names every bean
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()  // Liveness and readiness probes
                 .anyRequest().authenticated()
             )
             .exceptionHandling(exception -> exception
@@ -0,0 +1,142 @@
+package com.nathangtg.hotel_management.services;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingArchive;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.repositories.BookingArchiveRepository;
+
+/**
+ * Keeps the hot {@code bookings} table small by moving finished bookings that checked out
+ * more than {@code booking.archive.horizon-days} ago into {@code bookings_archive}. Because
+ * only those bookings are archived, a read whose range starts on or after the cutoff never
+ * needs to look at the archive.
+ */
+@Service
+public class BookingArchiveService {
+
+    /** Statuses a booking never leaves, and so may be archived in. */
+    public static final Set<BookingStatus> ARCHIVABLE_STATUSES = EnumSet.complementOf(
+        EnumSet.copyOf(BookingStatus.ACTIVE));
+
+    private final BookingArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Value("${booking.archive.horizon-days:365}")
+    private int horizonDays = 365;
+
+    @Value("${booking.archive.chunk-size:2000}")
+    private int chunkSize = 2000;
+
+    @Autowired
+    public BookingArchiveService(BookingArchiveRepository archiveRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this(archiveRepository, transactionManager, Clock.system(ZoneId.systemDefault()));
+    }
+
+    BookingArchiveService(BookingArchiveRepository archiveRepository, PlatformTransactionManager transactionManager,
+                          Clock clock) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /** Bookings checking out before this date may be archived. */
+    public LocalDate getCutoff() {
+        return LocalDate.now(clock).minusDays(horizonDays);
+    }
+
+    public boolean reaches(LocalDate from) {
+        return from == null || from.isBefore(getCutoff());
+    }
+
+    public List<Booking> findByCheckInDateBetween(LocalDate startDate, LocalDate endDate) {
+        if (!reaches(startDate)) {
+            return List.of();
+        }
+        return toBookings(archiveRepository.findByCheckInDateBetween(startDate, endDate));
+    }
+
+    public List<Booking> findByUserId(Long userId) {
+        return toBookings(archiveRepository.findByUserId(userId));
+    }
+
+    public List<Booking> findByRoomId(Long roomId) {
+        return toBookings(archiveRepository.findByRoomId(roomId));
+    }
+
+    /** Archived bookings in {@code status}; none for a status a booking can still leave. */
+    public List<Booking> findByStatus(BookingStatus status) {
+        if (!ARCHIVABLE_STATUSES.contains(status)) {
+            return List.of();
+        }
+        return toBookings(archiveRepository.findByStatus(status));
+    }
+
+    public Optional<Booking> findById(Long id) {
+        return archiveRepository.findById(id).map(BookingArchive::toBooking);
+    }
+
+    public List<Booking> findAllById(Collection<Long> ids) {
+        return toBookings(archiveRepository.findAllById(ids));
+    }
+
+    private static List<Booking> toBookings(List<BookingArchive> archived) {
+        return archived.stream().map(BookingArchive::toBooking).toList();
+    }
+
+    /**
+     * Moves every archivable booking past the cutoff and returns how many were moved. Each
+     * chunk is an id range copied with one INSERT ... SELECT and removed with one DELETE in
+     * the same short transaction, so a booking is always in exactly one of the two tables.
+     * {@code continueAfterChunk} is consulted between chunks and stops the run when false.
+     */
+    public int archive(BooleanSupplier continueAfterChunk) {
+        LocalDate before = getCutoff();
+        int moved = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = archiveRepository.findArchivableIds(afterId, ARCHIVABLE_STATUSES, before,
+                PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                return moved;
+            }
+            long from = afterId;
+            long upToId = ids.get(ids.size() - 1);
+            Integer chunk = transactionTemplate.execute(status -> {
+                archiveRepository.copyToArchive(from, upToId, ARCHIVABLE_STATUSES, before, clock.instant());
+                return archiveRepository.deleteArchivedFromBookings(from, upToId);
+            });
+            moved += chunk != null ? chunk : 0;
+            if (ids.size() < chunkSize || !continueAfterChunk.getAsBoolean()) {
+                return moved;
+            }
+            afterId = upToId;
+        }
+    }
+
+    void setHorizonDays(int horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
+    void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,245 @@
+package com.nathangtg.hotel_management.services;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.events.BookingEvent;
+import com.nathangtg.hotel_management.services.events.BookingHeldEvent;
+import com.nathangtg.hotel_management.services.events.BookingOutboxService;
+import com.nathangtg.hotel_management.services.jobs.JobLeaseService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Second phase of asynchronous bookings. Pending holds are the queue: the worker drains
+ * them in batches, grouped by room so holds competing for the same room are decided one
+ * at a time in the order they were placed, while different rooms proceed in parallel.
+ * Each hold is decided in its own short transaction and ends CONFIRMED (priced, room
+ * marked taken), REJECTED (overlaps an existing booking) or EXPIRED (TTL passed first).
+ *
+ * Runs when a hold commits and on a fixed poll as a fallback. Only the replica holding
+ * the {@value #JOB_NAME} lease drains, renewing it with every batch; holds placed on
+ * another replica are picked up by the holder's next poll.
+ */
+@Component
+public class BookingConfirmationWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingConfirmationWorker.class);
+
+    public static final String JOB_NAME = "booking-confirmation";
+
+    // Well past a batch's decision time; another replica takes over this long after a crash
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final HotelDailyStatsService hotelDailyStatsService;
+    private final BookingOutboxService bookingOutboxService;
+    private final ChangeLogService changeLogService;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final ExecutorService workers;
+    private final ExecutorService coordinator;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    @Value("${booking.confirmation.batch-size:200}")
+    private int batchSize = 200;
+
+    @Autowired
+    public BookingConfirmationWorker(BookingRepository bookingRepository, RoomRepository roomRepository,
+                                     HotelDailyStatsService hotelDailyStatsService,
+                                     BookingOutboxService bookingOutboxService,
+                                     ChangeLogService changeLogService, JobLeaseService jobLeaseService,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${booking.confirmation.workers:4}") int workerCount) {
+        this(bookingRepository, roomRepository, hotelDailyStatsService, bookingOutboxService, changeLogService,
+            jobLeaseService, transactionManager, workerCount, Clock.systemUTC());
+    }
+
+    BookingConfirmationWorker(BookingRepository bookingRepository, RoomRepository roomRepository,
+                              HotelDailyStatsService hotelDailyStatsService, BookingOutboxService bookingOutboxService,
+                              ChangeLogService changeLogService, JobLeaseService jobLeaseService,
+                              PlatformTransactionManager transactionManager, int workerCount, Clock clock) {
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+        this.hotelDailyStatsService = hotelDailyStatsService;
+        this.bookingOutboxService = bookingOutboxService;
+        this.changeLogService = changeLogService;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerCount), daemon("booking-confirmation"));
+        this.coordinator = Executors.newSingleThreadExecutor(daemon("booking-confirmation-drain"));
+    }
+
+    @TransactionalEventListener
+    public void onHoldPlaced(BookingHeldEvent event) {
+        wakeUp();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.confirmation.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * Schedules a drain unless one is running; a running drain makes one more pass instead,
+     * so a burst of holds coalesces into a few large batches.
+     */
+    public void wakeUp() {
+        requested.set(true);
+        if (draining.compareAndSet(false, true)) {
+            coordinator.execute(this::drainWhileRequested);
+        }
+    }
+
+    private void drainWhileRequested() {
+        try {
+            while (requested.getAndSet(false)) {
+                drain();
+            }
+        } catch (RuntimeException e) {
+            log.error("Booking confirmation drain failed", e);
+        } finally {
+            draining.set(false);
+        }
+        if (requested.get()) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Decides every pending hold and returns how many were decided; 0 while another replica
+     * holds the lease.
+     */
+    public int drain() {
+        int decided = 0;
+        while (true) {
+            if (!jobLeaseService.tryAcquire(JOB_NAME, LEASE)) {
+                return decided;
+            }
+            List<BookingRepository.HoldView> batch = bookingRepository.findPendingHolds(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return decided;
+            }
+            Map<Long, List<Long>> byRoom = new LinkedHashMap<>();
+            for (BookingRepository.HoldView hold : batch) {
+                byRoom.computeIfAbsent(hold.getRoomId(), id -> new ArrayList<>()).add(hold.getId());
+            }
+
+            AtomicInteger batchDecided = new AtomicInteger();
+            List<Future<?>> pending = new ArrayList<>(byRoom.size());
+            for (List<Long> holdIds : byRoom.values()) {
+                pending.add(workers.submit(() -> {
+                    for (Long holdId : holdIds) {
+                        try {
+                            if (decide(holdId) != null) {
+                                batchDecided.incrementAndGet();
+                            }
+                        } catch (RuntimeException e) {
+                            log.warn("Could not decide booking hold {}: {}", holdId, e.toString());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : pending) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Booking confirmation worker failed", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return decided + batchDecided.get();
+                }
+            }
+            decided += batchDecided.get();
+            // Stop on a short batch, or when nothing moved so a failing hold cannot spin the loop
+            if (batch.size() < batchSize || batchDecided.get() == 0) {
+                return decided;
+            }
+        }
+    }
+
+    /**
+     * Decides a single hold and returns its new status, or null if it was no longer pending.
+     */
+    public BookingStatus decide(Long bookingId) {
+        return transactionTemplate.execute(status -> {
+            Booking booking = bookingRepository.findByIdForUpdate(bookingId).orElse(null);
+            if (booking == null || booking.getStatus() != BookingStatus.PENDING
+                    || booking.getHoldExpiresAt() == null) {
+                return null;
+            }
+            Room room = booking.getRoom();
+            if (booking.getHoldExpiresAt().isBefore(clock.instant())) {
+                booking.setStatus(BookingStatus.EXPIRED);
+            } else if (bookingRepository.existsConflictingBooking(booking.getId(), room.getId(),
+                    booking.getCheckInDate(), booking.getCheckOutDate(), BookingStatus.RELEASED)) {
+                booking.setStatus(BookingStatus.REJECTED);
+            } else {
+                long nights = ChronoUnit.DAYS.between(booking.getCheckInDate(), booking.getCheckOutDate());
+                booking.setTotalPrice(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)));
+                booking.setStatus(BookingStatus.CONFIRMED);
+                room.setIsAvailable(false);
+                roomRepository.save(room);
+                changeLogService.record(ChangeLogEntry.ROOM, room.getId(), ChangeLogEntry.UPDATED);
+            }
+            bookingRepository.save(booking);
+            hotelDailyStatsService.recordStatusChange(booking, room, BookingStatus.PENDING);
+            bookingOutboxService.record(BookingEvent.STATUS_CHANGED, booking, BookingStatus.PENDING);
+            changeLogService.record(ChangeLogEntry.BOOKING, booking.getId(), ChangeLogEntry.UPDATED);
+            return booking.getStatus();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,52 +1,158 @@
 package com.nathangtg.hotel_management.services;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.nathangtg.hotel_management.api.dto.BookingSearchCriteria;
+import com.nathangtg.hotel_management.api.dto.KeysetCursor;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.exception.ConflictException;
+import com.nathangtg.hotel_management.api.exception.ResourceNotFoundException;
 import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
 import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.api.repositories.BookingRepository;
 import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.api.repositories.specifications.BookingSpecifications;
+import com.nathangtg.hotel_management.api.repositories.specifications.KeysetSpecifications;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.events.BookingEvent;
+import com.nathangtg.hotel_management.services.events.BookingHeldEvent;
+import com.nathangtg.hotel_management.services.events.BookingOutboxService;
+import com.nathangtg.hotel_management.services.holds.RoomHold;
+import com.nathangtg.hotel_management.services.holds.RoomHoldRegistry;
 
 @Service
 public class BookingService {
 
+    // Statuses whose booking keeps its room flagged unavailable
+    private static final Set<BookingStatus> OCCUPYING = EnumSet.of(BookingStatus.CONFIRMED, BookingStatus.CHECKED_IN);
+
     @Autowired
     public BookingRepository bookingRepository;
     
     @Autowired
     public RoomRepository roomRepository;
 
+    @Autowired
+    public HotelDailyStatsService hotelDailyStatsService;
+
+    @Autowired
+    public BookingOutboxService bookingOutboxService;
+
+    @Autowired
+    public ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public RoomHoldRegistry roomHoldRegistry;
+
+    @Autowired
+    public BookingArchiveService bookingArchiveService;
+
+    @Autowired
+    public ChangeLogService changeLogService;
+
+    // Accept bookings as holds by default instead of only when the client asks for it
+    @Value("${booking.confirmation.async:false}")
+    private boolean asyncConfirmation;
+
+    @Value("${booking.hold.ttl:PT5M}")
+    private Duration holdTtl = Duration.ofMinutes(5);
+
     public List<Booking> getAllBookings() {
         return bookingRepository.findAll();
     }
 
     public Optional<Booking> getBookingById(Long id) {
-        return bookingRepository.findById(id);
+        // Archived bookings stay readable by id; the archive is only probed on a miss
+        Optional<Booking> booking = bookingRepository.findById(id);
+        return booking.isPresent() ? booking : bookingArchiveService.findById(id);
     }
 
+    /**
+     * Bookings for a batch of ids in request order, each with its guest, room and hotel. Ids
+     * missing from the live table are looked up in the archive, like {@link #getBookingById}.
+     */
+    public List<Booking> getBookingsByIds(List<Long> ids) {
+        List<Long> distinct = IdBatch.distinct(ids);
+        List<Booking> found = new ArrayList<>(bookingRepository.findAllWithAssociationsByIdIn(distinct));
+        if (found.size() < distinct.size()) {
+            Set<Long> missing = new HashSet<>(distinct);
+            found.forEach(booking -> missing.remove(booking.getId()));
+            found.addAll(bookingArchiveService.findAllById(missing));
+        }
+        return IdBatch.inRequestOrder(distinct, found, Booking::getId);
+    }
+
+    // These listings have no date bound, so archived bookings are always included
     public List<Booking> getBookingsByUserId(Long userId) {
-        return bookingRepository.findByUser_Id(userId);
+        return withArchived(bookingArchiveService.findByUserId(userId), bookingRepository.findByUser_Id(userId));
     }
 
     public List<Booking> getBookingsByRoomId(Long roomId) {
-        return bookingRepository.findByRoom_Id(roomId);
+        return withArchived(bookingArchiveService.findByRoomId(roomId), bookingRepository.findByRoom_Id(roomId));
+    }
+
+    public List<Booking> getBookingsByStatus(BookingStatus status) {
+        return withArchived(bookingArchiveService.findByStatus(status), bookingRepository.findByStatus(status));
     }
 
-    public List<Booking> getBookingsByStatus(String status) {
-        return bookingRepository.findByStatus(status);
+    private static List<Booking> withArchived(List<Booking> archived, List<Booking> bookings) {
+        if (archived.isEmpty()) {
+            return bookings;
+        }
+        List<Booking> combined = new ArrayList<>(archived);
+        combined.addAll(bookings);
+        return combined;
     }
 
     public List<Booking> getBookingsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookingRepository.findByCheckInDateBetween(startDate, endDate);
+        List<Booking> bookings = bookingRepository.findByCheckInDateBetween(startDate, endDate);
+        if (!bookingArchiveService.reaches(startDate)) {
+            return bookings;
+        }
+        return withArchived(bookingArchiveService.findByCheckInDateBetween(startDate, endDate), bookings);
     }
 
+    public KeysetPage<Booking> searchBookings(BookingSearchCriteria criteria) {
+        criteria.validate();
+        BookingSearchCriteria.SortField sortField = criteria.getSort();
+        int limit = criteria.getEffectiveLimit();
+
+        Specification<Booking> spec = BookingSpecifications.matching(criteria)
+            .and(BookingSpecifications.fetchAssociations());
+        if (criteria.getCursor() != null && !criteria.getCursor().isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(criteria.getCursor());
+            spec = spec.and(KeysetSpecifications.after(sortField.getAttribute(),
+                sortField.parse(cursor.getValue()), cursor.getId(), criteria.isDescending()));
+        }
+        Sort sort = KeysetSpecifications.sort(sortField.getAttribute(), criteria.isDescending());
+
+        List<Booking> rows = bookingRepository.findBy(spec, query -> query.sortBy(sort).limit(limit + 1).all());
+        return KeysetPage.fromOverfetch(rows, limit,
+            last -> new KeysetCursor(String.valueOf(sortField.valueOf(last)), last.getId()));
+    }
+
+    @Transactional
     public Booking createBooking(Booking booking) {
         // Calculate total price based on room price and number of nights
         if (booking.getCheckInDate().isAfter(booking.getCheckOutDate())) {
@@ -54,10 +160,14 @@ public class BookingService {
         }
         
         Room room = roomRepository.findById(booking.getRoom().getId())
-            .orElseThrow(() -> new RuntimeException("Room not found with id: " + booking.getRoom().getId()));
+            .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + booking.getRoom().getId()));
             
         if (!room.getIsAvailable()) {
-            throw new RuntimeException("Room is not available for the selected dates");
+            throw new ConflictException("Room is not available for the selected dates");
+        }
+        if (roomHoldRegistry.isHeldByOther(room.getId(), booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getUserId())) {
+            throw new ConflictException("Room is held by another guest for the selected dates");
         }
         
         long nights = ChronoUnit.DAYS.between(booking.getCheckInDate(), booking.getCheckOutDate());
@@ -73,48 +183,172 @@ public class BookingService {
         room.setIsAvailable(false);
         roomRepository.save(room);
         
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        hotelDailyStatsService.recordBooking(savedBooking, room);
+        bookingOutboxService.record(BookingEvent.CREATED, savedBooking, null);
+        changeLogService.record(ChangeLogEntry.ROOM, room.getId(), ChangeLogEntry.UPDATED);
+        changeLogService.record(ChangeLogEntry.BOOKING, savedBooking.getId(), ChangeLogEntry.CREATED);
+        return savedBooking;
     }
 
+    /**
+     * Turns a room hold into a booking. The hold is taken out of the registry first so it
+     * cannot be converted twice, and put back if the booking cannot be created.
+     */
+    @Transactional
+    public Booking bookFromHold(Long roomId, String holdId, User user) {
+        RoomHold hold = roomHoldRegistry.claim(holdId, roomId);
+        if (hold == null) {
+            throw new IllegalArgumentException("Hold not found or expired: " + holdId);
+        }
+        if (!hold.getUserId().equals(user.getId())) {
+            roomHoldRegistry.restore(hold);
+            throw new RuntimeException("Access denied: hold belongs to another guest");
+        }
+
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setRoomId(roomId);
+        booking.setCheckInDate(hold.getCheckInDate());
+        booking.setCheckOutDate(hold.getCheckOutDate());
+        booking.setStatus(BookingStatus.CONFIRMED);
+        try {
+            return createBooking(booking);
+        } catch (RuntimeException e) {
+            roomHoldRegistry.restore(hold);
+            throw e;
+        }
+    }
+
+    public boolean acceptsAsync(String preferHeader) {
+        return asyncConfirmation || (preferHeader != null && preferHeader.toLowerCase().contains("respond-async"));
+    }
+
+    /**
+     * Accept-fast path: records the booking as a PENDING hold without touching the room row
+     * and leaves overlap checking, pricing and confirmation to BookingConfirmationWorker.
+     * A hold that has not been confirmed within the hold TTL expires.
+     */
+    @Transactional
+    public Booking placeHold(Booking booking) {
+        if (booking.getCheckInDate() == null || booking.getCheckOutDate() == null
+                || !booking.getCheckInDate().isBefore(booking.getCheckOutDate())) {
+            throw new IllegalArgumentException("Check-in date must be before check-out date");
+        }
+        Long roomId = booking.getRoomId();
+        // Loaded rather than referenced: the hold is serialized after this transaction ends
+        Room room = roomId == null ? null : roomRepository.findById(roomId).orElse(null);
+        if (room == null) {
+            throw new ResourceNotFoundException("Room not found with id: " + roomId);
+        }
+        if (roomHoldRegistry.isHeldByOther(roomId, booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getUserId())) {
+            throw new ConflictException("Room is held by another guest for the selected dates");
+        }
+        if (booking.getUserId() == null && booking.getUser() != null) {
+            booking.setUserId(booking.getUser().getId());
+        }
+
+        booking.setId(null);
+        booking.setRoom(room);
+        booking.setStatus(BookingStatus.PENDING);
+        // Priced by the confirmation worker
+        booking.setTotalPrice(BigDecimal.ZERO);
+        booking.setHoldExpiresAt(Instant.now().plus(holdTtl));
+
+        Booking hold = bookingRepository.save(booking);
+        bookingOutboxService.record(BookingEvent.HELD, hold, null);
+        changeLogService.record(ChangeLogEntry.BOOKING, hold.getId(), ChangeLogEntry.CREATED);
+        eventPublisher.publishEvent(new BookingHeldEvent(hold.getId()));
+        return hold;
+    }
+
+    @Transactional
     public Booking updateBooking(Long id, Booking bookingDetails) {
         Booking existingBooking = bookingRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + id));
             
         // Only allow status updates after initial booking
-        existingBooking.setStatus(bookingDetails.getStatus());
+        BookingStatus previousStatus = existingBooking.getStatus();
+        BookingStatus nextStatus = bookingDetails.getStatus();
+        if (nextStatus == null || !previousStatus.canTransitionTo(nextStatus)) {
+            throw new IllegalStateException("Booking cannot move from " + previousStatus + " to " + nextStatus);
+        }
+        // A pending hold is unpriced and does not occupy its room yet; only the confirmation
+        // worker may decide it, after its overlap check, and guests cancel it through cancelBooking
+        if (previousStatus == BookingStatus.PENDING && nextStatus != BookingStatus.PENDING
+                && existingBooking.getHoldExpiresAt() != null) {
+            throw new IllegalStateException("Booking hold " + id + " is decided by the confirmation worker");
+        }
+        existingBooking.setStatus(nextStatus);
         
-        return bookingRepository.save(existingBooking);
+        Booking savedBooking = bookingRepository.save(existingBooking);
+        hotelDailyStatsService.recordStatusChange(existingBooking, existingBooking.getRoom(), previousStatus);
+        bookingOutboxService.record(BookingEvent.STATUS_CHANGED, existingBooking, previousStatus);
+        changeLogService.record(ChangeLogEntry.BOOKING, id, ChangeLogEntry.UPDATED);
+        return savedBooking;
     }
 
+    @Transactional
     public void cancelBooking(Long id) {
         Booking booking = bookingRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + id));
             
-        if (booking.getStatus().equals("CANCELLED")) {
-            throw new RuntimeException("Booking is already cancelled");
+        if (booking.getStatus() == BookingStatus.CANCELLED) {
+            throw new ConflictException("Booking is already cancelled");
+        }
+        if (!booking.getStatus().canTransitionTo(BookingStatus.CANCELLED)) {
+            throw new IllegalStateException("Booking cannot be cancelled once " + booking.getStatus());
         }
         
-        // Mark the associated room as available again
         Room room = booking.getRoom();
-        room.setIsAvailable(true);
-        roomRepository.save(room);
+        releaseRoom(booking);
         
-        booking.setStatus("CANCELLED");
+        BookingStatus previousStatus = booking.getStatus();
+        booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        hotelDailyStatsService.recordStatusChange(booking, room, previousStatus);
+        bookingOutboxService.record(BookingEvent.CANCELLED, booking, previousStatus);
+        changeLogService.record(ChangeLogEntry.BOOKING, id, ChangeLogEntry.UPDATED);
     }
     
+    @Transactional
     public void deleteBooking(Long id) {
         if (bookingRepository.existsById(id)) {
-            // Before deleting, make sure to mark the room as available if not cancelled
             Booking booking = bookingRepository.findById(id).orElse(null);
-            if (booking != null && !booking.getStatus().equals("CANCELLED")) {
-                Room room = booking.getRoom();
-                room.setIsAvailable(true);
-                roomRepository.save(room);
+            if (booking != null) {
+                releaseRoom(booking);
+                hotelDailyStatsService.recordRemoval(booking, booking.getRoom());
+                bookingOutboxService.record(BookingEvent.DELETED, booking, booking.getStatus());
             }
             bookingRepository.deleteById(id);
+            changeLogService.record(ChangeLogEntry.BOOKING, id, ChangeLogEntry.DELETED);
         } else {
-            throw new RuntimeException("Booking not found with id: " + id);
+            throw new ResourceNotFoundException("Booking not found with id: " + id);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Marks the booking's room available again, but only if this booking took it and no
+     * other booking still occupies it. A pending async hold never takes the room, so
+     * dropping one must not free a room another guest has confirmed.
+     */
+    private void releaseRoom(Booking booking) {
+        if (!occupiesRoom(booking)) {
+            return;
+        }
+        Room room = booking.getRoom();
+        if (bookingRepository.existsOtherBookingOccupyingRoom(booking.getId(), room.getId(), OCCUPYING)) {
+            return;
+        }
+        room.setIsAvailable(true);
+        roomRepository.save(room);
+        changeLogService.record(ChangeLogEntry.ROOM, room.getId(), ChangeLogEntry.UPDATED);
+    }
+
+    // Mirrors existsOtherBookingOccupyingRoom: synchronous pending bookings took the room in createBooking
+    private static boolean occupiesRoom(Booking booking) {
+        return OCCUPYING.contains(booking.getStatus())
+            || (booking.getStatus() == BookingStatus.PENDING && booking.getHoldExpiresAt() == null);
+    }
+}
@@ -0,0 +1,223 @@
+package com.nathangtg.hotel_management.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nathangtg.hotel_management.api.dto.HotelStatsSummary;
+import com.nathangtg.hotel_management.api.dto.StatsBackfillResult;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.HotelDailyStats;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.repositories.BookingArchiveRepository;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelDailyStatsRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+
+/**
+ * Maintains {@code hotel_daily_stats}. A booking contributes one room-night and its nightly
+ * share of the price to every night of its stay while it holds the room, and one
+ * cancellation on its check-in night once cancelled. Status changes apply the difference
+ * between the old and the new contribution. A PENDING hold contributes nothing until the
+ * confirmation worker has confirmed and priced it.
+ */
+@Service
+public class HotelDailyStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelDailyStatsService.class);
+
+    private static final int BACKFILL_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private final HotelDailyStatsRepository statsRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingArchiveRepository bookingArchiveRepository;
+    private final HotelRepository hotelRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public HotelDailyStatsService(HotelDailyStatsRepository statsRepository, BookingRepository bookingRepository,
+                                  BookingArchiveRepository bookingArchiveRepository, HotelRepository hotelRepository,
+                                  RoomRepository roomRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingArchiveRepository = bookingArchiveRepository;
+        this.hotelRepository = hotelRepository;
+        this.roomRepository = roomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public void recordBooking(Booking booking, Room room) {
+        apply(booking, room, null, contributing(booking.getStatus(), booking.getHoldExpiresAt() != null));
+    }
+
+    @Transactional
+    public void recordStatusChange(Booking booking, Room room, BookingStatus previousStatus) {
+        boolean hold = booking.getHoldExpiresAt() != null;
+        apply(booking, room, contributing(previousStatus, hold), contributing(booking.getStatus(), hold));
+    }
+
+    @Transactional
+    public void recordRemoval(Booking booking, Room room) {
+        apply(booking, room, contributing(booking.getStatus(), booking.getHoldExpiresAt() != null), null);
+    }
+
+    public List<HotelDailyStats> getDailyStats(Long hotelId, LocalDate from, LocalDate to) {
+        return statsRepository.findByHotelIdAndStatDateBetweenOrderByStatDate(hotelId, from, to);
+    }
+
+    public HotelStatsSummary getSummary(Long hotelId, LocalDate from, LocalDate to) {
+        long roomsSold = 0;
+        long cancellations = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (HotelDailyStats day : getDailyStats(hotelId, from, to)) {
+            roomsSold += day.getRoomsSold();
+            cancellations += day.getCancellations();
+            revenue = revenue.add(day.getRevenue());
+        }
+        long roomCount = roomRepository.countByHotelId(hotelId);
+        long roomNights = roomCount * (ChronoUnit.DAYS.between(from, to) + 1);
+        double occupancy = roomNights == 0 ? 0 : (double) roomsSold / roomNights;
+        return new HotelStatsSummary(hotelId, from, to, roomsSold, revenue, cancellations, roomCount, occupancy);
+    }
+
+    /**
+     * Recomputes the summary for every hotel from the bookings table, one hotel per task on
+     * a small pool and one transaction per hotel. Meant as a one-off job (initial load or
+     * repair), ideally while booking traffic is quiet.
+     */
+    public StatsBackfillResult backfill() {
+        long started = System.nanoTime();
+        List<Long> hotelIds = hotelRepository.findAllIds();
+        ExecutorService pool = Executors.newFixedThreadPool(BACKFILL_THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>(hotelIds.size());
+            for (Long hotelId : hotelIds) {
+                results.add(pool.submit(() -> transactionTemplate.execute(status -> rebuildHotel(hotelId))));
+            }
+            long rows = 0;
+            for (Future<Integer> result : results) {
+                rows += result.get();
+            }
+            long elapsed = (System.nanoTime() - started) / 1_000_000;
+            log.info("Backfilled hotel_daily_stats for {} hotels ({} rows) in {} ms", hotelIds.size(), rows, elapsed);
+            return new StatsBackfillResult(hotelIds.size(), rows, elapsed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Stats backfill interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Stats backfill failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private int rebuildHotel(Long hotelId) {
+        Map<LocalDate, HotelDailyStats> days = new TreeMap<>();
+        // Archived bookings still count towards their nights
+        List<BookingRepository.StayView> stays = new ArrayList<>(bookingRepository.findStaysByHotelId(hotelId));
+        stays.addAll(bookingArchiveRepository.findStaysByHotelId(hotelId));
+        for (BookingRepository.StayView stay : stays) {
+            Map<LocalDate, Delta> contribution = new TreeMap<>();
+            contribute(contribution, stay.getCheckInDate(), stay.getCheckOutDate(), stay.getTotalPrice(),
+                contributing(stay.getStatus(), stay.getHoldExpiresAt() != null), 1);
+            contribution.forEach((date, delta) -> {
+                HotelDailyStats day = days.computeIfAbsent(date, d -> new HotelDailyStats(hotelId, d));
+                day.setRoomsSold(day.getRoomsSold() + delta.roomsSold);
+                day.setRevenue(day.getRevenue().add(delta.revenue));
+                day.setCancellations(day.getCancellations() + delta.cancellations);
+            });
+        }
+        statsRepository.deleteByHotelId(hotelId);
+        statsRepository.saveAll(days.values());
+        return days.size();
+    }
+
+    private void apply(Booking booking, Room room, BookingStatus fromStatus, BookingStatus toStatus) {
+        if (room == null || room.getHotel() == null || Objects.equals(fromStatus, toStatus)) {
+            return;
+        }
+        Map<LocalDate, Delta> deltas = new TreeMap<>();
+        contribute(deltas, booking.getCheckInDate(), booking.getCheckOutDate(), booking.getTotalPrice(), fromStatus, -1);
+        contribute(deltas, booking.getCheckInDate(), booking.getCheckOutDate(), booking.getTotalPrice(), toStatus, 1);
+        deltas.values().removeIf(Delta::isZero);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Long hotelId = room.getHotel().getId();
+        deltas.forEach((date, delta) ->
+            statsRepository.addToDay(hotelId, date, delta.roomsSold, delta.revenue, delta.cancellations));
+    }
+
+    private static BookingStatus contributing(BookingStatus status, boolean hold) {
+        return hold && status == BookingStatus.PENDING ? null : status;
+    }
+
+    private static void contribute(Map<LocalDate, Delta> deltas, LocalDate checkIn, LocalDate checkOut,
+                                   BigDecimal totalPrice, BookingStatus status, int sign) {
+        if (status == null || checkIn == null || checkOut == null) {
+            return;
+        }
+        if (status == BookingStatus.CANCELLED) {
+            deltas.computeIfAbsent(checkIn, date -> new Delta()).cancellations += sign;
+            return;
+        }
+        if (BookingStatus.RELEASED.contains(status)) {
+            return;
+        }
+        nightlyRevenue(checkIn, checkOut, totalPrice).forEach((night, revenue) -> {
+            Delta delta = deltas.computeIfAbsent(night, date -> new Delta());
+            delta.roomsSold += sign;
+            delta.revenue = delta.revenue.add(sign < 0 ? revenue.negate() : revenue);
+        });
+    }
+
+    /**
+     * Splits the price evenly over the nights of the stay, rounding down to the cent and
+     * putting the remainder on the first night so the parts always sum to the total.
+     */
+    static Map<LocalDate, BigDecimal> nightlyRevenue(LocalDate checkIn, LocalDate checkOut, BigDecimal totalPrice) {
+        long nights = Math.max(1, ChronoUnit.DAYS.between(checkIn, checkOut));
+        BigDecimal total = totalPrice != null ? totalPrice : BigDecimal.ZERO;
+        BigDecimal share = total.divide(BigDecimal.valueOf(nights), 2, RoundingMode.DOWN);
+        BigDecimal remainder = total.subtract(share.multiply(BigDecimal.valueOf(nights)));
+
+        Map<LocalDate, BigDecimal> revenue = new TreeMap<>();
+        for (long night = 0; night < nights; night++) {
+            revenue.put(checkIn.plusDays(night), night == 0 ? share.add(remainder) : share);
+        }
+        return revenue;
+    }
+
+    private static final class Delta {
+
+        private int roomsSold;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private int cancellations;
+
+        boolean isZero() {
+            return roomsSold == 0 && cancellations == 0 && revenue.signum() == 0;
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package com.nathangtg.hotel_management.services;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.nathangtg.hotel_management.api.dto.HotelDistanceResult;
+import com.nathangtg.hotel_management.api.dto.HotelSearchResult;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
 import com.nathangtg.hotel_management.api.models.Hotel;
 import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.holds.RoomHoldRegistry;
+import com.nathangtg.hotel_management.services.search.HotelCatalogSnapshot;
+import com.nathangtg.hotel_management.services.search.HotelGeoIndex;
+import com.nathangtg.hotel_management.services.search.HotelSearchIndex;
 
 @Service
 public class HotelService {
@@ -15,32 +32,132 @@ public class HotelService {
     @Autowired
     public HotelRepository hotelRepository;
 
+    @Autowired
+    public RoomRepository roomRepository;
+
+    @Autowired
+    public HotelSearchIndex hotelSearchIndex;
+
+    @Autowired
+    public HotelGeoIndex hotelGeoIndex;
+
+    @Autowired
+    public RoomHoldRegistry roomHoldRegistry;
+
+    @Autowired
+    public HotelCatalogSnapshot hotelCatalogSnapshot;
+
+    @Autowired
+    public ChangeLogService changeLogService;
+
+    // Upper bound on hotels checked for availability in one nearby query
+    private static final int MAX_AVAILABILITY_CANDIDATES = 500;
+
     public List<Hotel> getAllHotels() {
         return hotelRepository.findAll();
     }
 
+    public List<Hotel> getHotelsByIds(List<Long> ids) {
+        List<Long> distinct = IdBatch.distinct(ids);
+        return IdBatch.inRequestOrder(distinct, hotelRepository.findAllById(distinct), Hotel::getId);
+    }
+
     public Optional<Hotel> getHotelById(Long id) {
         return hotelRepository.findById(id);
     }
 
+    public List<HotelSearchResult> searchHotels(String query, int limit) {
+        return hotelSearchIndex.search(query, limit);
+    }
+
+    public List<HotelDistanceResult> findHotelsNearby(double latitude, double longitude, double radiusKm,
+                                                      LocalDate checkIn, LocalDate checkOut, int limit) {
+        List<HotelDistanceResult> nearby = hotelGeoIndex.within(latitude, longitude, radiusKm);
+        if (checkIn == null || checkOut == null || nearby.isEmpty()) {
+            return nearby.size() > limit ? nearby.subList(0, limit) : nearby;
+        }
+        if (!checkIn.isBefore(checkOut)) {
+            throw new IllegalArgumentException("Check-in date must be before check-out date");
+        }
+
+        // One query over the nearest candidates, rather than one per hotel
+        List<HotelDistanceResult> candidates = nearby.size() > MAX_AVAILABILITY_CANDIDATES
+            ? nearby.subList(0, MAX_AVAILABILITY_CANDIDATES) : nearby;
+        Set<Long> withFreeRoom = new HashSet<>(roomRepository.findHotelIdsWithFreeRoom(
+            candidates.stream().map(HotelDistanceResult::getId).toList(), checkIn, checkOut,
+            BookingStatus.RELEASED, excludedRoomIds(roomHoldRegistry.heldRoomIds(checkIn, checkOut))));
+        return candidates.stream()
+            .filter(result -> withFreeRoom.contains(result.getId()))
+            .limit(limit)
+            .toList();
+    }
+
+    // An empty IN list is not portable SQL, so exclude an id no room can have instead
+    private static Collection<Long> excludedRoomIds(Set<Long> heldRoomIds) {
+        return heldRoomIds.isEmpty() ? List.of(-1L) : heldRoomIds;
+    }
+
+    @Transactional
     public Hotel createHotel(Hotel hotel) {
-        return hotelRepository.save(hotel);
+        Hotel savedHotel = hotelRepository.save(hotel);
+        changeLogService.record(ChangeLogEntry.HOTEL, savedHotel.getId(), ChangeLogEntry.CREATED);
+        afterCommit(() -> {
+            hotelSearchIndex.index(savedHotel);
+            hotelGeoIndex.index(savedHotel);
+        });
+        return savedHotel;
     }
 
+    @Transactional
     public Hotel updateHotel(Long id, Hotel hotel) {
         if (hotelRepository.existsById(id)) {
             hotel.setId(id);
-            return hotelRepository.save(hotel);
+            Hotel savedHotel = hotelRepository.save(hotel);
+            changeLogService.record(ChangeLogEntry.HOTEL, id, ChangeLogEntry.UPDATED);
+            afterCommit(() -> {
+                hotelSearchIndex.index(savedHotel);
+                hotelGeoIndex.index(savedHotel);
+            });
+            return savedHotel;
         } else {
             throw new RuntimeException("Hotel not found with id: " + id);
         }
     }
 
+    @Transactional
     public void deleteHotel(Long id) {
         if (hotelRepository.existsById(id)) {
             hotelRepository.deleteById(id);
+            changeLogService.record(ChangeLogEntry.HOTEL, id, ChangeLogEntry.DELETED);
+            afterCommit(() -> {
+                hotelSearchIndex.remove(id);
+                hotelGeoIndex.remove(id);
+            });
         } else {
             throw new RuntimeException("Hotel not found with id: " + id);
         }
     }
-}
\ No newline at end of file
+
+    // The in-memory indexes are not transactional, so they only learn about a change once
+    // it has committed; outside a transaction the change is already durable
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    // Called by the startup warm-up, before the application reports ready
+    public List<Hotel> rebuildSearchIndexes() {
+        List<Hotel> hotels = hotelCatalogSnapshot.load();
+        hotelSearchIndex.rebuild(hotels);
+        hotelGeoIndex.rebuild(hotels);
+        return hotels;
+    }
+}
@@ -0,0 +1,59 @@
+package com.nathangtg.hotel_management.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Helpers for the multi-get endpoints ({@code GET /api/rooms?ids=1,2,3} and friends), which
+ * resolve a batch of ids with one IN query and answer in the order the ids were asked for.
+ */
+public final class IdBatch {
+
+    // Upper bound on ids per request; keeps the IN list and the response body bounded
+    public static final int MAX_IDS = 200;
+
+    private IdBatch() {
+    }
+
+    /**
+     * The requested ids without repeats, in first-seen order. Rejects an empty, oversized or
+     * null-containing list.
+     */
+    public static List<Long> distinct(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        LinkedHashSet<Long> unique = new LinkedHashSet<>(ids);
+        if (unique.contains(null)) {
+            throw new IllegalArgumentException("Ids must not be blank");
+        }
+        if (unique.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids per request");
+        }
+        return new ArrayList<>(unique);
+    }
+
+    /**
+     * Arranges the rows of an IN query in the order of {@code ids}. Ids without a row are
+     * left out.
+     */
+    public static <T> List<T> inRequestOrder(List<Long> ids, Collection<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+        List<T> ordered = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+}
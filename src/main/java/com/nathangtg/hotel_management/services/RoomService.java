@@ -1,13 +1,38 @@
 package com.nathangtg.hotel_management.services;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.dto.KeysetCursor;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomHoldRequest;
+import com.nathangtg.hotel_management.api.dto.RoomQuote;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.exception.ConflictException;
+import com.nathangtg.hotel_management.api.exception.ResourceNotFoundException;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
 import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.FieldProjectionRepository;
 import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.api.repositories.specifications.KeysetSpecifications;
+import com.nathangtg.hotel_management.api.repositories.specifications.RoomSpecifications;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.holds.RoomHold;
+import com.nathangtg.hotel_management.services.holds.RoomHoldRegistry;
 
 @Service
 public class RoomService {
@@ -15,6 +40,18 @@ public class RoomService {
     @Autowired
     public RoomRepository roomRepository;
 
+    @Autowired
+    public BookingRepository bookingRepository;
+
+    @Autowired
+    public RoomHoldRegistry roomHoldRegistry;
+
+    @Autowired
+    public FieldProjectionRepository fieldProjectionRepository;
+
+    @Autowired
+    public ChangeLogService changeLogService;
+
     public List<Room> getAllRooms() {
         return roomRepository.findAll();
     }
@@ -23,6 +60,14 @@ public class RoomService {
         return roomRepository.findById(id);
     }
 
+    /**
+     * Rooms for a batch of ids in request order, with their hotels, from one query.
+     */
+    public List<Room> getRoomsByIds(List<Long> ids) {
+        List<Long> distinct = IdBatch.distinct(ids);
+        return IdBatch.inRequestOrder(distinct, roomRepository.findAllWithHotelByIdIn(distinct), Room::getId);
+    }
+
     public List<Room> getRoomsByHotelId(Long hotelId) {
         return roomRepository.findByHotelId(hotelId);
     }
@@ -35,24 +80,127 @@ public class RoomService {
         return roomRepository.findByRoomType(roomType);
     }
 
+    /**
+     * The room listing for a {@code fields} selection. Only the selected columns are read
+     * when they are all the room's own; otherwise the full rows, as without a selection.
+     */
+    public List<Room> getRooms(Boolean isAvailable, String roomType, FieldSelection fields) {
+        Specification<Room> spec = null;
+        if (Boolean.TRUE.equals(isAvailable)) {
+            spec = RoomSpecifications.markedAvailable();
+        } else if (roomType != null) {
+            spec = RoomSpecifications.ofType(roomType);
+        }
+        return fieldProjectionRepository.findAll(Room.class, spec, fields).orElseGet(() -> {
+            if (Boolean.TRUE.equals(isAvailable)) {
+                return getAvailableRooms();
+            }
+            return roomType != null ? getRoomsByType(roomType) : getAllRooms();
+        });
+    }
+
+    public KeysetPage<Room> searchRooms(RoomSearchCriteria criteria) {
+        criteria.validate();
+        RoomSearchCriteria.SortField sortField = criteria.getSort();
+        int limit = criteria.getEffectiveLimit();
+
+        Specification<Room> spec = RoomSpecifications.matching(criteria).and(RoomSpecifications.fetchHotel());
+        if (criteria.getCheckIn() != null && criteria.getCheckOut() != null) {
+            // Rooms someone is holding in checkout are not offered for the same stay
+            Set<Long> heldRoomIds = roomHoldRegistry.heldRoomIds(criteria.getCheckIn(), criteria.getCheckOut());
+            if (!heldRoomIds.isEmpty()) {
+                spec = spec.and(RoomSpecifications.excluding(heldRoomIds));
+            }
+        }
+        if (criteria.getCursor() != null && !criteria.getCursor().isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(criteria.getCursor());
+            spec = spec.and(KeysetSpecifications.after(sortField.getAttribute(),
+                sortField.parse(cursor.getValue()), cursor.getId(), criteria.isDescending()));
+        }
+        Sort sort = KeysetSpecifications.sort(sortField.getAttribute(), criteria.isDescending());
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Room> rows = roomRepository.findBy(spec, query -> query.sortBy(sort).limit(limit + 1).all());
+        return KeysetPage.fromOverfetch(rows, limit,
+            last -> new KeysetCursor(String.valueOf(sortField.valueOf(last)), last.getId()));
+    }
+
+    /**
+     * Quotes a stay without booking it. Availability covers the room's flag, bookings that
+     * overlap the dates and other guests' holds, the same checks a booking would face.
+     */
+    public RoomQuote quote(Long roomId, LocalDate checkIn, LocalDate checkOut, Long userId) {
+        if (checkIn == null || checkOut == null || !checkIn.isBefore(checkOut)) {
+            throw new IllegalArgumentException("Check-in date must be before check-out date");
+        }
+        Room room = roomRepository.findById(roomId)
+            .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + roomId));
+
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        boolean available = Boolean.TRUE.equals(room.getIsAvailable())
+            && !bookingRepository.existsOverlappingBooking(roomId, checkIn, checkOut, BookingStatus.RELEASED)
+            && !roomHoldRegistry.isHeldByOther(roomId, checkIn, checkOut, userId);
+        return new RoomQuote(roomId, checkIn, checkOut, nights, room.getPricePerNight(),
+            room.getPricePerNight().multiply(BigDecimal.valueOf(nights)), available);
+    }
+
+    /**
+     * Holds a room for a guest in checkout. The hold lives only in memory; it is refused,
+     * like a booking would be, when the room is flagged unavailable or a booking or another
+     * guest's hold already covers the dates.
+     */
+    public RoomHold placeHold(Long roomId, Long userId, RoomHoldRequest request) {
+        Room room = roomRepository.findById(roomId)
+            .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + roomId));
+        if (request.getCheckInDate() == null || request.getCheckOutDate() == null
+                || !request.getCheckInDate().isBefore(request.getCheckOutDate())) {
+            throw new IllegalArgumentException("Check-in date must be before check-out date");
+        }
+        if (!Boolean.TRUE.equals(room.getIsAvailable())) {
+            throw new ConflictException("Room is not available for the selected dates");
+        }
+        if (bookingRepository.existsOverlappingBooking(roomId, request.getCheckInDate(), request.getCheckOutDate(),
+                BookingStatus.RELEASED)) {
+            throw new ConflictException("Room is already booked for the selected dates");
+        }
+        Duration ttl = request.getTtlSeconds() != null ? Duration.ofSeconds(request.getTtlSeconds()) : null;
+        return roomHoldRegistry.place(roomId, userId, request.getCheckInDate(), request.getCheckOutDate(), ttl);
+    }
+
+    public Optional<RoomHold> getHold(Long roomId, String holdId) {
+        return Optional.ofNullable(roomHoldRegistry.get(holdId)).filter(hold -> hold.getRoomId().equals(roomId));
+    }
+
+    public boolean releaseHold(Long roomId, String holdId) {
+        return getHold(roomId, holdId).map(hold -> roomHoldRegistry.release(holdId)).orElse(false);
+    }
+
+    @Transactional
     public Room createRoom(Room room) {
-        return roomRepository.save(room);
+        Room savedRoom = roomRepository.save(room);
+        changeLogService.record(ChangeLogEntry.ROOM, savedRoom.getId(), ChangeLogEntry.CREATED);
+        return savedRoom;
     }
 
+    @Transactional
     public Room updateRoom(Long id, Room room) {
         if (roomRepository.existsById(id)) {
             room.setId(id);
-            return roomRepository.save(room);
+            Room savedRoom = roomRepository.save(room);
+            changeLogService.record(ChangeLogEntry.ROOM, id, ChangeLogEntry.UPDATED);
+            return savedRoom;
         } else {
-            throw new RuntimeException("Room not found with id: " + id);
+            throw new ResourceNotFoundException("Room not found with id: " + id);
         }
     }
 
+    @Transactional
     public void deleteRoom(Long id) {
         if (roomRepository.existsById(id)) {
             roomRepository.deleteById(id);
+            changeLogService.record(ChangeLogEntry.ROOM, id, ChangeLogEntry.DELETED);
         } else {
-            throw new RuntimeException("Room not found with id: " + id);
+            throw new ResourceNotFoundException("Room not found with id: " + id);
         }
     }
 }
\ No newline at end of file
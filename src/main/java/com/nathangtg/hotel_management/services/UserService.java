@@ -4,10 +4,14 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.repositories.FieldProjectionRepository;
 import com.nathangtg.hotel_management.api.repositories.UserRepository;
 
 @Service
@@ -18,6 +22,9 @@ public class UserService {
     @Autowired
     protected PasswordEncoder passwordEncoder;
 
+    @Autowired
+    protected FieldProjectionRepository fieldProjectionRepository;
+
     public UserService(UserRepository userRepository) {
         this.userRepository = userRepository;
     }
@@ -26,21 +33,37 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * All users, or those with {@code role}, for a {@code fields} selection. Only the
+     * selected columns are read when they are all the user's own, so the password hash
+     * is never loaded for a narrow listing.
+     */
+    public List<User> findAll(Role role, FieldSelection fields) {
+        Specification<User> spec = role == null ? null : (root, query, cb) -> cb.equal(root.get("role"), role);
+        return fieldProjectionRepository.findAll(User.class, spec, fields)
+            .orElseGet(() -> role == null ? findAll() : findAllByRole(role));
+    }
+
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
 
+    public List<User> findAllByIds(List<Long> ids) {
+        List<Long> distinct = IdBatch.distinct(ids);
+        return IdBatch.inRequestOrder(distinct, userRepository.findAllById(distinct), User::getId);
+    }
+
     public User findByUsername(String username) {
         return userRepository.findByUsername(username)
         .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
     }
 
-    public User findByIdAndRole(Long id, String role) {
+    public User findByIdAndRole(Long id, Role role) {
         return userRepository.findByIdAndRole(id, role)
         .orElseThrow(() -> new RuntimeException("User not found with id: " + id + " and role: " + role));
     }
 
-    public User findByUsernameAndRole(String username, String role) {
+    public User findByUsernameAndRole(String username, Role role) {
         return userRepository.findByUsernameAndRole(username, role)
         .orElseThrow(() -> new RuntimeException("User not found with username: " + username + " and role: " + role));
     }
@@ -50,7 +73,7 @@ public class UserService {
         .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
     }
 
-    public List<User> findByRoleIn(List<String> roles) {
+    public List<User> findByRoleIn(List<Role> roles) {
         return userRepository.findByRoleIn(roles);
     }
 
@@ -120,7 +143,7 @@ public class UserService {
         }
     }
 
-    public List<User> findAllByRole(String role) {
+    public List<User> findAllByRole(Role role) {
         return userRepository.findAllByRole(role)
         .orElseThrow(() -> new RuntimeException("No users found with role: " + role));
     }
@@ -0,0 +1,113 @@
+package com.nathangtg.hotel_management.services.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * One public catalog response, serialized and compressed once for a catalog version.
+ * Each encoding is held either in memory or, when large and spilling is configured, in
+ * a file that can be handed to the connector for a zero-copy send.
+ */
+public final class CatalogResponse {
+
+    public static final String IDENTITY = "identity";
+    public static final String GZIP = "gzip";
+
+    private final String version;
+    private final String etag;
+    private final Body identity;
+    private final Body gzip;
+
+    CatalogResponse(String key, String version, Body identity, Body gzip) {
+        this.version = version;
+        this.etag = "W/\"" + key + "-" + version + "\"";
+        this.identity = identity;
+        this.gzip = gzip;
+    }
+
+    /** Both encodings of {@code json} held in memory. */
+    public static CatalogResponse inMemory(String key, String version, byte[] json) {
+        return new CatalogResponse(key, version, Body.inMemory(json), Body.inMemory(gzip(json)));
+    }
+
+    // Compressed once per version, so the slowest level is worth it
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public Body body(String encoding) {
+        return GZIP.equals(encoding) ? gzip : identity;
+    }
+
+    void deleteFiles() {
+        identity.deleteFile();
+        gzip.deleteFile();
+    }
+
+    /** An encoded body: exactly one of {@code bytes} and {@code file} is set. */
+    public static final class Body {
+
+        private final byte[] bytes;
+        private final Path file;
+        private final long length;
+
+        private Body(byte[] bytes, Path file, long length) {
+            this.bytes = bytes;
+            this.file = file;
+            this.length = length;
+        }
+
+        static Body inMemory(byte[] bytes) {
+            return new Body(bytes, null, bytes.length);
+        }
+
+        static Body spilled(Path file, long length) {
+            return new Body(null, file, length);
+        }
+
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        private void deleteFile() {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    // Left for the next cleanup of the spill directory
+                }
+            }
+        }
+    }
+}
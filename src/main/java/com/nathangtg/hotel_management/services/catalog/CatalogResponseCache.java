@@ -0,0 +1,154 @@
+package com.nathangtg.hotel_management.services.catalog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.HotelService;
+import com.nathangtg.hotel_management.services.RoomService;
+
+/**
+ * Ready-to-send bodies for the public catalog reads ({@code GET /api/hotels} and
+ * {@code GET /api/rooms?hotelId=}), so they are serialized and gzipped once per catalog
+ * version instead of on every request.
+ *
+ * <p>The version is a count and latest {@code updatedAt} read with one aggregate query per
+ * request. That keeps every node correct whichever node made the change, including
+ * availability flips from bookings; a stale entry is rebuilt on the next read. Entries at
+ * or above the spill threshold are written to files when a spill directory is configured.
+ */
+@Component
+public class CatalogResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogResponseCache.class);
+
+    static final String HOTELS_KEY = "hotels";
+
+    private final HotelService hotelService;
+    private final RoomService roomService;
+    private final HotelRepository hotelRepository;
+    private final RoomRepository roomRepository;
+    private final ObjectMapper objectMapper;
+
+    // Replaced entries keep their files for one more generation, a send may still be reading them
+    private final Map<String, CatalogResponse> retired = new LinkedHashMap<>();
+    private final Map<String, CatalogResponse> entries;
+
+    @Value("${catalog.responses.spill-dir:}")
+    private String spillDir = "";
+
+    @Value("${catalog.responses.spill-threshold-bytes:65536}")
+    private int spillThresholdBytes = 65536;
+
+    @Autowired
+    public CatalogResponseCache(HotelService hotelService, RoomService roomService, HotelRepository hotelRepository,
+                                RoomRepository roomRepository, ObjectMapper objectMapper,
+                                @Value("${catalog.responses.max-entries:2000}") int maxEntries) {
+        this.hotelService = hotelService;
+        this.roomService = roomService;
+        this.hotelRepository = hotelRepository;
+        this.roomRepository = roomRepository;
+        this.objectMapper = objectMapper;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CatalogResponse> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                retire(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public CatalogResponse hotels() {
+        HotelRepository.CatalogVersion version = hotelRepository.findCatalogVersion();
+        return resolve(HOTELS_KEY, version.getCount() + "-" + stamp(version.getLastUpdatedAt()),
+            hotelService::getAllHotels);
+    }
+
+    public CatalogResponse roomsOfHotel(Long hotelId) {
+        RoomRepository.RoomCatalogVersion version = roomRepository.findCatalogVersion(hotelId);
+        return resolve("rooms-" + hotelId, version.getCount() + "-" + stamp(version.getLastUpdatedAt())
+            + "-" + stamp(version.getHotelUpdatedAt()), () -> roomService.getRoomsByHotelId(hotelId));
+    }
+
+    private CatalogResponse resolve(String key, String version, Supplier<Object> payload) {
+        synchronized (entries) {
+            CatalogResponse current = entries.get(key);
+            if (current != null && current.getVersion().equals(version)) {
+                return current;
+            }
+        }
+        // Built outside the lock; two racing builds for one version produce the same bytes
+        CatalogResponse built = build(key, version, payload.get());
+        synchronized (entries) {
+            CatalogResponse previous = entries.put(key, built);
+            if (previous != null && previous != built) {
+                retire(key, previous);
+            }
+        }
+        return built;
+    }
+
+    private void retire(String key, CatalogResponse response) {
+        CatalogResponse older = retired.put(key, response);
+        if (older != null) {
+            older.deleteFiles();
+        }
+    }
+
+    private CatalogResponse build(String key, String version, Object payload) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(payload);
+            byte[] gzipped = CatalogResponse.gzip(json);
+            log.debug("Catalog response {} v{}: {} bytes, {} gzipped", key, version, json.length, gzipped.length);
+            return new CatalogResponse(key, version,
+                body(key, version, CatalogResponse.IDENTITY, json),
+                body(key, version, CatalogResponse.GZIP, gzipped));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog response " + key, e);
+        }
+    }
+
+    private CatalogResponse.Body body(String key, String version, String encoding, byte[] bytes) {
+        if (spillDir == null || spillDir.isBlank() || bytes.length < spillThresholdBytes) {
+            return CatalogResponse.Body.inMemory(bytes);
+        }
+        try {
+            Path directory = Files.createDirectories(Path.of(spillDir));
+            Path file = directory.resolve(key + "-" + version + "." + encoding);
+            Files.write(file, bytes);
+            return CatalogResponse.Body.spilled(file.toAbsolutePath(), bytes.length);
+        } catch (IOException e) {
+            log.warn("Could not spill catalog response {} to {}, keeping it in memory: {}", key, spillDir,
+                e.getMessage());
+            return CatalogResponse.Body.inMemory(bytes);
+        }
+    }
+
+    private static String stamp(Long updatedAt) {
+        return updatedAt == null ? "0" : Long.toString(updatedAt);
+    }
+
+    void setSpillDir(String spillDir) {
+        this.spillDir = spillDir;
+    }
+
+    void setSpillThresholdBytes(int spillThresholdBytes) {
+        this.spillThresholdBytes = spillThresholdBytes;
+    }
+}
@@ -0,0 +1,110 @@
+package com.nathangtg.hotel_management.services.changes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.nathangtg.hotel_management.api.dto.ChangeFeed;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.HotelService;
+import com.nathangtg.hotel_management.services.IdBatch;
+import com.nathangtg.hotel_management.services.RoomService;
+
+/**
+ * Builds pages of the change feed: the entities written after a client's version, each
+ * with its current state loaded by one multi-get per entity type.
+ */
+@Service
+public class ChangeFeedService {
+
+    @Autowired
+    public ChangeLogService changeLogService;
+
+    @Autowired
+    public HotelService hotelService;
+
+    @Autowired
+    public RoomService roomService;
+
+    @Autowired
+    public BookingService bookingService;
+
+    /**
+     * Up to {@code limit} log entries after {@code since}, reduced to the latest per entity.
+     * Without {@code since} the page is empty and only carries the current version.
+     */
+    public ChangeFeed getChanges(Long since, int limit) {
+        if (limit < 1 || limit > IdBatch.MAX_IDS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + IdBatch.MAX_IDS);
+        }
+        if (since == null) {
+            return new ChangeFeed(List.of(), changeLogService.currentVersion(), false);
+        }
+        if (since < 0) {
+            throw new IllegalArgumentException("Version must not be negative");
+        }
+
+        List<ChangeLogEntry> entries = changeLogService.findSince(since, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+        long nextVersion = entries.isEmpty() ? since : entries.get(entries.size() - 1).getVersion();
+
+        // Re-inserting moves an entity to the position of its latest entry
+        Map<String, ChangeLogEntry> latest = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            String key = entry.getEntityType() + ":" + entry.getEntityId();
+            latest.remove(key);
+            latest.put(key, entry);
+        }
+
+        Map<String, List<Long>> liveIds = new HashMap<>();
+        for (ChangeLogEntry entry : latest.values()) {
+            if (!ChangeLogEntry.DELETED.equals(entry.getOperation())) {
+                liveIds.computeIfAbsent(entry.getEntityType(), type -> new ArrayList<>()).add(entry.getEntityId());
+            }
+        }
+        Map<Long, Hotel> hotels = load(liveIds.get(ChangeLogEntry.HOTEL), hotelService::getHotelsByIds, Hotel::getId);
+        Map<Long, Room> rooms = load(liveIds.get(ChangeLogEntry.ROOM), roomService::getRoomsByIds, Room::getId);
+        Map<Long, Booking> bookings = load(liveIds.get(ChangeLogEntry.BOOKING), bookingService::getBookingsByIds,
+            Booking::getId);
+
+        List<ChangeFeed.Change> changes = new ArrayList<>(latest.size());
+        for (ChangeLogEntry entry : latest.values()) {
+            Object data = switch (entry.getEntityType()) {
+                case ChangeLogEntry.HOTEL -> hotels.get(entry.getEntityId());
+                case ChangeLogEntry.ROOM -> rooms.get(entry.getEntityId());
+                case ChangeLogEntry.BOOKING -> bookings.get(entry.getEntityId());
+                default -> null;
+            };
+            changes.add(new ChangeFeed.Change(entry.getVersion(), entry.getEntityType(), entry.getEntityId(),
+                entry.getOperation(), data));
+        }
+        return new ChangeFeed(changes, nextVersion, hasMore);
+    }
+
+    private static <T> Map<Long, T> load(List<Long> ids, Function<List<Long>, List<T>> multiGet,
+                                         Function<T, Long> idOf) {
+        if (ids == null) {
+            return Map.of();
+        }
+        Collection<T> rows = multiGet.apply(ids);
+        Map<Long, T> byId = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,219 @@
+package com.nathangtg.hotel_management.services.changes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+import com.nathangtg.hotel_management.api.models.ChangeLogLock;
+import com.nathangtg.hotel_management.api.repositories.ChangeLogLockRepository;
+import com.nathangtg.hotel_management.api.repositories.ChangeLogRepository;
+
+/**
+ * The change log behind {@code GET /api/changes}. Writers append an entry in the
+ * transaction that changes the hotel, room or booking, so the entry commits or rolls back
+ * with it.
+ *
+ * <p>Ids are handed out when a row is inserted, not when it commits, so they cannot serve as
+ * the version a reader's cursor moves along: a slow transaction could commit a lower id
+ * after a reader has passed it. Instead {@link #assignVersions} gives committed entries a
+ * version every {@code changes.sequence-interval-ms}. It only sees committed rows and runs
+ * one pass at a time, across replicas, under the row lock of {@link ChangeLogLock}, so every
+ * version it hands out is above every version already readable. Writers never take that
+ * lock and commit in parallel; the cost is that a change reaches readers up to one interval
+ * after it commits. Entries older than {@code changes.compaction-age} are compacted down to
+ * the latest one per entity by {@link #compact}; deletions are kept, so a client with an old
+ * cursor still learns about them.
+ */
+@Service
+public class ChangeLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogService.class);
+
+    private final ChangeLogRepository repository;
+    private final ChangeLogLockRepository lockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Value("${changes.sequence-batch-size:500}")
+    private int sequenceBatchSize = 500;
+
+    @Value("${changes.compaction-age:PT24H}")
+    private Duration compactionAge = Duration.ofHours(24);
+
+    @Value("${changes.compaction-batch-size:500}")
+    private int compactionBatchSize = 500;
+
+    @Autowired
+    public ChangeLogService(ChangeLogRepository repository, ChangeLogLockRepository lockRepository,
+                            PlatformTransactionManager transactionManager) {
+        this(repository, lockRepository, transactionManager, Clock.systemUTC());
+    }
+
+    ChangeLogService(ChangeLogRepository repository, ChangeLogLockRepository lockRepository,
+                     PlatformTransactionManager transactionManager, Clock clock) {
+        this.repository = repository;
+        this.lockRepository = lockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /**
+     * Appends an entry when the current transaction commits; nothing is written if it rolls
+     * back.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String entityType, Long entityId, String operation) {
+        pendingEntries().add(new ChangeLogEntry(entityType, entityId, operation, clock.instant()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(String entityType, Collection<Long> entityIds, String operation) {
+        Instant now = clock.instant();
+        List<ChangeLogEntry> entries = pendingEntries();
+        for (Long entityId : entityIds) {
+            entries.add(new ChangeLogEntry(entityType, entityId, operation, now));
+        }
+    }
+
+    /**
+     * Versioned entries after {@code since} in version order, at most {@code limit}.
+     */
+    public List<ChangeLogEntry> findSince(long since, int limit) {
+        return repository.findByVersionGreaterThanOrderByVersion(since, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Version a client should sync from after loading the full listings now; 0 while the
+     * log is empty.
+     */
+    public long currentVersion() {
+        Long latest = repository.findLatestVersion();
+        return latest == null ? 0 : latest;
+    }
+
+    /**
+     * Versions the committed entries that have none yet, {@code changes.sequence-batch-size}
+     * per transaction, in insertion order. Returns the number of entries versioned.
+     */
+    @Scheduled(fixedDelayString = "${changes.sequence-interval-ms:200}")
+    public int assignVersions() {
+        int assigned = 0;
+        while (true) {
+            Integer batch;
+            try {
+                batch = transactionTemplate.execute(status -> assignBatch());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Change log lock row created concurrently");
+                break;
+            }
+            assigned += batch;
+            if (batch < sequenceBatchSize) {
+                break;
+            }
+        }
+        return assigned;
+    }
+
+    // A version is the id shifted above the latest version, so one statement versions the batch
+    private int assignBatch() {
+        Instant now = clock.instant();
+        if (lockRepository.lock(ChangeLogLock.ID, now) == 0) {
+            // A schema Flyway did not set up; the primary key decides which replica creates the row
+            lockRepository.insert(ChangeLogLock.ID, now);
+        }
+        List<Long> ids = repository.findUnversionedIds(PageRequest.of(0, sequenceBatchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long latest = repository.findLatestVersion();
+        long offset = Math.max(0, (latest == null ? 0 : latest) + 1 - ids.get(0));
+        repository.assignVersions(ids, offset);
+        return ids.size();
+    }
+
+    /**
+     * Deletes entries older than {@code changes.compaction-age} that a later entry for the
+     * same entity supersedes, {@code changes.compaction-batch-size} rows per transaction.
+     * Returns the number of entries deleted.
+     */
+    @Scheduled(fixedDelayString = "${changes.compaction-interval-ms:3600000}")
+    public int compact() {
+        Instant before = clock.instant().minus(compactionAge);
+        int compacted = 0;
+        while (true) {
+            List<Long> superseded = repository.findSupersededIds(before, PageRequest.of(0, compactionBatchSize));
+            if (superseded.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> repository.deleteAllByIdInBatch(superseded));
+            compacted += superseded.size();
+            if (superseded.size() < compactionBatchSize) {
+                break;
+            }
+        }
+        if (compacted > 0) {
+            log.debug("Compacted {} change log entries", compacted);
+        }
+        return compacted;
+    }
+
+    void setSequenceBatchSize(int sequenceBatchSize) {
+        this.sequenceBatchSize = sequenceBatchSize;
+    }
+
+    void setCompactionAge(Duration compactionAge) {
+        this.compactionAge = compactionAge;
+    }
+
+    void setCompactionBatchSize(int compactionBatchSize) {
+        this.compactionBatchSize = compactionBatchSize;
+    }
+
+    private List<ChangeLogEntry> pendingEntries() {
+        PendingEntries pending = (PendingEntries) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEntries();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending.entries;
+    }
+
+    // Entries recorded in one transaction, inserted together just before it commits
+    private final class PendingEntries implements TransactionSynchronization {
+
+        private final List<ChangeLogEntry> entries = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!entries.isEmpty()) {
+                repository.saveAll(entries);
+                repository.flush();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(ChangeLogService.this);
+        }
+    }
+}
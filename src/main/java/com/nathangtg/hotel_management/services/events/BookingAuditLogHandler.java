@@ -0,0 +1,26 @@
+package com.nathangtg.hotel_management.services.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes an audit line for every booking change, off the request path.
+ */
+@Component
+public class BookingAuditLogHandler implements BookingEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger("booking.audit");
+
+    @Override
+    public boolean supports(String eventType) {
+        return true;
+    }
+
+    @Override
+    public void handle(BookingEvent event) {
+        log.info("event={} booking={} room={} user={} status={} previousStatus={} at={}",
+            event.getType(), event.getBookingId(), event.getRoomId(), event.getUserId(),
+            event.getStatus(), event.getPreviousStatus(), event.getOccurredAt());
+    }
+}
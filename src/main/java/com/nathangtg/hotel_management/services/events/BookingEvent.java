@@ -0,0 +1,48 @@
+package com.nathangtg.hotel_management.services.events;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Payload of a booking outbox event. It is a snapshot taken when the change was made, so
+ * handlers never need to reload a booking that may since have changed or been deleted.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class BookingEvent {
+
+    public static final String CREATED = "BOOKING_CREATED";
+    public static final String HELD = "BOOKING_HELD";
+    public static final String STATUS_CHANGED = "BOOKING_STATUS_CHANGED";
+    public static final String CANCELLED = "BOOKING_CANCELLED";
+    public static final String DELETED = "BOOKING_DELETED";
+
+    private Long eventId;
+    private String type;
+    private Long bookingId;
+    private Long roomId;
+    private Long userId;
+    private BookingStatus status;
+    private BookingStatus previousStatus;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private BigDecimal totalPrice;
+    private Instant occurredAt;
+
+    public static BookingEvent of(String type, Booking booking, BookingStatus previousStatus, Instant occurredAt) {
+        return new BookingEvent(null, type, booking.getId(), booking.getRoomId(), booking.getUserId(),
+            booking.getStatus(), previousStatus, booking.getCheckInDate(), booking.getCheckOutDate(),
+            booking.getTotalPrice(), occurredAt);
+    }
+}
@@ -0,0 +1,14 @@
+package com.nathangtg.hotel_management.services.events;
+
+/**
+ * Side effect run for booking events after the booking transaction has committed. Delivery
+ * is at-least-once: a handler may see the same event again after a crash or after another
+ * handler of the same event failed, so it must tolerate duplicates (use
+ * {@link BookingEvent#getEventId()} to deduplicate).
+ */
+public interface BookingEventHandler {
+
+    boolean supports(String eventType);
+
+    void handle(BookingEvent event) throws Exception;
+}
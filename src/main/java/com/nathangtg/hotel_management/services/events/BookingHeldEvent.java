@@ -0,0 +1,15 @@
+package com.nathangtg.hotel_management.services.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a hold is placed; the confirmation worker listens for it after commit so
+ * a hold is picked up straight away instead of on the next poll.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingHeldEvent {
+
+    private Long bookingId;
+}
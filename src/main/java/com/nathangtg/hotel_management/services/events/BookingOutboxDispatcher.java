@@ -0,0 +1,233 @@
+package com.nathangtg.hotel_management.services.events;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.models.BookingOutboxEvent;
+import com.nathangtg.hotel_management.api.repositories.BookingOutboxRepository;
+import com.nathangtg.hotel_management.services.jobs.JobLeaseService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Drains the booking outbox in batches. Events of different bookings are delivered in
+ * parallel; events of the same booking are delivered one after another in id order, and a
+ * failure stops that booking's sequence until the event is retried. Failed events back
+ * off exponentially and are parked as FAILED after {@code booking.outbox.max-attempts}.
+ *
+ * Each event is marked processed in its own short transaction after all of its handlers
+ * succeeded, so a crash in between re-delivers it (at-least-once). Only the replica
+ * holding the {@value #JOB_NAME} lease dispatches, renewing it with every batch, so two
+ * replicas never deliver the same booking's events side by side.
+ */
+@Component
+public class BookingOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingOutboxDispatcher.class);
+
+    public static final String JOB_NAME = "booking-outbox";
+
+    // Well past a batch's delivery time; another replica takes over this long after a crash
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final BookingOutboxRepository outboxRepository;
+    private final List<BookingEventHandler> handlers;
+    private final ObjectMapper objectMapper;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final ExecutorService workers;
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    @Value("${booking.outbox.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${booking.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${booking.outbox.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${booking.outbox.retention-days:7}")
+    private int retentionDays = 7;
+
+    @Autowired
+    public BookingOutboxDispatcher(BookingOutboxRepository outboxRepository, List<BookingEventHandler> handlers,
+                                   ObjectMapper objectMapper, JobLeaseService jobLeaseService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${booking.outbox.workers:4}") int workerCount) {
+        this(outboxRepository, handlers, objectMapper, jobLeaseService, transactionManager, workerCount,
+            Clock.systemUTC());
+    }
+
+    BookingOutboxDispatcher(BookingOutboxRepository outboxRepository, List<BookingEventHandler> handlers,
+                            ObjectMapper objectMapper, JobLeaseService jobLeaseService,
+                            PlatformTransactionManager transactionManager, int workerCount, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.handlers = List.copyOf(handlers);
+        this.objectMapper = objectMapper;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerCount), runnable -> {
+            Thread thread = new Thread(runnable, "booking-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        // Keep draining while batches come back full so a burst does not wait a poll per batch
+        while (dispatchBatch() >= batchSize) {
+            // next batch
+        }
+    }
+
+    /**
+     * Delivers one batch of due events and returns how many were picked up; 0 while another
+     * replica holds the lease.
+     */
+    public int dispatchBatch() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            if (!jobLeaseService.tryAcquire(JOB_NAME, LEASE)) {
+                return 0;
+            }
+            List<BookingOutboxEvent> batch = outboxRepository.findDispatchable(clock.instant(),
+                PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            Map<Long, List<BookingOutboxEvent>> byBooking = new LinkedHashMap<>();
+            for (BookingOutboxEvent event : batch) {
+                byBooking.computeIfAbsent(event.getBookingId(), id -> new ArrayList<>()).add(event);
+            }
+
+            List<Future<?>> pending = new ArrayList<>(byBooking.size());
+            for (List<BookingOutboxEvent> events : byBooking.values()) {
+                pending.add(workers.submit(() -> {
+                    for (BookingOutboxEvent event : events) {
+                        if (!deliver(event)) {
+                            break;
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : pending) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Outbox worker failed", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return batch.size();
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    @Scheduled(cron = "${booking.outbox.purge-cron:0 15 * * * *}")
+    public void purgeProcessed() {
+        Instant before = clock.instant().minus(Duration.ofDays(retentionDays));
+        Integer purged = transactionTemplate.execute(status -> outboxRepository.deleteProcessedBefore(before));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} processed booking outbox events", purged);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private boolean deliver(BookingOutboxEvent outboxEvent) {
+        try {
+            BookingEvent event = objectMapper.readValue(outboxEvent.getPayload(), BookingEvent.class);
+            event.setEventId(outboxEvent.getId());
+            for (BookingEventHandler handler : handlers) {
+                if (handler.supports(event.getType())) {
+                    handler.handle(event);
+                }
+            }
+        } catch (Exception e) {
+            recordFailure(outboxEvent.getId(), e);
+            return false;
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.findById(outboxEvent.getId())
+            .ifPresent(event -> {
+                event.setStatus(BookingOutboxEvent.PROCESSED);
+                event.setProcessedAt(clock.instant());
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastError(null);
+            }));
+        return true;
+    }
+
+    private void recordFailure(Long eventId, Exception failure) {
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.findById(eventId).ifPresent(event -> {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(truncate(String.valueOf(failure)));
+            if (attempts >= maxAttempts) {
+                event.setStatus(BookingOutboxEvent.FAILED);
+                log.error("Booking outbox event {} ({}) for booking {} failed {} times, giving up",
+                    event.getId(), event.getEventType(), event.getBookingId(), attempts, failure);
+            } else {
+                event.setAvailableAt(clock.instant().plus(backoff(attempts)));
+                log.warn("Booking outbox event {} ({}) for booking {} failed, attempt {}: {}",
+                    event.getId(), event.getEventType(), event.getBookingId(), attempts, failure.toString());
+            }
+        }));
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -0,0 +1,49 @@
+package com.nathangtg.hotel_management.services.events;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.BookingOutboxEvent;
+import com.nathangtg.hotel_management.api.repositories.BookingOutboxRepository;
+
+/**
+ * Appends booking events to the outbox. Must run inside the transaction that changes the
+ * booking so the event is committed, or rolled back, together with it.
+ */
+@Service
+public class BookingOutboxService {
+
+    private final BookingOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Autowired
+    public BookingOutboxService(BookingOutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this(outboxRepository, objectMapper, Clock.systemUTC());
+    }
+
+    BookingOutboxService(BookingOutboxRepository outboxRepository, ObjectMapper objectMapper, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BookingOutboxEvent record(String eventType, Booking booking, BookingStatus previousStatus) {
+        BookingEvent event = BookingEvent.of(eventType, booking, previousStatus, clock.instant());
+        try {
+            return outboxRepository.save(new BookingOutboxEvent(booking.getId(), eventType,
+                objectMapper.writeValueAsString(event), event.getOccurredAt()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize booking event " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.nathangtg.hotel_management.services.holds;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A temporary claim on a room for a stay, kept only in memory until it expires, is
+ * released, or is converted into a booking.
+ */
+@Getter
+@AllArgsConstructor
+public class RoomHold {
+
+    private String id;
+
+    private Long roomId;
+
+    private Long userId;
+
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+
+    private Instant createdAt;
+
+    private Instant expiresAt;
+
+    public boolean isLive(Instant now) {
+        return expiresAt.isAfter(now);
+    }
+
+    public boolean overlaps(LocalDate checkIn, LocalDate checkOut) {
+        return checkInDate.isBefore(checkOut) && checkOutDate.isAfter(checkIn);
+    }
+}
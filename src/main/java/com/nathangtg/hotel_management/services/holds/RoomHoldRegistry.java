@@ -0,0 +1,229 @@
+package com.nathangtg.hotel_management.services.holds;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory registry of short-lived room holds. Holds are indexed per room for conflict
+ * checks and availability filtering, and expired by a hashed timing wheel with one-second
+ * slots whose revolution covers the longest allowed TTL, so each tick only visits the holds
+ * due in that second. Reads also ignore holds past their expiry, so a late tick never
+ * extends a hold.
+ *
+ * Nothing is written to the database; a hold that is abandoned simply disappears. Holds do
+ * not survive a restart and are local to the instance.
+ */
+@Component
+public class RoomHoldRegistry {
+
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    public static final Duration MAX_TTL = Duration.ofMinutes(30);
+    public static final int MAX_HOLDS_PER_USER = 5;
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SLOTS = (int) (MAX_TTL.toMillis() / TICK_MILLIS) + 2;
+
+    private final Clock clock;
+    private final Map<String, RoomHold> holds = new ConcurrentHashMap<>();
+    private final Map<Long, List<RoomHold>> holdsByRoom = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> holdsByUser = new ConcurrentHashMap<>();
+    private final Queue<RoomHold>[] wheel;
+    private long lastTick;
+
+    @Autowired
+    public RoomHoldRegistry() {
+        this(Clock.systemUTC());
+    }
+
+    @SuppressWarnings("unchecked")
+    RoomHoldRegistry(Clock clock) {
+        this.clock = clock;
+        this.wheel = new Queue[WHEEL_SLOTS];
+        for (int slot = 0; slot < WHEEL_SLOTS; slot++) {
+            wheel[slot] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = tickOf(clock.instant());
+    }
+
+    /**
+     * Places a hold, or throws IllegalStateException if a live hold of another guest overlaps
+     * the stay or the guest already has too many holds.
+     */
+    public RoomHold place(Long roomId, Long userId, LocalDate checkIn, LocalDate checkOut, Duration ttl) {
+        if (checkIn == null || checkOut == null || !checkIn.isBefore(checkOut)) {
+            throw new IllegalArgumentException("Check-in date must be before check-out date");
+        }
+        Duration effectiveTtl = ttl != null ? ttl : DEFAULT_TTL;
+        if (effectiveTtl.isNegative() || effectiveTtl.isZero() || effectiveTtl.compareTo(MAX_TTL) > 0) {
+            throw new IllegalArgumentException("Hold TTL must be between 1 second and " + MAX_TTL.toMinutes() + " minutes");
+        }
+
+        Instant now = clock.instant();
+        RoomHold hold = new RoomHold(UUID.randomUUID().toString(), roomId, userId, checkIn, checkOut, now,
+            now.plus(effectiveTtl));
+        holdsByRoom.compute(roomId, (id, roomHolds) -> {
+            List<RoomHold> current = roomHolds != null ? roomHolds : new CopyOnWriteArrayList<>();
+            for (RoomHold existing : current) {
+                if (existing.isLive(now) && existing.overlaps(checkIn, checkOut)
+                        && !Objects.equals(existing.getUserId(), userId)) {
+                    throw new IllegalStateException("Room is already held for the selected dates");
+                }
+            }
+            if (liveHoldCount(userId, now) >= MAX_HOLDS_PER_USER) {
+                throw new IllegalStateException("Too many active holds");
+            }
+            current.add(hold);
+            holds.put(hold.getId(), hold);
+            holdsByUser.computeIfAbsent(userId, user -> ConcurrentHashMap.newKeySet()).add(hold.getId());
+            return current;
+        });
+        schedule(hold);
+        return hold;
+    }
+
+    public RoomHold get(String holdId) {
+        RoomHold hold = holds.get(holdId);
+        return hold != null && hold.isLive(clock.instant()) ? hold : null;
+    }
+
+    /**
+     * Removes a live hold and returns it so it can be turned into a booking, or null if the
+     * hold does not exist, has expired, or belongs to another room.
+     */
+    public RoomHold claim(String holdId, Long roomId) {
+        RoomHold hold = get(holdId);
+        if (hold == null || !hold.getRoomId().equals(roomId) || !remove(hold)) {
+            return null;
+        }
+        return hold;
+    }
+
+    /** Puts back a claimed hold whose conversion failed, if it has not expired meanwhile. */
+    public void restore(RoomHold hold) {
+        if (!hold.isLive(clock.instant())) {
+            return;
+        }
+        holdsByRoom.computeIfAbsent(hold.getRoomId(), id -> new CopyOnWriteArrayList<>()).add(hold);
+        holds.put(hold.getId(), hold);
+        holdsByUser.computeIfAbsent(hold.getUserId(), user -> ConcurrentHashMap.newKeySet()).add(hold.getId());
+        schedule(hold);
+    }
+
+    public boolean release(String holdId) {
+        RoomHold hold = holds.get(holdId);
+        return hold != null && remove(hold);
+    }
+
+    public boolean isHeldByOther(Long roomId, LocalDate checkIn, LocalDate checkOut, Long userId) {
+        List<RoomHold> roomHolds = holdsByRoom.get(roomId);
+        if (roomHolds == null) {
+            return false;
+        }
+        Instant now = clock.instant();
+        for (RoomHold hold : roomHolds) {
+            if (hold.isLive(now) && hold.overlaps(checkIn, checkOut) && !Objects.equals(hold.getUserId(), userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Rooms with a live hold overlapping the stay, for availability queries to exclude. */
+    public Set<Long> heldRoomIds(LocalDate checkIn, LocalDate checkOut) {
+        Set<Long> held = new HashSet<>();
+        Instant now = clock.instant();
+        holdsByRoom.forEach((roomId, roomHolds) -> {
+            for (RoomHold hold : roomHolds) {
+                if (hold.isLive(now) && hold.overlaps(checkIn, checkOut)) {
+                    held.add(roomId);
+                    return;
+                }
+            }
+        });
+        return held;
+    }
+
+    public int size() {
+        return holds.size();
+    }
+
+    /**
+     * Advances the wheel to the current second and drops every hold that has expired in the
+     * slots passed over.
+     */
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public synchronized void expireDue() {
+        Instant now = clock.instant();
+        long currentTick = tickOf(now);
+        long from = Math.max(lastTick + 1, currentTick - WHEEL_SLOTS + 1);
+        for (long tick = from; tick <= currentTick; tick++) {
+            wheel[slotOf(tick)].removeIf(hold -> {
+                if (hold.isLive(now)) {
+                    return false;
+                }
+                remove(hold);
+                return true;
+            });
+        }
+        lastTick = currentTick;
+    }
+
+    // The tick after the expiry second, so the hold is always due when its slot is visited
+    private void schedule(RoomHold hold) {
+        wheel[slotOf(tickOf(hold.getExpiresAt()) + 1)].add(hold);
+    }
+
+    private boolean remove(RoomHold hold) {
+        if (!holds.remove(hold.getId(), hold)) {
+            return false;
+        }
+        holdsByRoom.computeIfPresent(hold.getRoomId(), (id, roomHolds) -> {
+            roomHolds.remove(hold);
+            return roomHolds.isEmpty() ? null : roomHolds;
+        });
+        holdsByUser.computeIfPresent(hold.getUserId(), (user, ids) -> {
+            ids.remove(hold.getId());
+            return ids.isEmpty() ? null : ids;
+        });
+        return true;
+    }
+
+    private int liveHoldCount(Long userId, Instant now) {
+        Set<String> ids = holdsByUser.get(userId);
+        if (ids == null) {
+            return 0;
+        }
+        int live = 0;
+        for (String id : ids) {
+            RoomHold hold = holds.get(id);
+            if (hold != null && hold.isLive(now)) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    private static long tickOf(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), TICK_MILLIS);
+    }
+
+    private static int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) WHEEL_SLOTS);
+    }
+}
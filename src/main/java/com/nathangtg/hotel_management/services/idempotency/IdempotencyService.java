@@ -0,0 +1,330 @@
+package com.nathangtg.hotel_management.services.idempotency;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.models.IdempotencyKey;
+import com.nathangtg.hotel_management.api.repositories.IdempotencyKeyRepository;
+
+/**
+ * Runs a request sent with an {@code Idempotency-Key} at most once per user, operation and
+ * key. The outcome is stored in the {@code idempotency_keys} table and in a bounded
+ * in-memory map, so a retry is answered with the original status, Location and body
+ * without touching the booking tables. A duplicate that arrives while the first request is
+ * still running on this replica waits for it and shares its result; on another replica it
+ * gets 409 until the result is stored.
+ *
+ * <p>Results expire after {@code idempotency.ttl}; expired rows are deleted in batches by
+ * {@link #purgeExpired}. 5xx responses and exceptions are not stored, so they can be retried.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, StoredResponse> recent = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    @Value("${idempotency.ttl:PT24H}")
+    private Duration ttl = Duration.ofHours(24);
+
+    @Value("${idempotency.max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    // How long a duplicate waits for the running request, and how long a claim outlives a
+    // replica that died while holding it
+    @Value("${idempotency.in-flight-timeout-ms:30000}")
+    private long inFlightTimeoutMillis = 30_000;
+
+    @Value("${idempotency.cleanup-batch-size:500}")
+    private int cleanupBatchSize = 500;
+
+    @Autowired
+    public IdempotencyService(IdempotencyKeyRepository repository, ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this(repository, objectMapper, transactionManager, Clock.systemUTC());
+    }
+
+    IdempotencyService(IdempotencyKeyRepository repository, ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager, Clock clock) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+    }
+
+    public static boolean isValidKey(String key) {
+        return key != null && !key.isBlank() && key.length() <= MAX_KEY_LENGTH;
+    }
+
+    /**
+     * Runs {@code action} unless this user already sent {@code key} for {@code operation},
+     * in which case the stored response is replayed with an {@code Idempotent-Replayed}
+     * header. A key reused with a different {@code request} body is answered with 422, so
+     * {@code request} should hold only what the client sent, not entities resolved for it.
+     */
+    public ResponseEntity<?> execute(Long userId, String operation, String key, Object request,
+                                     Supplier<ResponseEntity<?>> action) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("Invalid " + HEADER);
+        }
+        String keyHash = sha256(userId + "\n" + operation + "\n" + key);
+        String requestHash = sha256(request == null ? "" : toJson(request));
+        Instant now = clock.instant();
+
+        StoredResponse stored = recent(keyHash, now);
+        if (stored != null) {
+            return replay(stored, requestHash);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(keyHash, mine);
+        if (running != null) {
+            return replay(await(running), requestHash);
+        }
+        try {
+            IdempotencyKey existing = claim(keyHash, requestHash, now);
+            if (existing != null) {
+                if (existing.getStatus() == IdempotencyKey.RUNNING) {
+                    mine.complete(null);
+                    return ResponseEntity.status(409).build(); // Still running on another replica
+                }
+                stored = new StoredResponse(existing.getRequestHash(), existing.getStatus(),
+                    existing.getLocation(), existing.getBody(), existing.getExpiresAt());
+                remember(keyHash, stored);
+                mine.complete(stored);
+                return replay(stored, requestHash);
+            }
+            return run(keyHash, requestHash, action, mine);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(keyHash, mine);
+        }
+    }
+
+    private ResponseEntity<?> run(String keyHash, String requestHash, Supplier<ResponseEntity<?>> action,
+                                  CompletableFuture<StoredResponse> mine) {
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(keyHash);
+            throw e;
+        }
+
+        URI location = response.getHeaders().getLocation();
+        Instant expiresAt = clock.instant().plus(ttl);
+        StoredResponse stored = new StoredResponse(requestHash, (short) response.getStatusCode().value(),
+            location == null ? null : location.toString(),
+            response.hasBody() ? toJsonBytes(response.getBody()) : null, expiresAt);
+        if (response.getStatusCode().is5xxServerError()) {
+            release(keyHash);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> repository.complete(
+                keyHash, stored.status, stored.location, stored.body, expiresAt));
+            remember(keyHash, stored);
+        }
+        mine.complete(stored);
+        return response;
+    }
+
+    // Returns null when the key is now ours, otherwise the row that holds it
+    private IdempotencyKey claim(String keyHash, String requestHash, Instant now) {
+        Instant claimUntil = now.plusMillis(inFlightTimeoutMillis);
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.insertClaim(keyHash, requestHash, claimUntil));
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            Integer taken = transactionTemplate.execute(
+                status -> repository.reclaimExpired(keyHash, requestHash, now, claimUntil));
+            if (taken != null && taken > 0) {
+                return null;
+            }
+            // Deleted by the cleanup in between; report it as running so the client retries
+            return repository.findById(keyHash).orElseGet(() -> new IdempotencyKey(
+                keyHash, requestHash, IdempotencyKey.RUNNING, null, null, claimUntil));
+        }
+    }
+
+    private void release(String keyHash) {
+        transactionTemplate.executeWithoutResult(status -> repository.deleteById(keyHash));
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            StoredResponse stored = running.get(inFlightTimeoutMillis, TimeUnit.MILLISECONDS);
+            return stored == null ? StoredResponse.CONFLICT : stored;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            return StoredResponse.CONFLICT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return StoredResponse.CONFLICT;
+        }
+    }
+
+    private static ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+        if (stored == StoredResponse.CONFLICT) {
+            return ResponseEntity.status(409).build();
+        }
+        if (!stored.requestHash.equals(requestHash)) {
+            return ResponseEntity.unprocessableEntity().build(); // Key reused for another request
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status).header(REPLAYED_HEADER, "true");
+        if (stored.location != null) {
+            builder.header(HttpHeaders.LOCATION, stored.location);
+        }
+        return stored.body == null ? builder.build() : builder.contentType(MediaType.APPLICATION_JSON).body(stored.body);
+    }
+
+    private StoredResponse recent(String keyHash, Instant now) {
+        synchronized (recent) {
+            StoredResponse stored = recent.get(keyHash);
+            return stored != null && stored.expiresAt.isAfter(now) ? stored : null;
+        }
+    }
+
+    private void remember(String keyHash, StoredResponse stored) {
+        synchronized (recent) {
+            recent.put(keyHash, stored);
+        }
+    }
+
+    /**
+     * Deletes expired keys, {@code idempotency.cleanup-batch-size} rows per transaction,
+     * and drops expired entries from memory. Returns the number of rows deleted.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:600000}")
+    public int purgeExpired() {
+        Instant now = clock.instant();
+        synchronized (recent) {
+            recent.values().removeIf(stored -> !stored.expiresAt.isAfter(now));
+        }
+        int purged = 0;
+        while (true) {
+            List<String> expired = repository.findExpiredKeys(now, PageRequest.of(0, cleanupBatchSize));
+            if (expired.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> repository.deleteAllByIdInBatch(expired));
+            purged += expired.size();
+            if (expired.size() < cleanupBatchSize) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+        return purged;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request body cannot be fingerprinted", e);
+        }
+    }
+
+    private byte[] toJsonBytes(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response body cannot be stored", e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    void setCleanupBatchSize(int cleanupBatchSize) {
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    private static final class StoredResponse {
+
+        static final StoredResponse CONFLICT = new StoredResponse("", (short) 409, null, null, Instant.MAX);
+
+        private final String requestHash;
+        private final short status;
+        private final String location;
+        private final byte[] body;
+        private final Instant expiresAt;
+
+        private StoredResponse(String requestHash, short status, String location, byte[] body, Instant expiresAt) {
+            this.requestHash = requestHash;
+            this.status = status;
+            this.location = location;
+            this.body = body;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.nathangtg.hotel_management.services.jobs;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nathangtg.hotel_management.services.BookingArchiveService;
+
+/**
+ * Nightly run of {@link BookingArchiveService#archive}, guarded by a database lease so only
+ * one replica archives at a time. Pauses between chunks to leave room for live traffic and
+ * renews the lease as it goes.
+ */
+@Component
+public class BookingArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingArchiveJob.class);
+
+    public static final String JOB_NAME = "booking-archive";
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private final BookingArchiveService archiveService;
+    private final JobLeaseService jobLeaseService;
+
+    @Value("${booking.archive.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${booking.archive.pause-ms:50}")
+    private long pauseMillis = 50;
+
+    public BookingArchiveJob(BookingArchiveService archiveService, JobLeaseService jobLeaseService) {
+        this.archiveService = archiveService;
+        this.jobLeaseService = jobLeaseService;
+    }
+
+    @Scheduled(cron = "${booking.archive.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /** Returns the number of bookings archived, or null when another replica holds the lease. */
+    public Integer run() {
+        if (!jobLeaseService.tryAcquire(JOB_NAME, LEASE)) {
+            return null;
+        }
+        long started = System.nanoTime();
+        try {
+            int moved = archiveService.archive(this::continueAfterChunk);
+            if (moved > 0) {
+                log.info("Archived {} bookings that checked out before {} in {} ms", moved,
+                    archiveService.getCutoff(), (System.nanoTime() - started) / 1_000_000);
+            }
+            return moved;
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    private boolean continueAfterChunk() {
+        if (pauseMillis > 0) {
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return jobLeaseService.tryAcquire(JOB_NAME, LEASE);
+    }
+
+    void setPauseMillis(long pauseMillis) {
+        this.pauseMillis = pauseMillis;
+    }
+}
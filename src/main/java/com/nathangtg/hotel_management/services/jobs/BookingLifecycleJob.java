@@ -0,0 +1,287 @@
+package com.nathangtg.hotel_management.services.jobs;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nathangtg.hotel_management.api.dto.BookingLifecycleResult;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.HotelDailyStatsService;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.events.BookingEvent;
+import com.nathangtg.hotel_management.services.events.BookingOutboxService;
+
+/**
+ * Moves bookings along their lifecycle without anyone calling PUT /api/bookings/{id}:
+ * <ol>
+ * <li>PENDING bookings that can no longer be confirmed become EXPIRED,</li>
+ * <li>CONFIRMED bookings whose check-in passed more than the grace period ago become NO_SHOW,</li>
+ * <li>CHECKED_IN bookings past their check-out date become CHECKED_OUT,</li>
+ * <li>rooms flagged unavailable with no PENDING, CONFIRMED or CHECKED_IN booking are released.</li>
+ * </ol>
+ * Steps 2-4 are set-based: a keyset scan finds the next chunk's upper id and a single
+ * range-bounded update moves the chunk, each in its own short transaction. They do not
+ * change what a booking contributes to daily stats, so no per-row work is needed. Expiry
+ * does, so it loads and updates each chunk's rows under a row lock instead.
+ *
+ * Chunks are small and paced during business hours so no statement holds locks on
+ * bookings for long (and stays below SQL Server's 5000-lock escalation threshold either
+ * way). A database lease keeps the job to one replica. Every moved booking and released
+ * room gets a change log entry in the transaction that moved it, and every moved booking a
+ * status-changed outbox event; the chunk's bookings are read back by id range for those.
+ */
+@Component
+public class BookingLifecycleJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingLifecycleJob.class);
+
+    public static final String JOB_NAME = "booking-lifecycle";
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final HotelDailyStatsService hotelDailyStatsService;
+    private final BookingOutboxService bookingOutboxService;
+    private final ChangeLogService changeLogService;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Value("${booking.lifecycle.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${booking.lifecycle.chunk-size:4000}")
+    private int chunkSize = 4000;
+
+    @Value("${booking.lifecycle.business-hours-chunk-size:500}")
+    private int businessHoursChunkSize = 500;
+
+    @Value("${booking.lifecycle.business-hours-pause-ms:200}")
+    private long businessHoursPauseMillis = 200;
+
+    @Value("${booking.lifecycle.business-hours-start:08:00}")
+    private LocalTime businessHoursStart = LocalTime.of(8, 0);
+
+    @Value("${booking.lifecycle.business-hours-end:22:00}")
+    private LocalTime businessHoursEnd = LocalTime.of(22, 0);
+
+    @Value("${booking.lifecycle.no-show-grace-days:1}")
+    private int noShowGraceDays = 1;
+
+    @Autowired
+    public BookingLifecycleJob(BookingRepository bookingRepository, RoomRepository roomRepository,
+                               HotelDailyStatsService hotelDailyStatsService,
+                               BookingOutboxService bookingOutboxService, ChangeLogService changeLogService,
+                               JobLeaseService jobLeaseService, PlatformTransactionManager transactionManager) {
+        this(bookingRepository, roomRepository, hotelDailyStatsService, bookingOutboxService, changeLogService,
+            jobLeaseService, transactionManager, Clock.system(ZoneId.systemDefault()));
+    }
+
+    BookingLifecycleJob(BookingRepository bookingRepository, RoomRepository roomRepository,
+                        HotelDailyStatsService hotelDailyStatsService, BookingOutboxService bookingOutboxService,
+                        ChangeLogService changeLogService, JobLeaseService jobLeaseService,
+                        PlatformTransactionManager transactionManager, Clock clock) {
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+        this.hotelDailyStatsService = hotelDailyStatsService;
+        this.bookingOutboxService = bookingOutboxService;
+        this.changeLogService = changeLogService;
+        this.jobLeaseService = jobLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${booking.lifecycle.cron:0 */15 * * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * Runs all steps if this replica can take the lease; returns null when another replica
+     * holds it.
+     */
+    public BookingLifecycleResult run() {
+        if (!jobLeaseService.tryAcquire(JOB_NAME, LEASE)) {
+            log.debug("Skipping {}: lease held by another replica", JOB_NAME);
+            return null;
+        }
+        long started = System.nanoTime();
+        try {
+            LocalDate today = LocalDate.now(clock);
+            int expired = expireStalePending(today);
+            int noShows = transitionByCheckIn(BookingStatus.CONFIRMED, today.minusDays(noShowGraceDays),
+                BookingStatus.NO_SHOW);
+            int checkedOut = transitionByCheckOut(BookingStatus.CHECKED_IN, today, BookingStatus.CHECKED_OUT);
+            int roomsReleased = releaseRooms();
+            long elapsed = (System.nanoTime() - started) / 1_000_000;
+            if (expired + noShows + checkedOut + roomsReleased > 0) {
+                log.info("{}: {} expired, {} no-shows, {} checked out, {} rooms released in {} ms", JOB_NAME,
+                    expired, noShows, checkedOut, roomsReleased, elapsed);
+            }
+            return new BookingLifecycleResult(expired, noShows, checkedOut, roomsReleased, elapsed);
+        } finally {
+            jobLeaseService.release(JOB_NAME);
+        }
+    }
+
+    private int expireStalePending(LocalDate today) {
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            int limit = currentChunkSize();
+            List<Long> chunk = transactionTemplate.execute(status -> {
+                List<Booking> stale = bookingRepository.findStalePendingForUpdate(from, clock.instant(), today,
+                    PageRequest.of(0, limit));
+                for (Booking booking : stale) {
+                    booking.setStatus(BookingStatus.EXPIRED);
+                    hotelDailyStatsService.recordStatusChange(booking, booking.getRoom(), BookingStatus.PENDING);
+                    bookingOutboxService.record(BookingEvent.STATUS_CHANGED, booking, BookingStatus.PENDING);
+                }
+                List<Long> ids = stale.stream().map(Booking::getId).toList();
+                changeLogService.recordAll(ChangeLogEntry.BOOKING, ids, ChangeLogEntry.UPDATED);
+                return ids;
+            });
+            total += chunk.size();
+            if (chunk.size() < limit || !continueAfterChunk()) {
+                return total;
+            }
+            afterId = chunk.get(chunk.size() - 1);
+        }
+    }
+
+    private int transitionByCheckIn(BookingStatus fromStatus, LocalDate before, BookingStatus toStatus) {
+        List<BookingStatus> fromStatuses = List.of(fromStatus);
+        return inChunks(ChangeLogEntry.BOOKING, (afterId, limit) -> bookingRepository.findIdsCheckingInBefore(afterId, fromStatuses, before,
+                PageRequest.of(0, limit)),
+            (afterId, upToId, ids) -> {
+                int moved = bookingRepository.updateStatusCheckingInBefore(afterId, upToId, fromStatuses, before,
+                    toStatus, clock.millis());
+                recordStatusChanges(afterId, upToId, ids, fromStatus, toStatus);
+                return moved;
+            });
+    }
+
+    private int transitionByCheckOut(BookingStatus fromStatus, LocalDate before, BookingStatus toStatus) {
+        List<BookingStatus> fromStatuses = List.of(fromStatus);
+        return inChunks(ChangeLogEntry.BOOKING, (afterId, limit) -> bookingRepository.findIdsCheckingOutBefore(afterId, fromStatuses, before,
+                PageRequest.of(0, limit)),
+            (afterId, upToId, ids) -> {
+                int moved = bookingRepository.updateStatusCheckingOutBefore(afterId, upToId, fromStatuses, before,
+                    toStatus, clock.millis());
+                recordStatusChanges(afterId, upToId, ids, fromStatus, toStatus);
+                return moved;
+            });
+    }
+
+    // Loaded by id range rather than an IN list, which a 4000-row chunk would push past SQL
+    // Server's 2100-parameter limit; ids filters out rows that already had toStatus
+    private void recordStatusChanges(long afterId, long upToId, List<Long> ids, BookingStatus fromStatus,
+                                     BookingStatus toStatus) {
+        Set<Long> moved = new HashSet<>(ids);
+        for (Booking booking : bookingRepository.findInIdRangeWithStatus(afterId, upToId, toStatus)) {
+            if (moved.contains(booking.getId())) {
+                bookingOutboxService.record(BookingEvent.STATUS_CHANGED, booking, fromStatus);
+            }
+        }
+    }
+
+    private int releaseRooms() {
+        return inChunks(ChangeLogEntry.ROOM, (afterId, limit) -> roomRepository.findReleasableIds(afterId,
+                BookingStatus.ACTIVE, PageRequest.of(0, limit)),
+            (afterId, upToId, ids) -> roomRepository.releaseUnbooked(afterId, upToId, BookingStatus.ACTIVE,
+                clock.millis()));
+    }
+
+    // The scan must return exactly the rows the update moves; they are what the change log records
+    private int inChunks(String entityType, ChunkScan scan, ChunkUpdate update) {
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            int limit = currentChunkSize();
+            List<Long> ids = scan.next(afterId, limit);
+            if (ids.isEmpty()) {
+                return total;
+            }
+            long from = afterId;
+            long upToId = ids.get(ids.size() - 1);
+            Integer updated = transactionTemplate.execute(status -> {
+                int moved = update.apply(from, upToId, ids);
+                changeLogService.recordAll(entityType, ids, ChangeLogEntry.UPDATED);
+                return moved;
+            });
+            total += updated != null ? updated : 0;
+            if (ids.size() < limit || !continueAfterChunk()) {
+                return total;
+            }
+            afterId = upToId;
+        }
+    }
+
+    // Paces chunks during business hours and keeps the lease alive; false if it was lost
+    private boolean continueAfterChunk() {
+        if (isBusinessHours() && businessHoursPauseMillis > 0) {
+            try {
+                Thread.sleep(businessHoursPauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (!jobLeaseService.tryAcquire(JOB_NAME, LEASE)) {
+            log.warn("{}: lease lost, stopping", JOB_NAME);
+            return false;
+        }
+        return true;
+    }
+
+    private int currentChunkSize() {
+        return isBusinessHours() ? businessHoursChunkSize : chunkSize;
+    }
+
+    private boolean isBusinessHours() {
+        LocalTime now = LocalTime.now(clock);
+        return !now.isBefore(businessHoursStart) && now.isBefore(businessHoursEnd);
+    }
+
+    void setChunkSizes(int chunkSize, int businessHoursChunkSize) {
+        this.chunkSize = chunkSize;
+        this.businessHoursChunkSize = businessHoursChunkSize;
+    }
+
+    void setBusinessHoursPauseMillis(long businessHoursPauseMillis) {
+        this.businessHoursPauseMillis = businessHoursPauseMillis;
+    }
+
+    @FunctionalInterface
+    private interface ChunkScan {
+        List<Long> next(long afterId, int limit);
+    }
+
+    @FunctionalInterface
+    private interface ChunkUpdate {
+        int apply(long afterId, long upToId, List<Long> ids);
+    }
+}
@@ -0,0 +1,86 @@
+package com.nathangtg.hotel_management.services.jobs;
+
+import java.net.InetAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nathangtg.hotel_management.api.repositories.JobLeaseRepository;
+
+/**
+ * Database leases for scheduled jobs. Every replica tries to take the lease before running
+ * a job and only the holder runs it; a replica that dies simply lets the lease lapse. Each
+ * call commits on its own so a lease is never tied to the job's own transactions.
+ */
+@Service
+public class JobLeaseService {
+
+    private final JobLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final String owner;
+
+    @Autowired
+    public JobLeaseService(JobLeaseRepository leaseRepository, PlatformTransactionManager transactionManager) {
+        this(leaseRepository, transactionManager, Clock.systemUTC(), defaultOwner());
+    }
+
+    JobLeaseService(JobLeaseRepository leaseRepository, PlatformTransactionManager transactionManager,
+                    Clock clock, String owner) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.owner = owner;
+    }
+
+    /**
+     * Takes or extends the lease for {@code leaseFor}; returns false while another replica
+     * holds it.
+     */
+    public boolean tryAcquire(String jobName, Duration leaseFor) {
+        Instant now = clock.instant();
+        Integer updated = transactionTemplate.execute(
+            status -> leaseRepository.tryAcquire(jobName, owner, now, now.plus(leaseFor)));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        if (leaseRepository.existsById(jobName)) {
+            return false;
+        }
+        try {
+            // First run of this job anywhere; the primary key decides who creates the row
+            transactionTemplate.executeWithoutResult(
+                status -> leaseRepository.insert(jobName, owner, now.plus(leaseFor)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public void release(String jobName) {
+        transactionTemplate.executeWithoutResult(status -> leaseRepository.release(jobName, owner, clock.instant()));
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String defaultOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "/" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,35 @@
+package com.nathangtg.hotel_management.services.live;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A change pushed to the live dashboards of one hotel. The id is the change log version
+ * the event was read from, so clients resume from it with {@code Last-Event-ID}.
+ */
+@Getter
+@AllArgsConstructor
+public class LiveEvent {
+
+    public static final String BOOKING_CREATED = "booking-created";
+    public static final String BOOKING_UPDATED = "booking-updated";
+    public static final String BOOKING_CANCELLED = "booking-cancelled";
+    public static final String ROOM_AVAILABILITY = "room-availability";
+    // The client missed events and should reload the bookings and rooms it shows
+    public static final String RESET = "reset";
+
+    private long id;
+
+    private String type;
+
+    private Long hotelId;
+
+    // Queued events with the same key are replaced by the newer one; null never coalesces
+    private String coalesceKey;
+
+    private Object data;
+
+    static LiveEvent reset(long id, Long hotelId) {
+        return new LiveEvent(id, RESET, hotelId, null, null);
+    }
+}
@@ -0,0 +1,176 @@
+package com.nathangtg.hotel_management.services.live;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.IdBatch;
+import com.nathangtg.hotel_management.services.RoomService;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+
+/**
+ * Feeds {@link LiveEventHub} from the change log, so a dashboard connected to any replica
+ * sees writes made on every replica. One poll per replica reads the committed entries after
+ * the last one it published and loads the bookings and rooms they name in one query per
+ * type. While nobody is subscribed the entries are skipped without loading anything.
+ */
+@Component
+public class LiveEventFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveEventFeed.class);
+
+    // Pages read per poll, so a backlog after a pause is caught up without blocking the scheduler
+    private static final int MAX_PAGES_PER_POLL = 10;
+
+    @Autowired
+    public ChangeLogService changeLogService;
+
+    @Autowired
+    public BookingService bookingService;
+
+    @Autowired
+    public RoomService roomService;
+
+    @Autowired
+    public LiveEventHub liveEventHub;
+
+    @Value("${live.enabled:true}")
+    private boolean enabled = true;
+
+    private long version = -1;
+
+    @Scheduled(fixedDelayString = "${live.poll-interval-ms:1000}")
+    public void scheduledPoll() {
+        if (enabled) {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.warn("Live event poll failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Publishes what was written since the previous poll; the first poll starts from the
+     * current version. Returns the number of events published.
+     */
+    public int poll() {
+        if (version < 0) {
+            version = changeLogService.currentVersion();
+            liveEventHub.skipTo(version);
+            return 0;
+        }
+        int published = 0;
+        for (int page = 0; page < MAX_PAGES_PER_POLL; page++) {
+            List<ChangeLogEntry> entries = changeLogService.findSince(version, IdBatch.MAX_IDS);
+            if (entries.isEmpty()) {
+                break;
+            }
+            long upTo = entries.get(entries.size() - 1).getVersion();
+            if (liveEventHub.hasSubscribers()) {
+                List<LiveEvent> events = toEvents(entries);
+                liveEventHub.publish(events);
+                published += events.size();
+            } else {
+                liveEventHub.skipTo(upTo);
+            }
+            version = upTo;
+            if (entries.size() < IdBatch.MAX_IDS) {
+                break;
+            }
+        }
+        return published;
+    }
+
+    List<LiveEvent> toEvents(List<ChangeLogEntry> entries) {
+        Set<Long> bookingIds = new LinkedHashSet<>();
+        Set<Long> roomIds = new LinkedHashSet<>();
+        for (ChangeLogEntry entry : entries) {
+            if (ChangeLogEntry.DELETED.equals(entry.getOperation())) {
+                continue; // The hotel of a deleted row is no longer known
+            }
+            if (ChangeLogEntry.BOOKING.equals(entry.getEntityType())) {
+                bookingIds.add(entry.getEntityId());
+            } else if (ChangeLogEntry.ROOM.equals(entry.getEntityType())) {
+                roomIds.add(entry.getEntityId());
+            }
+        }
+        Map<Long, Booking> bookings = new HashMap<>();
+        if (!bookingIds.isEmpty()) {
+            bookingService.getBookingsByIds(new ArrayList<>(bookingIds))
+                .forEach(booking -> bookings.put(booking.getId(), booking));
+        }
+        Map<Long, Room> rooms = new HashMap<>();
+        if (!roomIds.isEmpty()) {
+            roomService.getRoomsByIds(new ArrayList<>(roomIds)).forEach(room -> rooms.put(room.getId(), room));
+        }
+
+        List<LiveEvent> events = new ArrayList<>(entries.size());
+        for (ChangeLogEntry entry : entries) {
+            if (ChangeLogEntry.DELETED.equals(entry.getOperation())) {
+                continue;
+            }
+            if (ChangeLogEntry.BOOKING.equals(entry.getEntityType())) {
+                Booking booking = bookings.get(entry.getEntityId());
+                if (booking != null && hotelIdOf(booking.getRoom()) != null) {
+                    events.add(bookingEvent(entry, booking));
+                }
+            } else if (ChangeLogEntry.ROOM.equals(entry.getEntityType())) {
+                Room room = rooms.get(entry.getEntityId());
+                if (room != null && hotelIdOf(room) != null) {
+                    events.add(roomEvent(entry, room));
+                }
+            }
+        }
+        return events;
+    }
+
+    private static LiveEvent bookingEvent(ChangeLogEntry entry, Booking booking) {
+        String type;
+        String coalesceKey = null;
+        if (ChangeLogEntry.CREATED.equals(entry.getOperation())) {
+            type = LiveEvent.BOOKING_CREATED;
+        } else if (booking.getStatus() == BookingStatus.CANCELLED) {
+            type = LiveEvent.BOOKING_CANCELLED;
+        } else {
+            type = LiveEvent.BOOKING_UPDATED;
+            coalesceKey = "booking:" + booking.getId();
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("bookingId", booking.getId());
+        data.put("roomId", booking.getRoom().getId());
+        data.put("roomNumber", booking.getRoom().getRoomNumber());
+        data.put("status", booking.getStatus());
+        data.put("checkInDate", booking.getCheckInDate());
+        data.put("checkOutDate", booking.getCheckOutDate());
+        return new LiveEvent(entry.getVersion(), type, hotelIdOf(booking.getRoom()), coalesceKey, data);
+    }
+
+    private static LiveEvent roomEvent(ChangeLogEntry entry, Room room) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("roomId", room.getId());
+        data.put("roomNumber", room.getRoomNumber());
+        data.put("isAvailable", room.getIsAvailable());
+        return new LiveEvent(entry.getVersion(), LiveEvent.ROOM_AVAILABILITY, hotelIdOf(room), "room:" + room.getId(), data);
+    }
+
+    private static Long hotelIdOf(Room room) {
+        return room == null || room.getHotel() == null ? null : room.getHotel().getId();
+    }
+}
@@ -0,0 +1,309 @@
+package com.nathangtg.hotel_management.services.live;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process fan-out of {@link LiveEvent}s to Server-Sent Event subscribers, one set per
+ * hotel. An idle subscriber is only its emitter and an empty queue: no thread is held
+ * while nothing is sent. Each subscriber is drained on a virtual thread of its own when
+ * events arrive, so a slow client only delays itself.
+ *
+ * <p>Queues hold at most {@code live.buffer-size} events. Room availability and booking
+ * updates replace a queued event for the same room or booking. A subscriber that still
+ * falls that far behind loses its queue and gets a {@code reset} event instead, telling it
+ * to reload. The last {@code live.replay-size} events are kept so a reconnecting client
+ * is sent what it missed after its {@code Last-Event-ID}, or a {@code reset} when that is
+ * no longer available.
+ */
+@Service
+public class LiveEventHub {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveEventHub.class);
+
+    private final Executor executor;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // Guarded by this: recent events, and the version after which none are missing
+    private final ArrayDeque<LiveEvent> recent = new ArrayDeque<>();
+    private long completeAfter;
+
+    @Value("${live.buffer-size:256}")
+    private int bufferSize = 256;
+
+    @Value("${live.replay-size:1000}")
+    private int replaySize = 1000;
+
+    @Value("${live.max-subscribers:10000}")
+    private int maxSubscribers = 10_000;
+
+    // Connections are closed after this long; EventSource clients reconnect with Last-Event-ID
+    @Value("${live.timeout-ms:1800000}")
+    private long timeoutMillis = 1_800_000;
+
+    @Value("${live.retry-ms:3000}")
+    private long retryMillis = 3_000;
+
+    public LiveEventHub() {
+        this(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("live-events-", 0).factory()));
+    }
+
+    LiveEventHub(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Opens a stream of the hotel's events after {@code lastEventId}, or from now when it is
+     * null. Returns null when {@code live.max-subscribers} streams are already open.
+     */
+    public SseEmitter subscribe(Long hotelId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        return subscribe(emitter, hotelId, lastEventId) ? emitter : null;
+    }
+
+    boolean subscribe(SseEmitter emitter, Long hotelId, Long lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return false;
+        }
+        Subscriber subscriber = new Subscriber(emitter, hotelId);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscriber.offer(Subscriber.CONNECTED);
+        // Replay and registration happen under the publish lock so no event falls between them
+        synchronized (this) {
+            if (lastEventId != null) {
+                if (lastEventId < completeAfter) {
+                    subscriber.offer(LiveEvent.reset(completeAfter, hotelId));
+                } else {
+                    subscriber.after = lastEventId;
+                    for (LiveEvent event : recent) {
+                        if (hotelId.equals(event.getHotelId())) {
+                            subscriber.offer(event);
+                        }
+                    }
+                }
+            }
+            subscribers.compute(hotelId, (id, hotelSubscribers) -> {
+                Set<Subscriber> updated = hotelSubscribers != null ? hotelSubscribers : ConcurrentHashMap.newKeySet();
+                updated.add(subscriber);
+                return updated;
+            });
+        }
+        if (subscriber.closed) {
+            subscriber.unregister(); // Its first write failed before it was registered
+        }
+        return true;
+    }
+
+    public boolean hasSubscribers() {
+        return subscriberCount.get() > 0;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Sends events read from the change log to the subscribers of their hotels and keeps
+     * them for replay.
+     */
+    public synchronized void publish(List<LiveEvent> events) {
+        for (LiveEvent event : events) {
+            recent.addLast(event);
+            Set<Subscriber> hotelSubscribers = subscribers.get(event.getHotelId());
+            if (hotelSubscribers != null) {
+                for (Subscriber subscriber : hotelSubscribers) {
+                    subscriber.offer(event);
+                }
+            }
+        }
+        while (recent.size() > replaySize) {
+            completeAfter = recent.removeFirst().getId();
+        }
+    }
+
+    /**
+     * Records that changes up to {@code version} were skipped unread, while nobody was
+     * subscribed; clients resuming from before it are sent a reset.
+     */
+    public synchronized void skipTo(long version) {
+        recent.clear();
+        completeAfter = Math.max(completeAfter, version);
+    }
+
+    // Comment line that keeps proxies from closing idle streams and finds dead connections
+    @Scheduled(fixedDelayString = "${live.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> hotelSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : hotelSubscribers) {
+                subscriber.offerHeartbeat();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscriber> hotelSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : hotelSubscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    void setReplaySize(int replaySize) {
+        this.replaySize = replaySize;
+    }
+
+    void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    private final class Subscriber {
+
+        static final LiveEvent CONNECTED = new LiveEvent(-1, "connected", null, null, null);
+        static final LiveEvent HEARTBEAT = new LiveEvent(-1, "heartbeat", null, null, null);
+
+        private final SseEmitter emitter;
+        private final Long hotelId;
+
+        // Guarded by queue
+        private final ArrayDeque<LiveEvent> queue = new ArrayDeque<>();
+        private long after = -1;
+        private boolean draining;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, Long hotelId) {
+            this.emitter = emitter;
+            this.hotelId = hotelId;
+        }
+
+        void offer(LiveEvent event) {
+            synchronized (queue) {
+                if (closed || (event.getId() >= 0 && event.getId() <= after)) {
+                    return;
+                }
+                if (event.getCoalesceKey() != null) {
+                    removeQueued(event.getCoalesceKey());
+                }
+                if (queue.size() >= bufferSize) {
+                    // Too far behind to catch up event by event
+                    queue.clear();
+                    queue.addLast(LiveEvent.reset(event.getId(), hotelId));
+                } else {
+                    queue.addLast(event);
+                }
+                if (event.getId() >= 0) {
+                    after = event.getId();
+                }
+                scheduleDrain();
+            }
+        }
+
+        void offerHeartbeat() {
+            synchronized (queue) {
+                if (!closed && queue.isEmpty() && !draining) {
+                    queue.addLast(HEARTBEAT);
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private void removeQueued(String coalesceKey) {
+            Iterator<LiveEvent> queued = queue.iterator();
+            while (queued.hasNext()) {
+                if (coalesceKey.equals(queued.next().getCoalesceKey())) {
+                    queued.remove();
+                    return;
+                }
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining) {
+                draining = true;
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                LiveEvent event;
+                synchronized (queue) {
+                    event = queue.pollFirst();
+                    if (event == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(toSse(event));
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Dropping live event subscriber for hotel {}: {}", hotelId, e.getMessage());
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toSse(LiveEvent event) {
+            if (event == CONNECTED) {
+                return SseEmitter.event().comment("connected").reconnectTime(retryMillis);
+            }
+            if (event == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder sse = SseEmitter.event().id(Long.toString(event.getId())).name(event.getType());
+            return sse.data(event.getData() == null ? "{}" : event.getData(), MediaType.APPLICATION_JSON);
+        }
+
+        void close() {
+            synchronized (queue) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            unregister();
+            subscriberCount.decrementAndGet();
+        }
+
+        void unregister() {
+            subscribers.computeIfPresent(hotelId, (id, hotelSubscribers) -> {
+                hotelSubscribers.remove(this);
+                return hotelSubscribers.isEmpty() ? null : hotelSubscribers;
+            });
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.nathangtg.hotel_management.services.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+
+/**
+ * Local-disk snapshot of the hotel catalog behind the search indexes, so a new node does
+ * not read the whole hotels table before it can serve search from memory.
+ *
+ * <p>The snapshot is a checksummed binary file holding every hotel and the highest
+ * {@code updatedAt} seen (the watermark). On startup it is memory-mapped and decoded,
+ * then brought up to date with a delta query for rows changed since the watermark plus
+ * an id-only query to drop deleted hotels. A missing or damaged file falls back to the
+ * full read. The same catch-up runs periodically, keeping the indexes in step with
+ * writes made through other nodes, and rewrites the file.
+ */
+@Component
+public class HotelCatalogSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelCatalogSnapshot.class);
+
+    static final int MAGIC = 0x48434154;  // "HCAT"
+    static final short FORMAT_VERSION = 1;
+
+    // updatedAt is stamped before commit, so a row committed just after a catch-up can
+    // carry a stamp below the watermark; re-reading a short overlap catches it
+    static final long CATCH_UP_OVERLAP_MILLIS = 60_000;
+
+    private static final long NO_VALUE = Long.MIN_VALUE;
+
+    private final HotelRepository hotelRepository;
+    private final HotelSearchIndex hotelSearchIndex;
+    private final HotelGeoIndex hotelGeoIndex;
+    private final Map<Long, Hotel> catalog = new ConcurrentHashMap<>();
+    private long watermark = NO_VALUE;
+    private boolean loaded;
+
+    @Value("${catalog.snapshot.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${catalog.snapshot.path:${java.io.tmpdir}/hotel-management/catalog.snapshot}")
+    private String path;
+
+    @Autowired
+    public HotelCatalogSnapshot(HotelRepository hotelRepository, HotelSearchIndex hotelSearchIndex,
+                                HotelGeoIndex hotelGeoIndex) {
+        this.hotelRepository = hotelRepository;
+        this.hotelSearchIndex = hotelSearchIndex;
+        this.hotelGeoIndex = hotelGeoIndex;
+    }
+
+    /**
+     * Returns the current catalog, from the snapshot plus a delta when one is usable and
+     * from a full read otherwise, and writes a fresh snapshot.
+     */
+    public synchronized List<Hotel> load() {
+        if (!enabled) {
+            return hotelRepository.findAll();
+        }
+        long started = System.nanoTime();
+        Path file = Path.of(path);
+        Snapshot snapshot = read(file);
+        catalog.clear();
+        String source;
+        if (snapshot == null) {
+            List<Hotel> hotels = hotelRepository.findAll();
+            hotels.forEach(this::track);
+            watermark = maxUpdatedAt(hotels);
+            source = "database";
+        } else {
+            snapshot.hotels.forEach(this::track);
+            watermark = snapshot.watermark;
+            int changed = catchUp(false);
+            source = "snapshot (+" + changed + " changed)";
+        }
+        loaded = true;
+        write(file);
+        log.info("Hotel catalog loaded from {} with {} hotels in {} ms",
+            source, catalog.size(), (System.nanoTime() - started) / 1_000_000);
+        return new ArrayList<>(catalog.values());
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.snapshot.interval-ms:300000}",
+        initialDelayString = "${catalog.snapshot.interval-ms:300000}")
+    public synchronized void refresh() {
+        if (!enabled || !loaded) {
+            return;
+        }
+        if (catchUp(true) > 0) {
+            write(Path.of(path));
+        }
+    }
+
+    /**
+     * Applies rows changed since the watermark and drops hotels that no longer exist.
+     *
+     * @return the number of hotels added, changed or removed
+     */
+    private int catchUp(boolean applyToIndexes) {
+        long since = watermark == NO_VALUE ? NO_VALUE : watermark - CATCH_UP_OVERLAP_MILLIS;
+        int changed = 0;
+        for (Hotel hotel : hotelRepository.findChangedSince(since)) {
+            track(hotel);
+            if (hotel.getUpdatedAt() != null) {
+                watermark = Math.max(watermark, hotel.getUpdatedAt());
+            }
+            if (applyToIndexes) {
+                hotelSearchIndex.index(hotel);
+                hotelGeoIndex.index(hotel);
+            }
+            changed++;
+        }
+
+        Set<Long> existing = new HashSet<>(hotelRepository.findAllIds());
+        List<Long> removed = catalog.keySet().stream().filter(id -> !existing.contains(id)).toList();
+        for (Long id : removed) {
+            catalog.remove(id);
+            if (applyToIndexes) {
+                hotelSearchIndex.remove(id);
+                hotelGeoIndex.remove(id);
+            }
+        }
+        return changed + removed.size();
+    }
+
+    private void track(Hotel hotel) {
+        if (hotel.getId() != null) {
+            catalog.put(hotel.getId(), hotel);
+        }
+    }
+
+    private static long maxUpdatedAt(Collection<Hotel> hotels) {
+        return hotels.stream()
+            .map(Hotel::getUpdatedAt)
+            .filter(updatedAt -> updatedAt != null)
+            .mapToLong(Long::longValue)
+            .max()
+            .orElse(NO_VALUE);
+    }
+
+    private void write(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, encode(catalog.values(), watermark));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write hotel catalog snapshot to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Snapshot read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable hotel catalog snapshot {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /*
+     * Layout: magic, format version, watermark, hotel count, the hotels, then a CRC32 of
+     * everything before it. Strings are length-prefixed UTF-8 (-1 for null), missing
+     * stamps are Long.MIN_VALUE and missing coordinates NaN.
+     */
+    static byte[] encode(Collection<Hotel> hotels, long watermark) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + hotels.size() * 160);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeLong(watermark);
+        out.writeInt(hotels.size());
+        for (Hotel hotel : hotels) {
+            out.writeLong(hotel.getId());
+            out.writeLong(hotel.getCreatedAt() == null ? NO_VALUE : hotel.getCreatedAt());
+            out.writeLong(hotel.getUpdatedAt() == null ? NO_VALUE : hotel.getUpdatedAt());
+            writeString(out, hotel.getName());
+            writeString(out, hotel.getAddress());
+            writeString(out, hotel.getPhone());
+            writeString(out, hotel.getEmail());
+            out.writeDouble(hotel.getLatitude() == null ? Double.NaN : hotel.getLatitude());
+            out.writeDouble(hotel.getLongitude() == null ? Double.NaN : hotel.getLongitude());
+        }
+        out.flush();
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    static Snapshot decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Long.BYTES) {
+            throw new IllegalArgumentException("snapshot truncated");
+        }
+        ByteBuffer body = buffer.slice(buffer.position(), buffer.remaining() - Long.BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if (crc.getValue() != buffer.getLong(buffer.limit() - Long.BYTES)) {
+            throw new IllegalArgumentException("snapshot checksum mismatch");
+        }
+        try {
+            if (body.getInt() != MAGIC || body.getShort() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("not a hotel catalog snapshot of this version");
+            }
+            long watermark = body.getLong();
+            int count = body.getInt();
+            List<Hotel> hotels = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Hotel hotel = new Hotel();
+                hotel.setId(body.getLong());
+                hotel.setCreatedAt(optional(body.getLong()));
+                hotel.setUpdatedAt(optional(body.getLong()));
+                hotel.setName(readString(body));
+                hotel.setAddress(readString(body));
+                hotel.setPhone(readString(body));
+                hotel.setEmail(readString(body));
+                double latitude = body.getDouble();
+                double longitude = body.getDouble();
+                hotel.setLatitude(Double.isNaN(latitude) ? null : latitude);
+                hotel.setLongitude(Double.isNaN(longitude) ? null : longitude);
+                hotels.add(hotel);
+            }
+            return new Snapshot(watermark, hotels);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("snapshot truncated", e);
+        }
+    }
+
+    private static Long optional(long value) {
+        return value == NO_VALUE ? null : value;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    void setPath(String path) {
+        this.path = path;
+    }
+
+    static final class Snapshot {
+
+        final long watermark;
+        final List<Hotel> hotels;
+
+        Snapshot(long watermark, List<Hotel> hotels) {
+            this.watermark = watermark;
+            this.hotels = hotels;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.nathangtg.hotel_management.services.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.nathangtg.hotel_management.api.dto.HotelDistanceResult;
+import com.nathangtg.hotel_management.api.models.Hotel;
+
+/**
+ * Fixed-resolution latitude/longitude grid over hotel coordinates. A radius query only
+ * visits the cells overlapping the search circle's bounding box and computes exact
+ * haversine distances for the hotels found there.
+ */
+@Component
+public class HotelGeoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelGeoIndex.class);
+
+    static final double CELL_DEGREES = 0.25;
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double KM_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_KM / 180.0;
+    private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+
+    public synchronized void index(Hotel hotel) {
+        if (hotel == null || hotel.getId() == null) {
+            return;
+        }
+        remove(hotel.getId());
+        if (hotel.getLatitude() == null || hotel.getLongitude() == null) {
+            return;
+        }
+        Point point = new Point(hotel.getId(), hotel.getName(), hotel.getAddress(),
+            hotel.getLatitude(), hotel.getLongitude());
+        points.put(point.id, point);
+        cells.computeIfAbsent(cellOf(point.latitude, point.longitude), key -> ConcurrentHashMap.newKeySet())
+            .add(point.id);
+    }
+
+    public synchronized void remove(Long hotelId) {
+        Point previous = points.remove(hotelId);
+        if (previous != null) {
+            cells.computeIfPresent(cellOf(previous.latitude, previous.longitude), (key, ids) -> {
+                ids.remove(hotelId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public synchronized void rebuild(Collection<Hotel> hotels) {
+        cells.clear();
+        points.clear();
+        hotels.forEach(this::index);
+        log.info("Hotel geo index rebuilt with {} located hotels", points.size());
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * Hotels within {@code radiusKm} of the given point, nearest first. Callers apply their
+     * own limit so that further filtering (e.g. availability) can happen before truncation.
+     */
+    public List<HotelDistanceResult> within(double latitude, double longitude, double radiusKm) {
+        double latSpan = radiusKm / KM_PER_DEGREE_LAT;
+        int minRow = row(Math.max(-90, latitude - latSpan));
+        int maxRow = row(Math.min(90, latitude + latSpan));
+
+        // Columns shrink towards the poles; past the widest latitude in range, scan every column
+        double widestLat = Math.min(90, Math.max(Math.abs(latitude - latSpan), Math.abs(latitude + latSpan)));
+        double cos = Math.cos(Math.toRadians(widestLat));
+        int columnSpan = cos < 1e-6 ? COLUMNS
+            : (int) Math.ceil(radiusKm / (KM_PER_DEGREE_LAT * cos) / CELL_DEGREES) + 1;
+        int centerColumn = column(longitude);
+
+        List<HotelDistanceResult> results = new ArrayList<>();
+        for (int r = minRow; r <= maxRow; r++) {
+            if (columnSpan * 2 + 1 >= COLUMNS) {
+                for (int c = 0; c < COLUMNS; c++) {
+                    collect(r, c, latitude, longitude, radiusKm, results);
+                }
+            } else {
+                for (int offset = -columnSpan; offset <= columnSpan; offset++) {
+                    collect(r, Math.floorMod(centerColumn + offset, COLUMNS), latitude, longitude, radiusKm, results);
+                }
+            }
+        }
+        results.sort(Comparator.comparingDouble(HotelDistanceResult::getDistanceKm)
+            .thenComparing(HotelDistanceResult::getId));
+        return results;
+    }
+
+    private void collect(int row, int column, double latitude, double longitude, double radiusKm,
+            List<HotelDistanceResult> results) {
+        Set<Long> ids = cells.get(key(row, column));
+        if (ids == null) {
+            return;
+        }
+        for (Long id : ids) {
+            Point point = points.get(id);
+            if (point == null) {
+                continue;
+            }
+            double distance = haversineKm(latitude, longitude, point.latitude, point.longitude);
+            if (distance <= radiusKm) {
+                results.add(new HotelDistanceResult(point.id, point.name, point.address,
+                    point.latitude, point.longitude, distance));
+            }
+        }
+    }
+
+    static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static long cellOf(double latitude, double longitude) {
+        return key(row(latitude), column(longitude));
+    }
+
+    private static int row(double latitude) {
+        return Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    private static final class Point {
+
+        private final Long id;
+        private final String name;
+        private final String address;
+        private final double latitude;
+        private final double longitude;
+
+        private Point(Long id, String name, String address, double latitude, double longitude) {
+            this.id = id;
+            this.name = name;
+            this.address = address;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
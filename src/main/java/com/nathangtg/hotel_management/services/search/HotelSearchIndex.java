@@ -0,0 +1,264 @@
+package com.nathangtg.hotel_management.services.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.nathangtg.hotel_management.api.dto.HotelSearchResult;
+import com.nathangtg.hotel_management.api.models.Hotel;
+
+/**
+ * In-process inverted index over hotel names and addresses for prefix-as-you-type search.
+ *
+ * <p>Every token is accent-folded, lower-cased and indexed under all of its leading
+ * n-grams (up to {@link #MAX_GRAM} characters), so a partially typed word is a single
+ * hash lookup. Reads are lock-free; writers are serialized on the index monitor.
+ */
+@Component
+public class HotelSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(HotelSearchIndex.class);
+
+    static final int MAX_GRAM = 12;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final double NAME_EXACT = 4.0;
+    private static final double NAME_PREFIX = 2.5;
+    private static final double ADDRESS_EXACT = 1.5;
+    private static final double ADDRESS_PREFIX = 1.0;
+    private static final double LEADING_NAME_BONUS = 1.0;
+
+    private volatile Segment segment = new Segment();
+
+    // Non-null while a rebuild is reading from the database; writes are replayed onto the new segment
+    private List<Consumer<Segment>> pendingDuringRebuild;
+
+    public synchronized void index(Hotel hotel) {
+        if (hotel == null || hotel.getId() == null) {
+            return;
+        }
+        Document document = Document.of(hotel);
+        segment.put(document);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(target -> target.put(document));
+        }
+    }
+
+    public synchronized void remove(Long hotelId) {
+        segment.remove(hotelId);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(target -> target.remove(hotelId));
+        }
+    }
+
+    /**
+     * Replaces the index with one built from {@code hotels}. Tokenization runs in parallel;
+     * writes that arrive while it runs are replayed before the new segment is published.
+     */
+    public void rebuild(Collection<Hotel> hotels) {
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        long started = System.nanoTime();
+        List<Document> documents = hotels.parallelStream()
+            .filter(hotel -> hotel.getId() != null)
+            .map(Document::of)
+            .toList();
+
+        Segment rebuilt = new Segment();
+        documents.parallelStream().forEach(rebuilt::put);
+
+        synchronized (this) {
+            pendingDuringRebuild.forEach(write -> write.accept(rebuilt));
+            pendingDuringRebuild = null;
+            segment = rebuilt;
+        }
+        log.info("Hotel search index rebuilt with {} hotels in {} ms",
+            documents.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public int size() {
+        return segment.documents.size();
+    }
+
+    /**
+     * Returns hotels whose name or address contains a word starting with every query term,
+     * best matches first. The last term is typically still being typed.
+     */
+    public List<HotelSearchResult> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Segment current = segment;
+
+        Set<Long> candidates = null;
+        for (String term : terms) {
+            Set<Long> posting = current.postings.get(gram(term));
+            if (posting == null || posting.isEmpty()) {
+                return List.of();
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(posting);
+            } else {
+                candidates.retainAll(posting);
+            }
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<HotelSearchResult> results = new ArrayList<>(candidates.size());
+        for (Long id : candidates) {
+            Document document = current.documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            double score = document.score(terms);
+            if (score > 0) {
+                results.add(new HotelSearchResult(id, document.name, document.address, score));
+            }
+        }
+        results.sort(Comparator.comparingDouble(HotelSearchResult::getScore).reversed()
+            .thenComparing(result -> result.getName().length())
+            .thenComparing(HotelSearchResult::getId));
+        return results.size() > limit ? results.subList(0, limit) : results;
+    }
+
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String gram(String term) {
+        return term.length() > MAX_GRAM ? term.substring(0, MAX_GRAM) : term;
+    }
+
+    private static final class Segment {
+
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        void put(Document document) {
+            Document previous = documents.put(document.id, document);
+            if (previous != null) {
+                unlink(previous);
+            }
+            for (String gram : document.grams) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.id);
+            }
+        }
+
+        void remove(Long id) {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                unlink(previous);
+            }
+        }
+
+        private void unlink(Document document) {
+            for (String gram : document.grams) {
+                postings.computeIfPresent(gram, (key, ids) -> {
+                    ids.remove(document.id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    private static final class Document {
+
+        private final Long id;
+        private final String name;
+        private final String address;
+        private final List<String> nameTokens;
+        private final List<String> addressTokens;
+        private final Set<String> grams;
+
+        private Document(Long id, String name, String address) {
+            this.id = id;
+            this.name = name;
+            this.address = address;
+            this.nameTokens = tokenize(name);
+            this.addressTokens = tokenize(address);
+            this.grams = new HashSet<>();
+            addGrams(nameTokens);
+            addGrams(addressTokens);
+        }
+
+        static Document of(Hotel hotel) {
+            return new Document(hotel.getId(), hotel.getName(), hotel.getAddress());
+        }
+
+        private void addGrams(List<String> tokens) {
+            for (String token : tokens) {
+                int longest = Math.min(token.length(), MAX_GRAM);
+                for (int length = 1; length <= longest; length++) {
+                    grams.add(token.substring(0, length));
+                }
+            }
+        }
+
+        /**
+         * Sums, per query term, the best field match; the n-gram posting only guarantees
+         * the first {@link #MAX_GRAM} characters, so longer terms are verified here.
+         */
+        double score(List<String> terms) {
+            double total = 0;
+            for (String term : terms) {
+                double best = Math.max(
+                    bestMatch(nameTokens, term, NAME_EXACT, NAME_PREFIX),
+                    bestMatch(addressTokens, term, ADDRESS_EXACT, ADDRESS_PREFIX));
+                if (best == 0) {
+                    return 0;
+                }
+                total += best;
+            }
+            if (!nameTokens.isEmpty() && nameTokens.get(0).startsWith(terms.get(0))) {
+                total += LEADING_NAME_BONUS;
+            }
+            return total;
+        }
+
+        private static double bestMatch(List<String> tokens, String term, double exact, double prefix) {
+            double best = 0;
+            for (String token : tokens) {
+                if (token.equals(term)) {
+                    return exact;
+                }
+                if (token.startsWith(term)) {
+                    best = prefix;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.nathangtg.hotel_management.services.warmup;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.nathangtg.hotel_management.api.dto.BookingSearchCriteria;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.HotelService;
+import com.nathangtg.hotel_management.services.RoomService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Warms the application up after a cold start, before it takes traffic. In parallel on a
+ * small pool it rebuilds the hotel search indexes, reads every hotel's rooms and the
+ * upcoming booking window (filling the database buffer pool and Hibernate's query plan
+ * cache), and drives the hot request paths with synthetic calls so the JIT has compiled
+ * them by the time real users arrive.
+ *
+ * Spring Boot only reports readiness ACCEPTING_TRAFFIC once the ApplicationReadyEvent
+ * listeners have returned, so the readiness probe stays DOWN until warm-up completes or
+ * times out. The duration is recorded as the {@code startup.warmup} timer.
+ */
+@Component
+public class StartupWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    static final String TIMER_NAME = "startup.warmup";
+
+    private final HotelService hotelService;
+    private final RoomService roomService;
+    private final BookingService bookingService;
+    private final HotelRepository hotelRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${warmup.threads:4}")
+    private int threads = 4;
+
+    @Value("${warmup.timeout-seconds:60}")
+    private long timeoutSeconds = 60;
+
+    @Value("${warmup.booking-window-days:14}")
+    private int bookingWindowDays = 14;
+
+    @Value("${warmup.jit-iterations:100}")
+    private int jitIterations = 100;
+
+    @Autowired
+    public StartupWarmup(HotelService hotelService, RoomService roomService, BookingService bookingService,
+                         HotelRepository hotelRepository, ApplicationEventPublisher eventPublisher,
+                         MeterRegistry meterRegistry) {
+        this(hotelService, roomService, bookingService, hotelRepository, eventPublisher, meterRegistry,
+            Clock.systemUTC());
+    }
+
+    StartupWarmup(HotelService hotelService, RoomService roomService, BookingService bookingService,
+                  HotelRepository hotelRepository, ApplicationEventPublisher eventPublisher,
+                  MeterRegistry meterRegistry, Clock clock) {
+        this.hotelService = hotelService;
+        this.roomService = roomService;
+        this.bookingService = bookingService;
+        this.hotelRepository = hotelRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            // The search indexes are not optional, only the rest of the warm-up is
+            hotelService.rebuildSearchIndexes();
+            return;
+        }
+        warmUp();
+    }
+
+    /**
+     * Runs the warm-up tasks and waits for them up to the timeout; tasks still running
+     * then are interrupted. A failing task is logged and does not stop the others.
+     *
+     * @return the outcome also used as the timer's tag: completed, failed or timeout
+     */
+    String warmUp() {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        String outcome = "completed";
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads), daemon("startup-warmup"));
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            tasks.add(pool.submit(this::loadHotels));
+            tasks.add(pool.submit(this::loadBookingWindow));
+            tasks.add(pool.submit(this::primeSearchPaths));
+            for (Long hotelId : hotelRepository.findAllIds()) {
+                tasks.add(pool.submit(() -> roomService.getRoomsByHotelId(hotelId)));
+            }
+            for (Future<?> task : tasks) {
+                try {
+                    task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    outcome = "failed";
+                    log.warn("Warm-up task failed: {}", e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            log.warn("Warm-up did not finish within {} s, taking traffic anyway", timeoutSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "timeout";
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            log.warn("Warm-up failed: {}", e.getMessage(), e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - started;
+        Timer.builder(TIMER_NAME)
+            .description("Warm-up time between application ready and accepting traffic")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up {} in {} ms", outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return outcome;
+    }
+
+    // Indexes first, then the in-memory search paths that read them
+    private void loadHotels() {
+        List<Hotel> hotels = hotelService.rebuildSearchIndexes();
+        if (hotels.isEmpty()) {
+            return;
+        }
+        Hotel sample = hotels.get(0);
+        String term = sample.getName() == null ? "hotel" : sample.getName();
+        for (int i = 0; i < jitIterations && !Thread.currentThread().isInterrupted(); i++) {
+            hotelService.searchHotels(term, 10);
+            if (sample.getLatitude() != null && sample.getLongitude() != null) {
+                hotelService.findHotelsNearby(sample.getLatitude(), sample.getLongitude(), 25, null, null, 10);
+            }
+        }
+    }
+
+    private void loadBookingWindow() {
+        LocalDate today = LocalDate.now(clock);
+        bookingService.getBookingsByDateRange(today, today.plusDays(bookingWindowDays));
+    }
+
+    // Keyset searches build specifications and run through Hibernate on every request
+    private void primeSearchPaths() {
+        for (int i = 0; i < jitIterations && !Thread.currentThread().isInterrupted(); i++) {
+            roomService.searchRooms(new RoomSearchCriteria());
+            bookingService.searchBookings(new BookingSearchCriteria());
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    void setTimeoutSeconds(long timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    void setJitIterations(int jitIterations) {
+        this.jitIterations = jitIterations;
+    }
+}
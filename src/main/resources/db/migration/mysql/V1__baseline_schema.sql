@@ -0,0 +1,181 @@
+-- Schema as it stood before V2. On an empty database every table is created here; on a
+-- database whose tables Hibernate created (Flyway baselines those at version 0, see
+-- application.properties) only the tables, columns and indexes still missing are
+-- added. Status and role are still names at this point; V2 turns them into codes.
+
+CREATE TABLE IF NOT EXISTS hotels (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    latitude DOUBLE,
+    longitude DOUBLE,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    phone VARCHAR(20),
+    address VARCHAR(255),
+    role VARCHAR(255) NOT NULL,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    room_number VARCHAR(255) NOT NULL,
+    room_type VARCHAR(255) NOT NULL,
+    price_per_night DECIMAL(10,2) NOT NULL,
+    capacity INTEGER NOT NULL,
+    is_available BIT NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_rooms_room_number UNIQUE (room_number),
+    CONSTRAINT fk_rooms_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS bookings (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    total_price DECIMAL(10,2) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    hold_expires_at DATETIME(6),
+    user_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_bookings_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_bookings_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS managements (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    hotel_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_managements_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id),
+    CONSTRAINT fk_managements_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS hotel_daily_stats (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    hotel_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    rooms_sold INTEGER NOT NULL,
+    revenue DECIMAL(12,2) NOT NULL,
+    cancellations INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_hotel_daily_stats_hotel_date UNIQUE (hotel_id, stat_date)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS booking_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    booking_id BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload MEDIUMTEXT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    available_at DATETIME(6) NOT NULL,
+    processed_at DATETIME(6),
+    last_error VARCHAR(1000),
+    PRIMARY KEY (id),
+    INDEX idx_booking_outbox_status_available (status, available_at, id),
+    INDEX idx_booking_outbox_booking (booking_id, status, id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS job_leases (
+    job_name VARCHAR(100) NOT NULL,
+    owner VARCHAR(200) NOT NULL,
+    lease_until DATETIME(6) NOT NULL,
+    PRIMARY KEY (job_name)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS bookings_archive (
+    id BIGINT NOT NULL,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    total_price DECIMAL(10,2) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    hotel_id BIGINT,
+    hold_expires_at DATETIME(6),
+    created_at BIGINT,
+    updated_at BIGINT,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_bookings_archive_check_in (check_in_date),
+    INDEX idx_bookings_archive_user_check_in (user_id, check_in_date),
+    INDEX idx_bookings_archive_room_check_in (room_id, check_in_date),
+    INDEX idx_bookings_archive_hotel (hotel_id)
+) ENGINE=InnoDB;
+
+-- Columns and indexes added to tables that may predate this migration. MySQL has no
+-- IF NOT EXISTS for either, so they go through information_schema checks.
+DROP PROCEDURE IF EXISTS baseline_add_column;
+DROP PROCEDURE IF EXISTS baseline_add_index;
+
+DELIMITER //
+
+CREATE PROCEDURE baseline_add_column(IN table_name_ VARCHAR(64), IN column_name_ VARCHAR(64),
+                                     IN definition_ VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = DATABASE() AND table_name = table_name_
+                     AND column_name = column_name_) THEN
+        SET @stmt = CONCAT('ALTER TABLE ', table_name_, ' ADD COLUMN ', column_name_, ' ', definition_);
+        PREPARE add_column FROM @stmt;
+        EXECUTE add_column;
+        DEALLOCATE PREPARE add_column;
+    END IF;
+END //
+
+CREATE PROCEDURE baseline_add_index(IN table_name_ VARCHAR(64), IN index_name_ VARCHAR(64),
+                                    IN columns_ VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = table_name_
+                     AND index_name = index_name_) THEN
+        SET @stmt = CONCAT('CREATE INDEX ', index_name_, ' ON ', table_name_, ' (', columns_, ')');
+        PREPARE add_index FROM @stmt;
+        EXECUTE add_index;
+        DEALLOCATE PREPARE add_index;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL baseline_add_column('hotels', 'latitude', 'DOUBLE');
+CALL baseline_add_column('hotels', 'longitude', 'DOUBLE');
+CALL baseline_add_column('bookings', 'hold_expires_at', 'DATETIME(6)');
+
+CALL baseline_add_index('bookings', 'idx_bookings_room_dates', 'room_id, check_in_date, check_out_date, status');
+CALL baseline_add_index('bookings', 'idx_bookings_status_check_in', 'status, check_in_date');
+CALL baseline_add_index('bookings', 'idx_bookings_user_check_in', 'user_id, check_in_date');
+CALL baseline_add_index('bookings', 'idx_bookings_check_out', 'check_out_date');
+CALL baseline_add_index('bookings', 'idx_bookings_status_check_out', 'status, check_out_date');
+CALL baseline_add_index('bookings', 'idx_bookings_created_at', 'created_at');
+CALL baseline_add_index('bookings', 'idx_bookings_status_hold_expiry', 'status, hold_expires_at');
+CALL baseline_add_index('rooms', 'idx_rooms_hotel_type_price', 'hotel_id, room_type, price_per_night');
+CALL baseline_add_index('rooms', 'idx_rooms_hotel_price', 'hotel_id, price_per_night');
+CALL baseline_add_index('rooms', 'idx_rooms_hotel_capacity', 'hotel_id, capacity');
+
+DROP PROCEDURE baseline_add_column;
+DROP PROCEDURE baseline_add_index;
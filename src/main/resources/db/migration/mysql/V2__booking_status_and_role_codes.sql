@@ -0,0 +1,43 @@
+-- Booking status and user role are stored as smallint codes (see BookingStatus and Role)
+-- instead of their names. Names are rewritten to codes in place and the columns narrowed;
+-- MySQL rebuilds the indexes that include status. An unknown value makes the ALTER fail
+-- rather than being silently mapped.
+
+UPDATE bookings SET status = CASE status
+    WHEN 'PENDING' THEN '1'
+    WHEN 'CONFIRMED' THEN '2'
+    WHEN 'CHECKED_IN' THEN '3'
+    WHEN 'CHECKED_OUT' THEN '4'
+    WHEN 'NO_SHOW' THEN '5'
+    WHEN 'CANCELLED' THEN '6'
+    WHEN 'REJECTED' THEN '7'
+    WHEN 'EXPIRED' THEN '8'
+    ELSE status END;
+
+ALTER TABLE bookings MODIFY status SMALLINT NOT NULL;
+
+UPDATE users SET role = CASE UPPER(role)
+    WHEN 'USER' THEN '1'
+    WHEN 'STAFF' THEN '2'
+    WHEN 'ADMIN' THEN '3'
+    ELSE role END;
+
+ALTER TABLE users MODIFY role SMALLINT NOT NULL;
+
+-- bookings_archive only exists where the archive job has already been deployed
+SET @archive_exists = (SELECT COUNT(*) FROM information_schema.tables
+    WHERE table_schema = DATABASE() AND table_name = 'bookings_archive');
+
+SET @stmt = IF(@archive_exists > 0,
+    'UPDATE bookings_archive SET status = CASE status
+        WHEN ''CHECKED_OUT'' THEN ''4'' WHEN ''NO_SHOW'' THEN ''5'' WHEN ''CANCELLED'' THEN ''6''
+        WHEN ''REJECTED'' THEN ''7'' WHEN ''EXPIRED'' THEN ''8'' ELSE status END',
+    'DO 0');
+PREPARE archive_update FROM @stmt;
+EXECUTE archive_update;
+DEALLOCATE PREPARE archive_update;
+
+SET @stmt = IF(@archive_exists > 0, 'ALTER TABLE bookings_archive MODIFY status SMALLINT NOT NULL', 'DO 0');
+PREPARE archive_alter FROM @stmt;
+EXECUTE archive_alter;
+DEALLOCATE PREPARE archive_alter;
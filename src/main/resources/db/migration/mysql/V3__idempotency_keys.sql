@@ -0,0 +1,14 @@
+-- Stored outcomes of booking requests sent with an Idempotency-Key (see IdempotencyKey).
+-- Rows are keyed by a SHA-256 hex digest and removed in batches once expires_at passes.
+
+CREATE TABLE idempotency_keys (
+    key_hash VARCHAR(64) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status SMALLINT NOT NULL,
+    location VARCHAR(255),
+    body LONGBLOB,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (key_hash)
+);
+
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
@@ -0,0 +1,14 @@
+-- Change log behind GET /api/changes (see ChangeLogEntry). The id is the change version;
+-- entries superseded by a later one for the same entity are compacted away.
+
+CREATE TABLE change_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(16) NOT NULL,
+    changed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_change_log_entity ON change_log (entity_type, entity_id, id);
+CREATE INDEX idx_change_log_changed_at ON change_log (changed_at);
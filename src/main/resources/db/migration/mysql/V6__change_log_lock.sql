@@ -0,0 +1,10 @@
+-- Row locked by every transaction just before it appends change log entries, so entry ids
+-- are handed out in commit order (see ChangeLogService).
+
+CREATE TABLE change_log_lock (
+    id INTEGER NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO change_log_lock (id, locked_at) VALUES (1, CURRENT_TIMESTAMP(6));
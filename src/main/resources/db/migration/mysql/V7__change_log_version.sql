@@ -0,0 +1,9 @@
+-- Change versions are assigned after commit by ChangeLogService.assignVersions instead of
+-- taken from the id under a lock every writer held; change_log_lock is now only locked by
+-- that pass. Entries written before this migration keep their id as their version.
+
+ALTER TABLE change_log ADD COLUMN version BIGINT NULL;
+
+UPDATE change_log SET version = id;
+
+CREATE UNIQUE INDEX idx_change_log_version ON change_log (version);
@@ -0,0 +1,189 @@
+-- Schema as it stood before V2. On an empty database every table is created here; on a
+-- database whose tables Hibernate created (Flyway baselines those at version 0, see
+-- application.properties) only the tables, columns and indexes still missing are
+-- added. Status and role are still names at this point; V2 turns them into codes.
+
+IF OBJECT_ID('hotels', 'U') IS NULL
+CREATE TABLE hotels (
+    id BIGINT IDENTITY(1,1) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    latitude FLOAT(53),
+    longitude FLOAT(53),
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT,
+    CONSTRAINT pk_hotels PRIMARY KEY (id)
+);
+
+IF OBJECT_ID('users', 'U') IS NULL
+CREATE TABLE users (
+    id BIGINT IDENTITY(1,1) NOT NULL,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    phone VARCHAR(20),
+    address VARCHAR(255),
+    role VARCHAR(255) NOT NULL,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+IF OBJECT_ID('rooms', 'U') IS NULL
+CREATE TABLE rooms (
+    id BIGINT IDENTITY(1,1) NOT NULL,
+    room_number VARCHAR(255) NOT NULL,
+    room_type VARCHAR(255) NOT NULL,
+    price_per_night NUMERIC(10,2) NOT NULL,
+    capacity INT NOT NULL,
+    is_available BIT NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT,
+    CONSTRAINT pk_rooms PRIMARY KEY (id),
+    CONSTRAINT uk_rooms_room_number UNIQUE (room_number),
+    CONSTRAINT fk_rooms_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id)
+);
+
+IF OBJECT_ID('bookings', 'U') IS NULL
+CREATE TABLE bookings (
+    id BIGINT IDENTITY(1,1) NOT NULL,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    total_price NUMERIC(10,2) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    hold_expires_at DATETIMEOFFSET(6),
+    user_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    created_at BIGINT NOT NULL,
+    updated_at BIGINT,
+    CONSTRAINT pk_bookings PRIMARY KEY (id),
+    CONSTRAINT fk_bookings_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_bookings_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+);
+
+IF OBJECT_ID('managements', 'U') IS NULL
+CREATE TABLE managements (
+    id BIGINT IDENTITY(1,1) NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    CONSTRAINT pk_managements PRIMARY KEY (id),
+    CONSTRAINT fk_managements_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id),
+    CONSTRAINT fk_managements_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+IF OBJECT_ID('hotel_daily_stats', 'U') IS NULL
+CREATE TABLE hotel_daily_stats (
+    id BIGINT IDENTITY(1,1) NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    rooms_sold INT NOT NULL,
+    revenue NUMERIC(12,2) NOT NULL,
+    cancellations INT NOT NULL,
+    CONSTRAINT pk_hotel_daily_stats PRIMARY KEY (id),
+    CONSTRAINT uk_hotel_daily_stats_hotel_date UNIQUE (hotel_id, stat_date)
+);
+
+IF OBJECT_ID('booking_outbox', 'U') IS NULL
+CREATE TABLE booking_outbox (
+    id BIGINT IDENTITY(1,1) NOT NULL,
+    booking_id BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload VARCHAR(MAX) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL,
+    created_at DATETIMEOFFSET(6) NOT NULL,
+    available_at DATETIMEOFFSET(6) NOT NULL,
+    processed_at DATETIMEOFFSET(6),
+    last_error VARCHAR(1000),
+    CONSTRAINT pk_booking_outbox PRIMARY KEY (id)
+);
+
+IF OBJECT_ID('job_leases', 'U') IS NULL
+CREATE TABLE job_leases (
+    job_name VARCHAR(100) NOT NULL,
+    owner VARCHAR(200) NOT NULL,
+    lease_until DATETIMEOFFSET(6) NOT NULL,
+    CONSTRAINT pk_job_leases PRIMARY KEY (job_name)
+);
+
+IF OBJECT_ID('bookings_archive', 'U') IS NULL
+CREATE TABLE bookings_archive (
+    id BIGINT NOT NULL,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    total_price NUMERIC(10,2) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    hotel_id BIGINT,
+    hold_expires_at DATETIMEOFFSET(6),
+    created_at BIGINT,
+    updated_at BIGINT,
+    archived_at DATETIMEOFFSET(6) NOT NULL,
+    CONSTRAINT pk_bookings_archive PRIMARY KEY (id)
+);
+
+-- Columns and indexes added to tables that may predate this migration
+IF COL_LENGTH('hotels', 'latitude') IS NULL
+    ALTER TABLE hotels ADD latitude FLOAT(53);
+
+IF COL_LENGTH('hotels', 'longitude') IS NULL
+    ALTER TABLE hotels ADD longitude FLOAT(53);
+
+IF COL_LENGTH('bookings', 'hold_expires_at') IS NULL
+    ALTER TABLE bookings ADD hold_expires_at DATETIMEOFFSET(6);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_room_dates' AND object_id = OBJECT_ID('bookings'))
+    CREATE INDEX idx_bookings_room_dates ON bookings (room_id, check_in_date, check_out_date, status);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_status_check_in' AND object_id = OBJECT_ID('bookings'))
+    CREATE INDEX idx_bookings_status_check_in ON bookings (status, check_in_date);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_user_check_in' AND object_id = OBJECT_ID('bookings'))
+    CREATE INDEX idx_bookings_user_check_in ON bookings (user_id, check_in_date);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_check_out' AND object_id = OBJECT_ID('bookings'))
+    CREATE INDEX idx_bookings_check_out ON bookings (check_out_date);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_status_check_out' AND object_id = OBJECT_ID('bookings'))
+    CREATE INDEX idx_bookings_status_check_out ON bookings (status, check_out_date);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_created_at' AND object_id = OBJECT_ID('bookings'))
+    CREATE INDEX idx_bookings_created_at ON bookings (created_at);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_status_hold_expiry' AND object_id = OBJECT_ID('bookings'))
+    CREATE INDEX idx_bookings_status_hold_expiry ON bookings (status, hold_expires_at);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_rooms_hotel_type_price' AND object_id = OBJECT_ID('rooms'))
+    CREATE INDEX idx_rooms_hotel_type_price ON rooms (hotel_id, room_type, price_per_night);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_rooms_hotel_price' AND object_id = OBJECT_ID('rooms'))
+    CREATE INDEX idx_rooms_hotel_price ON rooms (hotel_id, price_per_night);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_rooms_hotel_capacity' AND object_id = OBJECT_ID('rooms'))
+    CREATE INDEX idx_rooms_hotel_capacity ON rooms (hotel_id, capacity);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_booking_outbox_status_available' AND object_id = OBJECT_ID('booking_outbox'))
+    CREATE INDEX idx_booking_outbox_status_available ON booking_outbox (status, available_at, id);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_booking_outbox_booking' AND object_id = OBJECT_ID('booking_outbox'))
+    CREATE INDEX idx_booking_outbox_booking ON booking_outbox (booking_id, status, id);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_archive_check_in' AND object_id = OBJECT_ID('bookings_archive'))
+    CREATE INDEX idx_bookings_archive_check_in ON bookings_archive (check_in_date);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_archive_user_check_in' AND object_id = OBJECT_ID('bookings_archive'))
+    CREATE INDEX idx_bookings_archive_user_check_in ON bookings_archive (user_id, check_in_date);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_archive_room_check_in' AND object_id = OBJECT_ID('bookings_archive'))
+    CREATE INDEX idx_bookings_archive_room_check_in ON bookings_archive (room_id, check_in_date);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_bookings_archive_hotel' AND object_id = OBJECT_ID('bookings_archive'))
+    CREATE INDEX idx_bookings_archive_hotel ON bookings_archive (hotel_id);
@@ -0,0 +1,45 @@
+-- Booking status and user role are stored as smallint codes (see BookingStatus and Role)
+-- instead of their names. Names are rewritten to codes in place and the columns narrowed;
+-- SQL Server cannot alter an indexed column, so the status indexes are dropped and
+-- recreated around the change. An unknown value makes the ALTER fail rather than being
+-- silently mapped.
+
+UPDATE bookings SET status = CASE status
+    WHEN 'PENDING' THEN '1'
+    WHEN 'CONFIRMED' THEN '2'
+    WHEN 'CHECKED_IN' THEN '3'
+    WHEN 'CHECKED_OUT' THEN '4'
+    WHEN 'NO_SHOW' THEN '5'
+    WHEN 'CANCELLED' THEN '6'
+    WHEN 'REJECTED' THEN '7'
+    WHEN 'EXPIRED' THEN '8'
+    ELSE status END;
+
+DROP INDEX IF EXISTS idx_bookings_room_dates ON bookings;
+DROP INDEX IF EXISTS idx_bookings_status_check_in ON bookings;
+DROP INDEX IF EXISTS idx_bookings_status_check_out ON bookings;
+DROP INDEX IF EXISTS idx_bookings_status_hold_expiry ON bookings;
+
+ALTER TABLE bookings ALTER COLUMN status SMALLINT NOT NULL;
+
+CREATE INDEX idx_bookings_room_dates ON bookings (room_id, check_in_date, check_out_date, status);
+CREATE INDEX idx_bookings_status_check_in ON bookings (status, check_in_date);
+CREATE INDEX idx_bookings_status_check_out ON bookings (status, check_out_date);
+CREATE INDEX idx_bookings_status_hold_expiry ON bookings (status, hold_expires_at);
+
+UPDATE users SET role = CASE UPPER(role)
+    WHEN 'USER' THEN '1'
+    WHEN 'STAFF' THEN '2'
+    WHEN 'ADMIN' THEN '3'
+    ELSE role END;
+
+ALTER TABLE users ALTER COLUMN role SMALLINT NOT NULL;
+
+-- bookings_archive only exists where the archive job has already been deployed
+IF OBJECT_ID('bookings_archive', 'U') IS NOT NULL
+BEGIN
+    EXEC('UPDATE bookings_archive SET status = CASE status
+        WHEN ''CHECKED_OUT'' THEN ''4'' WHEN ''NO_SHOW'' THEN ''5'' WHEN ''CANCELLED'' THEN ''6''
+        WHEN ''REJECTED'' THEN ''7'' WHEN ''EXPIRED'' THEN ''8'' ELSE status END');
+    EXEC('ALTER TABLE bookings_archive ALTER COLUMN status SMALLINT NOT NULL');
+END;
@@ -0,0 +1,3 @@
+-- Status listings read bookings_archive as well as bookings (see BookingService)
+
+CREATE INDEX idx_bookings_archive_status_check_in ON bookings_archive (status, check_in_date);
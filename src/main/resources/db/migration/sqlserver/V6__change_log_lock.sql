@@ -0,0 +1,10 @@
+-- Row locked by every transaction just before it appends change log entries, so entry ids
+-- are handed out in commit order (see ChangeLogService).
+
+CREATE TABLE change_log_lock (
+    id INT NOT NULL,
+    locked_at DATETIMEOFFSET(6) NOT NULL,
+    CONSTRAINT pk_change_log_lock PRIMARY KEY (id)
+);
+
+INSERT INTO change_log_lock (id, locked_at) VALUES (1, SYSDATETIMEOFFSET());
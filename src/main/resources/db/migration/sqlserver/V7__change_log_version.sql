@@ -0,0 +1,11 @@
+-- Change versions are assigned after commit by ChangeLogService.assignVersions instead of
+-- taken from the id under a lock every writer held; change_log_lock is now only locked by
+-- that pass. Entries written before this migration keep their id as their version. The
+-- update runs through EXEC so it compiles after the column exists, and the unique index
+-- skips the NULLs of entries not versioned yet.
+
+ALTER TABLE change_log ADD version BIGINT NULL;
+
+EXEC('UPDATE change_log SET version = id');
+
+CREATE UNIQUE INDEX idx_change_log_version ON change_log (version) WHERE version IS NOT NULL;
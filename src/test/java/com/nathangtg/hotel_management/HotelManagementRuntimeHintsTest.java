@@ -0,0 +1,43 @@
+package com.nathangtg.hotel_management;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.RoleConverter;
+import com.nathangtg.hotel_management.services.events.BookingEvent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotelManagementRuntimeHintsTest {
+
+    @Test
+    void testRegistersNativeHints() {
+        // Arrange
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        new HotelManagementRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Booking.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BookingEvent.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RoleConverter.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder")).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+    }
+
+    @Test
+    void testJjwtImplementationsResolve() {
+        // Every name must exist on the runtime classpath, or the hint silently does nothing
+        for (String implementation : HotelManagementRuntimeHints.JJWT_IMPLEMENTATIONS) {
+            assertDoesNotThrow(() -> Class.forName(implementation), implementation);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nathangtg.hotel_management.api.controllers.AuthController.LoginRequest;
 import com.nathangtg.hotel_management.api.controllers.AuthController.RegisterRequest;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.security.JwtUtil;
 import com.nathangtg.hotel_management.services.UserService;
@@ -65,7 +66,7 @@ class AuthControllerTest {
         testUser.setFirstName("Test");
         testUser.setLastName("User");
         testUser.setEmail("test@example.com");
-        testUser.setRole("USER");
+        testUser.setRole(Role.USER);
     }
 
     @Test
@@ -126,7 +127,7 @@ class AuthControllerTest {
         newUser.setEmail("new@example.com");
         newUser.setFirstName("New");
         newUser.setLastName("User");
-        newUser.setRole("USER");
+        newUser.setRole(Role.USER);
         newUser.setPassword("encodedPassword123");
         
         when(userService.findByUsername("newuser")).thenReturn(null);
@@ -164,7 +165,7 @@ class AuthControllerTest {
         existingUser.setFirstName("Existing");
         existingUser.setLastName("User");
         existingUser.setEmail("existing@example.com");
-        existingUser.setRole("USER");
+        existingUser.setRole(Role.USER);
         
         when(userService.findByUsername("existinguser")).thenReturn(existingUser);
 
@@ -193,7 +194,7 @@ class AuthControllerTest {
         existingUser.setFirstName("Existing");
         existingUser.setLastName("User");
         existingUser.setEmail("existing@example.com");
-        existingUser.setRole("USER");
+        existingUser.setRole(Role.USER);
         
         when(userService.findByUsername("newuser")).thenReturn(null);
         when(userService.findByEmail("existing@example.com")).thenReturn(existingUser);
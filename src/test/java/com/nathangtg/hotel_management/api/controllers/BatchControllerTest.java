@@ -0,0 +1,197 @@
+package com.nathangtg.hotel_management.api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.nathangtg.hotel_management.api.batch.BatchExecutor;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.HotelService;
+import com.nathangtg.hotel_management.services.RoomService;
+import com.nathangtg.hotel_management.services.UserService;
+import com.nathangtg.hotel_management.test.config.ControllerTestConfiguration;
+
+@SpringBootTest(classes = ControllerTestConfiguration.class,
+               properties = "spring.main.allow-bean-definition-overriding=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("controller-test")
+class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BatchExecutor batchExecutor;
+
+    @MockitoBean
+    private HotelService hotelService;
+
+    @MockitoBean
+    private RoomService roomService;
+
+    @MockitoBean
+    private BookingService bookingService;
+
+    @MockitoBean
+    private UserService userService;
+
+    private User testUser;
+    private Hotel testHotel;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+        testUser.setRole(Role.USER);
+
+        testHotel = new Hotel();
+        testHotel.setId(1L);
+        testHotel.setName("Test Hotel");
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testBatch_ReturnsEachResultInOrderAndSharesIdenticalReads() throws Exception {
+        // Arrange
+        when(hotelService.getHotelById(1L)).thenReturn(Optional.of(testHotel));
+        when(roomService.getRoomById(9L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [{"id": "hotel", "path": "/api/hotels/1"},
+                     {"id": "room", "path": "/api/rooms/9"},
+                     {"id": "again", "path": "/api/hotels/1"},
+                     {"id": "outside", "path": "/actuator/health"}]
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(4))
+            .andExpect(jsonPath("$[0].id").value("hotel"))
+            .andExpect(jsonPath("$[0].status").value(200))
+            .andExpect(jsonPath("$[0].body.name").value("Test Hotel"))
+            .andExpect(jsonPath("$[1].status").value(404))
+            .andExpect(jsonPath("$[2].body.name").value("Test Hotel"))
+            .andExpect(jsonPath("$[3].status").value(400));
+
+        verify(hotelService, times(1)).getHotelById(1L);
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testBatch_RunsRequestsInTheSubmittedOrder() throws Exception {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setId(5L);
+        booking.setUser(testUser);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        when(bookingService.getBookingById(5L)).thenAnswer(invocation -> {
+            calls.add("get");
+            return Optional.of(booking);
+        });
+        doAnswer(invocation -> calls.add("cancel")).when(bookingService).cancelBooking(5L);
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [{"path": "/api/bookings/5"},
+                     {"method": "PUT", "path": "/api/bookings/5/cancel"},
+                     {"path": "/api/bookings/5"}]
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value("0"))
+            .andExpect(jsonPath("$[0].status").value(200))
+            .andExpect(jsonPath("$[1].id").value("1"))
+            .andExpect(jsonPath("$[1].status").value(200))
+            .andExpect(jsonPath("$[2].status").value(200));
+
+        // The identical reads either side of the write are separate lookups; the cancel
+        // endpoint looks the booking up itself before cancelling
+        assertEquals(List.of("get", "get", "cancel", "get"), calls);
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testBatch_WritePastTheDeadlineReportsItsOutcome() throws Exception {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setId(5L);
+        booking.setUserId(1L);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        when(bookingService.getBookingById(5L)).thenReturn(Optional.of(booking));
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        doAnswer(invocation -> {
+            Thread.sleep(300);
+            return null;
+        }).when(bookingService).cancelBooking(5L);
+        ReflectionTestUtils.setField(batchExecutor, "timeoutMs", 100L);
+
+        // Act & Assert
+        try {
+            mockMvc.perform(post("/api/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        [{"method": "PUT", "path": "/api/bookings/5/cancel"},
+                         {"path": "/api/hotels/1"}]
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[1].status").value(504))
+                .andExpect(jsonPath("$[1].body.message").value("Batch timed out before this request started"));
+        } finally {
+            ReflectionTestUtils.setField(batchExecutor, "timeoutMs", 30000L);
+        }
+
+        verify(bookingService).cancelBooking(5L);
+        verify(hotelService, never()).getHotelById(1L);
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testBatch_EmptyBatchIsRejected() throws Exception {
+        mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testBatch_RequiresAuthentication() throws Exception {
+        mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"path\": \"/api/hotels/1\"}]"))
+            .andExpect(status().isUnauthorized());
+    }
+}
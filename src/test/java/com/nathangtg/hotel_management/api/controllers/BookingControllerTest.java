@@ -2,6 +2,8 @@ package com.nathangtg.hotel_management.api.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,14 +11,19 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,17 +31,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.dto.BookingSearchCriteria;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
 import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.Room;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.services.BookingService;
 import com.nathangtg.hotel_management.services.UserService;
+import com.nathangtg.hotel_management.services.idempotency.IdempotencyService;
 import com.nathangtg.hotel_management.test.config.ControllerTestConfiguration;
 
 @SpringBootTest(classes = ControllerTestConfiguration.class, 
@@ -54,6 +67,9 @@ class BookingControllerTest {
     
     @MockitoBean
     private UserService userService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
     
     private User testUser;
     private User adminUser;
@@ -69,7 +85,7 @@ class BookingControllerTest {
         testUser.setFirstName("Test");
         testUser.setLastName("User");
         testUser.setEmail("test@example.com");
-        testUser.setRole("USER");
+        testUser.setRole(Role.USER);
         
         adminUser = new User();
         adminUser.setId(2L);
@@ -78,7 +94,7 @@ class BookingControllerTest {
         adminUser.setFirstName("Admin");
         adminUser.setLastName("User");
         adminUser.setEmail("admin@example.com");
-        adminUser.setRole("ADMIN");
+        adminUser.setRole(Role.ADMIN);
         
         testRoom = new Room();
         testRoom.setId(1L);
@@ -93,7 +109,7 @@ class BookingControllerTest {
         testBooking.setCheckInDate(LocalDate.now().plusDays(1));
         testBooking.setCheckOutDate(LocalDate.now().plusDays(3));
         testBooking.setTotalPrice(new BigDecimal("200.00"));
-        testBooking.setStatus("PENDING");
+        testBooking.setStatus(BookingStatus.PENDING);
         testBooking.setUser(testUser);
         testBooking.setRoom(testRoom);
     }
@@ -114,6 +130,35 @@ class BookingControllerTest {
         verify(bookingService, times(1)).getBookingsByUserId(1L);
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetBookingsByIds_LeavesOutOtherUsersBookings() throws Exception {
+        // Arrange
+        Booking othersBooking = new Booking();
+        othersBooking.setId(5L);
+        othersBooking.setUser(adminUser);
+        when(bookingService.getBookingsByIds(List.of(5L, 1L))).thenReturn(List.of(othersBooking, testBooking));
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings").param("ids", "5,1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(1L));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void testGetBookingsByIds_TooManyIds() throws Exception {
+        // Arrange
+        when(bookingService.getBookingsByIds(any())).thenThrow(new IllegalArgumentException("At most 200 ids per request"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings").param("ids", "1,2"))
+            .andExpect(status().isBadRequest());
+        verify(userService, never()).findByUsername(any());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void testGetAllBookings_AsAdmin() throws Exception {
@@ -161,7 +206,7 @@ class BookingControllerTest {
     void testGetAllBookings_ByStatus_AsAdmin() throws Exception {
         // Arrange
         List<Booking> bookings = Arrays.asList(testBooking);
-        when(bookingService.getBookingsByStatus("PENDING")).thenReturn(bookings);
+        when(bookingService.getBookingsByStatus(BookingStatus.PENDING)).thenReturn(bookings);
 
         // Act & Assert
         mockMvc.perform(get("/api/bookings").param("status", "PENDING"))
@@ -188,6 +233,40 @@ class BookingControllerTest {
             .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void testSearchBookings_AsAdmin() throws Exception {
+        // Arrange
+        when(userService.findByUsername("admin")).thenReturn(adminUser);
+        when(bookingService.searchBookings(any(BookingSearchCriteria.class)))
+            .thenReturn(new KeysetPage<>(Arrays.asList(testBooking), "next"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings/search")
+                .param("status", "CONFIRMED", "PENDING")
+                .param("hotelId", "1")
+                .param("checkInFrom", "2023-06-01")
+                .param("checkInTo", "2023-06-10")
+                .param("guestName", "Us"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].id").value(1L))
+            .andExpect(jsonPath("$.nextCursor").value("next"))
+            .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testSearchBookings_AsUser_Forbidden() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings/search").param("hotelId", "1"))
+            .andExpect(status().isForbidden());
+
+        verify(bookingService, never()).searchBookings(any(BookingSearchCriteria.class));
+    }
+
     @Test
     @WithMockUser(username = "testuser", roles = {"USER"})
     void testGetBookingById_AsOwner() throws Exception {
@@ -202,6 +281,24 @@ class BookingControllerTest {
             .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetBookingById_WithFields_WritesOnlySelectedPaths() throws Exception {
+        // Arrange
+        when(bookingService.getBookingById(1L)).thenReturn(Optional.of(testBooking));
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings/1").param("fields", "id,status,room.roomNumber"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1L))
+            .andExpect(jsonPath("$.status").value("PENDING"))
+            .andExpect(jsonPath("$.room.roomNumber").value("101"))
+            .andExpect(jsonPath("$.room.roomType").doesNotExist())
+            .andExpect(jsonPath("$.totalPrice").doesNotExist())
+            .andExpect(jsonPath("$.user").doesNotExist());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void testGetBookingById_AsAdmin() throws Exception {
@@ -225,7 +322,7 @@ class BookingControllerTest {
         otherBooking.setCheckInDate(LocalDate.now().plusDays(1));
         otherBooking.setCheckOutDate(LocalDate.now().plusDays(3));
         otherBooking.setTotalPrice(new BigDecimal("200.00"));
-        otherBooking.setStatus("PENDING");
+        otherBooking.setStatus(BookingStatus.PENDING);
         
         when(bookingService.getBookingById(1L)).thenReturn(Optional.of(otherBooking));
         User otherUser = new User();
@@ -235,7 +332,7 @@ class BookingControllerTest {
         otherUser.setFirstName("Other");
         otherUser.setLastName("User");
         otherUser.setEmail("other@example.com");
-        otherUser.setRole("USER");
+        otherUser.setRole(Role.USER);
         when(userService.findByUsername("otheruser")).thenReturn(otherUser);
 
         // Act & Assert
@@ -265,6 +362,99 @@ class BookingControllerTest {
             .andExpect(jsonPath("$.checkInDate").value(newBooking.getCheckInDate().toString()));
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    @SuppressWarnings("unchecked")
+    void testCreateBooking_WithIdempotencyKey_RunsThroughIdempotencyService() throws Exception {
+        // Arrange
+        Booking newBooking = new Booking();
+        newBooking.setCheckInDate(LocalDate.now().plusDays(1));
+        newBooking.setCheckOutDate(LocalDate.now().plusDays(3));
+        newBooking.setRoom(testRoom);
+
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(bookingService.createBooking(any(Booking.class))).thenReturn(testBooking);
+        doAnswer(invocation -> ((Supplier<ResponseEntity<?>>) invocation.getArgument(4)).get())
+            .when(idempotencyService).execute(eq(1L), eq("POST /api/bookings"), eq("retry-1"), any(), any());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/bookings")
+                .header(IdempotencyService.HEADER, "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newBooking)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1L));
+
+        verify(bookingService, times(1)).createBooking(any(Booking.class));
+        Map<String, Object> fingerprint = new LinkedHashMap<>();
+        fingerprint.put("roomId", testRoom.getId());
+        fingerprint.put("checkInDate", newBooking.getCheckInDate());
+        fingerprint.put("checkOutDate", newBooking.getCheckOutDate());
+        fingerprint.put("status", BookingStatus.PENDING);
+        verify(idempotencyService).execute(eq(1L), eq("POST /api/bookings"), eq("retry-1"), eq(fingerprint), any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testCancelBooking_OverlongIdempotencyKey_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/bookings/1/cancel")
+                .header(IdempotencyService.HEADER, "k".repeat(300)))
+            .andExpect(status().isBadRequest());
+
+        verify(bookingService, never()).cancelBooking(any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testCreateBooking_AsyncReturnsAcceptedWithStatusUrl() throws Exception {
+        // Arrange
+        Booking newBooking = new Booking();
+        newBooking.setCheckInDate(LocalDate.now().plusDays(1));
+        newBooking.setCheckOutDate(LocalDate.now().plusDays(3));
+        newBooking.setTotalPrice(BigDecimal.ZERO);
+        newBooking.setRoom(testRoom);
+
+        Booking hold = new Booking();
+        hold.setId(42L);
+        hold.setCheckInDate(newBooking.getCheckInDate());
+        hold.setCheckOutDate(newBooking.getCheckOutDate());
+        hold.setTotalPrice(BigDecimal.ZERO);
+        hold.setUser(testUser);
+        hold.setRoom(testRoom);
+        hold.setHoldExpiresAt(Instant.now().plusSeconds(300));
+
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(bookingService.acceptsAsync("respond-async")).thenReturn(true);
+        when(bookingService.placeHold(any(Booking.class))).thenReturn(hold);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/bookings")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newBooking)))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/api/bookings/42/status"))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(bookingService, never()).createBooking(any(Booking.class));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetBookingStatus_AsOwner() throws Exception {
+        // Arrange
+        testBooking.setStatus(BookingStatus.CONFIRMED);
+        when(bookingService.getBookingById(1L)).thenReturn(Optional.of(testBooking));
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings/1/status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1))
+            .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
     @Test
     @WithMockUser(username = "testuser", roles = {"USER"})
     void testUpdateBooking_AsOwner() throws Exception {
@@ -272,7 +462,7 @@ class BookingControllerTest {
         Booking updatedBooking = new Booking();
         updatedBooking.setCheckInDate(LocalDate.now().plusDays(1));
         updatedBooking.setCheckOutDate(LocalDate.now().plusDays(3));
-        updatedBooking.setStatus("CONFIRMED");
+        updatedBooking.setStatus(BookingStatus.CONFIRMED);
         
         when(bookingService.getBookingById(1L)).thenReturn(Optional.of(testBooking));
         when(userService.findByUsername("testuser")).thenReturn(testUser);
@@ -286,6 +476,33 @@ class BookingControllerTest {
             .andExpect(jsonPath("$.status").value("CONFIRMED"));
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testUpdateBooking_InvalidTransition() throws Exception {
+        // Arrange
+        Booking updatedBooking = new Booking();
+        updatedBooking.setStatus(BookingStatus.PENDING);
+
+        when(bookingService.getBookingById(1L)).thenReturn(Optional.of(testBooking));
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(bookingService.updateBooking(eq(1L), any(Booking.class)))
+            .thenThrow(new IllegalStateException("Booking cannot move from CHECKED_OUT to PENDING"));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/bookings/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedBooking)))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetAllBookings_UnknownStatus() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings").param("status", "LOST"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void testUpdateBooking_AsAdmin() throws Exception {
@@ -293,7 +510,7 @@ class BookingControllerTest {
         Booking updatedBooking = new Booking();
         updatedBooking.setCheckInDate(LocalDate.now().plusDays(1));
         updatedBooking.setCheckOutDate(LocalDate.now().plusDays(3));
-        updatedBooking.setStatus("CONFIRMED");
+        updatedBooking.setStatus(BookingStatus.CONFIRMED);
         
         when(bookingService.getBookingById(1L)).thenReturn(Optional.of(testBooking));
         when(userService.findByUsername("admin")).thenReturn(adminUser);
@@ -317,10 +534,10 @@ class BookingControllerTest {
         otherBooking.setCheckInDate(LocalDate.now().plusDays(1));
         otherBooking.setCheckOutDate(LocalDate.now().plusDays(3));
         otherBooking.setTotalPrice(new BigDecimal("200.00"));
-        otherBooking.setStatus("PENDING");
+        otherBooking.setStatus(BookingStatus.PENDING);
         
         Booking updatedBooking = new Booking();
-        updatedBooking.setStatus("CONFIRMED");
+        updatedBooking.setStatus(BookingStatus.CONFIRMED);
         
         when(bookingService.getBookingById(1L)).thenReturn(Optional.of(otherBooking));
         User otherUser = new User();
@@ -330,7 +547,7 @@ class BookingControllerTest {
         otherUser.setFirstName("Other");
         otherUser.setLastName("User");
         otherUser.setEmail("other@example.com");
-        otherUser.setRole("USER");
+        otherUser.setRole(Role.USER);
         when(userService.findByUsername("otheruser")).thenReturn(otherUser);
 
         // Act & Assert
@@ -378,7 +595,7 @@ class BookingControllerTest {
         otherBooking.setCheckInDate(LocalDate.now().plusDays(1));
         otherBooking.setCheckOutDate(LocalDate.now().plusDays(3));
         otherBooking.setTotalPrice(new BigDecimal("200.00"));
-        otherBooking.setStatus("PENDING");
+        otherBooking.setStatus(BookingStatus.PENDING);
         
         when(bookingService.getBookingById(1L)).thenReturn(Optional.of(otherBooking));
         User otherUser = new User();
@@ -388,7 +605,7 @@ class BookingControllerTest {
         otherUser.setFirstName("Other");
         otherUser.setLastName("User");
         otherUser.setEmail("other@example.com");
-        otherUser.setRole("USER");
+        otherUser.setRole(Role.USER);
         when(userService.findByUsername("otheruser")).thenReturn(otherUser);
 
         // Act & Assert
@@ -434,7 +651,7 @@ class BookingControllerTest {
         otherBooking.setCheckInDate(LocalDate.now().plusDays(1));
         otherBooking.setCheckOutDate(LocalDate.now().plusDays(3));
         otherBooking.setTotalPrice(new BigDecimal("200.00"));
-        otherBooking.setStatus("PENDING");
+        otherBooking.setStatus(BookingStatus.PENDING);
         
         when(bookingService.getBookingById(1L)).thenReturn(Optional.of(otherBooking));
         User otherUser = new User();
@@ -444,7 +661,7 @@ class BookingControllerTest {
         otherUser.setFirstName("Other");
         otherUser.setLastName("User");
         otherUser.setEmail("other@example.com");
-        otherUser.setRole("USER");
+        otherUser.setRole(Role.USER);
         when(userService.findByUsername("otheruser")).thenReturn(otherUser);
 
         // Act & Assert
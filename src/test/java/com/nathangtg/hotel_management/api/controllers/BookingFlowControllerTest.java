@@ -0,0 +1,142 @@
+package com.nathangtg.hotel_management.api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.repositories.UserRepository;
+
+/**
+ * Drives the controllers through the real services, security filter and an H2 database,
+ * signing in with tokens from /api/auth/login. Nothing is mocked, so this suite also runs in
+ * the nativeTest profile, where the Mockito controller tests cannot.
+ */
+// The default jwt.secret is too short to sign with
+@SpringBootTest(properties = "jwt.secret=booking-flow-controller-test-signing-key-0123456789")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookingFlowControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    // The application context, and with it the database, is shared with other suites
+    private String run;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void testGuestBooksARoomCreatedByAnAdmin() throws Exception {
+        // Arrange
+        String adminToken = signIn("admin" + run, Role.ADMIN);
+        long hotelId = create(adminToken, "/api/hotels", Map.of(
+            "name", "Flow Hotel " + run,
+            "address", "1 Flow Street",
+            "phone", "123-456-7890",
+            "email", "flow" + run + "@example.com")).get("id").asLong();
+        long roomId = create(adminToken, "/api/rooms", Map.of(
+            "roomNumber", "F" + run,
+            "roomType", "Single",
+            "pricePerNight", 100.00,
+            "capacity", 1,
+            "isAvailable", true,
+            "hotel", Map.of("id", hotelId))).get("id").asLong();
+        String guestToken = signIn("guest" + run, Role.USER);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+
+        // Act
+        JsonNode booking = create(guestToken, "/api/bookings", Map.of(
+            "roomId", roomId,
+            "checkInDate", checkIn.toString(),
+            "checkOutDate", checkIn.plusDays(2).toString(),
+            "status", "CONFIRMED"));
+        long bookingId = booking.get("id").asLong();
+
+        // Assert
+        assertTrue(booking.get("totalPrice").decimalValue().compareTo(BigDecimal.valueOf(200)) == 0);
+        mockMvc.perform(authorized(get("/api/bookings/" + bookingId), guestToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("CONFIRMED"));
+        mockMvc.perform(authorized(get("/api/rooms/" + roomId), guestToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.isAvailable").value(false));
+        mockMvc.perform(authorized(put("/api/bookings/" + bookingId), guestToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("status", "PENDING"))))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testRequestsWithoutATokenAreRejected() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    // Guests are saved directly and sign in through /api/auth/login for a real token
+    private String signIn(String username, Role role) throws Exception {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setFirstName("Flow");
+        user.setLastName("Test");
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setRole(role);
+        userRepository.save(user);
+
+        String body = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("username", username, "password", "password123"))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private JsonNode create(String token, String path, Map<String, Object> body) throws Exception {
+        String response = mockMvc.perform(authorized(post(path), token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private static MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String token) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+}
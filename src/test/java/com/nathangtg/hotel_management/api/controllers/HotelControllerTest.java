@@ -2,19 +2,27 @@ package com.nathangtg.hotel_management.api.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,12 +34,22 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.nathangtg.hotel_management.api.dto.HotelDistanceResult;
+import com.nathangtg.hotel_management.api.dto.HotelSearchResult;
 import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.protobuf.ProtobufCodec;
 import com.nathangtg.hotel_management.services.HotelService;
 import com.nathangtg.hotel_management.services.UserService;
+import com.nathangtg.hotel_management.services.catalog.CatalogResponse;
+import com.nathangtg.hotel_management.services.catalog.CatalogResponseCache;
+import com.nathangtg.hotel_management.services.live.LiveEventHub;
 import com.nathangtg.hotel_management.test.config.ControllerTestConfiguration;
 
 @SpringBootTest(classes = ControllerTestConfiguration.class, 
@@ -51,6 +69,12 @@ class HotelControllerTest {
     
     @MockitoBean
     private UserService userService;
+
+    @MockitoBean
+    private CatalogResponseCache catalogResponseCache;
+
+    @MockitoBean
+    private LiveEventHub liveEventHub;
     
     private User testUser;
     private User adminUser;
@@ -65,7 +89,7 @@ class HotelControllerTest {
         testUser.setFirstName("Test");
         testUser.setLastName("User");
         testUser.setEmail("test@example.com");
-        testUser.setRole("USER");
+        testUser.setRole(Role.USER);
         
         adminUser = new User();
         adminUser.setId(2L);
@@ -74,7 +98,7 @@ class HotelControllerTest {
         adminUser.setFirstName("Admin");
         adminUser.setLastName("User");
         adminUser.setEmail("admin@example.com");
-        adminUser.setRole("ADMIN");
+        adminUser.setRole(Role.ADMIN);
         
         testHotel = new Hotel();
         testHotel.setId(1L);
@@ -84,17 +108,107 @@ class HotelControllerTest {
         testHotel.setEmail("test@hotel.com");
     }
 
+    @Test
+    void testGetHotelsNearby_Public() throws Exception {
+        // Arrange
+        when(hotelService.findHotelsNearby(48.85, 2.29, 5.0, null, null, 20))
+            .thenReturn(List.of(new HotelDistanceResult(1L, "Grand Hotel", "1 Main St", 48.85, 2.29, 0.4)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels/nearby")
+                .param("lat", "48.85")
+                .param("lon", "2.29")
+                .param("radiusKm", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1L))
+            .andExpect(jsonPath("$[0].distanceKm").value(0.4));
+    }
+
+    @Test
+    void testGetHotelsNearby_InvalidCoordinates() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels/nearby")
+                .param("lat", "120")
+                .param("lon", "2.29"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetHotelsByIds_Public() throws Exception {
+        // Arrange
+        Hotel second = new Hotel();
+        second.setId(2L);
+        second.setName("Second Hotel");
+        when(hotelService.getHotelsByIds(List.of(2L, 1L))).thenReturn(List.of(second, testHotel));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels").param("ids", "2,1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(2L))
+            .andExpect(jsonPath("$[1].id").value(1L));
+        verifyNoInteractions(catalogResponseCache);
+    }
+
+    @Test
+    void testSearchHotels_Public() throws Exception {
+        // Arrange
+        when(hotelService.searchHotels("gra", 10))
+            .thenReturn(List.of(new HotelSearchResult(1L, "Grand Hotel", "1 Main St", 6.5)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels/search").param("q", "gra"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1L))
+            .andExpect(jsonPath("$[0].name").value("Grand Hotel"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void testStreamEvents_AsAdmin_ResumesAfterLastEventId() throws Exception {
+        // Arrange
+        when(userService.findByUsername("admin")).thenReturn(adminUser);
+        when(hotelService.getHotelById(1L)).thenReturn(Optional.of(testHotel));
+        when(liveEventHub.subscribe(1L, 42L)).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels/1/events")
+                .header("Last-Event-ID", "42")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted());
+        verify(liveEventHub).subscribe(1L, 42L);
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testStreamEvents_AsUser_ShouldReturnForbidden() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels/1/events").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isForbidden());
+        verifyNoInteractions(liveEventHub);
+    }
+
+    @Test
+    void testStreamEvents_Unauthenticated_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/hotels/1/events").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @WithMockUser(username = "testuser", roles = {"USER"})
     void testGetAllHotels_AsUser() throws Exception {
         // Arrange
         List<Hotel> hotels = Arrays.asList(testHotel);
-        when(hotelService.getAllHotels()).thenReturn(hotels);
+        when(catalogResponseCache.hotels()).thenReturn(catalogResponse(hotels));
         when(userService.findByUsername("testuser")).thenReturn(testUser);
 
         // Act & Assert
         mockMvc.perform(get("/api/hotels"))
             .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Content-Encoding"))
             .andExpect(jsonPath("$[0].name").value("Test Hotel"));
     }
 
@@ -103,7 +217,7 @@ class HotelControllerTest {
     void testGetAllHotels_AsAdmin() throws Exception {
         // Arrange
         List<Hotel> hotels = Arrays.asList(testHotel);
-        when(hotelService.getAllHotels()).thenReturn(hotels);
+        when(catalogResponseCache.hotels()).thenReturn(catalogResponse(hotels));
         when(userService.findByUsername("admin")).thenReturn(adminUser);
 
         // Act & Assert
@@ -112,6 +226,104 @@ class HotelControllerTest {
             .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetAllHotels_Gzip() throws Exception {
+        // Arrange
+        CatalogResponse response = catalogResponse(Arrays.asList(testHotel));
+        when(catalogResponseCache.hotels()).thenReturn(response);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/hotels").header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(header().string("Vary", "Accept, Accept-Encoding"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertArrayEquals(response.body(CatalogResponse.IDENTITY).getBytes(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetAllHotels_NotModified() throws Exception {
+        // Arrange
+        CatalogResponse response = catalogResponse(Arrays.asList(testHotel));
+        when(catalogResponseCache.hotels()).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels").header("If-None-Match", response.getEtag()))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetAllHotels_Protobuf() throws Exception {
+        // Arrange
+        when(hotelService.getAllHotels()).thenReturn(Arrays.asList(testHotel));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/hotels").accept("application/x-protobuf"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-protobuf"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        List<Hotel> hotels = ProtobufCodec.readHotels(body);
+        assertEquals(1, hotels.size());
+        assertEquals("Test Hotel", hotels.get(0).getName());
+        verify(catalogResponseCache, never()).hotels();
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetAllHotels_WildcardAcceptIsJson() throws Exception {
+        // Arrange
+        when(catalogResponseCache.hotels()).thenReturn(catalogResponse(Arrays.asList(testHotel)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels").accept("*/*"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/json"))
+            .andExpect(jsonPath("$[0].name").value("Test Hotel"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetHotelById_Cbor() throws Exception {
+        // Arrange
+        testHotel.setCreatedAt(1_700_000_000_000L);
+        when(hotelService.getHotelById(1L)).thenReturn(Optional.of(testHotel));
+        String json = mockMvc.perform(get("/api/hotels/1"))
+            .andReturn().getResponse().getContentAsString();
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/hotels/1").accept("application/cbor"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/cbor"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert: same tree as the JSON body
+        assertEquals(objectMapper.readTree(json), new CBORMapper().readTree(body));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetHotelById_Smile() throws Exception {
+        // Arrange
+        when(hotelService.getHotelById(1L)).thenReturn(Optional.of(testHotel));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/hotels/1").accept("application/x-jackson-smile"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        assertEquals("Test Hotel", new SmileMapper().readTree(body).get("name").asText());
+    }
+
     @Test
     @WithMockUser(username = "testuser", roles = {"USER"})
     void testGetHotelById_AsUser() throws Exception {
@@ -258,4 +470,8 @@ class HotelControllerTest {
         mockMvc.perform(delete("/api/hotels/1"))
             .andExpect(status().isForbidden());
     }
-}
\ No newline at end of file
+
+    private CatalogResponse catalogResponse(List<Hotel> hotels) throws Exception {
+        return CatalogResponse.inMemory("hotels", "1", objectMapper.writeValueAsBytes(hotels));
+    }
+}
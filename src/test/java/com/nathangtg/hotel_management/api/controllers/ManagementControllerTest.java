@@ -30,6 +30,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nathangtg.hotel_management.api.models.Hotel;
 import com.nathangtg.hotel_management.api.models.Management;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.services.ManagementService;
 import com.nathangtg.hotel_management.services.UserService;
@@ -68,7 +69,7 @@ class ManagementControllerTest {
         testUser.setFirstName("Test");
         testUser.setLastName("User");
         testUser.setEmail("test@example.com");
-        testUser.setRole("USER");
+        testUser.setRole(Role.USER);
         
         adminUser = new User();
         adminUser.setId(2L);
@@ -77,7 +78,7 @@ class ManagementControllerTest {
         adminUser.setFirstName("Admin");
         adminUser.setLastName("User");
         adminUser.setEmail("admin@example.com");
-        adminUser.setRole("ADMIN");
+        adminUser.setRole(Role.ADMIN);
         
         testHotel = new Hotel();
         testHotel.setId(1L);
@@ -93,7 +94,7 @@ class ManagementControllerTest {
         managedUser.setFirstName("Managed");
         managedUser.setLastName("User");
         managedUser.setEmail("managed@example.com");
-        managedUser.setRole("STAFF");
+        managedUser.setRole(Role.STAFF);
         
         testManagement = new Management();
         testManagement.setId(1L);
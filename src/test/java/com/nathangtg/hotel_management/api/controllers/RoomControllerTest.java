@@ -0,0 +1,195 @@
+package com.nathangtg.hotel_management.api.controllers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.nathangtg.hotel_management.api.dto.RoomHoldRequest;
+import com.nathangtg.hotel_management.api.exception.ConflictException;
+import com.nathangtg.hotel_management.api.exception.ResourceNotFoundException;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.RoomService;
+import com.nathangtg.hotel_management.services.UserService;
+import com.nathangtg.hotel_management.services.holds.RoomHold;
+import com.nathangtg.hotel_management.test.config.ControllerTestConfiguration;
+
+@SpringBootTest(classes = ControllerTestConfiguration.class,
+               properties = "spring.main.allow-bean-definition-overriding=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("controller-test")
+class RoomControllerTest {
+
+    private static final String HOLD_BODY = "{\"checkInDate\":\"2030-03-01\",\"checkOutDate\":\"2030-03-03\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RoomService roomService;
+
+    @MockitoBean
+    private BookingService bookingService;
+
+    @MockitoBean
+    private UserService userService;
+
+    private User testUser;
+    private RoomHold testHold;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+        testUser.setPassword("password123");
+        testUser.setFirstName("Test");
+        testUser.setLastName("User");
+        testUser.setEmail("test@example.com");
+        testUser.setRole(Role.USER);
+
+        Instant now = Instant.now();
+        testHold = new RoomHold("hold-1", 1L, 1L, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3),
+            now, now.plusSeconds(600));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testBookFromHold() throws Exception {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setId(10L);
+        booking.setStatus(BookingStatus.CONFIRMED);
+
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(roomService.getHold(1L, "hold-1")).thenReturn(Optional.of(testHold));
+        when(bookingService.bookFromHold(1L, "hold-1", testUser)).thenReturn(booking);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rooms/1/holds/hold-1/booking"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Location", "/api/bookings/10"))
+            .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testBookFromHold_RoomNoLongerAvailable() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(roomService.getHold(1L, "hold-1")).thenReturn(Optional.of(testHold));
+        when(bookingService.bookFromHold(1L, "hold-1", testUser))
+            .thenThrow(new RuntimeException("Room is not available for the selected dates"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rooms/1/holds/hold-1/booking"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testBookFromHold_HoldExpired() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(roomService.getHold(1L, "hold-1")).thenReturn(Optional.empty());
+        when(bookingService.bookFromHold(1L, "hold-1", testUser))
+            .thenThrow(new IllegalArgumentException("Hold not found or expired: hold-1"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rooms/1/holds/hold-1/booking"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testBookFromHold_HeldByAnotherGuest() throws Exception {
+        // Arrange
+        Instant now = Instant.now();
+        RoomHold otherHold = new RoomHold("hold-1", 1L, 2L, LocalDate.now().plusDays(1),
+            LocalDate.now().plusDays(3), now, now.plusSeconds(600));
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(roomService.getHold(1L, "hold-1")).thenReturn(Optional.of(otherHold));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rooms/1/holds/hold-1/booking"))
+            .andExpect(status().isForbidden());
+
+        verify(bookingService, never()).bookFromHold(eq(1L), eq("hold-1"), any(User.class));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testPlaceHold_RoomNotFound() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(roomService.placeHold(eq(1L), eq(1L), any(RoomHoldRequest.class)))
+            .thenThrow(new ResourceNotFoundException("Room not found with id: 1"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rooms/1/holds").contentType(MediaType.APPLICATION_JSON).content(HOLD_BODY))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testPlaceHold_RoomUnavailable() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(roomService.placeHold(eq(1L), eq(1L), any(RoomHoldRequest.class)))
+            .thenThrow(new ConflictException("Room is not available for the selected dates"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rooms/1/holds").contentType(MediaType.APPLICATION_JSON).content(HOLD_BODY))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testPlaceHold_InvalidDates() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(roomService.placeHold(eq(1L), eq(1L), any(RoomHoldRequest.class)))
+            .thenThrow(new IllegalArgumentException("Check-in date must be before check-out date"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rooms/1/holds").contentType(MediaType.APPLICATION_JSON).content(HOLD_BODY))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testPlaceHold_UnexpectedFailureIsNotReportedAsNotFound() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+        when(roomService.placeHold(eq(1L), eq(1L), any(RoomHoldRequest.class)))
+            .thenThrow(new RuntimeException("Connection refused"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/rooms/1/holds").contentType(MediaType.APPLICATION_JSON).content(HOLD_BODY))
+            .andExpect(status().isInternalServerError());
+    }
+}
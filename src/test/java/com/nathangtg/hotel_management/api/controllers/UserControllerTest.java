@@ -2,6 +2,7 @@ package com.nathangtg.hotel_management.api.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +29,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.services.UserService;
 import com.nathangtg.hotel_management.test.config.ControllerTestConfiguration;
@@ -59,7 +62,7 @@ class UserControllerTest {
         testUser.setFirstName("Test");
         testUser.setLastName("User");
         testUser.setEmail("test@example.com");
-        testUser.setRole("USER");
+        testUser.setRole(Role.USER);
         
         adminUser = new User();
         adminUser.setId(2L);
@@ -68,7 +71,7 @@ class UserControllerTest {
         adminUser.setFirstName("Admin");
         adminUser.setLastName("User");
         adminUser.setEmail("admin@example.com");
-        adminUser.setRole("ADMIN");
+        adminUser.setRole(Role.ADMIN);
     }
 
     @Test
@@ -101,12 +104,58 @@ class UserControllerTest {
             .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void testGetAllUsers_WithFields_AsAdmin() throws Exception {
+        // Arrange
+        when(userService.findAll(eq(null), any(FieldSelection.class))).thenReturn(Arrays.asList(testUser, adminUser));
+        when(userService.findByUsername("admin")).thenReturn(adminUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users").param("fields", "id,username"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].username").value("testuser"))
+            .andExpect(jsonPath("$[0].email").doesNotExist())
+            .andExpect(jsonPath("$[1].role").doesNotExist());
+
+        verify(userService, never()).findAll();
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetUserById_NeverWritesPassword() throws Exception {
+        // Arrange
+        when(userService.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users/1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.username").value("testuser"))
+            .andExpect(jsonPath("$.password").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = {"USER"})
+    void testGetUsersByIds_AsUser_OnlyOwnProfile() throws Exception {
+        // Arrange
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users").param("ids", "2,1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].username").value("testuser"));
+        verify(userService, never()).findAllByIds(any());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void testGetAllUsers_ByRole_AsAdmin() throws Exception {
         // Arrange
         List<User> users = Arrays.asList(testUser);
-        when(userService.findAllByRole("USER")).thenReturn(users);
+        when(userService.findAllByRole(Role.USER)).thenReturn(users);
         when(userService.findByUsername("admin")).thenReturn(adminUser);
 
         // Act & Assert
@@ -168,7 +217,7 @@ class UserControllerTest {
         otherUser.setFirstName("Other");
         otherUser.setLastName("User");
         otherUser.setEmail("other@example.com");
-        otherUser.setRole("USER");
+        otherUser.setRole(Role.USER);
         when(userService.findByUsername("otheruser")).thenReturn(otherUser);
 
         // Act & Assert
@@ -193,7 +242,7 @@ class UserControllerTest {
         newUser.setFirstName("New");
         newUser.setLastName("User");
         newUser.setEmail("new@example.com");
-        newUser.setRole("USER");
+        newUser.setRole(Role.USER);
         
         when(userService.createUser(any(User.class))).thenReturn(newUser);
 
@@ -214,7 +263,7 @@ class UserControllerTest {
         updatedUser.setFirstName("Updated");
         updatedUser.setLastName("User");
         updatedUser.setEmail("updated@example.com");
-        updatedUser.setRole("ADMIN");
+        updatedUser.setRole(Role.ADMIN);
         
         when(userService.findById(1L)).thenReturn(Optional.of(testUser));
         when(userService.findByUsername("testuser")).thenReturn(testUser);
@@ -237,7 +286,7 @@ class UserControllerTest {
         updatedUser.setFirstName("Updated");
         updatedUser.setLastName("User");
         updatedUser.setEmail("updated@example.com");
-        updatedUser.setRole("ADMIN");
+        updatedUser.setRole(Role.ADMIN);
         
         when(userService.findById(1L)).thenReturn(Optional.of(testUser));
         when(userService.findByUsername("admin")).thenReturn(adminUser);
@@ -260,7 +309,7 @@ class UserControllerTest {
         updatedUser.setFirstName("Updated");
         updatedUser.setLastName("User");
         updatedUser.setEmail("updated@example.com");
-        updatedUser.setRole("ADMIN");
+        updatedUser.setRole(Role.ADMIN);
         
         when(userService.findById(1L)).thenReturn(Optional.of(testUser));
         User otherUser = new User();
@@ -270,7 +319,7 @@ class UserControllerTest {
         otherUser.setFirstName("Other");
         otherUser.setLastName("User");
         otherUser.setEmail("other@example.com");
-        otherUser.setRole("USER");
+        otherUser.setRole(Role.USER);
         when(userService.findByUsername("otheruser")).thenReturn(otherUser);
 
         // Act & Assert
@@ -320,7 +369,7 @@ class UserControllerTest {
         otherUser.setFirstName("Other");
         otherUser.setLastName("User");
         otherUser.setEmail("other@example.com");
-        otherUser.setRole("USER");
+        otherUser.setRole(Role.USER);
         when(userService.findByUsername("otheruser")).thenReturn(otherUser);
 
         // Act & Assert
@@ -350,7 +399,7 @@ class UserControllerTest {
     void testSearchUsers_AsAdmin_ByRole() throws Exception {
         // Arrange
         List<User> users = Arrays.asList(testUser);
-        when(userService.findAllByRole("USER")).thenReturn(users);
+        when(userService.findAllByRole(Role.USER)).thenReturn(users);
         when(userService.findByUsername("admin")).thenReturn(adminUser);
 
         // Act & Assert
@@ -0,0 +1,305 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomQuote;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.exception.ConflictException;
+import com.nathangtg.hotel_management.api.exception.ResourceNotFoundException;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.security.JwtUtil;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.RoomService;
+import com.nathangtg.hotel_management.services.UserService;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+
+class ChannelGrpcServiceTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2030, 5, 1);
+
+    private final RoomService roomService = mock(RoomService.class);
+    private final BookingService bookingService = mock(BookingService.class);
+    private final UserService userService = mock(UserService.class);
+
+    private final MutableClock clock = new MutableClock(Instant.now());
+
+    private Server server;
+    private ManagedChannel channel;
+    private User guest;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "channel-test-secret-that-is-long-enough-for-hmac-sha");
+        guest = new User();
+        guest.setId(7L);
+        guest.setUsername("channel");
+        guest.setRole(Role.USER);
+        when(userService.findByUsername("channel")).thenReturn(guest);
+        token = jwtUtil.generateToken("channel", 7L, "USER");
+
+        GrpcAuthInterceptor auth = new GrpcAuthInterceptor(jwtUtil, userService, clock);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(ServerInterceptors.intercept(new ChannelGrpcService(roomService, bookingService).bindService(), auth))
+            .addTransportFilter(auth.transportFilter())
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void searchAvailabilityReturnsThePage() {
+        Room room = new Room();
+        room.setId(3L);
+        room.setPricePerNight(new BigDecimal("90.00"));
+        when(roomService.searchRooms(any(RoomSearchCriteria.class)))
+            .thenReturn(new KeysetPage<>(List.of(room), "next"));
+        RoomSearchCriteria criteria = new RoomSearchCriteria();
+        criteria.setCheckIn(CHECK_IN);
+        criteria.setCheckOut(CHECK_IN.plusDays(2));
+
+        KeysetPage<Room> page = ClientCalls.blockingUnaryCall(authorized(), ChannelServiceGrpc.SEARCH_AVAILABILITY,
+            CallOptions.DEFAULT, criteria);
+
+        assertEquals(3L, page.getItems().get(0).getId());
+        assertEquals("next", page.getNextCursor());
+    }
+
+    @Test
+    void callsWithoutTokenAreRejected() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+            () -> ClientCalls.blockingUnaryCall(channel, ChannelServiceGrpc.SEARCH_AVAILABILITY,
+                CallOptions.DEFAULT, new RoomSearchCriteria()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, e.getStatus().getCode());
+    }
+
+    @Test
+    void tokenIsVerifiedOncePerConnection() throws Exception {
+        when(roomService.quote(any(), any(), any(), any())).thenReturn(
+            new RoomQuote(1L, CHECK_IN, CHECK_IN.plusDays(1), 1, BigDecimal.TEN, BigDecimal.TEN, true));
+
+        for (int i = 0; i < 3; i++) {
+            stream(ChannelServiceGrpc.QUOTE, List.of(new QuoteRequest("q" + i, 1L, CHECK_IN, CHECK_IN.plusDays(1))));
+        }
+
+        verify(userService, times(1)).findByUsername("channel");
+    }
+
+    @Test
+    void userIsLookedUpAgainOnceItGoesStale() throws Exception {
+        when(roomService.quote(any(), any(), any(), any())).thenReturn(
+            new RoomQuote(1L, CHECK_IN, CHECK_IN.plusDays(1), 1, BigDecimal.TEN, BigDecimal.TEN, true));
+        stream(ChannelServiceGrpc.QUOTE, List.of(new QuoteRequest("q", 1L, CHECK_IN, CHECK_IN.plusDays(1))));
+        User demoted = new User();
+        demoted.setId(8L);
+        demoted.setUsername("channel");
+        demoted.setRole(Role.USER);
+        when(userService.findByUsername("channel")).thenReturn(demoted);
+
+        clock.advance(Duration.ofSeconds(6));
+        stream(ChannelServiceGrpc.QUOTE, List.of(new QuoteRequest("q", 1L, CHECK_IN, CHECK_IN.plusDays(1))));
+
+        verify(userService, times(2)).findByUsername("channel");
+        verify(roomService).quote(1L, CHECK_IN, CHECK_IN.plusDays(1), 8L);
+    }
+
+    @Test
+    void deletedUserIsRejectedOnceTheLookupGoesStale() throws Exception {
+        when(roomService.quote(any(), any(), any(), any())).thenReturn(
+            new RoomQuote(1L, CHECK_IN, CHECK_IN.plusDays(1), 1, BigDecimal.TEN, BigDecimal.TEN, true));
+        stream(ChannelServiceGrpc.QUOTE, List.of(new QuoteRequest("q", 1L, CHECK_IN, CHECK_IN.plusDays(1))));
+        when(userService.findByUsername("channel")).thenThrow(new RuntimeException("User not found"));
+
+        clock.advance(Duration.ofSeconds(6));
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+            () -> ClientCalls.blockingUnaryCall(authorized(), ChannelServiceGrpc.SEARCH_AVAILABILITY,
+                CallOptions.DEFAULT, new RoomSearchCriteria()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, e.getStatus().getCode());
+    }
+
+    @Test
+    void quoteStreamAnswersEachRequestInOrder() throws Exception {
+        when(roomService.quote(1L, CHECK_IN, CHECK_IN.plusDays(2), 7L)).thenReturn(
+            new RoomQuote(1L, CHECK_IN, CHECK_IN.plusDays(2), 2, new BigDecimal("80.00"), new BigDecimal("160.00"), true));
+        when(roomService.quote(2L, CHECK_IN, CHECK_IN.plusDays(2), 7L))
+            .thenThrow(new ResourceNotFoundException("Room not found with id: 2"));
+
+        List<QuoteResult> results = stream(ChannelServiceGrpc.QUOTE, List.of(
+            new QuoteRequest("a", 1L, CHECK_IN, CHECK_IN.plusDays(2)),
+            new QuoteRequest("b", 2L, CHECK_IN, CHECK_IN.plusDays(2))));
+
+        assertEquals(2, results.size());
+        assertEquals("a", results.get(0).getRequestId());
+        assertEquals(new BigDecimal("160.00"), results.get(0).getQuote().getTotalPrice());
+        assertTrue(results.get(0).getQuote().isAvailable());
+        assertEquals("b", results.get(1).getRequestId());
+        assertNull(results.get(1).getQuote());
+        assertEquals(Status.Code.NOT_FOUND, results.get(1).getError().getCode());
+    }
+
+    @Test
+    void createBookingsBooksForTheCaller() throws Exception {
+        when(bookingService.createBooking(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(40L);
+            booking.setStatus(BookingStatus.CONFIRMED);
+            return booking;
+        });
+
+        List<BookingResult> results = stream(ChannelServiceGrpc.CREATE_BOOKINGS,
+            List.of(new CreateBookingRequest("c1", 5L, CHECK_IN, CHECK_IN.plusDays(3))));
+
+        Booking booking = results.get(0).getBooking();
+        assertEquals(40L, booking.getId());
+        assertEquals(7L, booking.getUserId());
+        assertEquals(5L, booking.getRoomId());
+        assertEquals(BookingStatus.CONFIRMED, booking.getStatus());
+    }
+
+    @Test
+    void createBookingsReportsConflictsAndHidesUnexpectedFailures() throws Exception {
+        when(bookingService.createBooking(any(Booking.class)))
+            .thenThrow(new ConflictException("Room is not available for the selected dates"))
+            .thenThrow(new RuntimeException("Room not found in the connection pool"));
+
+        List<BookingResult> results = stream(ChannelServiceGrpc.CREATE_BOOKINGS, List.of(
+            new CreateBookingRequest("c1", 5L, CHECK_IN, CHECK_IN.plusDays(3)),
+            new CreateBookingRequest("c2", 5L, CHECK_IN, CHECK_IN.plusDays(3))));
+
+        assertEquals(Status.Code.FAILED_PRECONDITION, results.get(0).getError().getCode());
+        assertEquals("Room is not available for the selected dates", results.get(0).getError().getMessage());
+        assertEquals(Status.Code.INTERNAL, results.get(1).getError().getCode());
+        assertEquals("Request failed", results.get(1).getError().getMessage());
+    }
+
+    @Test
+    void cancelBookingsRefusesOtherGuestsBookings() throws Exception {
+        Booking booking = new Booking();
+        booking.setId(41L);
+        booking.setUserId(99L);
+        when(bookingService.getBookingById(41L)).thenReturn(Optional.of(booking));
+
+        List<BookingResult> results = stream(ChannelServiceGrpc.CANCEL_BOOKINGS,
+            List.of(new CancelBookingRequest("x", 41L)));
+
+        assertEquals(Status.Code.PERMISSION_DENIED, results.get(0).getError().getCode());
+        verify(bookingService, never()).cancelBooking(any());
+    }
+
+    private Channel authorized() {
+        Metadata headers = new Metadata();
+        headers.put(GrpcAuthInterceptor.AUTHORIZATION, "Bearer " + token);
+        return ClientInterceptors.intercept(channel, MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private <Q, R> List<R> stream(MethodDescriptor<Q, R> method, List<Q> requests) throws Exception {
+        List<R> results = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        StreamObserver<Q> out = ClientCalls.asyncBidiStreamingCall(
+            authorized().newCall(method, CallOptions.DEFAULT), new StreamObserver<R>() {
+                @Override
+                public void onNext(R value) {
+                    results.add(value);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    done.countDown();
+                }
+
+                @Override
+                public void onCompleted() {
+                    done.countDown();
+                }
+            });
+        requests.forEach(out::onNext);
+        out.onCompleted();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        return results;
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
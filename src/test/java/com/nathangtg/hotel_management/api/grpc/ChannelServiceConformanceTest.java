@@ -0,0 +1,336 @@
+package com.nathangtg.hotel_management.api.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.MethodDescriptor;
+import com.google.protobuf.Descriptors.ServiceDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomQuote;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.exception.ResourceNotFoundException;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.protobuf.ProtoSchema;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.RoomService;
+
+import io.grpc.CallOptions;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Calls the server the way a client generated from channel_service.proto would: method
+ * descriptors and messages come from the protoc-compiled schema, not from
+ * {@link ChannelServiceGrpc} and {@link ChannelMessages}. Authentication is covered by
+ * ChannelGrpcServiceTest, so the caller is put in the context directly.
+ */
+class ChannelServiceConformanceTest {
+
+    private static final ServiceDescriptor SERVICE = ProtoSchema.service("ChannelService");
+    private static final LocalDate CHECK_IN = LocalDate.of(2030, 5, 1);
+
+    private final RoomService roomService = mock(RoomService.class);
+    private final BookingService bookingService = mock(BookingService.class);
+
+    private ServerServiceDefinition definition;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User guest = new User();
+        guest.setId(7L);
+        guest.setUsername("channel");
+        guest.setRole(Role.USER);
+        ServerInterceptor caller = new ServerInterceptor() {
+            @Override
+            public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call,
+                    Metadata headers, ServerCallHandler<Q, R> next) {
+                return Contexts.interceptCall(Context.current().withValue(GrpcAuthInterceptor.CURRENT_USER, guest),
+                    call, headers, next);
+            }
+        };
+        definition = new ChannelGrpcService(roomService, bookingService).bindService();
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(ServerInterceptors.intercept(definition, caller))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void everyRpcOfTheSchemaIsServedWithItsStreamingShape() {
+        assertEquals(SERVICE.getFullName(), ChannelServiceGrpc.SERVICE_NAME);
+        assertEquals(SERVICE.getMethods().size(), definition.getMethods().size());
+        for (MethodDescriptor method : SERVICE.getMethods()) {
+            var served = definition.getMethod(ChannelServiceGrpc.SERVICE_NAME + "/" + method.getName());
+            assertNotNull(served, method.getName());
+            assertEquals(methodType(method), served.getMethodDescriptor().getType(), method.getName());
+        }
+    }
+
+    @Test
+    void searchAvailabilityReadsTheRequestAndAnswersARoomPage() {
+        Room room = new Room();
+        room.setId(3L);
+        room.setRoomNumber("301");
+        room.setPricePerNight(new BigDecimal("90.00"));
+        when(roomService.searchRooms(any(RoomSearchCriteria.class)))
+            .thenReturn(new KeysetPage<>(List.of(room), "next"));
+        Descriptor type = ProtoSchema.message("AvailabilityRequest");
+        DynamicMessage request = DynamicMessage.newBuilder(type)
+            .setField(field(type, "hotel_id"), 2L)
+            .setField(field(type, "min_capacity"), 3)
+            .setField(field(type, "max_price"), "150.00")
+            .setField(field(type, "check_in"), "2030-05-01")
+            .setField(field(type, "check_out"), "2030-05-03")
+            .setField(field(type, "limit"), 10)
+            .build();
+
+        DynamicMessage page = ClientCalls.blockingUnaryCall(channel, method("SearchAvailability"),
+            CallOptions.DEFAULT, request);
+
+        ArgumentCaptor<RoomSearchCriteria> criteria = ArgumentCaptor.forClass(RoomSearchCriteria.class);
+        verify(roomService).searchRooms(criteria.capture());
+        assertEquals(2L, criteria.getValue().getHotelId());
+        assertEquals(3, criteria.getValue().getMinCapacity());
+        assertEquals(new BigDecimal("150.00"), criteria.getValue().getMaxPrice());
+        assertEquals(CHECK_IN, criteria.getValue().getCheckIn());
+        assertEquals(CHECK_IN.plusDays(2), criteria.getValue().getCheckOut());
+        assertEquals(10, criteria.getValue().getLimit());
+
+        assertTrue(page.getUnknownFields().asMap().isEmpty());
+        assertEquals("next", get(page, "next_cursor"));
+        assertEquals(true, get(page, "has_more"));
+        DynamicMessage item = (DynamicMessage) page.getRepeatedField(field(page.getDescriptorForType(), "items"), 0);
+        assertEquals(3L, get(item, "id"));
+        assertEquals("301", get(item, "room_number"));
+        assertEquals("90.00", get(item, "price_per_night"));
+    }
+
+    @Test
+    void quoteAnswersWithResultsAndErrorsOfTheSchema() throws Exception {
+        when(roomService.quote(1L, CHECK_IN, CHECK_IN.plusDays(2), 7L)).thenReturn(
+            new RoomQuote(1L, CHECK_IN, CHECK_IN.plusDays(2), 2, new BigDecimal("80.00"), new BigDecimal("160.00"), true));
+        when(roomService.quote(2L, CHECK_IN, CHECK_IN.plusDays(2), 7L))
+            .thenThrow(new ResourceNotFoundException("Room not found with id: 2"));
+        Descriptor type = ProtoSchema.message("QuoteRequest");
+
+        List<DynamicMessage> results = stream("Quote", List.of(
+            stay(type, "a", "room_id", 1L),
+            stay(type, "b", "room_id", 2L)));
+
+        DynamicMessage quote = results.get(0);
+        assertTrue(quote.getUnknownFields().asMap().isEmpty());
+        assertEquals("a", get(quote, "request_id"));
+        assertEquals(1L, get(quote, "room_id"));
+        assertEquals("2030-05-01", get(quote, "check_in"));
+        assertEquals("2030-05-03", get(quote, "check_out"));
+        assertEquals(2L, get(quote, "nights"));
+        assertEquals("80.00", get(quote, "price_per_night"));
+        assertEquals("160.00", get(quote, "total_price"));
+        assertEquals(true, get(quote, "available"));
+        assertFalse(has(quote, "error"));
+
+        DynamicMessage failed = results.get(1);
+        assertEquals("b", get(failed, "request_id"));
+        DynamicMessage error = (DynamicMessage) get(failed, "error");
+        assertEquals("NOT_FOUND", get(error, "code"));
+        assertEquals("Room not found with id: 2", get(error, "message"));
+    }
+
+    @Test
+    void createBookingsAnswersWithTheBookingMessage() throws Exception {
+        when(bookingService.createBooking(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(40L);
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setTotalPrice(new BigDecimal("270.00"));
+            return booking;
+        });
+        Descriptor type = ProtoSchema.message("CreateBookingRequest");
+
+        List<DynamicMessage> results = stream("CreateBookings", List.of(stay(type, "c1", "room_id", 5L)));
+
+        ArgumentCaptor<Booking> created = ArgumentCaptor.forClass(Booking.class);
+        verify(bookingService).createBooking(created.capture());
+        assertEquals(5L, created.getValue().getRoomId());
+        assertEquals(CHECK_IN, created.getValue().getCheckInDate());
+        assertEquals(CHECK_IN.plusDays(2), created.getValue().getCheckOutDate());
+
+        DynamicMessage result = results.get(0);
+        assertTrue(result.getUnknownFields().asMap().isEmpty());
+        assertEquals("c1", get(result, "request_id"));
+        DynamicMessage booking = (DynamicMessage) get(result, "booking");
+        assertTrue(booking.getUnknownFields().asMap().isEmpty());
+        assertEquals(40L, get(booking, "id"));
+        assertEquals("CONFIRMED", get(booking, "status"));
+        assertEquals("270.00", get(booking, "total_price"));
+        assertEquals(7L, get(booking, "user_id"));
+        assertEquals(5L, get(booking, "room_id"));
+    }
+
+    @Test
+    void cancelBookingsReadsTheBookingId() throws Exception {
+        Booking booking = new Booking();
+        booking.setId(41L);
+        booking.setUserId(7L);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        Booking cancelled = new Booking();
+        cancelled.setId(41L);
+        cancelled.setUserId(7L);
+        cancelled.setStatus(BookingStatus.CANCELLED);
+        when(bookingService.getBookingById(41L)).thenReturn(Optional.of(booking), Optional.of(cancelled));
+        Descriptor type = ProtoSchema.message("CancelBookingRequest");
+        DynamicMessage request = DynamicMessage.newBuilder(type)
+            .setField(field(type, "request_id"), "x")
+            .setField(field(type, "booking_id"), 41L)
+            .build();
+
+        List<DynamicMessage> results = stream("CancelBookings", List.of(request));
+
+        verify(bookingService).cancelBooking(41L);
+        assertEquals("x", get(results.get(0), "request_id"));
+        assertEquals("CANCELLED", get((DynamicMessage) get(results.get(0), "booking"), "status"));
+    }
+
+    private static DynamicMessage stay(Descriptor type, String requestId, String idField, long id) {
+        return DynamicMessage.newBuilder(type)
+            .setField(field(type, "request_id"), requestId)
+            .setField(field(type, idField), id)
+            .setField(field(type, "check_in"), "2030-05-01")
+            .setField(field(type, "check_out"), "2030-05-03")
+            .build();
+    }
+
+    private List<DynamicMessage> stream(String name, List<DynamicMessage> requests) throws Exception {
+        List<DynamicMessage> results = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        StreamObserver<DynamicMessage> out = ClientCalls.asyncBidiStreamingCall(
+            channel.newCall(method(name), CallOptions.DEFAULT), new StreamObserver<DynamicMessage>() {
+                @Override
+                public void onNext(DynamicMessage value) {
+                    results.add(value);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    done.countDown();
+                }
+
+                @Override
+                public void onCompleted() {
+                    done.countDown();
+                }
+            });
+        requests.forEach(out::onNext);
+        out.onCompleted();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(requests.size(), results.size());
+        return results;
+    }
+
+    // What protoc-gen-grpc-java would generate for the method, over dynamic messages
+    private static io.grpc.MethodDescriptor<DynamicMessage, DynamicMessage> method(String name) {
+        MethodDescriptor method = SERVICE.findMethodByName(name);
+        return io.grpc.MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+            .setType(methodType(method))
+            .setFullMethodName(io.grpc.MethodDescriptor.generateFullMethodName(SERVICE.getFullName(), name))
+            .setRequestMarshaller(marshaller(method.getInputType()))
+            .setResponseMarshaller(marshaller(method.getOutputType()))
+            .build();
+    }
+
+    private static io.grpc.MethodDescriptor.MethodType methodType(MethodDescriptor method) {
+        if (method.isClientStreaming()) {
+            return method.isServerStreaming() ? io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING
+                : io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING;
+        }
+        return method.isServerStreaming() ? io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING
+            : io.grpc.MethodDescriptor.MethodType.UNARY;
+    }
+
+    private static io.grpc.MethodDescriptor.Marshaller<DynamicMessage> marshaller(Descriptor type) {
+        return new io.grpc.MethodDescriptor.Marshaller<>() {
+
+            @Override
+            public InputStream stream(DynamicMessage message) {
+                return message.toByteString().newInput();
+            }
+
+            @Override
+            public DynamicMessage parse(InputStream stream) {
+                try {
+                    return DynamicMessage.parseFrom(type, stream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    private static FieldDescriptor field(Descriptor type, String name) {
+        FieldDescriptor field = type.findFieldByName(name);
+        if (field == null) {
+            throw new AssertionError(type.getFullName() + " has no field " + name);
+        }
+        return field;
+    }
+
+    private static Object get(DynamicMessage message, String name) {
+        return message.getField(field(message.getDescriptorForType(), name));
+    }
+
+    private static boolean has(DynamicMessage message, String name) {
+        return message.hasField(field(message.getDescriptorForType(), name));
+    }
+}
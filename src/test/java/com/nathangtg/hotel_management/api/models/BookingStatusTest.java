@@ -0,0 +1,44 @@
+package com.nathangtg.hotel_management.api.models;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingStatusTest {
+
+    @Test
+    void testCodesRoundTrip() {
+        // Arrange
+        BookingStatusConverter converter = new BookingStatusConverter();
+
+        // Act & Assert
+        for (BookingStatus status : BookingStatus.values()) {
+            assertEquals(status, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(status)));
+        }
+        assertEquals((short) 1, converter.convertToDatabaseColumn(BookingStatus.PENDING));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertThrows(IllegalArgumentException.class, () -> BookingStatus.fromCode((short) 42));
+    }
+
+    @Test
+    void testTransitions() {
+        // Act & Assert
+        assertTrue(BookingStatus.PENDING.canTransitionTo(BookingStatus.CONFIRMED));
+        assertTrue(BookingStatus.CONFIRMED.canTransitionTo(BookingStatus.CHECKED_IN));
+        assertTrue(BookingStatus.CHECKED_IN.canTransitionTo(BookingStatus.CHECKED_OUT));
+        assertTrue(BookingStatus.CANCELLED.canTransitionTo(BookingStatus.CANCELLED));
+        assertFalse(BookingStatus.CONFIRMED.canTransitionTo(BookingStatus.PENDING));
+        assertFalse(BookingStatus.CHECKED_IN.canTransitionTo(BookingStatus.CANCELLED));
+        assertFalse(BookingStatus.CHECKED_OUT.canTransitionTo(BookingStatus.CHECKED_IN));
+    }
+
+    @Test
+    void testRoleMasks() {
+        // Act & Assert
+        assertTrue(Role.ADMIN.in(Role.BACK_OFFICE));
+        assertTrue(Role.STAFF.in(Role.BACK_OFFICE));
+        assertFalse(Role.USER.in(Role.BACK_OFFICE));
+        assertEquals(Role.STAFF, Role.fromName(" staff "));
+        assertEquals(Role.ADMIN, new RoleConverter().convertToEntityAttribute(Role.ADMIN.getCode()));
+        assertThrows(IllegalArgumentException.class, () -> Role.fromName("SUPER_ADMIN"));
+    }
+}
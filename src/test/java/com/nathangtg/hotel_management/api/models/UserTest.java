@@ -32,7 +32,7 @@ class UserTest {
 
         // Test all-args constructor - need to construct with all fields in correct order
         User userWithArgs = new User(1L, "testuser", "encodedpassword", "Test", "User", 
-                                   "test@example.com", "1234567890", "123 Test St", "USER",
+                                   "test@example.com", "1234567890", "123 Test St", Role.USER,
                                    null, null); // managements and bookings (List fields) are initialized as null in this call
 
         assertEquals(1L, userWithArgs.getId());
@@ -43,7 +43,7 @@ class UserTest {
         assertEquals("test@example.com", userWithArgs.getEmail());
         assertEquals("1234567890", userWithArgs.getPhone());
         assertEquals("123 Test St", userWithArgs.getAddress());
-        assertEquals("USER", userWithArgs.getRole());
+        assertEquals(Role.USER, userWithArgs.getRole());
     }
 
     @Test
@@ -60,7 +60,7 @@ class UserTest {
         user.setEmail("new@example.com");
         user.setPhone("0987654321");
         user.setAddress("456 New St");
-        user.setRole("ADMIN");
+        user.setRole(Role.ADMIN);
 
         // Assert
         assertEquals(1L, user.getId());
@@ -71,6 +71,6 @@ class UserTest {
         assertEquals("new@example.com", user.getEmail());
         assertEquals("0987654321", user.getPhone());
         assertEquals("456 New St", user.getAddress());
-        assertEquals("ADMIN", user.getRole());
+        assertEquals(Role.ADMIN, user.getRole());
     }
 }
\ No newline at end of file
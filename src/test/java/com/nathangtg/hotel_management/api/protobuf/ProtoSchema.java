@@ -0,0 +1,89 @@
+package com.nathangtg.hotel_management.api.protobuf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Descriptors.ServiceDescriptor;
+
+/**
+ * The descriptors protoc compiles from src/main/proto during test-compile (see the
+ * protobuf-maven-plugin execution in pom.xml), for checking the hand-written codecs
+ * against the schema clients actually generate from.
+ */
+public final class ProtoSchema {
+
+    private static final String DESCRIPTOR_SET = "/proto/hotel_management.pb";
+    private static final String PACKAGE = "hotel_management.v1.";
+
+    private static final Map<String, FileDescriptor> FILES = load();
+
+    private ProtoSchema() {
+    }
+
+    public static Descriptor message(String name) {
+        for (FileDescriptor file : FILES.values()) {
+            Descriptor descriptor = file.findMessageTypeByName(name);
+            if (descriptor != null) {
+                return descriptor;
+            }
+        }
+        throw new IllegalArgumentException("No message " + PACKAGE + name);
+    }
+
+    public static ServiceDescriptor service(String name) {
+        for (FileDescriptor file : FILES.values()) {
+            ServiceDescriptor descriptor = file.findServiceByName(name);
+            if (descriptor != null) {
+                return descriptor;
+            }
+        }
+        throw new IllegalArgumentException("No service " + PACKAGE + name);
+    }
+
+    private static Map<String, FileDescriptor> load() {
+        try (InputStream in = ProtoSchema.class.getResourceAsStream(DESCRIPTOR_SET)) {
+            if (in == null) {
+                throw new IllegalStateException(DESCRIPTOR_SET + " is missing; run the test-compile phase");
+            }
+            Map<String, FileDescriptorProto> protos = new HashMap<>();
+            for (FileDescriptorProto proto : FileDescriptorSet.parseFrom(in).getFileList()) {
+                protos.put(proto.getName(), proto);
+            }
+            Map<String, FileDescriptor> files = new HashMap<>();
+            for (String name : protos.keySet()) {
+                build(name, protos, files);
+            }
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FileDescriptor build(String name, Map<String, FileDescriptorProto> protos,
+            Map<String, FileDescriptor> files) {
+        FileDescriptor built = files.get(name);
+        if (built != null) {
+            return built;
+        }
+        FileDescriptorProto proto = protos.get(name);
+        FileDescriptor[] dependencies = new FileDescriptor[proto.getDependencyCount()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = build(proto.getDependency(i), protos, files);
+        }
+        try {
+            built = FileDescriptor.buildFrom(proto, dependencies);
+        } catch (DescriptorValidationException e) {
+            throw new IllegalStateException("Invalid descriptor " + name, e);
+        }
+        files.put(name, built);
+        return built;
+    }
+}
@@ -0,0 +1,184 @@
+package com.nathangtg.hotel_management.api.protobuf;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import com.google.protobuf.UnknownFieldSet;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+
+class ProtobufCodecTest {
+
+    private Hotel hotel;
+    private Room room;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel();
+        hotel.setId(1L);
+        hotel.setName("Harbour View");
+        hotel.setAddress("1 Quay Street");
+        hotel.setPhone("555-0100");
+        hotel.setEmail("stay@harbour.test");
+        hotel.setLatitude(1.2834);
+        hotel.setCreatedAt(1_700_000_000_000L);
+
+        room = new Room();
+        room.setId(10L);
+        room.setRoomNumber("101");
+        room.setRoomType("DELUXE");
+        room.setCapacity(2);
+        room.setPricePerNight(new BigDecimal("180.50"));
+        room.setIsAvailable(false);
+        room.setHotel(hotel);
+
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("guest");
+        user.setPassword("$2a$10$secret-hash");
+        user.setFirstName("Ada");
+        user.setLastName("Guest");
+        user.setEmail("ada@guest.test");
+        user.setRole(Role.USER);
+
+        booking = new Booking();
+        booking.setId(100L);
+        booking.setCheckInDate(LocalDate.of(2026, 3, 1));
+        booking.setCheckOutDate(LocalDate.of(2026, 3, 4));
+        booking.setTotalPrice(new BigDecimal("541.50"));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setHoldExpiresAt(Instant.parse("2026-02-28T10:15:30Z"));
+        booking.setUser(user);
+        booking.setRoom(room);
+    }
+
+    @Test
+    void roomListRoundTrips() throws Exception {
+        List<Room> decoded = ProtobufCodec.readRooms(encode(List.of(room, room)));
+
+        assertEquals(2, decoded.size());
+        Room copy = decoded.get(0);
+        assertEquals(10L, copy.getId());
+        assertEquals("101", copy.getRoomNumber());
+        assertEquals(2, copy.getCapacity());
+        assertEquals(new BigDecimal("180.50"), copy.getPricePerNight());
+        assertFalse(copy.getIsAvailable());
+        assertEquals("Harbour View", copy.getHotel().getName());
+        assertEquals(1.2834, copy.getHotel().getLatitude());
+        assertNull(copy.getHotel().getLongitude());
+        assertNull(copy.getUpdatedAt());
+    }
+
+    @Test
+    void bookingPageRoundTrips() throws Exception {
+        KeysetPage<Booking> page = new KeysetPage<>(List.of(booking), "cursor-1");
+
+        KeysetPage<Booking> decoded = ProtobufCodec.readBookingPage(encode(page));
+
+        assertEquals("cursor-1", decoded.getNextCursor());
+        assertTrue(decoded.isHasMore());
+        Booking copy = decoded.getItems().get(0);
+        assertEquals(LocalDate.of(2026, 3, 1), copy.getCheckInDate());
+        assertEquals(new BigDecimal("541.50"), copy.getTotalPrice());
+        assertEquals(BookingStatus.CONFIRMED, copy.getStatus());
+        assertEquals(Instant.parse("2026-02-28T10:15:30Z"), copy.getHoldExpiresAt());
+        assertEquals(Role.USER, copy.getUser().getRole());
+        assertEquals(7L, copy.getUserId());
+        assertEquals(10L, copy.getRoomId());
+        assertEquals("Harbour View", copy.getRoom().getHotel().getName());
+    }
+
+    @Test
+    void bookingOnlyReferencingIdsKeepsThem() throws Exception {
+        Booking reference = new Booking();
+        reference.setId(5L);
+        reference.setUserId(7L);
+        reference.setRoomId(10L);
+
+        Booking copy = ProtobufCodec.readBooking(encode(reference));
+
+        assertEquals(7L, copy.getUserId());
+        assertEquals(10L, copy.getRoomId());
+    }
+
+    @Test
+    void fieldNumbersMatchTheSchema() throws Exception {
+        UnknownFieldSet message = UnknownFieldSet.parseFrom(encode(booking));
+
+        assertEquals("2026-03-01", utf8(message, 2));
+        assertEquals("541.50", utf8(message, 4));
+        assertEquals("CONFIRMED", utf8(message, 5));
+        assertEquals(7L, message.getField(9).getVarintList().get(0));
+        assertEquals(10L, message.getField(10).getVarintList().get(0));
+
+        UnknownFieldSet user = UnknownFieldSet.parseFrom(message.getField(7).getLengthDelimitedList().get(0));
+        assertEquals("guest", utf8(user, 2));
+        assertEquals("USER", utf8(user, 8));
+        assertEquals("Ada Guest", utf8(user, 9));
+
+        UnknownFieldSet roomMessage = UnknownFieldSet.parseFrom(message.getField(8).getLengthDelimitedList().get(0));
+        assertEquals(2L, roomMessage.getField(4).getVarintList().get(0));
+        assertEquals(0L, roomMessage.getField(6).getVarintList().get(0));
+        UnknownFieldSet hotelMessage = UnknownFieldSet.parseFrom(roomMessage.getField(7).getLengthDelimitedList().get(0));
+        assertEquals(Double.doubleToLongBits(1.2834), hotelMessage.getField(6).getFixed64List().get(0));
+        assertFalse(hotelMessage.hasField(7));
+    }
+
+    @Test
+    void parsesPlainAndExtendedDates() {
+        assertEquals(LocalDate.of(2026, 3, 1), ProtobufCodec.parseDate("2026-03-01"));
+        assertEquals(LocalDate.of(12026, 3, 1), ProtobufCodec.parseDate("+12026-03-01"));
+    }
+
+    @Test
+    void passwordIsNeverEncoded() throws Exception {
+        String wire = new String(encode(booking), StandardCharsets.ISO_8859_1);
+
+        assertFalse(wire.contains("secret-hash"));
+    }
+
+    @Test
+    void supportsCoreTypesAndTheirListsAndPages() {
+        assertTrue(ProtobufCodec.supports(ResolvableType.forClass(Hotel.class)));
+        assertTrue(ProtobufCodec.supports(ResolvableType.forClassWithGenerics(List.class, Room.class)));
+        assertTrue(ProtobufCodec.supports(ResolvableType.forClassWithGenerics(KeysetPage.class, Booking.class)));
+
+        assertFalse(ProtobufCodec.supports(ResolvableType.forClass(List.class)));
+        assertFalse(ProtobufCodec.supports(ResolvableType.forClassWithGenerics(List.class, String.class)));
+        assertFalse(ProtobufCodec.supports(ResolvableType.forClassWithGenerics(KeysetPage.class, Hotel.class)));
+        assertFalse(ProtobufCodec.supports(ResolvableType.forClass(Map.class)));
+    }
+
+    private static byte[] encode(Object value) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ProtobufCodec.write(value, out);
+        byte[] written = out.toByteArray();
+        assertArrayEquals(written, ProtobufCodec.encode(value));
+        return written;
+    }
+
+    private static String utf8(UnknownFieldSet message, int field) {
+        return message.getField(field).getLengthDelimitedList().get(0).toStringUtf8();
+    }
+}
@@ -0,0 +1,218 @@
+package com.nathangtg.hotel_management.api.protobuf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+
+/**
+ * Decodes what {@link ProtobufCodec} writes with messages built from the protoc-compiled
+ * .proto descriptors, and the other way round, so the codec and the published schema
+ * cannot drift apart.
+ */
+class ProtobufConformanceTest {
+
+    private static final Descriptor HOTEL = ProtoSchema.message("Hotel");
+    private static final Descriptor USER = ProtoSchema.message("User");
+    private static final Descriptor ROOM = ProtoSchema.message("Room");
+    private static final Descriptor BOOKING = ProtoSchema.message("Booking");
+
+    private Hotel hotel;
+    private Room room;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel();
+        hotel.setId(1L);
+        hotel.setName("Harbour View");
+        hotel.setAddress("1 Quay Street");
+        hotel.setLatitude(1.2834);
+        hotel.setCreatedAt(1_700_000_000_000L);
+
+        room = new Room();
+        room.setId(10L);
+        room.setRoomNumber("101");
+        room.setRoomType("DELUXE");
+        room.setCapacity(2);
+        room.setPricePerNight(new BigDecimal("180.50"));
+        room.setIsAvailable(false);
+        room.setHotel(hotel);
+
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("guest");
+        user.setPassword("$2a$10$secret-hash");
+        user.setFirstName("Ada");
+        user.setLastName("Guest");
+        user.setRole(Role.USER);
+
+        booking = new Booking();
+        booking.setId(100L);
+        booking.setCheckInDate(LocalDate.of(2026, 3, 1));
+        booking.setCheckOutDate(LocalDate.of(2026, 3, 4));
+        booking.setTotalPrice(new BigDecimal("541.50"));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setHoldExpiresAt(Instant.parse("2026-02-28T10:15:30Z"));
+        booking.setUser(user);
+        booking.setRoom(room);
+    }
+
+    @Test
+    void schemaParsesAnEncodedBooking() throws Exception {
+        DynamicMessage message = DynamicMessage.parseFrom(BOOKING, ProtobufCodec.encode(booking));
+
+        assertTrue(message.getUnknownFields().asMap().isEmpty());
+        assertEquals(100L, get(message, "id"));
+        assertEquals("2026-03-01", get(message, "check_in_date"));
+        assertEquals("2026-03-04", get(message, "check_out_date"));
+        assertEquals("541.50", get(message, "total_price"));
+        assertEquals("CONFIRMED", get(message, "status"));
+        assertEquals("2026-02-28T10:15:30Z", get(message, "hold_expires_at"));
+        assertEquals(7L, get(message, "user_id"));
+        assertEquals(10L, get(message, "room_id"));
+        assertFalse(has(message, "created_at"));
+
+        DynamicMessage user = (DynamicMessage) get(message, "user");
+        assertTrue(user.getUnknownFields().asMap().isEmpty());
+        assertEquals("guest", get(user, "username"));
+        assertEquals("USER", get(user, "role"));
+        assertEquals("Ada Guest", get(user, "full_name"));
+        assertFalse(has(user, "email"));
+
+        DynamicMessage roomMessage = (DynamicMessage) get(message, "room");
+        assertEquals("101", get(roomMessage, "room_number"));
+        assertEquals(2, get(roomMessage, "capacity"));
+        assertEquals("180.50", get(roomMessage, "price_per_night"));
+        assertTrue(has(roomMessage, "is_available"));
+        assertEquals(false, get(roomMessage, "is_available"));
+
+        DynamicMessage hotelMessage = (DynamicMessage) get(roomMessage, "hotel");
+        assertEquals("Harbour View", get(hotelMessage, "name"));
+        assertEquals(1.2834, get(hotelMessage, "latitude"));
+        assertFalse(has(hotelMessage, "longitude"));
+        assertEquals(1_700_000_000_000L, get(hotelMessage, "created_at"));
+    }
+
+    @Test
+    void schemaParsesEncodedListsAndPages() throws Exception {
+        DynamicMessage list = DynamicMessage.parseFrom(ProtoSchema.message("RoomList"),
+            ProtobufCodec.encode(List.of(room, room)));
+        assertEquals(2, list.getRepeatedFieldCount(field(list.getDescriptorForType(), "items")));
+
+        DynamicMessage page = DynamicMessage.parseFrom(ProtoSchema.message("BookingPage"),
+            ProtobufCodec.encode(new KeysetPage<>(List.of(booking), "cursor-1")));
+        assertTrue(page.getUnknownFields().asMap().isEmpty());
+        assertEquals("cursor-1", get(page, "next_cursor"));
+        assertEquals(true, get(page, "has_more"));
+        DynamicMessage item = (DynamicMessage) page.getRepeatedField(field(page.getDescriptorForType(), "items"), 0);
+        assertEquals(100L, get(item, "id"));
+    }
+
+    @Test
+    void codecReadsABookingBuiltFromTheSchema() throws Exception {
+        DynamicMessage hotelMessage = DynamicMessage.newBuilder(HOTEL)
+            .setField(field(HOTEL, "id"), 1L)
+            .setField(field(HOTEL, "name"), "Harbour View")
+            .setField(field(HOTEL, "longitude"), 103.85)
+            .build();
+        DynamicMessage roomMessage = DynamicMessage.newBuilder(ROOM)
+            .setField(field(ROOM, "id"), 10L)
+            .setField(field(ROOM, "room_number"), "101")
+            .setField(field(ROOM, "capacity"), 2)
+            .setField(field(ROOM, "price_per_night"), "180.50")
+            .setField(field(ROOM, "is_available"), true)
+            .setField(field(ROOM, "hotel"), hotelMessage)
+            .build();
+        DynamicMessage userMessage = DynamicMessage.newBuilder(USER)
+            .setField(field(USER, "id"), 7L)
+            .setField(field(USER, "username"), "guest")
+            .setField(field(USER, "role"), "ADMIN")
+            .build();
+        DynamicMessage message = DynamicMessage.newBuilder(BOOKING)
+            .setField(field(BOOKING, "id"), 100L)
+            .setField(field(BOOKING, "check_in_date"), "2026-03-01")
+            .setField(field(BOOKING, "check_out_date"), "2026-03-04")
+            .setField(field(BOOKING, "total_price"), "541.50")
+            .setField(field(BOOKING, "status"), "PENDING")
+            .setField(field(BOOKING, "hold_expires_at"), "2026-02-28T10:15:30Z")
+            .setField(field(BOOKING, "user"), userMessage)
+            .setField(field(BOOKING, "room"), roomMessage)
+            .setField(field(BOOKING, "updated_at"), 1_700_000_000_000L)
+            .build();
+
+        Booking copy = ProtobufCodec.readBooking(message.toByteArray());
+
+        assertEquals(100L, copy.getId());
+        assertEquals(LocalDate.of(2026, 3, 1), copy.getCheckInDate());
+        assertEquals(LocalDate.of(2026, 3, 4), copy.getCheckOutDate());
+        assertEquals(new BigDecimal("541.50"), copy.getTotalPrice());
+        assertEquals(BookingStatus.PENDING, copy.getStatus());
+        assertEquals(Instant.parse("2026-02-28T10:15:30Z"), copy.getHoldExpiresAt());
+        assertEquals(1_700_000_000_000L, copy.getUpdatedAt());
+        assertNull(copy.getCreatedAt());
+        assertEquals(Role.ADMIN, copy.getUser().getRole());
+        assertEquals("guest", copy.getUser().getUsername());
+        assertEquals("101", copy.getRoom().getRoomNumber());
+        assertTrue(copy.getRoom().getIsAvailable());
+        assertEquals(103.85, copy.getRoom().getHotel().getLongitude());
+        assertNull(copy.getRoom().getHotel().getLatitude());
+    }
+
+    @Test
+    void codecReadsAPageBuiltFromTheSchema() throws Exception {
+        Descriptor pageType = ProtoSchema.message("RoomPage");
+        DynamicMessage roomMessage = DynamicMessage.newBuilder(ROOM)
+            .setField(field(ROOM, "id"), 10L)
+            .setField(field(ROOM, "room_number"), "101")
+            .build();
+        DynamicMessage page = DynamicMessage.newBuilder(pageType)
+            .addRepeatedField(field(pageType, "items"), roomMessage)
+            .addRepeatedField(field(pageType, "items"), roomMessage)
+            .setField(field(pageType, "next_cursor"), "cursor-2")
+            .setField(field(pageType, "has_more"), true)
+            .build();
+
+        KeysetPage<Room> decoded = ProtobufCodec.readRoomPage(page.toByteArray());
+
+        assertEquals(2, decoded.getItems().size());
+        assertEquals("101", decoded.getItems().get(1).getRoomNumber());
+        assertEquals("cursor-2", decoded.getNextCursor());
+        assertTrue(decoded.isHasMore());
+    }
+
+    private static FieldDescriptor field(Descriptor type, String name) {
+        FieldDescriptor field = type.findFieldByName(name);
+        if (field == null) {
+            throw new AssertionError(type.getFullName() + " has no field " + name);
+        }
+        return field;
+    }
+
+    private static Object get(DynamicMessage message, String name) {
+        return message.getField(field(message.getDescriptorForType(), name));
+    }
+
+    private static boolean has(DynamicMessage message, String name) {
+        return message.hasField(field(message.getDescriptorForType(), name));
+    }
+}
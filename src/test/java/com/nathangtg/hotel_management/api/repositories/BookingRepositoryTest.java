@@ -1,9 +1,13 @@
 package com.nathangtg.hotel_management.api.repositories;
 
+import com.nathangtg.hotel_management.api.dto.BookingSearchCriteria;
 import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
 import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.Room;
 import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.repositories.specifications.BookingSpecifications;
 import com.nathangtg.hotel_management.config.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +16,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,7 +53,7 @@ class BookingRepositoryTest {
         testUser.setFirstName("Book");
         testUser.setLastName("Er");
         testUser.setEmail("booker@example.com");
-        testUser.setRole("USER");
+        testUser.setRole(Role.USER);
         testUser = userRepository.save(testUser);
 
         testHotel = new Hotel();
@@ -71,7 +77,7 @@ class BookingRepositoryTest {
         testBooking.setCheckInDate(LocalDate.now().plusDays(1));
         testBooking.setCheckOutDate(LocalDate.now().plusDays(3));
         testBooking.setTotalPrice(BigDecimal.valueOf(200.00));
-        testBooking.setStatus("CONFIRMED");
+        testBooking.setStatus(BookingStatus.CONFIRMED);
         testBooking.setUser(testUser);
         testBooking.setRoom(testRoom);
     }
@@ -83,7 +89,7 @@ class BookingRepositoryTest {
 
         // Assert
         assertNotNull(savedBooking.getId());
-        assertEquals("CONFIRMED", savedBooking.getStatus());
+        assertEquals(BookingStatus.CONFIRMED, savedBooking.getStatus());
         assertEquals(testUser.getId(), savedBooking.getUserId());
         assertEquals(testUser, savedBooking.getUser());
         assertEquals(testRoom, savedBooking.getRoom());
@@ -100,7 +106,7 @@ class BookingRepositoryTest {
         // Assert
         assertTrue(foundBooking.isPresent());
         assertEquals(savedBooking.getId(), foundBooking.get().getId());
-        assertEquals("CONFIRMED", foundBooking.get().getStatus());
+        assertEquals(BookingStatus.CONFIRMED, foundBooking.get().getStatus());
     }
 
     @Test
@@ -109,11 +115,11 @@ class BookingRepositoryTest {
         Booking savedBooking = bookingRepository.save(testBooking);
 
         // Act
-        savedBooking.setStatus("CHECKED_IN");
+        savedBooking.setStatus(BookingStatus.CHECKED_IN);
         Booking updatedBooking = bookingRepository.save(savedBooking);
 
         // Assert
-        assertEquals("CHECKED_IN", updatedBooking.getStatus());
+        assertEquals(BookingStatus.CHECKED_IN, updatedBooking.getStatus());
     }
 
     @Test
@@ -139,16 +145,93 @@ class BookingRepositoryTest {
         anotherBooking.setCheckInDate(LocalDate.now().plusDays(5));
         anotherBooking.setCheckOutDate(LocalDate.now().plusDays(7));
         anotherBooking.setTotalPrice(BigDecimal.valueOf(300.00));
-        anotherBooking.setStatus("PENDING"); // Different status
+        anotherBooking.setStatus(BookingStatus.PENDING); // Different status
         anotherBooking.setUser(testUser);
         anotherBooking.setRoom(testRoom);
         bookingRepository.save(anotherBooking);
 
         // Act
-        List<Booking> confirmedBookings = bookingRepository.findByStatus("CONFIRMED");
+        List<Booking> confirmedBookings = bookingRepository.findByStatus(BookingStatus.CONFIRMED);
 
         // Assert
         assertEquals(1, confirmedBookings.size());
-        assertEquals("CONFIRMED", confirmedBookings.get(0).getStatus());
+        assertEquals(BookingStatus.CONFIRMED, confirmedBookings.get(0).getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchCombinesStatusHotelDatesAndGuestName() {
+        // Arrange
+        LocalDate start = LocalDate.of(2030, 3, 1);
+        Booking match = bookingRepository.save(booking(testUser, start.plusDays(2), BookingStatus.CONFIRMED));
+        bookingRepository.save(booking(testUser, start.plusDays(3), BookingStatus.CANCELLED));
+        bookingRepository.save(booking(testUser, start.plusDays(30), BookingStatus.CONFIRMED));
+
+        User otherGuest = new User();
+        otherGuest.setUsername("other");
+        otherGuest.setPassword("password123");
+        otherGuest.setFirstName("Other");
+        otherGuest.setLastName("Guest");
+        otherGuest.setEmail("other@example.com");
+        otherGuest.setRole(Role.USER);
+        otherGuest = userRepository.save(otherGuest);
+        bookingRepository.save(booking(otherGuest, start.plusDays(2), BookingStatus.CONFIRMED));
+
+        BookingSearchCriteria criteria = new BookingSearchCriteria();
+        criteria.setStatuses(List.of(BookingStatus.CONFIRMED));
+        criteria.setHotelId(testHotel.getId());
+        criteria.setCheckInFrom(start);
+        criteria.setCheckInTo(start.plusDays(7));
+        criteria.setGuestName("E");
+
+        // Act
+        List<Booking> found = bookingRepository.findAll(BookingSpecifications.matching(criteria));
+
+        // Assert
+        assertEquals(1, found.size());
+        assertEquals(match.getId(), found.get(0).getId());
+    }
+
+    @Test
+    void testSearchGuestNameEscapesWildcards() {
+        // Arrange
+        bookingRepository.save(testBooking);
+
+        // Act
+        List<Booking> found = bookingRepository.findAll(BookingSpecifications.guestLastNameStartsWith("%"));
+
+        // Assert
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    void testOnlyConfirmedStaysAndSynchronousPendingBookingsOccupyTheRoom() {
+        // Arrange
+        LocalDate start = LocalDate.of(2030, 4, 1);
+        EnumSet<BookingStatus> occupying = EnumSet.of(BookingStatus.CONFIRMED, BookingStatus.CHECKED_IN);
+        Booking cancelled = bookingRepository.save(booking(testUser, start, BookingStatus.CANCELLED));
+        Booking hold = booking(testUser, start.plusDays(5), BookingStatus.PENDING);
+        hold.setHoldExpiresAt(Instant.now().plusSeconds(300));
+        hold = bookingRepository.save(hold);
+
+        // Act & Assert
+        assertFalse(bookingRepository.existsOtherBookingOccupyingRoom(cancelled.getId(), testRoom.getId(), occupying));
+
+        Booking confirmed = bookingRepository.save(booking(testUser, start.plusDays(10), BookingStatus.CONFIRMED));
+        assertTrue(bookingRepository.existsOtherBookingOccupyingRoom(hold.getId(), testRoom.getId(), occupying));
+        assertFalse(bookingRepository.existsOtherBookingOccupyingRoom(confirmed.getId(), testRoom.getId(), occupying));
+
+        bookingRepository.save(booking(testUser, start.plusDays(20), BookingStatus.PENDING));
+        assertTrue(bookingRepository.existsOtherBookingOccupyingRoom(confirmed.getId(), testRoom.getId(), occupying));
+    }
+
+    private Booking booking(User guest, LocalDate checkIn, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setUser(guest);
+        booking.setRoom(testRoom);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkIn.plusDays(2));
+        booking.setTotalPrice(BigDecimal.valueOf(200.00));
+        booking.setStatus(status);
+        return booking;
+    }
+}
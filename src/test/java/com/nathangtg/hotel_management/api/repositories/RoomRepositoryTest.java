@@ -1,21 +1,31 @@
 package com.nathangtg.hotel_management.api.repositories;
 
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
 import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.repositories.specifications.KeysetSpecifications;
+import com.nathangtg.hotel_management.api.repositories.specifications.RoomSpecifications;
 import com.nathangtg.hotel_management.config.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
-@Import(TestConfig.class)
+@Import({TestConfig.class, FieldProjectionRepository.class})
 class RoomRepositoryTest {
 
     @Autowired
@@ -24,6 +34,15 @@ class RoomRepositoryTest {
     @Autowired
     private HotelRepository hotelRepository;
 
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FieldProjectionRepository fieldProjectionRepository;
+
     private Hotel testHotel;
     private Room testRoom;
 
@@ -60,6 +79,19 @@ class RoomRepositoryTest {
         assertEquals(testHotel, savedRoom.getHotel());
     }
 
+    @Test
+    void testFindAllWithHotelByIdIn() {
+        // Arrange
+        Room savedRoom = roomRepository.save(testRoom);
+
+        // Act
+        List<Room> rooms = roomRepository.findAllWithHotelByIdIn(List.of(savedRoom.getId(), -1L));
+
+        // Assert
+        assertEquals(1, rooms.size());
+        assertEquals("Test Hotel", rooms.get(0).getHotel().getName());
+    }
+
     @Test
     void testFindByHotelId() {
         // Arrange
@@ -132,4 +164,164 @@ class RoomRepositoryTest {
         // Assert
         assertFalse(updatedRoom.getIsAvailable());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchCombinesAllCriteria() {
+        // Arrange
+        roomRepository.save(testRoom);
+        roomRepository.save(room("202", "Deluxe", 4, "180.00"));
+        roomRepository.save(room("203", "Deluxe", 4, "400.00"));
+        roomRepository.save(room("204", "Standard", 4, "120.00"));
+
+        RoomSearchCriteria criteria = new RoomSearchCriteria();
+        criteria.setHotelId(testHotel.getId());
+        criteria.setRoomType("Deluxe");
+        criteria.setMinCapacity(3);
+        criteria.setMaxPrice(BigDecimal.valueOf(300));
+
+        // Act
+        List<Room> rooms = roomRepository.findAll(RoomSpecifications.matching(criteria));
+
+        // Assert
+        assertEquals(1, rooms.size());
+        assertEquals("202", rooms.get(0).getRoomNumber());
+    }
+
+    @Test
+    void testSearchExcludesRoomsBookedForOverlappingDates() {
+        // Arrange
+        Room bookedRoom = roomRepository.save(testRoom);
+        Room freeRoom = roomRepository.save(room("202", "Deluxe", 2, "150.00"));
+        Room cancelledRoom = roomRepository.save(room("203", "Deluxe", 2, "150.00"));
+
+        User guest = new User();
+        guest.setUsername("guest");
+        guest.setPassword("password");
+        guest.setFirstName("Guest");
+        guest.setLastName("User");
+        guest.setEmail("guest@example.com");
+        guest.setRole(Role.USER);
+        guest = userRepository.save(guest);
+
+        LocalDate checkIn = LocalDate.of(2030, 1, 10);
+        bookingRepository.save(booking(guest, bookedRoom, checkIn.plusDays(1), checkIn.plusDays(4), BookingStatus.CONFIRMED));
+        bookingRepository.save(booking(guest, cancelledRoom, checkIn, checkIn.plusDays(2), BookingStatus.CANCELLED));
+        // Ends on the requested check-in day, so it does not overlap
+        bookingRepository.save(booking(guest, freeRoom, checkIn.minusDays(3), checkIn, BookingStatus.CONFIRMED));
+
+        // Act
+        List<Room> rooms = roomRepository.findAll(
+            RoomSpecifications.freeBetween(checkIn, checkIn.plusDays(2)), Sort.by("roomNumber"));
+
+        // Assert
+        assertEquals(List.of("202", "203"), rooms.stream().map(Room::getRoomNumber).toList());
+    }
+
+    @Test
+    void testKeysetSeekContinuesAfterTies() {
+        // Arrange
+        Room first = roomRepository.save(room("301", "Suite", 2, "100.00"));
+        Room second = roomRepository.save(room("302", "Suite", 2, "100.00"));
+        Room third = roomRepository.save(room("303", "Suite", 2, "90.00"));
+
+        // Act
+        List<Room> afterFirst = roomRepository.findAll(
+            KeysetSpecifications.<Room>after("pricePerNight", new BigDecimal("100.00"), first.getId(), false)
+                .and(RoomSpecifications.ofType("Suite")),
+            KeysetSpecifications.sort("pricePerNight", false));
+        List<Room> descending = roomRepository.findAll(
+            KeysetSpecifications.<Room>after("pricePerNight", new BigDecimal("100.00"), second.getId(), true)
+                .and(RoomSpecifications.ofType("Suite")),
+            KeysetSpecifications.sort("pricePerNight", true));
+
+        // Assert
+        assertEquals(List.of(second.getId()), afterFirst.stream().map(Room::getId).toList());
+        assertEquals(List.of(first.getId(), third.getId()), descending.stream().map(Room::getId).toList());
+    }
+
+    private Room room(String number, String type, int capacity, String price) {
+        Room room = new Room();
+        room.setRoomNumber(number);
+        room.setRoomType(type);
+        room.setCapacity(capacity);
+        room.setPricePerNight(new BigDecimal(price));
+        room.setIsAvailable(true);
+        room.setHotel(testHotel);
+        return room;
+    }
+
+    private Booking booking(User user, Room room, LocalDate checkIn, LocalDate checkOut, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setTotalPrice(BigDecimal.valueOf(100));
+        booking.setStatus(status);
+        return booking;
+    }
+
+    @Test
+    void testFindHotelIdsWithFreeRoom() {
+        // Arrange
+        Room bookedRoom = roomRepository.save(testRoom);
+
+        Hotel fullHotel = new Hotel();
+        fullHotel.setName("Full Hotel");
+        fullHotel.setAddress("1 Busy Road");
+        fullHotel.setPhone("123-456-7890");
+        fullHotel.setEmail("full@example.com");
+        fullHotel = hotelRepository.save(fullHotel);
+        Room onlyRoom = room("401", "Standard", 2, "90.00");
+        onlyRoom.setHotel(fullHotel);
+        onlyRoom = roomRepository.save(onlyRoom);
+        roomRepository.save(room("202", "Deluxe", 2, "150.00"));
+
+        User guest = new User();
+        guest.setUsername("guest");
+        guest.setPassword("password");
+        guest.setFirstName("Guest");
+        guest.setLastName("User");
+        guest.setEmail("guest@example.com");
+        guest.setRole(Role.USER);
+        guest = userRepository.save(guest);
+
+        LocalDate checkIn = LocalDate.of(2030, 1, 10);
+        bookingRepository.save(booking(guest, bookedRoom, checkIn, checkIn.plusDays(2), BookingStatus.CONFIRMED));
+        bookingRepository.save(booking(guest, onlyRoom, checkIn, checkIn.plusDays(2), BookingStatus.CONFIRMED));
+
+        // Act
+        List<Long> hotelIds = roomRepository.findHotelIdsWithFreeRoom(
+            List.of(testHotel.getId(), fullHotel.getId()), checkIn, checkIn.plusDays(1),
+            BookingStatus.RELEASED, List.of(-1L));
+
+        // Assert
+        assertEquals(List.of(testHotel.getId()), hotelIds);
+    }
+
+    @Test
+    void fieldProjection_ReadsOnlySelectedColumns() {
+        // Arrange
+        testRoom = roomRepository.save(testRoom);
+        roomRepository.save(room("202", "Standard", 2, "90.00"));
+
+        // Act
+        List<Room> rooms = fieldProjectionRepository.findAll(Room.class,
+            RoomSpecifications.ofType("Deluxe"), FieldSelection.parse("roomNumber,pricePerNight")).orElseThrow();
+
+        // Assert
+        assertEquals(1, rooms.size());
+        assertEquals(testRoom.getId(), rooms.get(0).getId());
+        assertEquals("201", rooms.get(0).getRoomNumber());
+        assertEquals(0, BigDecimal.valueOf(150.00).compareTo(rooms.get(0).getPricePerNight()));
+        assertNull(rooms.get(0).getRoomType());
+        assertNull(rooms.get(0).getHotel());
+    }
+
+    @Test
+    void fieldProjection_AssociationNeedsFullRows() {
+        assertTrue(fieldProjectionRepository.findAll(Room.class, null, FieldSelection.parse("id,hotel")).isEmpty());
+        assertTrue(fieldProjectionRepository.findAll(Room.class, null, FieldSelection.parse("hotel.name")).isEmpty());
+        assertTrue(fieldProjectionRepository.findAll(Room.class, null, FieldSelection.parse("id,unknown")).isEmpty());
+    }
+}
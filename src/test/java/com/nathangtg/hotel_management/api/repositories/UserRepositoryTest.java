@@ -1,5 +1,6 @@
 package com.nathangtg.hotel_management.api.repositories;
 
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.config.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,7 +31,7 @@ class UserRepositoryTest {
         testUser.setFirstName("Test");
         testUser.setLastName("User");
         testUser.setEmail("testuser@example.com");
-        testUser.setRole("USER");
+        testUser.setRole(Role.USER);
     }
 
     @Test
@@ -62,11 +63,11 @@ class UserRepositoryTest {
         userRepository.save(testUser);
 
         // Act
-        Optional<User> foundUser = userRepository.findByIdAndRole(testUser.getId(), "USER");
+        Optional<User> foundUser = userRepository.findByIdAndRole(testUser.getId(), Role.USER);
 
         // Assert
         assertTrue(foundUser.isPresent());
-        assertEquals("USER", foundUser.get().getRole());
+        assertEquals(Role.USER, foundUser.get().getRole());
         assertEquals("testuser", foundUser.get().getUsername());
     }
 
@@ -76,12 +77,12 @@ class UserRepositoryTest {
         userRepository.save(testUser);
 
         // Act
-        Optional<User> foundUser = userRepository.findByUsernameAndRole("testuser", "USER");
+        Optional<User> foundUser = userRepository.findByUsernameAndRole("testuser", Role.USER);
 
         // Assert
         assertTrue(foundUser.isPresent());
         assertEquals("testuser", foundUser.get().getUsername());
-        assertEquals("USER", foundUser.get().getRole());
+        assertEquals(Role.USER, foundUser.get().getRole());
     }
 
     @Test
@@ -93,7 +94,7 @@ class UserRepositoryTest {
         user1.setFirstName("Admin");
         user1.setLastName("One");
         user1.setEmail("admin1@example.com");
-        user1.setRole("ADMIN");
+        user1.setRole(Role.ADMIN);
         userRepository.save(user1);
 
         User user2 = new User();
@@ -102,7 +103,7 @@ class UserRepositoryTest {
         user2.setFirstName("Admin");
         user2.setLastName("Two");
         user2.setEmail("admin2@example.com");
-        user2.setRole("ADMIN");
+        user2.setRole(Role.ADMIN);
         userRepository.save(user2);
 
         User user3 = new User();
@@ -111,16 +112,16 @@ class UserRepositoryTest {
         user3.setFirstName("Regular");
         user3.setLastName("User");
         user3.setEmail("user3@example.com");
-        user3.setRole("USER");
+        user3.setRole(Role.USER);
         userRepository.save(user3);
 
         // Act
-        Optional<List<User>> adminUsers = userRepository.findAllByRole("ADMIN");
+        Optional<List<User>> adminUsers = userRepository.findAllByRole(Role.ADMIN);
 
         // Assert
         assertTrue(adminUsers.isPresent());
         assertEquals(2, adminUsers.get().size());
-        adminUsers.get().forEach(user -> assertEquals("ADMIN", user.getRole()));
+        adminUsers.get().forEach(user -> assertEquals(Role.ADMIN, user.getRole()));
     }
 
     @Test
@@ -155,16 +156,16 @@ class UserRepositoryTest {
         user1.setFirstName("Admin");
         user1.setLastName("One");
         user1.setEmail("admin1@example.com");
-        user1.setRole("ADMIN");
+        user1.setRole(Role.ADMIN);
         userRepository.save(user1);
 
         User user2 = new User();
-        user2.setUsername("mod1");
+        user2.setUsername("staff1");
         user2.setPassword("password456");
-        user2.setFirstName("Mod");
-        user2.setLastName("erator");
-        user2.setEmail("mod1@example.com");
-        user2.setRole("MODERATOR");
+        user2.setFirstName("Front");
+        user2.setLastName("Desk");
+        user2.setEmail("staff1@example.com");
+        user2.setRole(Role.STAFF);
         userRepository.save(user2);
 
         User user3 = new User();
@@ -173,16 +174,16 @@ class UserRepositoryTest {
         user3.setFirstName("Regular");
         user3.setLastName("User");
         user3.setEmail("user3@example.com");
-        user3.setRole("USER");
+        user3.setRole(Role.USER);
         userRepository.save(user3);
 
         // Act
-        List<User> users = userRepository.findByRoleIn(List.of("ADMIN", "MODERATOR"));
+        List<User> users = userRepository.findByRoleIn(List.of(Role.ADMIN, Role.STAFF));
 
         // Assert
         assertEquals(2, users.size());
-        assertTrue(users.stream().anyMatch(user -> user.getRole().equals("ADMIN")));
-        assertTrue(users.stream().anyMatch(user -> user.getRole().equals("MODERATOR")));
+        assertTrue(users.stream().anyMatch(user -> user.getRole() == Role.ADMIN));
+        assertTrue(users.stream().anyMatch(user -> user.getRole() == Role.STAFF));
     }
 
     @Test
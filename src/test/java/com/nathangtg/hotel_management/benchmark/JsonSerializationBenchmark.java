@@ -0,0 +1,112 @@
+package com.nathangtg.hotel_management.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.config.JacksonConfig;
+import com.nathangtg.hotel_management.api.dto.AuthResponse;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+
+/**
+ * Response serialization with the previous ObjectMapper setup ({@code baseline}) against
+ * the one the application now builds ({@code optimized}, with Blackbird), for a booking
+ * list page and for the auth response as a map and as a DTO.
+ *
+ * <p>Run with {@code ./mvnw -Pjmh test-compile exec:exec}; the default {@code -prof gc}
+ * reports allocated bytes per operation as {@code gc.alloc.rate.norm}, and each fork
+ * prints the size of the serialized booking page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"baseline", "optimized"})
+    public String mapper;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("optimized".equals(mapper)) {
+            builder.modulesToInstall(new JacksonConfig().blackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        Hotel hotel = new Hotel(1L, "Harbour View", "1 Quay Street", "+60 3 1234 5678", "stay@harbour.example",
+            3.139, 101.6869, new ArrayList<>());
+        bookings = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            User user = new User(i, "guest" + i, "{bcrypt}hash", "Guest", "Number " + i, "guest" + i + "@mail.example",
+                "+60 12 345 6789", "Somewhere " + i, Role.USER, new ArrayList<>(), new ArrayList<>());
+            Room room = new Room(i, "R" + i, "DELUXE", 2, new BigDecimal("189.00"), true, hotel, null);
+            Booking booking = new Booking(i, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 4),
+                new BigDecimal("567.00"), BookingStatus.CONFIRMED, null, user, room);
+            booking.setCreatedAt(1_748_736_000_000L + i);
+            booking.setUpdatedAt(1_748_736_000_000L + i);
+            bookings.add(booking);
+        }
+    }
+
+    @TearDown
+    public void reportSize() throws JsonProcessingException {
+        System.out.printf("%n%s booking page of %d: %d bytes%n", mapper, pageSize,
+            objectMapper.writeValueAsBytes(bookings).length);
+    }
+
+    @Benchmark
+    public byte[] bookingPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] authResponseMap() throws JsonProcessingException {
+        Map<String, String> response = new HashMap<>();
+        response.put("token", "eyJhbGciOiJIUzI1NiJ9.e30.signature");
+        response.put("message", "Login successful");
+        response.put("userId", "42");
+        response.put("username", "guest42");
+        response.put("role", "USER");
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] authResponseDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(AuthResponse.success("Login successful",
+            "eyJhbGciOiJIUzI1NiJ9.e30.signature", 42L, "guest42", "USER"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.nathangtg.hotel_management.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.HotelManagementApplication;
+import com.nathangtg.hotel_management.api.config.SparseFieldsetAdvice;
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.RoomService;
+
+/**
+ * {@code GET /api/rooms} with and without {@code ?fields=}: the room query on H2 followed
+ * by the response body, as the controller and {@link SparseFieldsetAdvice} produce them.
+ * {@code all} is the unfiltered listing, {@code narrow} selects three room columns (read
+ * through the projection query) and {@code nested} adds the hotel name, which falls back
+ * to full rows and only narrows the body. {@code serialize} leaves the query out.
+ *
+ * <p>Run with {@code ./mvnw -Pjmh test-compile exec:exec -Djmh.args="SparseFieldset -prof gc"};
+ * each fork prints the body size for its selection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SparseFieldsetBenchmark {
+
+    @Param({"all", "narrow", "nested"})
+    public String fields;
+
+    @Param({"500"})
+    public int rooms;
+
+    private ConfigurableApplicationContext context;
+    private RoomService roomService;
+    private ObjectMapper objectMapper;
+    private SparseFieldsetAdvice advice;
+    private FieldSelection selection;
+    private ServletServerHttpRequest request;
+    private List<Room> loaded;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(HotelManagementApplication.class)
+            .profiles("test")
+            .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN")
+            .run();
+        roomService = context.getBean(RoomService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        advice = context.getBean(SparseFieldsetAdvice.class);
+
+        Hotel hotel = context.getBean(HotelRepository.class).save(new Hotel(null, "Harbour View", "1 Quay Street",
+            "+60 3 1234 5678", "stay@harbour.example", 3.139, 101.6869, new ArrayList<>()));
+        List<Room> seeded = new ArrayList<>(rooms);
+        for (int i = 1; i <= rooms; i++) {
+            seeded.add(new Room(null, "R" + i, "DELUXE", 2, new BigDecimal("189.00"), true, hotel, null));
+        }
+        context.getBean(RoomRepository.class).saveAll(seeded);
+
+        String param = switch (fields) {
+            case "narrow" -> "id,roomNumber,pricePerNight";
+            case "nested" -> "id,roomNumber,pricePerNight,hotel.name";
+            default -> null;
+        };
+        selection = FieldSelection.parse(param);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/rooms");
+        if (param != null) {
+            servletRequest.setParameter(FieldSelection.PARAM, param);
+        }
+        request = new ServletServerHttpRequest(servletRequest);
+        loaded = roomService.getAllRooms();
+    }
+
+    @TearDown
+    public void reportSize() throws Exception {
+        System.out.printf("%n%s room list of %d: %d bytes%n", fields, rooms, body(loaded).length);
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] listEndpoint() throws Exception {
+        return body(selection == null ? roomService.getAllRooms() : roomService.getRooms(null, null, selection));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return body(loaded);
+    }
+
+    private byte[] body(List<Room> result) throws Exception {
+        Object body = advice.beforeBodyWrite(result, null, MediaType.APPLICATION_JSON,
+            MappingJackson2HttpMessageConverter.class, request, null);
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
@@ -0,0 +1,126 @@
+package com.nathangtg.hotel_management.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.nathangtg.hotel_management.api.config.JacksonConfig;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.protobuf.ProtobufCodec;
+
+/**
+ * Encode and decode cost of the negotiable response formats on a room list and a booking
+ * list, the two payloads mobile and internal clients pull most.
+ *
+ * <p>Run with {@code ./mvnw -Pjmh test-compile exec:exec -Djmh.args="WireFormat -prof gc"};
+ * each fork also prints the body size, raw and gzipped, for its format and payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<Room>> ROOMS = new TypeReference<>() { };
+    private static final TypeReference<List<Booking>> BOOKINGS = new TypeReference<>() { };
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    public String format;
+
+    @Param({"rooms", "bookings"})
+    public String payload;
+
+    @Param({"100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<?> items;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new JacksonConfig().blackbirdModule());
+        objectMapper = switch (format) {
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            default -> builder.build();
+        };
+
+        Hotel hotel = new Hotel(1L, "Harbour View", "1 Quay Street", "+60 3 1234 5678", "stay@harbour.example",
+            3.139, 101.6869, new ArrayList<>());
+        List<Room> rooms = new ArrayList<>(size);
+        List<Booking> bookings = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            User user = new User(i, "guest" + i, "{bcrypt}hash", "Guest", "Number " + i, "guest" + i + "@mail.example",
+                "+60 12 345 6789", "Somewhere " + i, Role.USER, new ArrayList<>(), new ArrayList<>());
+            Room room = new Room(i, "R" + i, "DELUXE", 2, new BigDecimal("189.00"), true, hotel, null);
+            room.setCreatedAt(1_748_736_000_000L + i);
+            Booking booking = new Booking(i, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 4),
+                new BigDecimal("567.00"), BookingStatus.CONFIRMED, null, user, room);
+            booking.setCreatedAt(1_748_736_000_000L + i);
+            booking.setUpdatedAt(1_748_736_000_000L + i);
+            rooms.add(room);
+            bookings.add(booking);
+        }
+        items = "rooms".equals(payload) ? rooms : bookings;
+        encoded = encode();
+    }
+
+    @TearDown
+    public void reportSize() throws IOException {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(encoded);
+        }
+        System.out.printf("%n%s %s x%d: %d bytes, %d gzipped%n", format, payload, size,
+            encoded.length, gzipped.size());
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if ("protobuf".equals(format)) {
+            return ProtobufCodec.encode(items);
+        }
+        return objectMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public List<?> decode() throws IOException {
+        boolean rooms = "rooms".equals(payload);
+        if ("protobuf".equals(format)) {
+            return rooms ? ProtobufCodec.readRooms(encoded) : ProtobufCodec.readBookings(encoded);
+        }
+        return rooms ? objectMapper.readValue(encoded, ROOMS) : objectMapper.readValue(encoded, BOOKINGS);
+    }
+}
@@ -0,0 +1,198 @@
+package com.nathangtg.hotel_management.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingArchive;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.repositories.BookingArchiveRepository;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.api.repositories.UserRepository;
+import com.nathangtg.hotel_management.config.TestConfig;
+
+@DataJpaTest
+@Import(TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingArchiveServiceTest {
+
+    private static final Instant NOW = Instant.parse("2030-07-10T03:30:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2030, 7, 10);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository archiveRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private BookingArchiveService archiveService;
+    private Hotel hotel;
+    private Room room;
+    private User guest;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new BookingArchiveService(archiveRepository, transactionManager, clock);
+        archiveService.setHorizonDays(30);
+        archiveService.setChunkSize(1);
+
+        hotel = new Hotel();
+        hotel.setName("Archive Hotel");
+        hotel.setAddress("4 History Road");
+        hotel.setPhone("123-456-7890");
+        hotel.setEmail("archive@example.com");
+        hotel = hotelRepository.save(hotel);
+
+        room = new Room();
+        room.setRoomNumber("A1");
+        room.setRoomType("Standard");
+        room.setCapacity(2);
+        room.setPricePerNight(new BigDecimal("90.00"));
+        room.setIsAvailable(true);
+        room.setHotel(hotel);
+        room = roomRepository.save(room);
+
+        guest = new User();
+        guest.setUsername("archiveguest");
+        guest.setPassword("password");
+        guest.setFirstName("Archie");
+        guest.setLastName("Ve");
+        guest.setEmail("archive@example.com");
+        guest.setRole(Role.USER);
+        guest = userRepository.save(guest);
+    }
+
+    @AfterEach
+    void tearDown() {
+        archiveRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        hotelRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testMovesFinishedBookingsPastTheHorizon() {
+        // Arrange
+        Booking oldStay = booking(TODAY.minusDays(60), TODAY.minusDays(58), BookingStatus.CHECKED_OUT);
+        Booking oldCancel = booking(TODAY.minusDays(50), TODAY.minusDays(49), BookingStatus.CANCELLED);
+        Booking oldConfirmed = booking(TODAY.minusDays(45), TODAY.minusDays(44), BookingStatus.CONFIRMED);
+        Booking recentStay = booking(TODAY.minusDays(10), TODAY.minusDays(8), BookingStatus.CHECKED_OUT);
+
+        // Act
+        int moved = archiveService.archive(() -> true);
+
+        // Assert
+        assertEquals(2, moved);
+        assertFalse(bookingRepository.existsById(oldStay.getId()));
+        assertFalse(bookingRepository.existsById(oldCancel.getId()));
+        assertTrue(bookingRepository.existsById(oldConfirmed.getId()));
+        assertTrue(bookingRepository.existsById(recentStay.getId()));
+        BookingArchive archived = archiveRepository.findById(oldStay.getId()).orElseThrow();
+        assertEquals(hotel.getId(), archived.getHotelId());
+        assertEquals(room.getId(), archived.getRoomId());
+        assertEquals(guest.getId(), archived.getUserId());
+        assertEquals(0, new BigDecimal("180.00").compareTo(archived.getTotalPrice()));
+        assertEquals(NOW, archived.getArchivedAt());
+
+        // Act & Assert
+        assertEquals(0, archiveService.archive(() -> true));
+    }
+
+    @Test
+    void testArchiveIsReadOnlyWhenTheRangeReachesIt() {
+        // Arrange
+        Booking oldStay = booking(TODAY.minusDays(60), TODAY.minusDays(58), BookingStatus.CHECKED_OUT);
+        archiveService.archive(() -> true);
+
+        // Act
+        List<Booking> reaching = archiveService.findByCheckInDateBetween(TODAY.minusDays(90), TODAY);
+        List<Booking> recentOnly = archiveService.findByCheckInDateBetween(TODAY.minusDays(20), TODAY);
+
+        // Assert
+        assertEquals(List.of(oldStay.getId()), reaching.stream().map(Booking::getId).toList());
+        assertEquals(guest.getId(), reaching.get(0).getUserId());
+        assertTrue(recentOnly.isEmpty());
+        assertTrue(archiveService.findById(oldStay.getId()).isPresent());
+        assertFalse(archiveService.reaches(TODAY.minusDays(30)));
+        assertTrue(archiveService.reaches(TODAY.minusDays(31)));
+    }
+
+    @Test
+    void testUnboundedListingsReadTheArchive() {
+        // Arrange
+        Booking oldStay = booking(TODAY.minusDays(60), TODAY.minusDays(58), BookingStatus.CHECKED_OUT);
+        archiveService.archive(() -> true);
+
+        // Act & Assert
+        assertEquals(List.of(oldStay.getId()), archiveService.findByUserId(guest.getId()).stream()
+            .map(Booking::getId).toList());
+        assertEquals(List.of(oldStay.getId()), archiveService.findByRoomId(room.getId()).stream()
+            .map(Booking::getId).toList());
+        assertEquals(List.of(oldStay.getId()), archiveService.findByStatus(BookingStatus.CHECKED_OUT).stream()
+            .map(Booking::getId).toList());
+        assertTrue(archiveService.findByStatus(BookingStatus.CANCELLED).isEmpty());
+        assertTrue(archiveService.findByStatus(BookingStatus.CONFIRMED).isEmpty());
+    }
+
+    @Test
+    void testStopsBetweenChunksWhenAsked() {
+        // Arrange
+        Booking first = booking(TODAY.minusDays(60), TODAY.minusDays(58), BookingStatus.CHECKED_OUT);
+        Booking second = booking(TODAY.minusDays(55), TODAY.minusDays(53), BookingStatus.NO_SHOW);
+
+        // Act
+        int moved = archiveService.archive(() -> false);
+
+        // Assert
+        assertEquals(1, moved);
+        assertTrue(archiveRepository.existsById(first.getId()));
+        assertTrue(bookingRepository.existsById(second.getId()));
+    }
+
+    private Booking booking(LocalDate checkIn, LocalDate checkOut, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setUser(guest);
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setTotalPrice(new BigDecimal("180.00"));
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
+}
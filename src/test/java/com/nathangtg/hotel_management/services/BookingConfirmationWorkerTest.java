@@ -0,0 +1,259 @@
+package com.nathangtg.hotel_management.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.dto.HotelStatsSummary;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.repositories.BookingOutboxRepository;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.ChangeLogRepository;
+import com.nathangtg.hotel_management.api.repositories.JobLeaseRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelDailyStatsRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.api.repositories.UserRepository;
+import com.nathangtg.hotel_management.config.TestConfig;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.events.BookingOutboxService;
+import com.nathangtg.hotel_management.services.jobs.JobLeaseService;
+import com.nathangtg.hotel_management.services.holds.RoomHoldRegistry;
+
+@DataJpaTest
+@Import({TestConfig.class, HotelDailyStatsService.class, BookingOutboxService.class, ChangeLogService.class,
+    BookingConfirmationWorkerTest.JsonConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingConfirmationWorkerTest {
+
+    private static final Instant NOW = Instant.parse("2030-06-01T12:00:00Z");
+    private static final LocalDate CHECK_IN = LocalDate.of(2030, 7, 1);
+
+    @TestConfiguration
+    static class JsonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HotelDailyStatsRepository statsRepository;
+
+    @Autowired
+    private BookingOutboxRepository outboxRepository;
+
+    @Autowired
+    private HotelDailyStatsService statsService;
+
+    @Autowired
+    private BookingOutboxService outboxService;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private JobLeaseRepository leaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private BookingConfirmationWorker worker;
+    private Hotel hotel;
+    private Room room;
+    private User guest;
+
+    @BeforeEach
+    void setUp() {
+        worker = new BookingConfirmationWorker(bookingRepository, roomRepository, statsService, outboxService,
+            changeLogService, new JobLeaseService(leaseRepository, transactionManager), transactionManager, 2,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+        hotel = new Hotel();
+        hotel.setName("Queue Hotel");
+        hotel.setAddress("2 Burst Street");
+        hotel.setPhone("123-456-7890");
+        hotel.setEmail("queue@example.com");
+        hotel = hotelRepository.save(hotel);
+
+        room = new Room();
+        room.setRoomNumber("Q1");
+        room.setRoomType("Standard");
+        room.setCapacity(2);
+        room.setPricePerNight(new BigDecimal("80.00"));
+        room.setIsAvailable(true);
+        room.setHotel(hotel);
+        room = roomRepository.save(room);
+
+        guest = new User();
+        guest.setUsername("queueguest");
+        guest.setPassword("password");
+        guest.setFirstName("Queue");
+        guest.setLastName("Guest");
+        guest.setEmail("queueguest@example.com");
+        guest.setRole(Role.USER);
+        guest = userRepository.save(guest);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+        outboxRepository.deleteAll();
+        changeLogRepository.deleteAll();
+        statsRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        hotelRepository.deleteAll();
+        userRepository.deleteAll();
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    void testFirstHoldWinsAndIsPriced() {
+        // Arrange
+        Booking first = bookingRepository.save(hold(CHECK_IN, CHECK_IN.plusDays(2), NOW.plusSeconds(300)));
+        Booking competing = bookingRepository.save(hold(CHECK_IN.plusDays(1), CHECK_IN.plusDays(3), NOW.plusSeconds(300)));
+        Booking otherDates = bookingRepository.save(hold(CHECK_IN.plusDays(5), CHECK_IN.plusDays(6), NOW.plusSeconds(300)));
+
+        // Act
+        int decided = worker.drain();
+
+        // Assert
+        assertEquals(3, decided);
+        Booking confirmed = bookingRepository.findById(first.getId()).orElseThrow();
+        assertEquals(BookingStatus.CONFIRMED, confirmed.getStatus());
+        assertEquals(0, new BigDecimal("160.00").compareTo(confirmed.getTotalPrice()));
+        assertEquals(BookingStatus.REJECTED, bookingRepository.findById(competing.getId()).orElseThrow().getStatus());
+        assertEquals(BookingStatus.CONFIRMED, bookingRepository.findById(otherDates.getId()).orElseThrow().getStatus());
+        assertFalse(roomRepository.findById(room.getId()).orElseThrow().getIsAvailable());
+        assertEquals(0, worker.drain());
+    }
+
+    @Test
+    void testLeavesHoldsToTheReplicaHoldingTheLease() {
+        // Arrange
+        Booking pending = bookingRepository.save(hold(CHECK_IN, CHECK_IN.plusDays(2), NOW.plusSeconds(300)));
+        JobLeaseService otherReplica = new JobLeaseService(leaseRepository, transactionManager);
+        assertTrue(otherReplica.tryAcquire(BookingConfirmationWorker.JOB_NAME, Duration.ofMinutes(1)));
+
+        // Act
+        int decided = worker.drain();
+
+        // Assert
+        assertEquals(0, decided);
+        assertEquals(BookingStatus.PENDING, bookingRepository.findById(pending.getId()).orElseThrow().getStatus());
+
+        otherReplica.release(BookingConfirmationWorker.JOB_NAME);
+        assertEquals(1, worker.drain());
+    }
+
+    @Test
+    void testExpiredHoldIsNotConfirmed() {
+        // Arrange
+        Booking stale = bookingRepository.save(hold(CHECK_IN, CHECK_IN.plusDays(2), NOW.minusSeconds(1)));
+
+        // Act
+        worker.drain();
+
+        // Assert
+        assertEquals(BookingStatus.EXPIRED, bookingRepository.findById(stale.getId()).orElseThrow().getStatus());
+        assertTrue(roomRepository.findById(room.getId()).orElseThrow().getIsAvailable());
+    }
+
+    @Test
+    void testOnlyConfirmedHoldsCountInStats() {
+        // Arrange
+        bookingRepository.save(hold(CHECK_IN, CHECK_IN.plusDays(2), NOW.plusSeconds(300)));
+        bookingRepository.save(hold(CHECK_IN, CHECK_IN.plusDays(2), NOW.plusSeconds(300)));
+
+        // Act
+        worker.drain();
+
+        // Assert
+        HotelStatsSummary summary = statsService.getSummary(hotel.getId(), CHECK_IN, CHECK_IN.plusDays(1));
+        assertEquals(2, summary.getRoomsSold());
+        assertEquals(0, new BigDecimal("160.00").compareTo(summary.getRevenue()));
+        assertEquals(0, summary.getCancellations());
+    }
+
+    @Test
+    void testPlacedHoldSerializesAfterItsTransaction() throws Exception {
+        // Arrange
+        BookingService bookingService = new BookingService();
+        bookingService.bookingRepository = bookingRepository;
+        bookingService.roomRepository = roomRepository;
+        bookingService.bookingOutboxService = outboxService;
+        bookingService.changeLogService = changeLogService;
+        bookingService.roomHoldRegistry = new RoomHoldRegistry();
+        bookingService.eventPublisher = event -> { };
+        Booking request = new Booking();
+        request.setUser(guest);
+        request.setRoomId(room.getId());
+        request.setCheckInDate(CHECK_IN);
+        request.setCheckOutDate(CHECK_IN.plusDays(2));
+
+        // Act: the controller writes the hold once the service transaction has closed
+        Booking hold = new TransactionTemplate(transactionManager).execute(status -> bookingService.placeHold(request));
+        JsonNode body = objectMapper.readTree(objectMapper.writeValueAsString(hold));
+
+        // Assert
+        assertEquals("PENDING", body.get("status").asText());
+        assertEquals("Q1", body.get("room").get("roomNumber").asText());
+        assertEquals("Queue Hotel", body.get("room").get("hotel").get("name").asText());
+    }
+
+    private Booking hold(LocalDate checkIn, LocalDate checkOut, Instant expiresAt) {
+        Booking booking = new Booking();
+        booking.setUser(guest);
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setTotalPrice(BigDecimal.ZERO);
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setHoldExpiresAt(expiresAt);
+        return booking;
+    }
+}
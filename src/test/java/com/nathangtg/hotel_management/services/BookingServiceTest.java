@@ -5,10 +5,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,11 +19,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
 import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.api.repositories.BookingRepository;
 import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.events.BookingEvent;
+import com.nathangtg.hotel_management.services.events.BookingHeldEvent;
+import com.nathangtg.hotel_management.services.events.BookingOutboxService;
+import com.nathangtg.hotel_management.services.holds.RoomHold;
+import com.nathangtg.hotel_management.services.holds.RoomHoldRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceTest {
@@ -30,7 +43,25 @@ class BookingServiceTest {
     
     @Mock
     private RoomRepository roomRepository;
+
+    @Mock
+    private HotelDailyStatsService hotelDailyStatsService;
+
+    @Mock
+    private BookingOutboxService bookingOutboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RoomHoldRegistry roomHoldRegistry;
+
+    @Mock
+    private BookingArchiveService bookingArchiveService;
     
+    @Mock
+    private ChangeLogService changeLogService;
+
     @InjectMocks
     private BookingService bookingService;
     
@@ -52,7 +83,7 @@ class BookingServiceTest {
         testBooking.setCheckInDate(LocalDate.now().plusDays(1));
         testBooking.setCheckOutDate(LocalDate.now().plusDays(3));
         testBooking.setTotalPrice(new BigDecimal("200.00"));
-        testBooking.setStatus("CONFIRMED");
+        testBooking.setStatus(BookingStatus.CONFIRMED);
     }
 
     @Test
@@ -85,6 +116,32 @@ class BookingServiceTest {
         verify(bookingRepository).findById(1L);
     }
 
+    @Test
+    void testGetBookingsByIds_KeepsRequestOrderAndReadsArchive() {
+        // Arrange
+        Booking second = new Booking();
+        second.setId(2L);
+        Booking archived = new Booking();
+        archived.setId(3L);
+        when(bookingRepository.findAllWithAssociationsByIdIn(List.of(3L, 1L, 2L)))
+            .thenReturn(Arrays.asList(testBooking, second));
+        when(bookingArchiveService.findAllById(Set.of(3L))).thenReturn(List.of(archived));
+
+        // Act
+        List<Booking> result = bookingService.getBookingsByIds(List.of(3L, 1L, 3L, 2L));
+
+        // Assert
+        assertEquals(List.of(3L, 1L, 2L), result.stream().map(Booking::getId).toList());
+    }
+
+    @Test
+    void testGetBookingsByIds_RejectsTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, IdBatch.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.getBookingsByIds(ids));
+        verifyNoInteractions(bookingRepository);
+    }
+
     @Test
     void testGetBookingById_NotFound() {
         // Arrange
@@ -114,20 +171,36 @@ class BookingServiceTest {
         verify(bookingRepository).findByUser_Id(1L);
     }
 
+    @Test
+    void testGetBookingsByUserId_IncludesArchived() {
+        // Arrange
+        Booking archived = new Booking();
+        archived.setId(9L);
+        archived.setStatus(BookingStatus.CHECKED_OUT);
+        when(bookingArchiveService.findByUserId(1L)).thenReturn(List.of(archived));
+        when(bookingRepository.findByUser_Id(1L)).thenReturn(List.of(testBooking));
+
+        // Act
+        List<Booking> result = bookingService.getBookingsByUserId(1L);
+
+        // Assert
+        assertEquals(List.of(9L, 1L), result.stream().map(Booking::getId).toList());
+    }
+
     @Test
     void testGetBookingsByStatus() {
         // Arrange
         List<Booking> bookings = Arrays.asList(testBooking);
-        when(bookingRepository.findByStatus("CONFIRMED")).thenReturn(bookings);
+        when(bookingRepository.findByStatus(BookingStatus.CONFIRMED)).thenReturn(bookings);
 
         // Act
-        List<Booking> result = bookingService.getBookingsByStatus("CONFIRMED");
+        List<Booking> result = bookingService.getBookingsByStatus(BookingStatus.CONFIRMED);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals("CONFIRMED", result.get(0).getStatus());
-        verify(bookingRepository).findByStatus("CONFIRMED");
+        assertEquals(BookingStatus.CONFIRMED, result.get(0).getStatus());
+        verify(bookingRepository).findByStatus(BookingStatus.CONFIRMED);
     }
 
     @Test
@@ -144,6 +217,87 @@ class BookingServiceTest {
         assertEquals(testBooking.getId(), result.getId());
         verify(roomRepository).findById(1L);
         verify(bookingRepository).save(testBooking);
+        verify(hotelDailyStatsService).recordBooking(testBooking, testRoom);
+        verify(bookingOutboxService).record(BookingEvent.CREATED, testBooking, null);
+    }
+
+    @Test
+    void testPlaceHold() {
+        // Arrange
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Booking hold = bookingService.placeHold(testBooking);
+
+        // Assert
+        assertEquals(BookingStatus.PENDING, hold.getStatus());
+        assertEquals(BigDecimal.ZERO, hold.getTotalPrice());
+        assertNotNull(hold.getHoldExpiresAt());
+        assertSame(testRoom, hold.getRoom());
+        assertTrue(testRoom.getIsAvailable());
+        verify(roomRepository, never()).save(any(Room.class));
+        verify(hotelDailyStatsService, never()).recordBooking(any(), any());
+        verify(bookingOutboxService).record(BookingEvent.HELD, hold, null);
+        verify(eventPublisher).publishEvent(any(BookingHeldEvent.class));
+    }
+
+    @Test
+    void testPlaceHold_InvalidDates() {
+        // Arrange
+        testBooking.setCheckOutDate(testBooking.getCheckInDate());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> bookingService.placeHold(testBooking));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void testCreateBooking_RoomHeldByAnotherGuest() {
+        // Arrange
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(roomHoldRegistry.isHeldByOther(1L, testBooking.getCheckInDate(), testBooking.getCheckOutDate(), 1L))
+            .thenReturn(true);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> bookingService.createBooking(testBooking));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void testBookFromHold() {
+        // Arrange
+        User guest = new User();
+        guest.setId(1L);
+        RoomHold hold = new RoomHold("h1", 1L, 1L, testBooking.getCheckInDate(), testBooking.getCheckOutDate(),
+            Instant.now(), Instant.now().plusSeconds(60));
+        when(roomHoldRegistry.claim("h1", 1L)).thenReturn(hold);
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Booking booking = bookingService.bookFromHold(1L, "h1", guest);
+
+        // Assert
+        assertEquals(BookingStatus.CONFIRMED, booking.getStatus());
+        assertEquals(0, new BigDecimal("200.00").compareTo(booking.getTotalPrice()));
+        verify(roomHoldRegistry, never()).restore(any());
+    }
+
+    @Test
+    void testBookFromHold_RestoresHoldWhenBookingFails() {
+        // Arrange
+        User guest = new User();
+        guest.setId(1L);
+        RoomHold hold = new RoomHold("h1", 1L, 1L, testBooking.getCheckInDate(), testBooking.getCheckOutDate(),
+            Instant.now(), Instant.now().plusSeconds(60));
+        testRoom.setIsAvailable(false);
+        when(roomHoldRegistry.claim("h1", 1L)).thenReturn(hold);
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> bookingService.bookFromHold(1L, "h1", guest));
+        verify(roomHoldRegistry).restore(hold);
     }
 
     @Test
@@ -151,7 +305,7 @@ class BookingServiceTest {
         // Arrange
         Booking updatedBooking = new Booking();
         updatedBooking.setId(1L);
-        updatedBooking.setStatus("CANCELLED");
+        updatedBooking.setStatus(BookingStatus.CANCELLED);
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(updatedBooking);
@@ -161,11 +315,41 @@ class BookingServiceTest {
 
         // Assert
         assertNotNull(result);
-        assertEquals("CANCELLED", result.getStatus());
+        assertEquals(BookingStatus.CANCELLED, result.getStatus());
         verify(bookingRepository).findById(1L);
         verify(bookingRepository).save(any(Booking.class));
     }
 
+    @Test
+    void testUpdateBooking_InvalidTransition() {
+        // Arrange
+        testBooking.setStatus(BookingStatus.CHECKED_OUT);
+        Booking updatedBooking = new Booking();
+        updatedBooking.setStatus(BookingStatus.CONFIRMED);
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> bookingService.updateBooking(1L, updatedBooking));
+        assertEquals(BookingStatus.CHECKED_OUT, testBooking.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void testUpdateBooking_PendingHoldIsLeftToTheWorker() {
+        // Arrange
+        testBooking.setStatus(BookingStatus.PENDING);
+        testBooking.setHoldExpiresAt(Instant.now().plusSeconds(300));
+        Booking updatedBooking = new Booking();
+        updatedBooking.setStatus(BookingStatus.CONFIRMED);
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> bookingService.updateBooking(1L, updatedBooking));
+        assertEquals(BookingStatus.PENDING, testBooking.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingOutboxService, never()).record(any(), any(), any());
+    }
+
     @Test
     void testCancelBooking() {
         // Arrange
@@ -176,6 +360,86 @@ class BookingServiceTest {
 
         // Assert
         verify(bookingRepository).findById(1L);
+        verify(hotelDailyStatsService).recordStatusChange(testBooking, testBooking.getRoom(), BookingStatus.CONFIRMED);
+        verify(bookingOutboxService).record(BookingEvent.CANCELLED, testBooking, BookingStatus.CONFIRMED);
+        verify(changeLogService).record(ChangeLogEntry.ROOM, testBooking.getRoom().getId(), ChangeLogEntry.UPDATED);
+        verify(changeLogService).record(ChangeLogEntry.BOOKING, 1L, ChangeLogEntry.UPDATED);
+    }
+
+    @Test
+    void testCancelBooking_PendingHoldLeavesAConfirmedRoomTaken() {
+        // Arrange
+        testRoom.setIsAvailable(false);
+        Booking hold = new Booking();
+        hold.setId(2L);
+        hold.setUserId(2L);
+        hold.setRoom(testRoom);
+        hold.setCheckInDate(LocalDate.now().plusDays(5));
+        hold.setCheckOutDate(LocalDate.now().plusDays(7));
+        hold.setStatus(BookingStatus.PENDING);
+        hold.setHoldExpiresAt(Instant.now().plusSeconds(300));
+        when(bookingRepository.findById(2L)).thenReturn(Optional.of(hold));
+
+        // Act
+        bookingService.cancelBooking(2L);
+
+        // Assert
+        assertEquals(BookingStatus.CANCELLED, hold.getStatus());
+        assertFalse(testRoom.getIsAvailable());
+        verify(roomRepository, never()).save(any(Room.class));
+        verify(changeLogService, never()).record(ChangeLogEntry.ROOM, 1L, ChangeLogEntry.UPDATED);
+    }
+
+    @Test
+    void testCancelBooking_RoomStaysTakenWhileAnotherBookingOccupiesIt() {
+        // Arrange
+        testRoom.setIsAvailable(false);
+        testBooking.setRoom(testRoom);
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.existsOtherBookingOccupyingRoom(1L, 1L,
+                Set.of(BookingStatus.CONFIRMED, BookingStatus.CHECKED_IN))).thenReturn(true);
+
+        // Act
+        bookingService.cancelBooking(1L);
+
+        // Assert
+        assertEquals(BookingStatus.CANCELLED, testBooking.getStatus());
+        assertFalse(testRoom.getIsAvailable());
+        verify(roomRepository, never()).save(any(Room.class));
+    }
+
+    @Test
+    void testCancelBooking_ReleasesTheRoomItOccupied() {
+        // Arrange
+        testRoom.setIsAvailable(false);
+        testBooking.setRoom(testRoom);
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act
+        bookingService.cancelBooking(1L);
+
+        // Assert
+        assertTrue(testRoom.getIsAvailable());
+        verify(roomRepository).save(testRoom);
+    }
+
+    @Test
+    void testDeleteBooking_RejectedHoldLeavesTheRoomAlone() {
+        // Arrange
+        testRoom.setIsAvailable(false);
+        testBooking.setRoom(testRoom);
+        testBooking.setStatus(BookingStatus.REJECTED);
+        testBooking.setHoldExpiresAt(Instant.now().plusSeconds(300));
+        when(bookingRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act
+        bookingService.deleteBooking(1L);
+
+        // Assert
+        assertFalse(testRoom.getIsAvailable());
+        verify(roomRepository, never()).save(any(Room.class));
+        verify(bookingRepository).deleteById(1L);
     }
 
     @Test
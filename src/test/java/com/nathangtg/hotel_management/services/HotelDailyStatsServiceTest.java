@@ -0,0 +1,216 @@
+package com.nathangtg.hotel_management.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nathangtg.hotel_management.api.dto.HotelStatsSummary;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.HotelDailyStats;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelDailyStatsRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.api.repositories.UserRepository;
+import com.nathangtg.hotel_management.config.TestConfig;
+
+@DataJpaTest
+@Import({TestConfig.class, HotelDailyStatsService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HotelDailyStatsServiceTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2030, 7, 1);
+
+    @Autowired
+    private HotelDailyStatsService statsService;
+
+    @Autowired
+    private HotelDailyStatsRepository statsRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Hotel hotel;
+    private Room room;
+    private User guest;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel();
+        hotel.setName("Stats Hotel");
+        hotel.setAddress("1 Report Road");
+        hotel.setPhone("123-456-7890");
+        hotel.setEmail("stats@example.com");
+        hotel = hotelRepository.save(hotel);
+
+        room = new Room();
+        room.setRoomNumber("S1");
+        room.setRoomType("Standard");
+        room.setCapacity(2);
+        room.setPricePerNight(new BigDecimal("100.00"));
+        room.setIsAvailable(true);
+        room.setHotel(hotel);
+        room = roomRepository.save(room);
+
+        guest = new User();
+        guest.setUsername("statsguest");
+        guest.setPassword("password");
+        guest.setFirstName("Stats");
+        guest.setLastName("Guest");
+        guest.setEmail("statsguest@example.com");
+        guest.setRole(Role.USER);
+        guest = userRepository.save(guest);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statsRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        hotelRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testNightlyRevenueSumsToTotal() {
+        // Act
+        Map<LocalDate, BigDecimal> nights = HotelDailyStatsService.nightlyRevenue(
+            CHECK_IN, CHECK_IN.plusDays(3), new BigDecimal("100.00"));
+
+        // Assert
+        assertEquals(List.of(new BigDecimal("33.34"), new BigDecimal("33.33"), new BigDecimal("33.33")),
+            List.copyOf(nights.values()));
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchBackfill() {
+        // Arrange
+        Booking kept = bookingRepository.save(booking(CHECK_IN, CHECK_IN.plusDays(2), "250.00"));
+        statsService.recordBooking(kept, room);
+        Booking overlapping = bookingRepository.save(booking(CHECK_IN.plusDays(1), CHECK_IN.plusDays(3), "200.00"));
+        statsService.recordBooking(overlapping, room);
+
+        // Act
+        overlapping.setStatus(BookingStatus.CANCELLED);
+        bookingRepository.save(overlapping);
+        statsService.recordStatusChange(overlapping, room, BookingStatus.CONFIRMED);
+
+        // Assert
+        List<HotelDailyStats> incremental = statsService.getDailyStats(hotel.getId(), CHECK_IN, CHECK_IN.plusDays(5));
+        assertEquals(List.of(1, 1, 0), incremental.stream().map(HotelDailyStats::getRoomsSold).toList());
+        assertEquals(0, new BigDecimal("125.00").compareTo(incremental.get(1).getRevenue()));
+        assertEquals(1, incremental.get(1).getCancellations());
+
+        // Act
+        statsService.backfill();
+
+        // Assert
+        List<HotelDailyStats> rebuilt = statsService.getDailyStats(hotel.getId(), CHECK_IN, CHECK_IN.plusDays(5));
+        assertEquals(snapshot(rebuilt), snapshot(incremental.stream()
+            .filter(day -> day.getRoomsSold() != 0 || day.getCancellations() != 0).toList()));
+    }
+
+    @Test
+    void testRemovalAndSummary() {
+        // Arrange
+        Booking booking = bookingRepository.save(booking(CHECK_IN, CHECK_IN.plusDays(2), "200.00"));
+        statsService.recordBooking(booking, room);
+
+        // Act
+        HotelStatsSummary summary = statsService.getSummary(hotel.getId(), CHECK_IN, CHECK_IN.plusDays(3));
+
+        // Assert
+        assertEquals(2, summary.getRoomsSold());
+        assertEquals(0, new BigDecimal("200.00").compareTo(summary.getRevenue()));
+        assertEquals(0.5, summary.getOccupancyRate(), 0.0001);
+
+        // Act
+        statsService.recordRemoval(booking, room);
+
+        // Assert
+        assertEquals(0, statsService.getSummary(hotel.getId(), CHECK_IN, CHECK_IN.plusDays(3)).getRoomsSold());
+    }
+
+    @Test
+    void testFirstBookingOfADayCreatesItInTheBookingTransaction() {
+        // Arrange
+        Booking booking = bookingRepository.save(booking(CHECK_IN, CHECK_IN.plusDays(1), "100.00"));
+
+        // Act: the day is created on the booking's own connection, so it rolls back with it
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            statsService.recordBooking(booking, room);
+            assertEquals(1, statsService.getDailyStats(hotel.getId(), CHECK_IN, CHECK_IN).size());
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertTrue(statsService.getDailyStats(hotel.getId(), CHECK_IN, CHECK_IN).isEmpty());
+    }
+
+    @Test
+    void testBookingsOnTheSameNightAddToOneDay() {
+        // Arrange
+        Booking first = bookingRepository.save(booking(CHECK_IN, CHECK_IN.plusDays(1), "100.00"));
+        Booking second = bookingRepository.save(booking(CHECK_IN, CHECK_IN.plusDays(2), "150.00"));
+
+        // Act
+        statsService.recordBooking(first, room);
+        statsService.recordBooking(second, room);
+
+        // Assert
+        List<HotelDailyStats> days = statsService.getDailyStats(hotel.getId(), CHECK_IN, CHECK_IN.plusDays(1));
+        assertEquals(2, days.size());
+        assertEquals(2, days.get(0).getRoomsSold());
+        assertEquals(0, new BigDecimal("175.00").compareTo(days.get(0).getRevenue()));
+        assertEquals(1, days.get(1).getRoomsSold());
+    }
+
+    private Booking booking(LocalDate checkIn, LocalDate checkOut, String totalPrice) {
+        Booking booking = new Booking();
+        booking.setUser(guest);
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setTotalPrice(new BigDecimal(totalPrice));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        return booking;
+    }
+
+    private static List<String> snapshot(List<HotelDailyStats> days) {
+        return days.stream()
+            .map(day -> day.getStatDate() + ":" + day.getRoomsSold() + ":"
+                + day.getRevenue().stripTrailingZeros().toPlainString() + ":" + day.getCancellations())
+            .toList();
+    }
+}
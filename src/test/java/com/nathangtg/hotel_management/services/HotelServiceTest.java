@@ -2,8 +2,10 @@ package com.nathangtg.hotel_management.services;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -14,15 +16,39 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.nathangtg.hotel_management.api.dto.HotelDistanceResult;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
 import com.nathangtg.hotel_management.api.models.Hotel;
 import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.holds.RoomHoldRegistry;
+import com.nathangtg.hotel_management.services.search.HotelGeoIndex;
+import com.nathangtg.hotel_management.services.search.HotelSearchIndex;
 
 @ExtendWith(MockitoExtension.class)
 class HotelServiceTest {
 
     @Mock
     private HotelRepository hotelRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private HotelSearchIndex hotelSearchIndex;
+
+    @Mock
+    private HotelGeoIndex hotelGeoIndex;
+
+    @Mock
+    private RoomHoldRegistry roomHoldRegistry;
+
+    @Mock
+    private ChangeLogService changeLogService;
     
     @InjectMocks
     private HotelService hotelService;
@@ -94,6 +120,8 @@ class HotelServiceTest {
         assertNotNull(result);
         assertEquals(testHotel.getName(), result.getName());
         verify(hotelRepository).save(testHotel);
+        verify(hotelSearchIndex).index(testHotel);
+        verify(hotelGeoIndex).index(testHotel);
     }
 
     @Test
@@ -114,6 +142,8 @@ class HotelServiceTest {
         assertEquals("Updated Hotel", result.getName());
         verify(hotelRepository).existsById(1L);
         verify(hotelRepository).save(updatedHotel);
+        verify(hotelSearchIndex).index(updatedHotel);
+        verify(hotelGeoIndex).index(updatedHotel);
     }
 
     @Test
@@ -127,5 +157,81 @@ class HotelServiceTest {
         // Assert
         verify(hotelRepository).existsById(1L);
         verify(hotelRepository).deleteById(1L);
+        verify(hotelSearchIndex).remove(1L);
+        verify(hotelGeoIndex).remove(1L);
+        verify(changeLogService).record(ChangeLogEntry.HOTEL, 1L, ChangeLogEntry.DELETED);
+    }
+
+    @Test
+    void testCreateHotel_IndexesOnlyOnceCommitted() {
+        // Arrange
+        when(hotelRepository.save(any(Hotel.class))).thenReturn(testHotel);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            hotelService.createHotel(testHotel);
+
+            // Assert
+            verify(hotelSearchIndex, never()).index(any());
+            verify(hotelGeoIndex, never()).index(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(hotelSearchIndex).index(testHotel);
+            verify(hotelGeoIndex).index(testHotel);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testDeleteHotel_RolledBackLeavesIndexAlone() {
+        // Arrange
+        when(hotelRepository.existsById(1L)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            hotelService.deleteHotel(1L);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Assert
+            verify(hotelSearchIndex, never()).remove(any());
+            verify(hotelGeoIndex, never()).remove(any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testFindHotelsNearby_FiltersByAvailabilityInOneQuery() {
+        // Arrange
+        LocalDate checkIn = LocalDate.of(2030, 5, 1);
+        LocalDate checkOut = LocalDate.of(2030, 5, 3);
+        when(hotelGeoIndex.within(48.85, 2.29, 10)).thenReturn(List.of(
+            new HotelDistanceResult(1L, "Near", "A", 48.85, 2.29, 0.1),
+            new HotelDistanceResult(2L, "Full", "B", 48.86, 2.30, 1.2),
+            new HotelDistanceResult(3L, "Far", "C", 48.90, 2.35, 6.0)));
+        when(roomRepository.findHotelIdsWithFreeRoom(eq(List.of(1L, 2L, 3L)), eq(checkIn), eq(checkOut), any(), any()))
+            .thenReturn(List.of(3L, 1L));
+
+        // Act
+        List<HotelDistanceResult> result = hotelService.findHotelsNearby(48.85, 2.29, 10, checkIn, checkOut, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 3L), result.stream().map(HotelDistanceResult::getId).toList());
+    }
+
+    @Test
+    void testFindHotelsNearby_WithoutDatesSkipsAvailability() {
+        // Arrange
+        when(hotelGeoIndex.within(48.85, 2.29, 10)).thenReturn(List.of(
+            new HotelDistanceResult(1L, "Near", "A", 48.85, 2.29, 0.1),
+            new HotelDistanceResult(2L, "Full", "B", 48.86, 2.30, 1.2)));
+
+        // Act
+        List<HotelDistanceResult> result = hotelService.findHotelsNearby(48.85, 2.29, 10, null, null, 1);
+
+        // Assert
+        assertEquals(1, result.size());
+        verifyNoInteractions(roomRepository);
     }
 }
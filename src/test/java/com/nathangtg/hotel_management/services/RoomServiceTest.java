@@ -2,12 +2,17 @@ package com.nathangtg.hotel_management.services;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,16 +20,42 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nathangtg.hotel_management.api.dto.FieldSelection;
+import com.nathangtg.hotel_management.api.dto.KeysetCursor;
+import com.nathangtg.hotel_management.api.dto.KeysetPage;
+import com.nathangtg.hotel_management.api.dto.RoomHoldRequest;
+import com.nathangtg.hotel_management.api.dto.RoomQuote;
+import com.nathangtg.hotel_management.api.dto.RoomSearchCriteria;
+import com.nathangtg.hotel_management.api.exception.ConflictException;
+import com.nathangtg.hotel_management.api.exception.ResourceNotFoundException;
 import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.FieldProjectionRepository;
 import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.holds.RoomHold;
+import com.nathangtg.hotel_management.services.holds.RoomHoldRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class RoomServiceTest {
 
     @Mock
     private RoomRepository roomRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private RoomHoldRegistry roomHoldRegistry;
+
+    @Mock
+    private FieldProjectionRepository fieldProjectionRepository;
     
+    @Mock
+    private ChangeLogService changeLogService;
+
     @InjectMocks
     private RoomService roomService;
     
@@ -115,6 +146,21 @@ class RoomServiceTest {
         verify(roomRepository).findByIsAvailableTrue();
     }
 
+    @Test
+    void testGetRooms_WithFields_FallsBackToFullRowsWhenNotProjectable() {
+        // Arrange
+        FieldSelection fields = FieldSelection.parse("roomNumber,hotel.name");
+        when(fieldProjectionRepository.findAll(eq(Room.class), any(), eq(fields))).thenReturn(Optional.empty());
+        when(roomRepository.findByIsAvailableTrue()).thenReturn(List.of(testRoom));
+
+        // Act
+        List<Room> result = roomService.getRooms(true, null, fields);
+
+        // Assert
+        assertEquals(List.of(testRoom), result);
+        verify(roomRepository, never()).findAll();
+    }
+
     @Test
     void testCreateRoom() {
         // Arrange
@@ -161,4 +207,151 @@ class RoomServiceTest {
         verify(roomRepository).existsById(1L);
         verify(roomRepository).deleteById(1L);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchRooms_ReturnsCursorWhenMoreRowsExist() {
+        // Arrange
+        Room second = new Room();
+        second.setId(2L);
+        second.setPricePerNight(new BigDecimal("120.00"));
+        Room third = new Room();
+        third.setId(3L);
+        third.setPricePerNight(new BigDecimal("140.00"));
+        when(roomRepository.findBy(any(Specification.class), any())).thenReturn(Arrays.asList(testRoom, second, third));
+
+        RoomSearchCriteria criteria = new RoomSearchCriteria();
+        criteria.setLimit(2);
+
+        // Act
+        KeysetPage<Room> page = roomService.searchRooms(criteria);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+        assertEquals("120.00", cursor.getValue());
+        assertEquals(2L, cursor.getId());
+    }
+
+    @Test
+    void testSearchRooms_RejectsInvertedStay() {
+        // Arrange
+        RoomSearchCriteria criteria = new RoomSearchCriteria();
+        criteria.setCheckIn(LocalDate.of(2030, 1, 5));
+        criteria.setCheckOut(LocalDate.of(2030, 1, 1));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> roomService.searchRooms(criteria));
+        verifyNoInteractions(roomRepository);
+    }
+
+    @Test
+    void testPlaceHold() {
+        // Arrange
+        LocalDate checkIn = LocalDate.of(2030, 3, 1);
+        RoomHoldRequest request = holdRequest(checkIn, checkIn.plusDays(2), 120L);
+        RoomHold hold = new RoomHold("h1", 1L, 7L, checkIn, checkIn.plusDays(2), Instant.now(),
+            Instant.now().plusSeconds(120));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.existsOverlappingBooking(eq(1L), eq(checkIn), eq(checkIn.plusDays(2)), any()))
+            .thenReturn(false);
+        when(roomHoldRegistry.place(1L, 7L, checkIn, checkIn.plusDays(2), Duration.ofSeconds(120))).thenReturn(hold);
+
+        // Act
+        RoomHold result = roomService.placeHold(1L, 7L, request);
+
+        // Assert
+        assertEquals("h1", result.getId());
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void testPlaceHold_RoomAlreadyBooked() {
+        // Arrange
+        LocalDate checkIn = LocalDate.of(2030, 3, 1);
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.existsOverlappingBooking(eq(1L), eq(checkIn), eq(checkIn.plusDays(2)), any()))
+            .thenReturn(true);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> roomService.placeHold(1L, 7L, holdRequest(checkIn, checkIn.plusDays(2), null)));
+        verifyNoInteractions(roomHoldRegistry);
+    }
+
+    @Test
+    void testPlaceHold_RoomFlaggedUnavailable() {
+        // Arrange
+        LocalDate checkIn = LocalDate.of(2030, 3, 1);
+        testRoom.setIsAvailable(false);
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+
+        // Act & Assert
+        assertThrows(ConflictException.class,
+            () -> roomService.placeHold(1L, 7L, holdRequest(checkIn, checkIn.plusDays(2), null)));
+        verifyNoInteractions(roomHoldRegistry);
+    }
+
+    @Test
+    void testPlaceHold_RoomNotFound() {
+        // Arrange
+        LocalDate checkIn = LocalDate.of(2030, 3, 1);
+        when(roomRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+            () -> roomService.placeHold(1L, 7L, holdRequest(checkIn, checkIn.plusDays(2), null)));
+        verifyNoInteractions(roomHoldRegistry);
+    }
+
+    @Test
+    void testSearchRooms_ExcludesHeldRooms() {
+        // Arrange
+        RoomSearchCriteria criteria = new RoomSearchCriteria();
+        criteria.setCheckIn(LocalDate.of(2030, 1, 1));
+        criteria.setCheckOut(LocalDate.of(2030, 1, 3));
+        when(roomHoldRegistry.heldRoomIds(criteria.getCheckIn(), criteria.getCheckOut())).thenReturn(Set.of(5L));
+        when(roomRepository.findBy(any(Specification.class), any())).thenReturn(List.of());
+
+        // Act
+        roomService.searchRooms(criteria);
+
+        // Assert
+        verify(roomHoldRegistry).heldRoomIds(criteria.getCheckIn(), criteria.getCheckOut());
+    }
+
+    @Test
+    void testQuote_PricesStayAndChecksOverlaps() {
+        // Arrange
+        LocalDate checkIn = LocalDate.of(2030, 1, 1);
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.existsOverlappingBooking(eq(1L), eq(checkIn), eq(checkIn.plusDays(3)), any()))
+            .thenReturn(false);
+        when(roomHoldRegistry.isHeldByOther(1L, checkIn, checkIn.plusDays(3), 7L)).thenReturn(true);
+
+        // Act
+        RoomQuote quote = roomService.quote(1L, checkIn, checkIn.plusDays(3), 7L);
+
+        // Assert
+        assertEquals(3, quote.getNights());
+        assertEquals(new BigDecimal("300.00"), quote.getTotalPrice());
+        assertFalse(quote.isAvailable());
+    }
+
+    @Test
+    void testQuote_RejectsEmptyStay() {
+        LocalDate checkIn = LocalDate.of(2030, 1, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> roomService.quote(1L, checkIn, checkIn, 7L));
+        verifyNoInteractions(roomRepository);
+    }
+
+    private static RoomHoldRequest holdRequest(LocalDate checkIn, LocalDate checkOut, Long ttlSeconds) {
+        RoomHoldRequest request = new RoomHoldRequest();
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkOut);
+        request.setTtlSeconds(ttlSeconds);
+        return request;
+    }
 }
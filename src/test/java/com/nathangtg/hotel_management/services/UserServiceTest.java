@@ -1,5 +1,6 @@
 package com.nathangtg.hotel_management.services;
 
+import com.nathangtg.hotel_management.api.models.Role;
 import com.nathangtg.hotel_management.api.models.User;
 import com.nathangtg.hotel_management.api.repositories.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,7 +46,7 @@ class UserServiceTest {
         testUser.setFirstName("Test");
         testUser.setLastName("User");
         testUser.setEmail("test@example.com");
-        testUser.setRole("USER");
+        testUser.setRole(Role.USER);
     }
 
     @Test
@@ -57,7 +58,7 @@ class UserServiceTest {
         user.setFirstName("Test");
         user.setLastName("User");
         user.setEmail("test@example.com");
-        user.setRole("USER");
+        user.setRole(Role.USER);
 
         User expectedSavedUser = new User();
         expectedSavedUser.setId(1L);
@@ -66,7 +67,7 @@ class UserServiceTest {
         expectedSavedUser.setFirstName("Test");
         expectedSavedUser.setLastName("User");
         expectedSavedUser.setEmail("test@example.com");
-        expectedSavedUser.setRole("USER");
+        expectedSavedUser.setRole(Role.USER);
 
         when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
@@ -80,7 +81,7 @@ class UserServiceTest {
         assertEquals("testuser", savedUser.getUsername());
         assertEquals("test@example.com", savedUser.getEmail());
         assertTrue(passwordEncoder.matches("password123", savedUser.getPassword()));
-        assertEquals("USER", savedUser.getRole());
+        assertEquals(Role.USER, savedUser.getRole());
         verify(userRepository).findByUsername("testuser");
         verify(userRepository).findByEmail("test@example.com");
         verify(userRepository).save(any(User.class));
@@ -96,7 +97,7 @@ class UserServiceTest {
         existingUser.setFirstName("Existing");
         existingUser.setLastName("User");
         existingUser.setEmail("existing@example.com");
-        existingUser.setRole("USER");
+        existingUser.setRole(Role.USER);
 
         User newUser = new User();
         newUser.setUsername("existinguser"); // Same username
@@ -104,7 +105,7 @@ class UserServiceTest {
         newUser.setFirstName("New");
         newUser.setLastName("User");
         newUser.setEmail("new@example.com");
-        newUser.setRole("USER");
+        newUser.setRole(Role.USER);
 
         when(userRepository.findByUsername("existinguser")).thenReturn(Optional.of(existingUser));
 
@@ -127,7 +128,7 @@ class UserServiceTest {
         existingUser.setFirstName("Existing");
         existingUser.setLastName("User");
         existingUser.setEmail("existing@example.com");
-        existingUser.setRole("USER");
+        existingUser.setRole(Role.USER);
 
         User newUser = new User();
         newUser.setUsername("newuser");
@@ -135,7 +136,7 @@ class UserServiceTest {
         newUser.setFirstName("New");
         newUser.setLastName("User");
         newUser.setEmail("existing@example.com"); // Same email
-        newUser.setRole("USER");
+        newUser.setRole(Role.USER);
 
         when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
         when(userRepository.findByEmail("existing@example.com")).thenReturn(Optional.of(existingUser));
@@ -160,7 +161,7 @@ class UserServiceTest {
         user1.setFirstName("First");
         user1.setLastName("User");
         user1.setEmail("user1@example.com");
-        user1.setRole("USER");
+        user1.setRole(Role.USER);
 
         User user2 = new User();
         user2.setId(2L);
@@ -169,7 +170,7 @@ class UserServiceTest {
         user2.setFirstName("Second");
         user2.setLastName("User");
         user2.setEmail("user2@example.com");
-        user2.setRole("USER");
+        user2.setRole(Role.USER);
 
         when(userRepository.findAll()).thenReturn(Arrays.asList(user1, user2));
 
@@ -258,7 +259,7 @@ class UserServiceTest {
         updateUser.setFirstName("Updated");
         updateUser.setLastName("User");
         updateUser.setEmail("updated@example.com");
-        updateUser.setRole("ADMIN");
+        updateUser.setRole(Role.ADMIN);
         updateUser.setPassword("newpassword123");
 
         User updatedUser = new User();
@@ -267,7 +268,7 @@ class UserServiceTest {
         updatedUser.setFirstName("Updated");
         updatedUser.setLastName("User");
         updatedUser.setEmail("updated@example.com");
-        updatedUser.setRole("ADMIN");
+        updatedUser.setRole(Role.ADMIN);
         updatedUser.setPassword(passwordEncoder.encode("newpassword123"));
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
@@ -283,7 +284,7 @@ class UserServiceTest {
         assertEquals("updateduser", result.getUsername());
         assertEquals("Updated", result.getFirstName());
         assertEquals("updated@example.com", result.getEmail());
-        assertEquals("ADMIN", result.getRole());
+        assertEquals(Role.ADMIN, result.getRole());
         // Password should be encoded
         assertTrue(passwordEncoder.matches("newpassword123", result.getPassword()));
         
@@ -303,14 +304,14 @@ class UserServiceTest {
         existingUser.setFirstName("Existing");
         existingUser.setLastName("User");
         existingUser.setEmail("existing@example.com");
-        existingUser.setRole("USER");
+        existingUser.setRole(Role.USER);
 
         User updateUser = new User();
         updateUser.setUsername("existinguser"); // Trying to use existing username
         updateUser.setFirstName("Updated");
         updateUser.setLastName("User");
         updateUser.setEmail("updated@example.com");
-        updateUser.setRole("ADMIN");
+        updateUser.setRole(Role.ADMIN);
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         when(userRepository.findByUsername("existinguser")).thenReturn(Optional.of(existingUser));
@@ -365,7 +366,7 @@ class UserServiceTest {
         admin1.setFirstName("Admin");
         admin1.setLastName("One");
         admin1.setEmail("admin1@example.com");
-        admin1.setRole("ADMIN");
+        admin1.setRole(Role.ADMIN);
 
         User admin2 = new User();
         admin2.setId(2L);
@@ -374,33 +375,33 @@ class UserServiceTest {
         admin2.setFirstName("Admin");
         admin2.setLastName("Two");
         admin2.setEmail("admin2@example.com");
-        admin2.setRole("ADMIN");
+        admin2.setRole(Role.ADMIN);
 
-        when(userRepository.findAllByRole("ADMIN")).thenReturn(Optional.of(Arrays.asList(admin1, admin2)));
+        when(userRepository.findAllByRole(Role.ADMIN)).thenReturn(Optional.of(Arrays.asList(admin1, admin2)));
 
         // Act
-        List<User> admins = userService.findAllByRole("ADMIN");
+        List<User> admins = userService.findAllByRole(Role.ADMIN);
 
         // Assert
         assertEquals(2, admins.size());
-        admins.forEach(admin -> assertEquals("ADMIN", admin.getRole()));
+        admins.forEach(admin -> assertEquals(Role.ADMIN, admin.getRole()));
         assertTrue(admins.stream().anyMatch(u -> u.getUsername().equals("admin1")));
         assertTrue(admins.stream().anyMatch(u -> u.getUsername().equals("admin2")));
         
-        verify(userRepository).findAllByRole("ADMIN");
+        verify(userRepository).findAllByRole(Role.ADMIN);
     }
 
     @Test
     void testFindAllByRole_NoUsersFound_ThrowsException() {
         // Arrange
-        when(userRepository.findAllByRole("SUPER_ADMIN")).thenReturn(Optional.empty());
+        when(userRepository.findAllByRole(Role.STAFF)).thenReturn(Optional.empty());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            userService.findAllByRole("SUPER_ADMIN"); // Role that doesn't exist
+            userService.findAllByRole(Role.STAFF); // No staff accounts yet
         });
-        assertEquals("No users found with role: SUPER_ADMIN", exception.getMessage());
+        assertEquals("No users found with role: STAFF", exception.getMessage());
         
-        verify(userRepository).findAllByRole("SUPER_ADMIN");
+        verify(userRepository).findAllByRole(Role.STAFF);
     }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.nathangtg.hotel_management.services.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.services.HotelService;
+import com.nathangtg.hotel_management.services.RoomService;
+
+class CatalogResponseCacheTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private HotelService hotelService;
+    private RoomService roomService;
+    private HotelRepository hotelRepository;
+    private RoomRepository roomRepository;
+    private CatalogResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        hotelService = mock(HotelService.class);
+        roomService = mock(RoomService.class);
+        hotelRepository = mock(HotelRepository.class);
+        roomRepository = mock(RoomRepository.class);
+        cache = new CatalogResponseCache(hotelService, roomService, hotelRepository, roomRepository,
+            new ObjectMapper(), 10);
+        when(hotelService.getAllHotels()).thenReturn(List.of(hotel(1L, "Ritz")));
+    }
+
+    @Test
+    void testSameVersionIsServedFromCache() throws Exception {
+        // Arrange
+        hotelVersion(2, 1_000L);
+
+        // Act
+        CatalogResponse first = cache.hotels();
+        CatalogResponse second = cache.hotels();
+
+        // Assert
+        assertSame(first, second);
+        verify(hotelService, times(1)).getAllHotels();
+        byte[] json = first.body(CatalogResponse.IDENTITY).getBytes();
+        assertTrue(new String(json).contains("\"name\":\"Ritz\""));
+        assertArrayEquals(json, gunzip(first.body(CatalogResponse.GZIP).getBytes()));
+        assertEquals("W/\"hotels-2-1000\"", first.getEtag());
+    }
+
+    @Test
+    void testChangedVersionRebuilds() {
+        // Arrange
+        hotelVersion(2, 1_000L);
+        CatalogResponse before = cache.hotels();
+        hotelVersion(2, 2_000L);
+        when(hotelService.getAllHotels()).thenReturn(List.of(hotel(1L, "Ritz Paris")));
+
+        // Act
+        CatalogResponse after = cache.hotels();
+
+        // Assert
+        assertNotSame(before, after);
+        assertTrue(new String(after.body(CatalogResponse.IDENTITY).getBytes()).contains("Ritz Paris"));
+    }
+
+    @Test
+    void testRoomsVersionIncludesHotelStamp() {
+        // Arrange
+        RoomRepository.RoomCatalogVersion version = mock(RoomRepository.RoomCatalogVersion.class);
+        when(version.getCount()).thenReturn(3L);
+        when(version.getLastUpdatedAt()).thenReturn(500L);
+        when(version.getHotelUpdatedAt()).thenReturn(900L);
+        when(roomRepository.findCatalogVersion(7L)).thenReturn(version);
+        when(roomService.getRoomsByHotelId(7L)).thenReturn(List.<Room>of());
+
+        // Act
+        CatalogResponse response = cache.roomsOfHotel(7L);
+
+        // Assert
+        assertEquals("W/\"rooms-7-3-500-900\"", response.getEtag());
+        assertEquals("[]", new String(response.body(CatalogResponse.IDENTITY).getBytes()));
+    }
+
+    @Test
+    void testLargeBodiesSpillAndRetiredFilesAreDeleted() {
+        // Arrange
+        cache.setSpillDir(spillDirectory.toString());
+        cache.setSpillThresholdBytes(0);
+        hotelVersion(1, 1_000L);
+        CatalogResponse first = cache.hotels();
+        Path firstFile = first.body(CatalogResponse.GZIP).getFile();
+
+        // Act
+        hotelVersion(1, 2_000L);
+        CatalogResponse second = cache.hotels();
+        boolean keptForInFlightSends = Files.exists(firstFile);
+        hotelVersion(1, 3_000L);
+        cache.hotels();
+
+        // Assert
+        assertNotNull(firstFile);
+        assertNull(first.body(CatalogResponse.GZIP).getBytes());
+        assertTrue(keptForInFlightSends);
+        assertFalse(Files.exists(firstFile));
+        assertTrue(Files.exists(second.body(CatalogResponse.IDENTITY).getFile()));
+    }
+
+    private void hotelVersion(long count, Long lastUpdatedAt) {
+        HotelRepository.CatalogVersion version = mock(HotelRepository.CatalogVersion.class);
+        when(version.getCount()).thenReturn(count);
+        when(version.getLastUpdatedAt()).thenReturn(lastUpdatedAt);
+        when(hotelRepository.findCatalogVersion()).thenReturn(version);
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Hotel hotel(Long id, String name) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setName(name);
+        return hotel;
+    }
+}
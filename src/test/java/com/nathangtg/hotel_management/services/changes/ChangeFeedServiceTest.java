@@ -0,0 +1,130 @@
+package com.nathangtg.hotel_management.services.changes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nathangtg.hotel_management.api.dto.ChangeFeed;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.HotelService;
+import com.nathangtg.hotel_management.services.RoomService;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private HotelService hotelService;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private BookingService bookingService;
+
+    @InjectMocks
+    private ChangeFeedService changeFeedService;
+
+    private static ChangeLogEntry entry(long version, String entityType, long entityId, String operation) {
+        ChangeLogEntry entry = new ChangeLogEntry(entityType, entityId, operation, Instant.EPOCH);
+        entry.setVersion(version);
+        return entry;
+    }
+
+    @Test
+    void testGetChanges_KeepsTheLatestEntryPerEntity() {
+        // Arrange
+        Room room = new Room();
+        room.setId(7L);
+        when(changeLogService.findSince(10L, 4)).thenReturn(List.of(
+            entry(11, ChangeLogEntry.ROOM, 7, ChangeLogEntry.CREATED),
+            entry(12, ChangeLogEntry.BOOKING, 3, ChangeLogEntry.CREATED),
+            entry(13, ChangeLogEntry.ROOM, 7, ChangeLogEntry.UPDATED),
+            entry(14, ChangeLogEntry.BOOKING, 3, ChangeLogEntry.DELETED)));
+        when(roomService.getRoomsByIds(List.of(7L))).thenReturn(List.of(room));
+
+        // Act
+        ChangeFeed feed = changeFeedService.getChanges(10L, 3);
+
+        // Assert
+        assertTrue(feed.isHasMore());
+        assertEquals(13, feed.getNextVersion());
+        assertEquals(2, feed.getChanges().size());
+        ChangeFeed.Change booking = feed.getChanges().get(0);
+        assertEquals(12, booking.getVersion());
+        assertEquals(ChangeLogEntry.CREATED, booking.getOperation());
+        ChangeFeed.Change updatedRoom = feed.getChanges().get(1);
+        assertEquals(13, updatedRoom.getVersion());
+        assertEquals(ChangeLogEntry.UPDATED, updatedRoom.getOperation());
+        assertSame(room, updatedRoom.getData());
+        verify(bookingService).getBookingsByIds(List.of(3L));
+        verifyNoInteractions(hotelService);
+    }
+
+    @Test
+    void testGetChanges_DeletedEntitiesCarryNoData() {
+        // Arrange
+        when(changeLogService.findSince(0L, 101)).thenReturn(List.of(
+            entry(1, ChangeLogEntry.HOTEL, 2, ChangeLogEntry.DELETED)));
+
+        // Act
+        ChangeFeed feed = changeFeedService.getChanges(0L, 100);
+
+        // Assert
+        assertFalse(feed.isHasMore());
+        assertEquals(1, feed.getNextVersion());
+        assertNull(feed.getChanges().get(0).getData());
+        verifyNoInteractions(hotelService);
+    }
+
+    @Test
+    void testGetChanges_EmptyPageKeepsTheCursor() {
+        // Arrange
+        when(changeLogService.findSince(anyLong(), anyInt())).thenReturn(List.of());
+
+        // Act
+        ChangeFeed feed = changeFeedService.getChanges(42L, 100);
+
+        // Assert
+        assertEquals(42, feed.getNextVersion());
+        assertTrue(feed.getChanges().isEmpty());
+    }
+
+    @Test
+    void testGetChanges_WithoutVersionReturnsTheCurrentOne() {
+        // Arrange
+        when(changeLogService.currentVersion()).thenReturn(99L);
+
+        // Act
+        ChangeFeed feed = changeFeedService.getChanges(null, 100);
+
+        // Assert
+        assertEquals(99, feed.getNextVersion());
+        assertTrue(feed.getChanges().isEmpty());
+        verify(changeLogService, never()).findSince(anyLong(), anyInt());
+    }
+
+    @Test
+    void testGetChanges_RejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChanges(0L, 0));
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChanges(0L, 201));
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChanges(-1L, 10));
+        verify(changeLogService, never()).findSince(anyLong(), anyInt());
+        verify(roomService, never()).getRoomsByIds(any());
+    }
+}
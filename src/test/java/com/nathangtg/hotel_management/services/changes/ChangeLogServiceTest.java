@@ -0,0 +1,220 @@
+package com.nathangtg.hotel_management.services.changes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+import com.nathangtg.hotel_management.api.repositories.ChangeLogLockRepository;
+import com.nathangtg.hotel_management.api.repositories.ChangeLogRepository;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChangeLogServiceTest {
+
+    @Autowired
+    private ChangeLogRepository repository;
+
+    @Autowired
+    private ChangeLogLockRepository lockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MutableClock clock;
+    private ChangeLogService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"));
+        service = new ChangeLogService(repository, lockRepository, transactionManager, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    private void record(String entityType, long entityId, String operation) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+            status -> service.record(entityType, entityId, operation));
+    }
+
+    @Test
+    void entriesAreVersionedInCommitOrder() throws Exception {
+        // Arrange: the slow transaction records first and commits last
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                service.record(ChangeLogEntry.BOOKING, 1L, ChangeLogEntry.UPDATED);
+                recorded.countDown();
+                await(commit);
+            }));
+        assertTrue(recorded.await(10, TimeUnit.SECONDS));
+        record(ChangeLogEntry.BOOKING, 2, ChangeLogEntry.UPDATED);
+
+        // Act
+        service.assignVersions();
+        List<ChangeLogEntry> first = service.findSince(0, 10);
+        long cursor = first.get(first.size() - 1).getVersion();
+        commit.countDown();
+        slow.get(10, TimeUnit.SECONDS);
+        service.assignVersions();
+        List<ChangeLogEntry> second = service.findSince(cursor, 10);
+
+        // Assert
+        assertEquals(List.of(2L), first.stream().map(ChangeLogEntry::getEntityId).toList());
+        assertEquals(List.of(1L), second.stream().map(ChangeLogEntry::getEntityId).toList());
+        assertTrue(second.get(0).getVersion() > cursor);
+        assertEquals(second.get(0).getVersion(), service.currentVersion());
+    }
+
+    @Test
+    void writersDoNotWaitForEachOtherToCommit() throws Exception {
+        // Arrange: the slow transaction has inserted its entry and stalls in its commit
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                service.record(ChangeLogEntry.ROOM, 1L, ChangeLogEntry.UPDATED);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        inserted.countDown();
+                        await(commit);
+                    }
+                });
+            }));
+        assertTrue(inserted.await(10, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<Void> fast = CompletableFuture.runAsync(
+            () -> record(ChangeLogEntry.ROOM, 2, ChangeLogEntry.UPDATED));
+
+        // Assert
+        fast.get(10, TimeUnit.SECONDS);
+        assertEquals(1, service.assignVersions());
+        commit.countDown();
+        slow.get(10, TimeUnit.SECONDS);
+        assertEquals(1, service.assignVersions());
+        assertEquals(List.of(2L, 1L), service.findSince(0, 10).stream().map(ChangeLogEntry::getEntityId).toList());
+    }
+
+    @Test
+    void versionsAreAssignedInBatches() {
+        // Arrange
+        service.setSequenceBatchSize(2);
+        for (long id = 1; id <= 5; id++) {
+            record(ChangeLogEntry.HOTEL, id, ChangeLogEntry.UPDATED);
+        }
+
+        // Act
+        int assigned = service.assignVersions();
+
+        // Assert
+        assertEquals(5, assigned);
+        assertEquals(0, service.assignVersions());
+        List<ChangeLogEntry> entries = service.findSince(0, 10);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), entries.stream().map(ChangeLogEntry::getEntityId).toList());
+        assertEquals(entries.get(4).getVersion(), service.currentVersion());
+    }
+
+    @Test
+    void rolledBackTransactionsLeaveNoEntry() {
+        // Arrange
+        record(ChangeLogEntry.HOTEL, 1, ChangeLogEntry.CREATED);
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            service.recordAll(ChangeLogEntry.ROOM, List.of(1L, 2L), ChangeLogEntry.UPDATED);
+            status.setRollbackOnly();
+        });
+        service.assignVersions();
+
+        // Assert
+        List<ChangeLogEntry> entries = service.findSince(0, 10);
+        assertEquals(List.of("HOTEL"), entries.stream().map(ChangeLogEntry::getEntityType).toList());
+        assertEquals(entries.get(0).getVersion(), service.currentVersion());
+    }
+
+    @Test
+    void compactionKeepsTheLatestEntryPerEntityInBatches() {
+        // Arrange
+        service.setCompactionBatchSize(1);
+        record(ChangeLogEntry.ROOM, 1, ChangeLogEntry.CREATED);
+        record(ChangeLogEntry.ROOM, 1, ChangeLogEntry.UPDATED);
+        record(ChangeLogEntry.ROOM, 2, ChangeLogEntry.CREATED);
+        record(ChangeLogEntry.HOTEL, 1, ChangeLogEntry.DELETED);
+        clock.advance(Duration.ofDays(2));
+        record(ChangeLogEntry.ROOM, 1, ChangeLogEntry.UPDATED);
+        record(ChangeLogEntry.ROOM, 1, ChangeLogEntry.DELETED);
+        service.assignVersions();
+
+        // Act
+        int compacted = service.compact();
+
+        // Assert
+        assertEquals(2, compacted);
+        assertEquals(List.of("ROOM:2:CREATED", "HOTEL:1:DELETED", "ROOM:1:UPDATED", "ROOM:1:DELETED"),
+            repository.findAll(Sort.by("id")).stream()
+                .map(entry -> entry.getEntityType() + ":" + entry.getEntityId() + ":" + entry.getOperation())
+                .toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
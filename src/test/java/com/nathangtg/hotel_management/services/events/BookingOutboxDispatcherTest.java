@@ -0,0 +1,242 @@
+package com.nathangtg.hotel_management.services.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingOutboxEvent;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.repositories.BookingOutboxRepository;
+import com.nathangtg.hotel_management.api.repositories.JobLeaseRepository;
+import com.nathangtg.hotel_management.services.jobs.JobLeaseService;
+
+@DataJpaTest
+@Import({BookingOutboxService.class, BookingOutboxDispatcherTest.JsonConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingOutboxDispatcherTest {
+
+    @TestConfiguration
+    static class JsonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @Autowired
+    private BookingOutboxService outboxService;
+
+    @Autowired
+    private BookingOutboxRepository outboxRepository;
+
+    @Autowired
+    private JobLeaseRepository leaseRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Long> failingBookings = Collections.synchronizedSet(new HashSet<>());
+    private MutableClock clock;
+    private BookingOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // Events are stamped with the wall clock; run the dispatcher slightly ahead of it
+        clock = new MutableClock(Instant.now().plusSeconds(1));
+        BookingEventHandler recorder = new BookingEventHandler() {
+            @Override
+            public boolean supports(String eventType) {
+                return true;
+            }
+
+            @Override
+            public void handle(BookingEvent event) {
+                if (failingBookings.contains(event.getBookingId())) {
+                    throw new IllegalStateException("downstream unavailable");
+                }
+                delivered.add(event.getBookingId() + ":" + event.getType());
+            }
+        };
+        dispatcher = new BookingOutboxDispatcher(outboxRepository, List.of(recorder), objectMapper,
+            new JobLeaseService(leaseRepository, transactionManager), transactionManager, 2, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        outboxRepository.deleteAll();
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    void testRecordRequiresSurroundingTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+            () -> outboxService.record(BookingEvent.CREATED, booking(1L, BookingStatus.CONFIRMED), null));
+    }
+
+    @Test
+    void testDeliversEventsInOrderAndMarksThemProcessed() {
+        // Arrange
+        record(1L, BookingEvent.CREATED, BookingStatus.CONFIRMED, null);
+        record(2L, BookingEvent.CREATED, BookingStatus.CONFIRMED, null);
+        record(1L, BookingEvent.CANCELLED, BookingStatus.CANCELLED, BookingStatus.CONFIRMED);
+
+        // Act
+        int picked = dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(3, picked);
+        assertTrue(delivered.indexOf("1:" + BookingEvent.CREATED) < delivered.indexOf("1:" + BookingEvent.CANCELLED));
+        assertEquals(3, outboxRepository.countByStatus(BookingOutboxEvent.PROCESSED));
+        assertEquals(0, dispatcher.dispatchBatch());
+    }
+
+    @Test
+    void testLeavesEventsToTheReplicaHoldingTheLease() {
+        // Arrange
+        record(1L, BookingEvent.CREATED, BookingStatus.CONFIRMED, null);
+        JobLeaseService otherReplica = new JobLeaseService(leaseRepository, transactionManager);
+        assertTrue(otherReplica.tryAcquire(BookingOutboxDispatcher.JOB_NAME, Duration.ofMinutes(1)));
+
+        // Act
+        int picked = dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(0, picked);
+        assertTrue(delivered.isEmpty());
+        assertEquals(1, outboxRepository.countByStatus(BookingOutboxEvent.PENDING));
+
+        otherReplica.release(BookingOutboxDispatcher.JOB_NAME);
+        assertEquals(1, dispatcher.dispatchBatch());
+    }
+
+    @Test
+    void testFailureHoldsBackLaterEventsOfTheSameBookingOnly() {
+        // Arrange
+        record(1L, BookingEvent.CREATED, BookingStatus.CONFIRMED, null);
+        record(1L, BookingEvent.CANCELLED, BookingStatus.CANCELLED, BookingStatus.CONFIRMED);
+        record(2L, BookingEvent.CREATED, BookingStatus.CONFIRMED, null);
+        failingBookings.add(1L);
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(List.of("2:" + BookingEvent.CREATED), delivered);
+        List<BookingOutboxEvent> first = outboxRepository.findByBookingIdOrderById(1L);
+        assertEquals(1, first.get(0).getAttempts());
+        assertEquals(0, first.get(1).getAttempts());
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        // Act
+        failingBookings.clear();
+        clock.advance(Duration.ofSeconds(2));
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(List.of("2:" + BookingEvent.CREATED, "1:" + BookingEvent.CREATED, "1:" + BookingEvent.CANCELLED),
+            delivered);
+        assertEquals(0, outboxRepository.countByStatus(BookingOutboxEvent.PENDING));
+    }
+
+    @Test
+    void testEventIsParkedAfterMaxAttempts() {
+        // Arrange
+        dispatcher.setMaxAttempts(2);
+        record(1L, BookingEvent.CREATED, BookingStatus.CONFIRMED, null);
+        failingBookings.add(1L);
+
+        // Act
+        dispatcher.dispatchBatch();
+        clock.advance(Duration.ofMinutes(10));
+        dispatcher.dispatchBatch();
+
+        // Assert
+        BookingOutboxEvent event = outboxRepository.findByBookingIdOrderById(1L).get(0);
+        assertEquals(BookingOutboxEvent.FAILED, event.getStatus());
+        assertEquals(2, event.getAttempts());
+        assertTrue(event.getLastError().contains("downstream unavailable"));
+    }
+
+    @Test
+    void testBackoffIsExponentialAndCapped() {
+        assertEquals(Duration.ofSeconds(1), BookingOutboxDispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(8), BookingOutboxDispatcher.backoff(4));
+        assertEquals(Duration.ofMinutes(5), BookingOutboxDispatcher.backoff(30));
+    }
+
+    private void record(Long bookingId, String type, BookingStatus status, BookingStatus previousStatus) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+            tx -> outboxService.record(type, booking(bookingId, status), previousStatus));
+    }
+
+    private static Booking booking(Long id, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setRoomId(10L);
+        booking.setUserId(20L);
+        booking.setCheckInDate(LocalDate.of(2030, 1, 1));
+        booking.setCheckOutDate(LocalDate.of(2030, 1, 3));
+        booking.setTotalPrice(new BigDecimal("200.00"));
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
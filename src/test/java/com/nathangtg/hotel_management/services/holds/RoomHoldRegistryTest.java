@@ -0,0 +1,131 @@
+package com.nathangtg.hotel_management.services.holds;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoomHoldRegistryTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2030, 4, 1);
+
+    private MutableClock clock;
+    private RoomHoldRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2030-03-01T10:00:00.250Z"));
+        registry = new RoomHoldRegistry(clock);
+    }
+
+    @Test
+    void testOverlappingHoldOfAnotherGuestIsRefused() {
+        // Arrange
+        registry.place(1L, 10L, CHECK_IN, CHECK_IN.plusDays(3), Duration.ofMinutes(5));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> registry.place(1L, 11L, CHECK_IN.plusDays(2), CHECK_IN.plusDays(4), null));
+        assertNotNull(registry.place(1L, 11L, CHECK_IN.plusDays(3), CHECK_IN.plusDays(4), null));
+        assertNotNull(registry.place(2L, 11L, CHECK_IN, CHECK_IN.plusDays(3), null));
+        assertTrue(registry.isHeldByOther(1L, CHECK_IN, CHECK_IN.plusDays(1), 11L));
+        assertFalse(registry.isHeldByOther(1L, CHECK_IN, CHECK_IN.plusDays(1), 10L));
+    }
+
+    @Test
+    void testInvalidTtlIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.place(1L, 10L, CHECK_IN, CHECK_IN.plusDays(1), Duration.ofHours(1)));
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.place(1L, 10L, CHECK_IN, CHECK_IN, null));
+    }
+
+    @Test
+    void testHoldsExpireOnTheWheel() {
+        // Arrange
+        RoomHold shortHold = registry.place(1L, 10L, CHECK_IN, CHECK_IN.plusDays(1), Duration.ofSeconds(30));
+        registry.place(2L, 10L, CHECK_IN, CHECK_IN.plusDays(1), Duration.ofMinutes(20));
+
+        // Act
+        clock.advance(Duration.ofSeconds(31));
+
+        // Assert: reads ignore the expired hold before the wheel has ticked
+        assertNull(registry.get(shortHold.getId()));
+        assertEquals(Set.of(2L), registry.heldRoomIds(CHECK_IN, CHECK_IN.plusDays(1)));
+        assertEquals(2, registry.size());
+
+        // Act
+        registry.expireDue();
+
+        // Assert
+        assertEquals(1, registry.size());
+
+        // Act
+        clock.advance(Duration.ofMinutes(20));
+        registry.expireDue();
+
+        // Assert
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testClaimRemovesHoldAndRestorePutsItBack() {
+        // Arrange
+        RoomHold hold = registry.place(1L, 10L, CHECK_IN, CHECK_IN.plusDays(2), null);
+
+        // Act & Assert
+        assertNull(registry.claim(hold.getId(), 2L));
+        assertSame(hold, registry.claim(hold.getId(), 1L));
+        assertNull(registry.claim(hold.getId(), 1L));
+        assertFalse(registry.isHeldByOther(1L, CHECK_IN, CHECK_IN.plusDays(2), 11L));
+
+        registry.restore(hold);
+        assertTrue(registry.isHeldByOther(1L, CHECK_IN, CHECK_IN.plusDays(2), 11L));
+        assertTrue(registry.release(hold.getId()));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testGuestHoldCountIsCapped() {
+        for (int room = 0; room < RoomHoldRegistry.MAX_HOLDS_PER_USER; room++) {
+            registry.place((long) room, 10L, CHECK_IN, CHECK_IN.plusDays(1), null);
+        }
+        assertThrows(IllegalStateException.class,
+            () -> registry.place(99L, 10L, CHECK_IN, CHECK_IN.plusDays(1), null));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.nathangtg.hotel_management.services.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.repositories.IdempotencyKeyRepository;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyKeyRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger executions = new AtomicInteger();
+    private MutableClock clock;
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T00:00:00Z"));
+        service = new IdempotencyService(repository, objectMapper, transactionManager, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    private ResponseEntity<?> created() {
+        int id = executions.incrementAndGet();
+        return ResponseEntity.created(URI.create("/api/bookings/" + id)).body(Map.of("id", id));
+    }
+
+    @Test
+    void retryReplaysTheFirstResponseWithoutRunningAgain() {
+        // Act
+        ResponseEntity<?> first = service.execute(1L, "POST /api/bookings", "key-1", Map.of("roomId", 7), this::created);
+        ResponseEntity<?> retry = service.execute(1L, "POST /api/bookings", "key-1", Map.of("roomId", 7), this::created);
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(201, first.getStatusCode().value());
+        assertEquals(201, retry.getStatusCode().value());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(URI.create("/api/bookings/1"), retry.getHeaders().getLocation());
+        assertEquals("{\"id\":1}", new String((byte[]) retry.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void keysAreScopedToUserAndOperation() {
+        // Act
+        service.execute(1L, "POST /api/bookings", "key-1", null, this::created);
+        service.execute(2L, "POST /api/bookings", "key-1", null, this::created);
+        service.execute(1L, "PUT /api/bookings/1/cancel", "key-1", null, this::created);
+
+        // Assert
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void keyReusedForAnotherRequestIsRejected() {
+        // Arrange
+        service.execute(1L, "POST /api/bookings", "key-1", Map.of("roomId", 7), this::created);
+
+        // Act
+        ResponseEntity<?> reused = service.execute(1L, "POST /api/bookings", "key-1", Map.of("roomId", 8), this::created);
+
+        // Assert
+        assertEquals(422, reused.getStatusCode().value());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void storedResponseSurvivesARestart() {
+        // Arrange
+        service.execute(1L, "POST /api/bookings", "key-1", null, this::created);
+        IdempotencyService restarted = new IdempotencyService(repository, objectMapper, transactionManager, clock);
+
+        // Act
+        ResponseEntity<?> retry = restarted.execute(1L, "POST /api/bookings", "key-1", null, this::created);
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatusCode().value());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    void concurrentDuplicatesShareTheFirstExecution() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<?>> first = executor.submit(() ->
+                service.execute(1L, "POST /api/bookings", "key-1", null, () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // Act
+            Future<ResponseEntity<?>> duplicate = executor.submit(() ->
+                service.execute(1L, "POST /api/bookings", "key-1", null, this::created));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            assertEquals(201, first.get(5, TimeUnit.SECONDS).getStatusCode().value());
+            assertEquals(201, duplicate.get(5, TimeUnit.SECONDS).getStatusCode().value());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void serverErrorsAndExceptionsAreNotStored() {
+        // Act
+        service.execute(1L, "POST /api/bookings", "key-1", null, () -> ResponseEntity.status(503).build());
+        assertThrows(IllegalStateException.class, () -> service.execute(1L, "POST /api/bookings", "key-2", null, () -> {
+            throw new IllegalStateException("room lookup failed");
+        }));
+        service.execute(1L, "POST /api/bookings", "key-1", null, this::created);
+        service.execute(1L, "POST /api/bookings", "key-2", null, this::created);
+
+        // Assert
+        assertEquals(2, executions.get());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void expiredKeysRunAgainAndArePurgedInBatches() {
+        // Arrange
+        service.setTtl(Duration.ofHours(1));
+        service.setCleanupBatchSize(2);
+        for (int i = 0; i < 5; i++) {
+            service.execute(1L, "POST /api/bookings", "key-" + i, null, this::created);
+        }
+        clock.advance(Duration.ofHours(2));
+
+        // Act
+        service.execute(1L, "POST /api/bookings", "key-0", null, this::created);
+        int purged = service.purgeExpired();
+
+        // Assert
+        assertEquals(6, executions.get());
+        assertEquals(4, purged);
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void invalidKeysAreRefused() {
+        assertFalse(IdempotencyService.isValidKey(" "));
+        assertFalse(IdempotencyService.isValidKey("k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1)));
+        assertThrows(IllegalArgumentException.class,
+            () -> service.execute(1L, "POST /api/bookings", "", null, this::created));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
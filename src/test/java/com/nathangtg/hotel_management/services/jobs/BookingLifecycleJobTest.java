@@ -0,0 +1,229 @@
+package com.nathangtg.hotel_management.services.jobs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nathangtg.hotel_management.api.dto.BookingLifecycleResult;
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Role;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.api.models.User;
+import com.nathangtg.hotel_management.api.repositories.BookingOutboxRepository;
+import com.nathangtg.hotel_management.api.repositories.BookingRepository;
+import com.nathangtg.hotel_management.api.repositories.ChangeLogRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelDailyStatsRepository;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.api.repositories.JobLeaseRepository;
+import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.api.repositories.UserRepository;
+import com.nathangtg.hotel_management.config.TestConfig;
+import com.nathangtg.hotel_management.services.HotelDailyStatsService;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.events.BookingEvent;
+import com.nathangtg.hotel_management.services.events.BookingOutboxService;
+
+@DataJpaTest
+@Import({TestConfig.class, HotelDailyStatsService.class, BookingOutboxService.class, ChangeLogService.class,
+    BookingLifecycleJobTest.JsonConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingLifecycleJobTest {
+
+    // 03:00, outside business hours
+    private static final Instant NOW = Instant.parse("2030-07-10T03:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2030, 7, 10);
+
+    @TestConfiguration
+    static class JsonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HotelDailyStatsRepository statsRepository;
+
+    @Autowired
+    private BookingOutboxRepository outboxRepository;
+
+    @Autowired
+    private JobLeaseRepository leaseRepository;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private HotelDailyStatsService statsService;
+
+    @Autowired
+    private BookingOutboxService outboxService;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private JobLeaseService leaseService;
+    private BookingLifecycleJob job;
+    private Hotel hotel;
+    private User guest;
+
+    @BeforeEach
+    void setUp() {
+        leaseService = new JobLeaseService(leaseRepository, transactionManager, clock, "replica-a");
+        job = new BookingLifecycleJob(bookingRepository, roomRepository, statsService, outboxService,
+            changeLogService, leaseService, transactionManager, clock);
+        job.setChunkSizes(1, 1);
+
+        hotel = new Hotel();
+        hotel.setName("Lifecycle Hotel");
+        hotel.setAddress("3 Checkout Lane");
+        hotel.setPhone("123-456-7890");
+        hotel.setEmail("lifecycle@example.com");
+        hotel = hotelRepository.save(hotel);
+
+        guest = new User();
+        guest.setUsername("lifecycleguest");
+        guest.setPassword("password");
+        guest.setFirstName("Life");
+        guest.setLastName("Cycle");
+        guest.setEmail("lifecycle@example.com");
+        guest.setRole(Role.USER);
+        guest = userRepository.save(guest);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        changeLogRepository.deleteAll();
+        statsRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        hotelRepository.deleteAll();
+        userRepository.deleteAll();
+        leaseRepository.deleteAll();
+    }
+
+    @Test
+    void testTransitionsBookingsAndReleasesRooms() {
+        // Arrange
+        Room departedRoom = room("L1", false);
+        Room occupiedRoom = room("L2", false);
+        Room pendingRoom = room("L3", false);
+        Booking departed = booking(departedRoom, TODAY.minusDays(3), TODAY.minusDays(1), BookingStatus.CHECKED_IN);
+        Booking noShow = booking(occupiedRoom, TODAY.minusDays(2), TODAY.plusDays(2), BookingStatus.CONFIRMED);
+        Booking withinGrace = booking(occupiedRoom, TODAY.minusDays(1), TODAY.plusDays(1), BookingStatus.CONFIRMED);
+        Booking stalePending = booking(pendingRoom, TODAY.minusDays(1), TODAY.plusDays(1), BookingStatus.PENDING);
+        Booking futurePending = booking(pendingRoom, TODAY.plusDays(5), TODAY.plusDays(6), BookingStatus.PENDING);
+        statsService.recordBooking(stalePending, pendingRoom);
+
+        // Act
+        BookingLifecycleResult result = job.run();
+
+        // Assert
+        assertEquals(1, result.getExpired());
+        assertEquals(1, result.getNoShows());
+        assertEquals(1, result.getCheckedOut());
+        assertEquals(1, result.getRoomsReleased());
+        assertEquals(BookingStatus.CHECKED_OUT, status(departed));
+        assertEquals(BookingStatus.NO_SHOW, status(noShow));
+        assertEquals(BookingStatus.CONFIRMED, status(withinGrace));
+        assertEquals(BookingStatus.EXPIRED, status(stalePending));
+        assertEquals(BookingStatus.PENDING, status(futurePending));
+        assertTrue(roomRepository.findById(departedRoom.getId()).orElseThrow().getIsAvailable());
+        assertFalse(roomRepository.findById(occupiedRoom.getId()).orElseThrow().getIsAvailable());
+        assertFalse(roomRepository.findById(pendingRoom.getId()).orElseThrow().getIsAvailable());
+        assertEquals(0, statsService.getSummary(hotel.getId(), TODAY.minusDays(1), TODAY).getRoomsSold());
+        assertEquals(List.of("BOOKING:" + stalePending.getId(), "BOOKING:" + noShow.getId(),
+                "BOOKING:" + departed.getId(), "ROOM:" + departedRoom.getId()),
+            changeLogRepository.findAll(Sort.by("id")).stream()
+                .map(entry -> entry.getEntityType() + ":" + entry.getEntityId())
+                .toList());
+        assertEquals(List.of(BookingEvent.STATUS_CHANGED + ":" + stalePending.getId(),
+                BookingEvent.STATUS_CHANGED + ":" + noShow.getId(), BookingEvent.STATUS_CHANGED + ":" + departed.getId()),
+            outboxRepository.findAll(Sort.by("id")).stream()
+                .map(event -> event.getEventType() + ":" + event.getBookingId())
+                .toList());
+    }
+
+    @Test
+    void testSkipsRunWhileAnotherReplicaHoldsTheLease() {
+        // Arrange
+        JobLeaseService otherReplica = new JobLeaseService(leaseRepository, transactionManager, clock, "replica-b");
+        assertTrue(otherReplica.tryAcquire(BookingLifecycleJob.JOB_NAME, Duration.ofMinutes(10)));
+        Booking departed = booking(room("L4", false), TODAY.minusDays(3), TODAY.minusDays(1), BookingStatus.CHECKED_IN);
+
+        // Act & Assert
+        assertNull(job.run());
+        assertEquals(BookingStatus.CHECKED_IN, status(departed));
+
+        // Act & Assert
+        otherReplica.release(BookingLifecycleJob.JOB_NAME);
+        assertNotNull(job.run());
+        assertEquals(BookingStatus.CHECKED_OUT, status(departed));
+        assertTrue(otherReplica.tryAcquire(BookingLifecycleJob.JOB_NAME, Duration.ofMinutes(10)));
+    }
+
+    private BookingStatus status(Booking booking) {
+        return bookingRepository.findById(booking.getId()).orElseThrow().getStatus();
+    }
+
+    private Room room(String number, boolean available) {
+        Room room = new Room();
+        room.setRoomNumber(number);
+        room.setRoomType("Standard");
+        room.setCapacity(2);
+        room.setPricePerNight(new BigDecimal("90.00"));
+        room.setIsAvailable(available);
+        room.setHotel(hotel);
+        return roomRepository.save(room);
+    }
+
+    private Booking booking(Room room, LocalDate checkIn, LocalDate checkOut, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setUser(guest);
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setTotalPrice(new BigDecimal("180.00"));
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
+}
@@ -0,0 +1,142 @@
+package com.nathangtg.hotel_management.services.live;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nathangtg.hotel_management.api.models.Booking;
+import com.nathangtg.hotel_management.api.models.BookingStatus;
+import com.nathangtg.hotel_management.api.models.ChangeLogEntry;
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.models.Room;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.RoomService;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+
+@ExtendWith(MockitoExtension.class)
+class LiveEventFeedTest {
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private LiveEventHub liveEventHub;
+
+    @InjectMocks
+    private LiveEventFeed liveEventFeed;
+
+    private static ChangeLogEntry entry(long version, String entityType, long entityId, String operation) {
+        ChangeLogEntry entry = new ChangeLogEntry(entityType, entityId, operation, Instant.EPOCH);
+        entry.setVersion(version);
+        return entry;
+    }
+
+    private static Room room(long id, boolean available) {
+        Hotel hotel = new Hotel();
+        hotel.setId(1L);
+        Room room = new Room();
+        room.setId(id);
+        room.setRoomNumber("R" + id);
+        room.setIsAvailable(available);
+        room.setHotel(hotel);
+        return room;
+    }
+
+    private static Booking booking(long id, Room room, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setRoom(room);
+        booking.setStatus(status);
+        return booking;
+    }
+
+    @Test
+    void testPoll_StartsFromTheCurrentVersion() {
+        // Arrange
+        when(changeLogService.currentVersion()).thenReturn(5L);
+        when(changeLogService.findSince(5L, 200)).thenReturn(List.of());
+
+        // Act
+        liveEventFeed.poll();
+        liveEventFeed.poll();
+
+        // Assert
+        verify(liveEventHub).skipTo(5L);
+        verify(changeLogService).findSince(5L, 200);
+        verify(liveEventHub, never()).publish(any());
+    }
+
+    @Test
+    void testPoll_PublishesBookingAndRoomEventsForTheirHotel() {
+        // Arrange
+        Room room = room(7L, false);
+        when(changeLogService.currentVersion()).thenReturn(0L);
+        when(changeLogService.findSince(0L, 200)).thenReturn(List.of(
+            entry(1, ChangeLogEntry.BOOKING, 3, ChangeLogEntry.CREATED),
+            entry(2, ChangeLogEntry.ROOM, 7, ChangeLogEntry.UPDATED),
+            entry(3, ChangeLogEntry.BOOKING, 4, ChangeLogEntry.UPDATED),
+            entry(4, ChangeLogEntry.ROOM, 8, ChangeLogEntry.DELETED),
+            entry(5, ChangeLogEntry.HOTEL, 1, ChangeLogEntry.UPDATED)));
+        when(changeLogService.findSince(5L, 200)).thenReturn(List.of());
+        when(liveEventHub.hasSubscribers()).thenReturn(true);
+        when(bookingService.getBookingsByIds(List.of(3L, 4L))).thenReturn(List.of(
+            booking(3L, room, BookingStatus.CONFIRMED), booking(4L, room, BookingStatus.CANCELLED)));
+        when(roomService.getRoomsByIds(List.of(7L))).thenReturn(List.of(room));
+        liveEventFeed.poll();
+
+        // Act
+        int published = liveEventFeed.poll();
+        liveEventFeed.poll();
+
+        // Assert
+        assertEquals(3, published);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LiveEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(liveEventHub).publish(events.capture());
+        assertEquals(List.of(LiveEvent.BOOKING_CREATED, LiveEvent.ROOM_AVAILABILITY, LiveEvent.BOOKING_CANCELLED),
+            events.getValue().stream().map(LiveEvent::getType).toList());
+        assertEquals(List.of(1L, 2L, 3L), events.getValue().stream().map(LiveEvent::getId).toList());
+        LiveEvent roomEvent = events.getValue().get(1);
+        assertEquals(1L, roomEvent.getHotelId());
+        assertEquals("room:7", roomEvent.getCoalesceKey());
+        assertEquals(false, ((Map<?, ?>) roomEvent.getData()).get("isAvailable"));
+        verify(changeLogService).findSince(5L, 200);
+    }
+
+    @Test
+    void testPoll_WithoutSubscribersSkipsWithoutLoading() {
+        // Arrange
+        when(changeLogService.currentVersion()).thenReturn(0L);
+        when(changeLogService.findSince(0L, 200)).thenReturn(List.of(
+            entry(1, ChangeLogEntry.BOOKING, 3, ChangeLogEntry.CREATED)));
+        liveEventFeed.poll();
+
+        // Act
+        liveEventFeed.poll();
+
+        // Assert
+        verify(liveEventHub).skipTo(1L);
+        verify(liveEventHub, never()).publish(any());
+        verifyNoInteractions(bookingService, roomService);
+        verify(changeLogService, times(1)).findSince(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,155 @@
+package com.nathangtg.hotel_management.services.live;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class LiveEventHubTest {
+
+    private final List<Runnable> pending = new ArrayList<>();
+    private final Executor manual = pending::add;
+
+    private static LiveEvent room(long id, long hotelId, long roomId) {
+        return new LiveEvent(id, LiveEvent.ROOM_AVAILABILITY, hotelId, "room:" + roomId, Map.of("roomId", roomId));
+    }
+
+    private static LiveEvent created(long id, long hotelId) {
+        return new LiveEvent(id, LiveEvent.BOOKING_CREATED, hotelId, null, Map.of("bookingId", id));
+    }
+
+    private void runPending() {
+        while (!pending.isEmpty()) {
+            pending.remove(0).run();
+        }
+    }
+
+    @Test
+    void eventsReachOnlyTheSubscribersOfTheirHotel() {
+        // Arrange
+        LiveEventHub hub = new LiveEventHub(Runnable::run);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        hub.subscribe(first, 1L, null);
+        hub.subscribe(other, 2L, null);
+
+        // Act
+        hub.publish(List.of(created(5, 1)));
+
+        // Assert
+        assertEquals(List.of(":connected", "5 booking-created"), first.sent);
+        assertEquals(List.of(":connected"), other.sent);
+        assertEquals(2, hub.subscriberCount());
+    }
+
+    @Test
+    void slowSubscriberCoalescesRoomEventsAndIsResetWhenItsBufferFills() {
+        // Arrange
+        LiveEventHub hub = new LiveEventHub(manual);
+        RecordingEmitter slow = new RecordingEmitter();
+        hub.subscribe(slow, 1L, null);
+
+        // Act
+        hub.publish(List.of(room(1, 1, 7), room(2, 1, 8), room(3, 1, 7)));
+        runPending();
+
+        // Assert
+        assertEquals(List.of(":connected", "2 room-availability", "3 room-availability"), slow.sent);
+
+        // Act
+        hub.setBufferSize(2);
+        hub.publish(List.of(created(4, 1), created(5, 1), created(6, 1), created(7, 1)));
+        runPending();
+
+        // Assert
+        assertEquals(List.of("6 reset", "7 booking-created"), slow.sent.subList(3, slow.sent.size()));
+    }
+
+    @Test
+    void reconnectingClientIsSentWhatItMissedOrAReset() {
+        // Arrange
+        LiveEventHub hub = new LiveEventHub(Runnable::run);
+        hub.setReplaySize(2);
+        hub.publish(List.of(created(1, 1), created(2, 1), created(3, 2), created(4, 1)));
+        RecordingEmitter resumed = new RecordingEmitter();
+        RecordingEmitter tooOld = new RecordingEmitter();
+
+        // Act
+        hub.subscribe(resumed, 1L, 2L);
+        hub.subscribe(tooOld, 1L, 1L);
+
+        // Assert
+        assertEquals(List.of(":connected", "4 booking-created"), resumed.sent);
+        assertEquals(List.of(":connected", "2 reset"), tooOld.sent);
+
+        // Act
+        hub.skipTo(10);
+        RecordingEmitter afterSkip = new RecordingEmitter();
+        hub.subscribe(afterSkip, 1L, 4L);
+
+        // Assert
+        assertEquals(List.of(":connected", "10 reset"), afterSkip.sent);
+    }
+
+    @Test
+    void deadConnectionsAreDroppedAndTheSubscriberLimitHolds() {
+        // Arrange
+        LiveEventHub hub = new LiveEventHub(manual);
+        hub.setMaxSubscribers(1);
+        RecordingEmitter dead = new RecordingEmitter();
+        assertTrue(hub.subscribe(dead, 1L, null));
+        assertFalse(hub.subscribe(new RecordingEmitter(), 1L, null));
+        runPending();
+        dead.failing = true;
+
+        // Act
+        hub.heartbeat();
+        runPending();
+
+        // Assert
+        assertEquals(0, hub.subscriberCount());
+        assertFalse(hub.hasSubscribers());
+        assertTrue(hub.subscribe(new RecordingEmitter(), 1L, null));
+    }
+
+    // Records each event as "<id> <name>", or ":<comment>" for comment lines
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                text.append(part.getData());
+            }
+            sent.add(describe(text.toString()));
+        }
+
+        private static String describe(String frame) {
+            String id = null;
+            String name = null;
+            for (String line : frame.split("\n")) {
+                if (line.startsWith(":")) {
+                    return line.trim();
+                } else if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                }
+            }
+            return id + " " + name;
+        }
+    }
+}
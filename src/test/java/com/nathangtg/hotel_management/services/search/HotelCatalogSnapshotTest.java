@@ -0,0 +1,168 @@
+package com.nathangtg.hotel_management.services.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+
+class HotelCatalogSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private HotelRepository hotelRepository;
+    private HotelSearchIndex searchIndex;
+    private HotelGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("catalog.snapshot");
+        hotelRepository = mock(HotelRepository.class);
+        searchIndex = new HotelSearchIndex();
+        geoIndex = new HotelGeoIndex();
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() throws Exception {
+        // Arrange
+        Hotel located = hotel(1L, "Grand Hôtel", 1_000L);
+        located.setLatitude(48.87);
+        located.setLongitude(2.33);
+        Hotel sparse = hotel(2L, null, null);
+
+        // Act
+        HotelCatalogSnapshot.Snapshot snapshot = HotelCatalogSnapshot.decode(
+            ByteBuffer.wrap(HotelCatalogSnapshot.encode(List.of(located, sparse), 1_000L)));
+
+        // Assert
+        assertEquals(1_000L, snapshot.watermark);
+        Hotel first = snapshot.hotels.get(0);
+        assertEquals("Grand Hôtel", first.getName());
+        assertEquals(48.87, first.getLatitude());
+        assertEquals(1_000L, first.getUpdatedAt());
+        Hotel second = snapshot.hotels.get(1);
+        assertNull(second.getName());
+        assertNull(second.getLatitude());
+        assertNull(second.getUpdatedAt());
+    }
+
+    @Test
+    void testDecodeRejectsCorruptedBytes() throws Exception {
+        // Arrange
+        byte[] bytes = HotelCatalogSnapshot.encode(List.of(hotel(1L, "Ritz", 1_000L)), 1_000L);
+        bytes[20] ^= 0x7f;
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> HotelCatalogSnapshot.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    void testFirstLoadReadsDatabaseAndWritesSnapshot() {
+        // Arrange
+        when(hotelRepository.findAll()).thenReturn(List.of(hotel(1L, "Ritz", 1_000L), hotel(2L, "Savoy", 2_000L)));
+
+        // Act
+        List<Hotel> hotels = snapshot().load();
+
+        // Assert
+        assertEquals(2, hotels.size());
+        assertTrue(Files.isRegularFile(file));
+        verify(hotelRepository, never()).findChangedSince(anyLong());
+    }
+
+    @Test
+    void testLoadFromSnapshotOnlyReadsDelta() {
+        // Arrange
+        when(hotelRepository.findAll()).thenReturn(List.of(hotel(1L, "Ritz", 1_000L), hotel(2L, "Savoy", 2_000L)));
+        snapshot().load();
+        reset(hotelRepository);
+        when(hotelRepository.findChangedSince(2_000L - HotelCatalogSnapshot.CATCH_UP_OVERLAP_MILLIS))
+            .thenReturn(List.of(hotel(1L, "Ritz Paris", 3_000L), hotel(3L, "Claridge's", 3_500L)));
+        when(hotelRepository.findAllIds()).thenReturn(List.of(1L, 3L));
+
+        // Act
+        List<Hotel> hotels = snapshot().load();
+
+        // Assert
+        verify(hotelRepository, never()).findAll();
+        hotels.sort(Comparator.comparing(Hotel::getId));
+        assertEquals(List.of(1L, 3L), hotels.stream().map(Hotel::getId).toList());
+        assertEquals("Ritz Paris", hotels.get(0).getName());
+    }
+
+    @Test
+    void testDamagedSnapshotFallsBackToFullRead() throws Exception {
+        // Arrange
+        Files.write(file, new byte[] {1, 2, 3});
+        when(hotelRepository.findAll()).thenReturn(List.of(hotel(1L, "Ritz", 1_000L)));
+
+        // Act
+        List<Hotel> hotels = snapshot().load();
+
+        // Assert
+        assertEquals(1, hotels.size());
+        verify(hotelRepository).findAll();
+    }
+
+    @Test
+    void testRefreshAppliesChangesToIndexes() {
+        // Arrange
+        HotelCatalogSnapshot snapshot = snapshot();
+        when(hotelRepository.findAll()).thenReturn(List.of(hotel(1L, "Ritz", 1_000L), hotel(2L, "Savoy", 2_000L)));
+        List<Hotel> loaded = snapshot.load();
+        searchIndex.rebuild(loaded);
+        geoIndex.rebuild(loaded);
+        when(hotelRepository.findChangedSince(anyLong())).thenReturn(List.of(hotel(3L, "Dorchester", 5_000L)));
+        when(hotelRepository.findAllIds()).thenReturn(List.of(1L, 3L));
+
+        // Act
+        snapshot.refresh();
+
+        // Assert
+        assertEquals(2, searchIndex.size());
+        assertEquals(3L, searchIndex.search("dorch", 5).get(0).getId());
+        assertTrue(searchIndex.search("savoy", 5).isEmpty());
+    }
+
+    @Test
+    void testDisabledReadsDatabase() {
+        // Arrange
+        HotelCatalogSnapshot snapshot = snapshot();
+        snapshot.setEnabled(false);
+        when(hotelRepository.findAll()).thenReturn(List.of(hotel(1L, "Ritz", 1_000L)));
+
+        // Act
+        snapshot.load();
+
+        // Assert
+        assertFalse(Files.exists(file));
+    }
+
+    private HotelCatalogSnapshot snapshot() {
+        HotelCatalogSnapshot snapshot = new HotelCatalogSnapshot(hotelRepository, searchIndex, geoIndex);
+        snapshot.setPath(file.toString());
+        return snapshot;
+    }
+
+    private static Hotel hotel(Long id, String name, Long updatedAt) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setName(name);
+        hotel.setAddress(name == null ? null : name + " Street");
+        hotel.setUpdatedAt(updatedAt);
+        return hotel;
+    }
+}
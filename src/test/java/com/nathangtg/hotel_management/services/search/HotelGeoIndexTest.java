@@ -0,0 +1,95 @@
+package com.nathangtg.hotel_management.services.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nathangtg.hotel_management.api.dto.HotelDistanceResult;
+import com.nathangtg.hotel_management.api.models.Hotel;
+
+class HotelGeoIndexTest {
+
+    private HotelGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HotelGeoIndex();
+        index.rebuild(List.of(
+            hotel(1L, 48.8584, 2.2945),    // Eiffel Tower
+            hotel(2L, 48.8606, 2.3376),    // Louvre, ~3.2 km away
+            hotel(3L, 48.8049, 2.1204),    // Versailles, ~14 km away
+            hotel(4L, 51.5007, -0.1246),   // London
+            hotel(5L, null, null)));
+    }
+
+    @Test
+    void testWithinReturnsNearestFirst() {
+        // Act
+        List<HotelDistanceResult> results = index.within(48.8584, 2.2945, 5);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), ids(results));
+        assertEquals(0.0, results.get(0).getDistanceKm(), 0.001);
+        assertEquals(3.2, results.get(1).getDistanceKm(), 0.2);
+    }
+
+    @Test
+    void testRadiusSpanningSeveralCells() {
+        // Act & Assert
+        assertEquals(List.of(1L, 2L, 3L), ids(index.within(48.8584, 2.2945, 20)));
+    }
+
+    @Test
+    void testAntimeridianWrapsAround() {
+        // Arrange
+        index.index(hotel(6L, -16.5, 179.95));
+        index.index(hotel(7L, -16.5, -179.95));
+
+        // Act & Assert
+        assertEquals(List.of(6L, 7L), ids(index.within(-16.5, 179.99, 20)));
+    }
+
+    @Test
+    void testHotelsWithoutCoordinatesAreSkipped() {
+        // Assert
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void testMoveAndRemove() {
+        // Act
+        index.index(hotel(3L, 51.5033, -0.1196));
+
+        // Assert
+        assertEquals(List.of(4L, 3L), ids(index.within(51.5007, -0.1246, 2)));
+
+        // Act
+        index.remove(3L);
+
+        // Assert
+        assertEquals(List.of(4L), ids(index.within(51.5007, -0.1246, 2)));
+    }
+
+    @Test
+    void testHaversine() {
+        // Westminster to the Eiffel Tower is roughly 340 km
+        assertEquals(340.5, HotelGeoIndex.haversineKm(51.5007, -0.1246, 48.8584, 2.2945), 1);
+    }
+
+    private static List<Long> ids(List<HotelDistanceResult> results) {
+        return results.stream().map(HotelDistanceResult::getId).toList();
+    }
+
+    private static Hotel hotel(Long id, Double latitude, Double longitude) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setName("Hotel " + id);
+        hotel.setAddress("Address " + id);
+        hotel.setLatitude(latitude);
+        hotel.setLongitude(longitude);
+        return hotel;
+    }
+}
@@ -0,0 +1,97 @@
+package com.nathangtg.hotel_management.services.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nathangtg.hotel_management.api.dto.HotelSearchResult;
+import com.nathangtg.hotel_management.api.models.Hotel;
+
+class HotelSearchIndexTest {
+
+    private HotelSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HotelSearchIndex();
+        index.rebuild(List.of(
+            hotel(1L, "Grand Hôtel Métropole", "12 Rue de Rivoli, Paris"),
+            hotel(2L, "Harbour View Inn", "1 Grand Parade, Sydney"),
+            hotel(3L, "Seaside Lodge", "88 Ocean Drive, Miami")));
+    }
+
+    @Test
+    void testPrefixQueryIsAccentInsensitive() {
+        // Act
+        List<HotelSearchResult> results = index.search("metr", 10);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals(1L, results.get(0).getId());
+    }
+
+    @Test
+    void testNameMatchesRankAboveAddressMatches() {
+        // Act
+        List<HotelSearchResult> results = index.search("grand", 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), results.stream().map(HotelSearchResult::getId).toList());
+    }
+
+    @Test
+    void testAllTermsMustMatch() {
+        // Act & Assert
+        assertEquals(List.of(2L), ids(index.search("harb syd", 10)));
+        assertTrue(index.search("harbour miami", 10).isEmpty());
+    }
+
+    @Test
+    void testTermsLongerThanGramAreVerified() {
+        // Arrange
+        index.index(hotel(4L, "Internationalisation Suites", "Somewhere"));
+        index.index(hotel(5L, "Internationalist Hostel", "Elsewhere"));
+
+        // Act & Assert
+        assertEquals(List.of(4L), ids(index.search("internationalisa", 10)));
+    }
+
+    @Test
+    void testUpdateAndRemoveAreIncremental() {
+        // Act
+        index.index(hotel(3L, "Seaside Resort", "88 Ocean Drive, Miami"));
+
+        // Assert
+        assertTrue(index.search("lodge", 10).isEmpty());
+        assertEquals(List.of(3L), ids(index.search("resort", 10)));
+
+        // Act
+        index.remove(3L);
+
+        // Assert
+        assertTrue(index.search("seaside", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testBlankQueryAndLimit() {
+        // Act & Assert
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertEquals(1, index.search("grand", 1).size());
+    }
+
+    private static List<Long> ids(List<HotelSearchResult> results) {
+        return results.stream().map(HotelSearchResult::getId).toList();
+    }
+
+    private static Hotel hotel(Long id, String name, String address) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setName(name);
+        hotel.setAddress(address);
+        return hotel;
+    }
+}
@@ -0,0 +1,148 @@
+package com.nathangtg.hotel_management.services.warmup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.nathangtg.hotel_management.api.models.Hotel;
+import com.nathangtg.hotel_management.api.repositories.HotelRepository;
+import com.nathangtg.hotel_management.services.BookingService;
+import com.nathangtg.hotel_management.services.HotelService;
+import com.nathangtg.hotel_management.services.RoomService;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    @Mock
+    private HotelService hotelService;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private HotelRepository hotelRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StartupWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(Instant.parse("2025-06-01T08:00:00Z"), ZoneOffset.UTC);
+        warmup = new StartupWarmup(hotelService, roomService, bookingService, hotelRepository, eventPublisher,
+            meterRegistry, clock);
+        warmup.setJitIterations(3);
+    }
+
+    @Test
+    void testWarmUp_LoadsEverythingAndRecordsDuration() {
+        // Arrange
+        Hotel hotel = new Hotel();
+        hotel.setName("Harbour View");
+        hotel.setLatitude(3.1);
+        hotel.setLongitude(101.6);
+        when(hotelService.rebuildSearchIndexes()).thenReturn(List.of(hotel));
+        when(hotelRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+
+        // Act
+        String outcome = warmup.warmUp();
+
+        // Assert
+        assertEquals("completed", outcome);
+        verify(eventPublisher).publishEvent(argThatIsReadiness(ReadinessState.REFUSING_TRAFFIC));
+        verify(roomService).getRoomsByHotelId(1L);
+        verify(roomService).getRoomsByHotelId(2L);
+        verify(bookingService).getBookingsByDateRange(TODAY, TODAY.plusDays(14));
+        verify(hotelService, times(3)).searchHotels("Harbour View", 10);
+        verify(hotelService, times(3)).findHotelsNearby(3.1, 101.6, 25, null, null, 10);
+        verify(roomService, times(3)).searchRooms(any());
+        verify(bookingService, times(3)).searchBookings(any());
+        Timer timer = meterRegistry.find(StartupWarmup.TIMER_NAME).tag("outcome", "completed").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void testWarmUp_FailingTaskDoesNotStopOthers() {
+        // Arrange
+        when(hotelService.rebuildSearchIndexes()).thenReturn(List.of());
+        when(hotelRepository.findAllIds()).thenReturn(List.of(1L));
+        when(bookingService.getBookingsByDateRange(any(), any())).thenThrow(new RuntimeException("boom"));
+
+        // Act
+        String outcome = warmup.warmUp();
+
+        // Assert
+        assertEquals("failed", outcome);
+        verify(roomService).getRoomsByHotelId(1L);
+        verify(hotelService, never()).searchHotels(anyString(), anyInt());
+        assertNotNull(meterRegistry.find(StartupWarmup.TIMER_NAME).tag("outcome", "failed").timer());
+    }
+
+    @Test
+    void testWarmUp_TimesOut() {
+        // Arrange
+        warmup.setTimeoutSeconds(1);
+        when(hotelService.rebuildSearchIndexes()).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return List.of();
+        });
+        when(hotelRepository.findAllIds()).thenReturn(List.of());
+
+        // Act
+        long started = System.nanoTime();
+        String outcome = warmup.warmUp();
+
+        // Assert
+        assertEquals("timeout", outcome);
+        assertTrue(System.nanoTime() - started < 5_000_000_000L);
+        assertNotNull(meterRegistry.find(StartupWarmup.TIMER_NAME).tag("outcome", "timeout").timer());
+    }
+
+    @Test
+    void testOnApplicationReady_DisabledOnlyRebuildsIndexes() {
+        // Arrange
+        warmup.setEnabled(false);
+
+        // Act
+        warmup.onApplicationReady();
+
+        // Assert
+        verify(hotelService).rebuildSearchIndexes();
+        verifyNoInteractions(roomService, bookingService, eventPublisher);
+        assertNull(meterRegistry.find(StartupWarmup.TIMER_NAME).timer());
+    }
+
+    private static ApplicationEvent argThatIsReadiness(ReadinessState state) {
+        return argThat((ApplicationEvent event) -> event instanceof AvailabilityChangeEvent<?> change && change.getState() == state);
+    }
+}
@@ -16,9 +16,20 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.nathangtg.hotel_management.api.repositories.UserRepository;
 import com.nathangtg.hotel_management.api.repositories.BookingRepository;
 import com.nathangtg.hotel_management.api.repositories.RoomRepository;
+import com.nathangtg.hotel_management.api.repositories.FieldProjectionRepository;
 import com.nathangtg.hotel_management.api.repositories.HotelRepository;
 import com.nathangtg.hotel_management.api.repositories.ManagementRepository;
 import com.nathangtg.hotel_management.services.*;
+import com.nathangtg.hotel_management.services.catalog.CatalogResponseCache;
+import com.nathangtg.hotel_management.services.changes.ChangeFeedService;
+import com.nathangtg.hotel_management.services.changes.ChangeLogService;
+import com.nathangtg.hotel_management.services.events.BookingOutboxService;
+import com.nathangtg.hotel_management.services.holds.RoomHoldRegistry;
+import com.nathangtg.hotel_management.services.idempotency.IdempotencyService;
+import com.nathangtg.hotel_management.services.live.LiveEventHub;
+import com.nathangtg.hotel_management.services.search.HotelCatalogSnapshot;
+import com.nathangtg.hotel_management.services.search.HotelGeoIndex;
+import com.nathangtg.hotel_management.services.search.HotelSearchIndex;
 import com.nathangtg.hotel_management.security.JwtUtil;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.context.annotation.Profile;
@@ -32,6 +43,8 @@ import org.springframework.context.annotation.Profile;
     SpringDataWebAutoConfiguration.class
 })
 @ComponentScan(basePackages = {
+    "com.nathangtg.hotel_management.api.batch",
+    "com.nathangtg.hotel_management.api.config",
     "com.nathangtg.hotel_management.api.controllers",
     "com.nathangtg.hotel_management.api.exception",
     "com.nathangtg.hotel_management.security"
@@ -74,6 +87,12 @@ public class ControllerTestConfiguration {
         return Mockito.mock(ManagementRepository.class);
     }
 
+    @Bean
+    @Primary
+    public FieldProjectionRepository fieldProjectionRepository() {
+        return Mockito.mock(FieldProjectionRepository.class);
+    }
+
     // Mock services
     @Bean
     @Primary
@@ -105,6 +124,78 @@ public class ControllerTestConfiguration {
         return Mockito.mock(ManagementService.class);
     }
 
+    @Bean
+    @Primary
+    public HotelDailyStatsService hotelDailyStatsService() {
+        return Mockito.mock(HotelDailyStatsService.class);
+    }
+
+    @Bean
+    @Primary
+    public BookingOutboxService bookingOutboxService() {
+        return Mockito.mock(BookingOutboxService.class);
+    }
+
+    @Bean
+    @Primary
+    public IdempotencyService idempotencyService() {
+        return Mockito.mock(IdempotencyService.class);
+    }
+
+    @Bean
+    @Primary
+    public ChangeFeedService changeFeedService() {
+        return Mockito.mock(ChangeFeedService.class);
+    }
+
+    @Bean
+    @Primary
+    public ChangeLogService changeLogService() {
+        return Mockito.mock(ChangeLogService.class);
+    }
+
+    @Bean
+    @Primary
+    public LiveEventHub liveEventHub() {
+        return Mockito.mock(LiveEventHub.class);
+    }
+
+    @Bean
+    @Primary
+    public RoomHoldRegistry roomHoldRegistry() {
+        return Mockito.mock(RoomHoldRegistry.class);
+    }
+
+    @Bean
+    @Primary
+    public BookingArchiveService bookingArchiveService() {
+        return Mockito.mock(BookingArchiveService.class);
+    }
+
+    @Bean
+    @Primary
+    public HotelSearchIndex hotelSearchIndex() {
+        return Mockito.mock(HotelSearchIndex.class);
+    }
+
+    @Bean
+    @Primary
+    public HotelGeoIndex hotelGeoIndex() {
+        return Mockito.mock(HotelGeoIndex.class);
+    }
+
+    @Bean
+    @Primary
+    public CatalogResponseCache catalogResponseCache() {
+        return Mockito.mock(CatalogResponseCache.class);
+    }
+
+    @Bean
+    @Primary
+    public HotelCatalogSnapshot hotelCatalogSnapshot() {
+        return Mockito.mock(HotelCatalogSnapshot.class);
+    }
+
     // Mock security components
     @Bean
     @Primary
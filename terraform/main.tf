@@ -130,7 +130,7 @@ resource "azurerm_container_app" "main" {
       
       env {
         name  = "SPRING_JPA_HIBERNATE_DDL_AUTO"
-        value = "update"
+        value = "validate"
       }
       
       env {